@@ -28,6 +28,7 @@ import com.speedment.component.PasswordComponent;
 import com.speedment.component.PrimaryKeyFactoryComponent;
 import com.speedment.component.ProjectComponent;
 import com.speedment.component.StreamSupplierComponent;
+import com.speedment.component.ThreadFactoryComponent;
 import com.speedment.component.TypeMapperComponent;
 import com.speedment.component.UserInterfaceComponent;
 import com.speedment.component.connectionpool.ConnectionPoolComponent;
@@ -68,6 +69,7 @@ public interface Speedment {
      * <li>{@link com.speedment.component.StreamSupplierComponent StreamSupplierComponent}</li>
      * <li>{@link com.speedment.component.TypeMapperComponent TypeMapperComponent}</li>
      * <li>{@link com.speedment.component.PasswordComponent PasswordComponent}</li>
+     * <li>{@link com.speedment.component.ThreadFactoryComponent ThreadFactoryComponent}</li>
      * <li>{@link com.speedment.component.UserInterfaceComponent UserInterfaceComponent}</li>
      *
      * </ul>
@@ -191,4 +193,8 @@ public interface Speedment {
     default DocumentPropertyComponent getDocumentPropertyComponent() {
         return get(DocumentPropertyComponent.class);
     }
+
+    default ThreadFactoryComponent getThreadFactoryComponent() {
+        return get(ThreadFactoryComponent.class);
+    }
 }
@@ -57,6 +57,20 @@ public interface EventComponent extends Component {
      * @param action the action to call
      */
     <E extends Event> void on(Class<E> event, Consumer<E> action);
+
+    /**
+     * Returns {@code true} if there is at least one listener that would be
+     * called if an event of the specified type was published. This can be
+     * used to avoid creating events that nobody listens to.
+     * <p>
+     * The default implementation always returns {@code true}.
+     *
+     * @param event  the event type
+     * @return       {@code true} if there are listeners, else {@code false}
+     */
+    default boolean hasListeners(Class<? extends Event> event) {
+        return true;
+    }
     
     /**
      * Listens to a particular type of event. The specified action
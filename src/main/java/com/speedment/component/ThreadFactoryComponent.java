@@ -0,0 +1,61 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.component;
+
+import com.speedment.annotation.Api;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * This Component interface is used to create the threads that Speedment uses
+ * for blocking work, like asynchronous database operations, metadata reads
+ * and the lifecycle phases of managers and components.
+ * <p>
+ * By default, platform daemon threads are used. Installing a component that
+ * creates virtual threads lets a large number of blocked operations share a
+ * few carrier threads, while the number of connections they use is still
+ * bounded by the
+ * {@link com.speedment.component.connectionpool.ConnectionPoolComponent ConnectionPoolComponent}.
+ *
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface ThreadFactoryComponent extends Component {
+
+    @Override
+    default Class<ThreadFactoryComponent> getComponentClass() {
+        return ThreadFactoryComponent.class;
+    }
+
+    /**
+     * Returns a new factory for threads used for the specified purpose. The
+     * threads are named {@code speedment-<purpose>-<n>}, where {@code n}
+     * starts at 1 for every new factory. The threads must not prevent the JVM
+     * from exiting.
+     *
+     * @param purpose the purpose of the threads, like {@code "metadata"}
+     * @return a new thread factory
+     */
+    ThreadFactory newThreadFactory(String purpose);
+
+    /**
+     * Returns {@code true} if the threads created by this component are
+     * virtual threads, that are cheap to create and to block.
+     *
+     * @return {@code true} if virtual threads are created
+     */
+    boolean isVirtual();
+}
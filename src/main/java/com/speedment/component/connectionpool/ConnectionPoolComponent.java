@@ -108,6 +108,41 @@ public interface ConnectionPoolComponent extends Component {
      */
     void setMaxRetainSize(int size);
 
+    /**
+     * Returns the maximum number of connections to the same database that
+     * this pool leases at the same time, or {@link Integer#MAX_VALUE} if the
+     * number is not bounded.
+     * <p>
+     * The default implementation returns {@link Integer#MAX_VALUE}.
+     *
+     * @return the maximum number of leased connections per database
+     * @since 2.3
+     */
+    default int getMaxLeaseSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Sets the maximum number of connections to the same database that this
+     * pool leases at the same time. A thread that requests a connection when
+     * that many connections are leased waits until one is returned. Waiting
+     * threads do not hold any monitors, so virtual threads are not pinned to
+     * their carrier threads while waiting.
+     * <p>
+     * The new size applies to connections that are requested after this
+     * method has been called. The default implementation throws an
+     * {@code UnsupportedOperationException}.
+     *
+     * @param size the maximum number of leased connections per database, or
+     * {@link Integer#MAX_VALUE} to not bound the number
+     * @since 2.3
+     */
+    default void setMaxLeaseSize(int size) {
+        throw new UnsupportedOperationException(
+            getClass().getSimpleName() + " does not bound the number of leased connections."
+        );
+    }
+
     /**
      * Returns the maximum age for recyclable connections. Connections older
      * that this age will be discarded.
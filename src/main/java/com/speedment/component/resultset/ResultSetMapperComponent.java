@@ -58,4 +58,20 @@ public interface ResultSetMapperComponent extends Component {
      */
     <T> ResultSetMapping<T> apply(Class<T> javaClass);
 
+    /**
+     * Returns a number that is changed every time a mapping is added to or
+     * replaced in this component. Callers that keep resolved mappings between
+     * calls can compare this number with the one they saw when the mappings
+     * were resolved to know if they must be resolved again.
+     * <p>
+     * Implementations that never change their mappings after they have been
+     * created may use the default implementation that always returns 0.
+     *
+     * @return  the current modification count
+     * @since   2.3
+     */
+    default int getModificationCount() {
+        return 0;
+    }
+
 }
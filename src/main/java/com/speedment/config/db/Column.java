@@ -52,6 +52,8 @@ public interface Column extends
     HasMutator<ColumnMutator<? extends Column>> {
 
     final String AUTO_INCREMENT = "autoIncrement",
+        LAZY = "lazy",
+        DEDUPLICATED = "deduplicated",
         TYPE_MAPPER = "typeMapper",
         DATABASE_TYPE = "databaseType";
 
@@ -66,6 +68,36 @@ public interface Column extends
         return getAsBoolean(AUTO_INCREMENT).orElse(false);
     }
 
+    /**
+     * Returns whether or not this column should be loaded lazily. A lazy
+     * column is not included when entities are read from the database.
+     * Instead, the value is fetched using the primary key the first time it
+     * is requested from the entity. This is useful for large {@code BLOB} and
+     * {@code TEXT} columns that are seldom used.
+     * <p>
+     * Columns that are part of the primary key are never loaded lazily.
+     *
+     * @return  <code>true</code> if the column is loaded lazily, else
+     * <code>false</code>
+     */
+    default boolean isLazy() {
+        return getAsBoolean(LAZY).orElse(false);
+    }
+
+    /**
+     * Returns whether or not equal {@code String} values of this column should
+     * share the same instance when entities are read from the database. This
+     * is useful for columns with few distinct values, like a status or a
+     * country code, and only applies to columns that are represented as a
+     * {@code String} in the generated code.
+     *
+     * @return  <code>true</code> if the values are deduplicated, else
+     * <code>false</code>
+     */
+    default boolean isDeduplicated() {
+        return getAsBoolean(DEDUPLICATED).orElse(false);
+    }
+
     /**
      * Returns the name of the mapper class that will be used to generate a java
      * representation of the database types.
@@ -159,6 +159,19 @@ public interface Dbms extends
      */
     Stream<? extends Schema> schemas();
 
+    /**
+     * Returns the schema with the specified name in this dbms, or an empty
+     * {@code Optional} if no such schema exists.
+     *
+     * @param name  the schema name
+     * @return      the schema, if any
+     *
+     * @since 2.3
+     */
+    default Optional<? extends Schema> findSchema(String name) {
+        return schemas().filter(child -> child.getName().equals(name)).findAny();
+    }
+
     @Override
     default Class<Dbms> mainInterface() {
         return Dbms.class;
@@ -54,6 +54,7 @@ public interface Project extends
             PACKAGE_NAME     = "packageName",
             PACKAGE_LOCATION = "packageLocation",
             CONFIG_PATH      = "configPath",
+            BINARY_METADATA  = "binaryMetadata",
             DBMSES           = "dbmses";
     
     final String 
@@ -105,6 +106,18 @@ public interface Project extends
     default Optional<Path> getConfigPath() {
         return getAsString(CONFIG_PATH).map(Paths::get);
     }
+
+    /**
+     * Returns whether or not the generated application should contain the
+     * project as a compact binary snapshot instead of as JSON. A binary
+     * snapshot is faster to load when the application starts.
+     *
+     * @return  <code>true</code> if the meta data is binary, else
+     *          <code>false</code>
+     */
+    default boolean isBinaryMetadata() {
+        return getAsBoolean(BINARY_METADATA).orElse(false);
+    }
     
     /**
      * Return a {@code Stream} of all dbmses that exists in this Project.
@@ -113,6 +126,19 @@ public interface Project extends
      */
     Stream<? extends Dbms> dbmses();
 
+    /**
+     * Returns the dbms with the specified name in this project, or an empty
+     * {@code Optional} if no such dbms exists.
+     *
+     * @param name  the dbms name
+     * @return      the dbms, if any
+     *
+     * @since 2.3
+     */
+    default Optional<? extends Dbms> findDbms(String name) {
+        return dbmses().filter(child -> child.getName().equals(name)).findAny();
+    }
+
     @Override
     default Class<Project> mainInterface() {
         return Project.class;
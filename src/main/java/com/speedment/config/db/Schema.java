@@ -27,6 +27,7 @@ import com.speedment.config.db.trait.HasMainInterface;
 import com.speedment.config.db.trait.HasMutator;
 import com.speedment.config.db.trait.HasName;
 import com.speedment.config.db.trait.HasParent;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -66,6 +67,19 @@ public interface Schema extends
      * @return  tables
      */
     Stream<? extends Table> tables();
+
+    /**
+     * Returns the table with the specified name in this schema, or an empty
+     * {@code Optional} if no such table exists.
+     *
+     * @param name  the table name
+     * @return      the table, if any
+     *
+     * @since 2.3
+     */
+    default Optional<? extends Table> findTable(String name) {
+        return tables().filter(child -> child.getName().equals(name)).findAny();
+    }
 //
 //    default Stream<? extends Table> tables() {
 //        return children(TABLES, tableConstructor());
@@ -52,7 +52,23 @@ public interface Table extends
     final String COLUMNS = "columns",
             INDEXES = "indexes",
             FOREIGN_KEYS = "foreignKeys",
-            PRIMARY_KEY_COLUMNS = "primaryKeyColumns";
+            PRIMARY_KEY_COLUMNS = "primaryKeyColumns",
+            COMPACT = "compact";
+
+    /**
+     * Returns whether or not the generated entity implementation should use a
+     * compact memory layout. Compact entities store columns that are mapped to
+     * primitive wrapper types as primitives and keep track of {@code null}
+     * values using a bit set instead of references. The getters and setters of
+     * the entities are the same in both modes, but a compact entity can not
+     * hold {@code null} in a primitive column that is not nullable.
+     * 
+     * @return  <code>true</code> if the entities are compact, else
+     *          <code>false</code>
+     */
+    default boolean isCompact() {
+        return getAsBoolean(COMPACT).orElse(false);
+    }
     
     /**
      * Creates a stream of columns located in this document.
@@ -0,0 +1,69 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.mapper;
+
+import com.speedment.annotation.Api;
+
+/**
+ * A specialization of {@link TypeMapper} for mappers that read the value as a
+ * primitive {@code int} from the JDBC driver. The generated managers use
+ * {@link #toJavaTypeFromInt(int)} together with {@code ResultSet.getInt} so
+ * that no {@code Integer} is created when an entity is loaded.
+ * <p>
+ * The boxed methods of {@link TypeMapper} are implemented by delegating to the
+ * primitive ones, mapping {@code null} to {@code null}.
+ *
+ * @param <JAVA_TYPE> the type as it should be represented in generated code
+ *
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface FromIntTypeMapper<JAVA_TYPE> extends TypeMapper<Integer, JAVA_TYPE> {
+
+    /**
+     * Converts a primitive {@code int} from the database domain to the java
+     * domain.
+     *
+     * @param value the value to convert
+     * @return the converted value
+     */
+    JAVA_TYPE toJavaTypeFromInt(int value);
+
+    /**
+     * Converts a non-null value from the java domain to a primitive
+     * {@code int}.
+     *
+     * @param value the value to convert, never {@code null}
+     * @return the converted value
+     */
+    int toDatabaseTypeAsInt(JAVA_TYPE value);
+
+    @Override
+    default Class<Integer> getDatabaseType() {
+        return Integer.class;
+    }
+
+    @Override
+    default JAVA_TYPE toJavaType(Integer value) {
+        return value == null ? null : toJavaTypeFromInt(value);
+    }
+
+    @Override
+    default Integer toDatabaseType(JAVA_TYPE value) {
+        return value == null ? null : toDatabaseTypeAsInt(value);
+    }
+}
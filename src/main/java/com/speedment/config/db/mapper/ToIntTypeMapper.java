@@ -0,0 +1,68 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.mapper;
+
+import com.speedment.annotation.Api;
+
+/**
+ * A specialization of {@link TypeMapper} for mappers that represent the value
+ * as a primitive {@code int} in the java domain. Code that knows the primitive
+ * type of a field can use {@link #toJavaTypeAsInt(Object)} and
+ * {@link #toDatabaseTypeFromInt(int)} to convert values without boxing them.
+ * <p>
+ * The boxed methods of {@link TypeMapper} are implemented by delegating to the
+ * primitive ones, mapping {@code null} to {@code null}.
+ *
+ * @param <DB_TYPE> the type as it is represented in the JDBC driver
+ *
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface ToIntTypeMapper<DB_TYPE> extends TypeMapper<DB_TYPE, Integer> {
+
+    /**
+     * Converts a non-null value from the database domain to a primitive
+     * {@code int}.
+     *
+     * @param value the value to convert, never {@code null}
+     * @return the converted value
+     */
+    int toJavaTypeAsInt(DB_TYPE value);
+
+    /**
+     * Converts a primitive {@code int} to the database domain.
+     *
+     * @param value the value to convert
+     * @return the converted value
+     */
+    DB_TYPE toDatabaseTypeFromInt(int value);
+
+    @Override
+    default Class<Integer> getJavaType() {
+        return Integer.class;
+    }
+
+    @Override
+    default Integer toJavaType(DB_TYPE value) {
+        return value == null ? null : toJavaTypeAsInt(value);
+    }
+
+    @Override
+    default DB_TYPE toDatabaseType(Integer value) {
+        return value == null ? null : toDatabaseTypeFromInt(value);
+    }
+}
@@ -16,19 +16,14 @@
  */
 package com.speedment.config.db.mapper.bigdecimal;
 
-import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.ToDoubleTypeMapper;
 import java.math.BigDecimal;
 
 /**
  *
  * @author Per Minborg
  */
-public class BigDecimalToDouble implements TypeMapper<BigDecimal, Double> {
-
-    @Override
-    public Class<Double> getJavaType() {
-        return Double.class;
-    }
+public class BigDecimalToDouble implements ToDoubleTypeMapper<BigDecimal> {
 
     @Override
     public Class<BigDecimal> getDatabaseType() {
@@ -36,13 +31,13 @@ public class BigDecimalToDouble implements TypeMapper<BigDecimal, Double> {
     }
 
     @Override
-    public Double toJavaType(BigDecimal value) {
-        return value == null ? null : value.doubleValue();
+    public double toJavaTypeAsDouble(BigDecimal value) {
+        return value.doubleValue();
     }
 
     @Override
-    public BigDecimal toDatabaseType(Double value) {
-        return value == null ? null : BigDecimal.valueOf(value);
+    public BigDecimal toDatabaseTypeFromDouble(double value) {
+        return BigDecimal.valueOf(value);
     }
 
     @Override
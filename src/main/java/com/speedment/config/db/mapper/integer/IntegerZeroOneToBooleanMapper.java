@@ -16,13 +16,13 @@
  */
 package com.speedment.config.db.mapper.integer;
 
-import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.FromIntTypeMapper;
 
 /**
  *
  * @author Roberts Vartins
  */
-public class IntegerZeroOneToBooleanMapper implements TypeMapper<Integer, Boolean> {
+public class IntegerZeroOneToBooleanMapper implements FromIntTypeMapper<Boolean> {
 
     @Override
     public String getLabel() {
@@ -35,18 +35,13 @@ public class IntegerZeroOneToBooleanMapper implements TypeMapper<Integer, Boolea
     }
 
     @Override
-    public Class<Integer> getDatabaseType() {
-        return Integer.class;
+    public Boolean toJavaTypeFromInt(int value) {
+        return value != 0;
     }
 
     @Override
-    public Boolean toJavaType(Integer value) {
-        return value == null ? null : value != 0;
-    }
-
-    @Override
-    public Integer toDatabaseType(Boolean value) {
-        return value == null ? null : (value ? 1 : 0);
+    public int toDatabaseTypeAsInt(Boolean value) {
+        return value ? 1 : 0;
     }
 
     @Override
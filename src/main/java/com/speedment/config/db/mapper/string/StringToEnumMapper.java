@@ -0,0 +1,130 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.mapper.string;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.exception.SpeedmentException;
+import java.util.HashMap;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Base class for mappers between a {@code String} column and an {@code enum}.
+ * Since every row refers to one of the enum constants, equal values read
+ * from the database share the same instance.
+ * <p>
+ * Type mappers are created using their default constructor, so a concrete
+ * subclass is needed for every enum:
+ * <pre>{@code
+ * public final class StringToCurrencyMapper extends StringToEnumMapper<Currency> {
+ *     public StringToCurrencyMapper() {
+ *         super(Currency.class);
+ *     }
+ * }
+ * }</pre>
+ * By default, the database value is the name of the constant. Subclasses can
+ * override {@link #databaseValueOf(Enum)} to use another representation.
+ *
+ * @param <E>  the enum type
+ *
+ * @since 2.3
+ */
+public abstract class StringToEnumMapper<E extends Enum<E>> implements TypeMapper<String, E> {
+
+    private final Class<E> enumClass;
+
+    // Created on first use, since databaseValueOf can be overridden. Racing
+    // threads compute equal lookup tables, so no locking is needed.
+    private volatile Map<String, E> constants;
+    private volatile String[] databaseValues;
+
+    protected StringToEnumMapper(Class<E> enumClass) {
+        this.enumClass = requireNonNull(enumClass);
+    }
+
+    /**
+     * Returns the value that represents the specified constant in the
+     * database. The returned value must be unique for every constant and may
+     * only depend on the constant itself.
+     *
+     * @param constant  the enum constant
+     * @return          the database representation
+     */
+    protected String databaseValueOf(E constant) {
+        return constant.name();
+    }
+
+    @Override
+    public Class<E> getJavaType() {
+        return enumClass;
+    }
+
+    @Override
+    public Class<String> getDatabaseType() {
+        return String.class;
+    }
+
+    @Override
+    public E toJavaType(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        Map<String, E> lookup = constants;
+        if (lookup == null) {
+            lookup = new HashMap<>();
+            for (final E c : enumClass.getEnumConstants()) {
+                lookup.put(databaseValueOf(c), c);
+            }
+            constants = lookup;
+        }
+
+        final E constant = lookup.get(value);
+
+        if (constant == null) {
+            throw new SpeedmentException(
+                "The value '" + value + "' does not represent any constant in " + enumClass.getName() + "."
+            );
+        }
+
+        return constant;
+    }
+
+    @Override
+    public String toDatabaseType(E value) {
+        if (value == null) {
+            return null;
+        }
+
+        String[] lookup = databaseValues;
+        if (lookup == null) {
+            final E[] values = enumClass.getEnumConstants();
+            lookup = new String[values.length];
+            for (final E c : values) {
+                lookup[c.ordinal()] = databaseValueOf(c);
+            }
+            databaseValues = lookup;
+        }
+
+        return lookup[value.ordinal()];
+    }
+
+    @Override
+    public boolean isIdentityMapper() {
+        return false;
+    }
+}
@@ -16,7 +16,7 @@
  */
 package com.speedment.config.db.mapper.time;
 
-import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.ToIntTypeMapper;
 import java.sql.Date;
 
 
@@ -24,12 +24,7 @@ import java.sql.Date;
  *
  * @author Emil Forslund
  */
-public class DateToIntMapper implements TypeMapper<Date, Integer> {
-
-    @Override
-    public Class<Integer> getJavaType() {
-        return Integer.class;
-    }
+public class DateToIntMapper implements ToIntTypeMapper<Date> {
 
     @Override
     public Class<Date> getDatabaseType() {
@@ -37,13 +32,13 @@ public class DateToIntMapper implements TypeMapper<Date, Integer> {
     }
 
     @Override
-    public Integer toJavaType(Date value) {
-        return value == null ? null : (int) (value.getTime() / 1000);
+    public int toJavaTypeAsInt(Date value) {
+        return (int) (value.getTime() / 1000);
     }
 
     @Override
-    public Date toDatabaseType(Integer value) {
-        return value == null ? null : new Date(value * 1000L);
+    public Date toDatabaseTypeFromInt(int value) {
+        return new Date(value * 1000L);
     }
     
     @Override
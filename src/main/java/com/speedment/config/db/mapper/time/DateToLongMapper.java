@@ -16,7 +16,7 @@
  */
 package com.speedment.config.db.mapper.time;
 
-import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.ToLongTypeMapper;
 import java.sql.Date;
 
 
@@ -25,12 +25,7 @@ import java.sql.Date;
  * @author Maria Sparenberg
  * @author Patrick Hobusch
  */
-public class DateToLongMapper implements TypeMapper<Date, Long> {
-
-    @Override
-    public Class<Long> getJavaType() {
-        return Long.class;
-    }
+public class DateToLongMapper implements ToLongTypeMapper<Date> {
 
     @Override
     public Class<Date> getDatabaseType() {
@@ -38,13 +33,13 @@ public class DateToLongMapper implements TypeMapper<Date, Long> {
     }
 
     @Override
-    public Long toJavaType(Date value) {
-        return value == null ? null : value.getTime();
+    public long toJavaTypeAsLong(Date value) {
+        return value.getTime();
     }
 
     @Override
-    public Date toDatabaseType(Long value) {
-        return value == null ? null : new Date(value);
+    public Date toDatabaseTypeFromLong(long value) {
+        return new Date(value);
     }
     
     @Override
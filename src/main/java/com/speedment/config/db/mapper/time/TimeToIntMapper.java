@@ -16,7 +16,7 @@
  */
 package com.speedment.config.db.mapper.time;
 
-import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.ToIntTypeMapper;
 import java.sql.Time;
 
 /**
@@ -24,12 +24,7 @@ import java.sql.Time;
  * @author Maria Sparenberg
  * @author Patrick Hobusch
  */
-public class TimeToIntMapper implements TypeMapper<Time, Integer> {
-
-    @Override
-    public Class<Integer> getJavaType() {
-        return Integer.class;
-    }
+public class TimeToIntMapper implements ToIntTypeMapper<Time> {
 
     @Override
     public Class<Time> getDatabaseType() {
@@ -37,13 +32,13 @@ public class TimeToIntMapper implements TypeMapper<Time, Integer> {
     }
 
     @Override
-    public Integer toJavaType(Time value) {
-        return value == null ? null : (int) (value.getTime() / 1000);
+    public int toJavaTypeAsInt(Time value) {
+        return (int) (value.getTime() / 1000);
     }
 
     @Override
-    public Time toDatabaseType(Integer value) {
-        return value == null ? null : new Time(value * 1000);
+    public Time toDatabaseTypeFromInt(int value) {
+        return new Time(value * 1000);
     }
 
     @Override
@@ -16,7 +16,7 @@
  */
 package com.speedment.config.db.mapper.time;
 
-import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.ToLongTypeMapper;
 import java.sql.Time;
 
 /**
@@ -24,12 +24,7 @@ import java.sql.Time;
  * @author Maria Sparenberg
  * @author Patrick Hobusch
  */
-public class TimeToLongMapper implements TypeMapper<Time, Long> {
-
-    @Override
-    public Class<Long> getJavaType() {
-        return Long.class;
-    }
+public class TimeToLongMapper implements ToLongTypeMapper<Time> {
 
     @Override
     public Class<Time> getDatabaseType() {
@@ -37,13 +32,13 @@ public class TimeToLongMapper implements TypeMapper<Time, Long> {
     }
 
     @Override
-    public Long toJavaType(Time value) {
-        return value == null ? null : value.getTime();
+    public long toJavaTypeAsLong(Time value) {
+        return value.getTime();
     }
 
     @Override
-    public Time toDatabaseType(Long value) {
-        return value == null ? null : new Time(value);
+    public Time toDatabaseTypeFromLong(long value) {
+        return new Time(value);
     }
     
     @Override
@@ -16,19 +16,14 @@
  */
 package com.speedment.config.db.mapper.time;
 
-import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.ToIntTypeMapper;
 import java.sql.Timestamp;
 
 /**
  *
  * @author Emil Forslund
  */
-public class TimestampToIntMapper implements TypeMapper<Timestamp, Integer> {
-
-    @Override
-    public Class<Integer> getJavaType() {
-        return Integer.class;
-    }
+public class TimestampToIntMapper implements ToIntTypeMapper<Timestamp> {
 
     @Override
     public Class<Timestamp> getDatabaseType() {
@@ -36,13 +31,13 @@ public class TimestampToIntMapper implements TypeMapper<Timestamp, Integer> {
     }
 
     @Override
-    public Integer toJavaType(Timestamp value) {
-        return value == null ? null : (int) (value.getTime() / 1000);
+    public int toJavaTypeAsInt(Timestamp value) {
+        return (int) (value.getTime() / 1000);
     }
 
     @Override
-    public Timestamp toDatabaseType(Integer value) {
-        return value == null ? null : new Timestamp(value * 1000);
+    public Timestamp toDatabaseTypeFromInt(int value) {
+        return new Timestamp(value * 1000);
     }
 
     @Override
@@ -16,19 +16,14 @@
  */
 package com.speedment.config.db.mapper.time;
 
-import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.ToLongTypeMapper;
 import java.sql.Timestamp;
 
 /**
  *
  * @author Emil Forslund
  */
-public class TimestampToLongMapper implements TypeMapper<Timestamp, Long> {
-
-    @Override
-    public Class<Long> getJavaType() {
-        return Long.class;
-    }
+public class TimestampToLongMapper implements ToLongTypeMapper<Timestamp> {
 
     @Override
     public Class<Timestamp> getDatabaseType() {
@@ -36,13 +31,13 @@ public class TimestampToLongMapper implements TypeMapper<Timestamp, Long> {
     }
 
     @Override
-    public Long toJavaType(Timestamp value) {
-        return value == null ? null : value.getTime();
+    public long toJavaTypeAsLong(Timestamp value) {
+        return value.getTime();
     }
 
     @Override
-    public Timestamp toDatabaseType(Long value) {
-        return value == null ? null : new Timestamp(value);
+    public Timestamp toDatabaseTypeFromLong(long value) {
+        return new Timestamp(value);
     }
     
     @Override
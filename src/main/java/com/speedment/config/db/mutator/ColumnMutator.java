@@ -48,6 +48,14 @@ public class ColumnMutator<DOC extends Column> extends DocumentMutatorImpl<DOC>
         put(AUTO_INCREMENT, autoIncrement);
     }
 
+    public void setLazy(Boolean lazy) {
+        put(LAZY, lazy);
+    }
+
+    public void setDeduplicated(Boolean deduplicated) {
+        put(DEDUPLICATED, deduplicated);
+    }
+
     public void setTypeMapper(TypeMapper<?, ?> typeMapper) {
         put(TYPE_MAPPER, typeMapper.getClass().getName());
     }
@@ -17,6 +17,7 @@
 package com.speedment.config.db.mutator;
 
 import com.speedment.config.db.*;
+import static com.speedment.config.db.Project.BINARY_METADATA;
 import static com.speedment.config.db.Project.COMPANY_NAME;
 import static com.speedment.config.db.Project.CONFIG_PATH;
 import static com.speedment.config.db.Project.DBMSES;
@@ -55,6 +56,10 @@ public class ProjectMutator<DOC extends Project> extends DocumentMutatorImpl<DOC
     public void setConfigPath(String configPath) {
         put(CONFIG_PATH, configPath);
     }
+
+    public void setBinaryMetadata(Boolean binaryMetadata) {
+        put(BINARY_METADATA, binaryMetadata);
+    }
     
     public Dbms addNewDbms() {
         return new DbmsImpl(document(), newDocument(document(), DBMSES));
@@ -18,6 +18,7 @@ package com.speedment.config.db.mutator;
 
 import com.speedment.config.db.*;
 import static com.speedment.config.db.Table.COLUMNS;
+import static com.speedment.config.db.Table.COMPACT;
 import static com.speedment.config.db.Table.FOREIGN_KEYS;
 import static com.speedment.config.db.Table.INDEXES;
 import static com.speedment.config.db.Table.PRIMARY_KEY_COLUMNS;
@@ -44,6 +45,10 @@ public class TableMutator<DOC extends Table> extends DocumentMutatorImpl<DOC> im
         super(table);
     }
 
+    public void setCompact(Boolean compact) {
+        put(COMPACT, compact);
+    }
+
     public Column addNewColumn() {
         return new ColumnImpl(document(), newDocument(document(), COLUMNS));
     }
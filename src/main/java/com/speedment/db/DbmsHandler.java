@@ -20,18 +20,21 @@ import com.speedment.annotation.Api;
 import com.speedment.config.db.Dbms;
 import com.speedment.config.db.Project;
 import com.speedment.config.db.Schema;
+import com.speedment.exception.SpeedmentException;
 import com.speedment.db.trait.HasCreateFromConnectionMethods;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
 import com.speedment.util.ProgressMeasure;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -181,6 +184,36 @@ public interface DbmsHandler extends HasCreateFromConnectionMethods {
         final Consumer<List<Long>> generatedKeyConsumer
     ) throws SQLException;
 
+    /**
+     * Executes the same SQL insert command once for each list of values in
+     * a single batch. Generated key(s) for all the rows are read back at once
+     * and fed to the provided Consumer in the order that the rows were
+     * inserted.
+     * <p>
+     * The default implementation calls
+     * {@link #executeInsert(String, List, List, Consumer)} for each row.
+     *
+     * @param <F> dynamic type
+     * @param sql the non-null SQL command to execute
+     * @param rows a non-null list of values for each row to insert
+     * @param generatedKeyFields list of the generated fields
+     * @param generatedKeyConsumer non-null Consumer of all the generated keys
+     * @throws SQLException if an error occurs
+     * @since 2.3
+     */
+    default <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsertBatch(
+        final String sql,
+        final List<? extends List<?>> rows,
+        final List<F> generatedKeyFields,
+        final Consumer<List<Long>> generatedKeyConsumer
+    ) throws SQLException {
+        final List<Long> generatedKeys = new ArrayList<>();
+        for (final List<?> values : rows) {
+            executeInsert(sql, values, generatedKeyFields, generatedKeys::addAll);
+        }
+        generatedKeyConsumer.accept(generatedKeys);
+    }
+
 //    /**
 //     * Executes an SQL update command. Generated key(s) following an insert
 //     * command (if any) will be feed to the provided {code Consumer}.
@@ -220,6 +253,41 @@ public interface DbmsHandler extends HasCreateFromConnectionMethods {
      */
     public void executeDelete(final String sql, final List<?> values) throws SQLException;
 
+    /**
+     * Runs the specified blocking database operation asynchronously and
+     * returns a future with its result. The operation is run on threads that
+     * are reserved for this dbms, so the caller thread is never blocked on
+     * the database.
+     * <p>
+     * Implementations should bound the number of operations that are run at
+     * the same time by the number of connections that can be used. If too
+     * many operations are waiting already, the returned future may fail with
+     * a {@link SpeedmentException} rather than blocking the caller.
+     * <p>
+     * The default implementation runs the operation in the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     *
+     * @param <T> the result type
+     * @param operation the blocking operation to run
+     * @return a future with the result of the operation
+     * @since 2.3
+     */
+    default <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(operation);
+    }
+
+    /**
+     * Releases the threads that this handler uses to run the operations
+     * requested using {@link #supplyAsync(Supplier)}. Operations that have
+     * already been requested are still completed. If more operations are
+     * requested afterwards, new threads are created for them.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @since 2.3
+     */
+    default void shutdown() {}
+
     /**
      * Returns a string with information on the current dbms.
      *
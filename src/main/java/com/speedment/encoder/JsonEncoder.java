@@ -83,7 +83,8 @@ public final class JsonEncoder<ENTITY> implements Encoder<ENTITY, JsonEncoder<EN
     public <T> JsonEncoder<ENTITY> put(String label, Function<ENTITY, T> getter) {
         requireNonNull(label);
         requireNonNull(getter);
-        getters.put(label, e -> "\"" + label + "\":" + jsonValue(getter.apply(e)));
+        final String prefix = jsonLabel(label);
+        getters.put(label, e -> prefix + jsonValue(getter.apply(e)));
         return this;
     }
 
@@ -93,7 +94,8 @@ public final class JsonEncoder<ENTITY> implements Encoder<ENTITY, JsonEncoder<EN
         requireNonNull(label);
         requireNonNull(getter);
         requireNonNull(builder);
-        getters.put(label, e -> "\"" + label + "\":" + builder.apply(getter.apply(e)));
+        final String prefix = jsonLabel(label);
+        getters.put(label, e -> prefix + builder.apply(getter.apply(e)));
         return this;
     }
 
@@ -133,11 +135,25 @@ public final class JsonEncoder<ENTITY> implements Encoder<ENTITY, JsonEncoder<EN
 
     @Override
     public String apply(ENTITY entity) {
-        return entity == null ? "null" : "{"
-            + getters.values().stream()
-            .map(g -> g.apply(entity))
-            .collect(joining(","))
-            + "}";
+        if (entity == null) {
+            return "null";
+        }
+
+        final StringBuilder sb = new StringBuilder().append('{');
+        boolean first = true;
+        for (final Function<ENTITY, String> getter : getters.values()) {
+            if (first) {
+                first = false;
+            } else {
+                sb.append(',');
+            }
+            sb.append(getter.apply(entity));
+        }
+        return sb.append('}').toString();
+    }
+
+    private static String jsonLabel(String label) {
+        return "\"" + label + "\":";
     }
 
     protected static String jsonField(Speedment speedment, FieldIdentifier<?> identifier) {
@@ -200,14 +216,11 @@ public final class JsonEncoder<ENTITY> implements Encoder<ENTITY, JsonEncoder<EN
         manager.fields()
             .filter(ReferenceFieldTrait.class::isInstance)
             .map(f -> castReferenceFieldTrait(manager, f))
-            .map(ReferenceFieldTrait::getIdentifier)
-            .forEachOrdered(fi
-                -> {
-                formatter.put(
-                    jsonField(manager.speedment(), fi),
-                    entity -> manager.get(entity, fi)
-                );
-            }
+            .forEachOrdered(f
+                -> formatter.put(
+                    jsonField(manager.speedment(), f.getIdentifier()),
+                    f.getter()
+                )
             );
 
         return formatter;
@@ -239,11 +252,10 @@ public final class JsonEncoder<ENTITY> implements Encoder<ENTITY, JsonEncoder<EN
             .filter(ReferenceFieldTrait.class::isInstance)
             .map(f -> castReferenceFieldTrait(manager, f))
             .filter(f -> fieldNames.contains(f.getIdentifier().columnName()))
-            .map(ReferenceFieldTrait::getIdentifier)
-            .forEachOrdered(fi
+            .forEachOrdered(f
                 -> formatter.put(
-                    jsonField(manager.speedment(), fi),
-                    entity -> manager.get(entity, fi)
+                    jsonField(manager.speedment(), f.getIdentifier()),
+                    f.getter()
                 )
             );
 
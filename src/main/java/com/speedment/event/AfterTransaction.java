@@ -0,0 +1,76 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.event;
+
+import com.speedment.annotation.Api;
+import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Table;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An event that is published after a transaction of insert, update and delete
+ * statements has been successfully committed to a database.
+ *
+ * @since 2.3
+ */
+@Api(version="2.3")
+public final class AfterTransaction implements Event {
+
+    private final Dbms dbms;
+    private final List<String> statements;
+    private final Optional<Set<Table>> tables;
+
+    public AfterTransaction(Dbms dbms, List<String> statements, Optional<Set<Table>> tables) {
+        this.dbms       = requireNonNull(dbms);
+        this.statements = requireNonNull(statements);
+        this.tables     = requireNonNull(tables);
+    }
+
+    /**
+     * Returns the database that the transaction was committed to.
+     *
+     * @return the dbms
+     */
+    public Dbms dbms() {
+        return dbms;
+    }
+
+    /**
+     * Returns the SQL of each statement in the transaction, in the order they
+     * were executed.
+     *
+     * @return the statements
+     */
+    public List<String> statements() {
+        return statements;
+    }
+
+    /**
+     * Returns the tables that were written to by the transaction, or an empty
+     * {@code Optional} if the table of at least one of the statements could
+     * not be determined. In that case, any table in the {@link #dbms()} might
+     * have been changed.
+     *
+     * @return the written tables, if known
+     */
+    public Optional<Set<Table>> tables() {
+        return tables;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.event;
+
+import com.speedment.annotation.Api;
+import com.speedment.config.db.Table;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An event that is published when changed rows of a cached table have been
+ * applied to the cache incrementally.
+ *
+ * @since 2.3
+ */
+@Api(version="2.3")
+public final class TableRefreshed implements Event {
+
+    private final Table table;
+    private final int changedRows;
+
+    public TableRefreshed(Table table, int changedRows) {
+        this.table       = requireNonNull(table);
+        this.changedRows = changedRows;
+    }
+
+    /**
+     * Returns the table that was refreshed.
+     *
+     * @return the table
+     */
+    public Table table() {
+        return table;
+    }
+
+    /**
+     * Returns the number of rows that were inserted or updated in the cache.
+     *
+     * @return the number of changed rows
+     */
+    public int changedRows() {
+        return changedRows;
+    }
+}
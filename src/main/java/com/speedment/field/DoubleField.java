@@ -0,0 +1,145 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.field;
+
+import com.speedment.annotation.Api;
+import com.speedment.field.methods.DoubleGetter;
+import com.speedment.field.predicate.ComparableSpeedmentPredicate;
+
+/**
+ * A {@link ComparableField} for a column that is mapped to a non-null
+ * {@code double}. In addition to the methods of a {@code ComparableField}, this
+ * field can read the value as a primitive and create predicates from primitive
+ * values. Predicates and comparators created by the field compare primitive
+ * values directly.
+ *
+ * @param <ENTITY>  the entity type
+ * @param <D>       the database type
+ *
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface DoubleField<ENTITY, D> extends ComparableField<ENTITY, D, Double> {
+
+    @Override
+    DoubleGetter<ENTITY> getter();
+
+    /**
+     * Gets the value from the entity as a primitive {@code double}.
+     *
+     * @param entity the entity
+     * @return the field value
+     * @throws NullPointerException if the value of the field is {@code null}
+     */
+    default double getAsDouble(ENTITY entity) {
+        return getter().applyAsDouble(entity);
+    }
+
+    /**
+     * Returns a {@link java.util.function.Predicate} that will evaluate to
+     * {@code true}, if and only if this Field is <em>equal</em> to the given
+     * value.
+     *
+     * @param value to compare
+     * @return a Predicate that will evaluate to {@code true}, if and only if
+     * this Field is <em>equal</em> to the given value
+     */
+    ComparableSpeedmentPredicate<ENTITY, D, Double> equal(double value);
+
+    /**
+     * Returns a {@link java.util.function.Predicate} that will evaluate to
+     * {@code true}, if and only if this Field is <em>not equal</em> to the given
+     * value.
+     *
+     * @param value to compare
+     * @return a Predicate that will evaluate to {@code true}, if and only if
+     * this Field is <em>not equal</em> to the given value
+     */
+    ComparableSpeedmentPredicate<ENTITY, D, Double> notEqual(double value);
+
+    /**
+     * Returns a {@link java.util.function.Predicate} that will evaluate to
+     * {@code true}, if and only if this Field is <em>less than</em> the given
+     * value.
+     *
+     * @param value to compare
+     * @return a Predicate that will evaluate to {@code true}, if and only if
+     * this Field is <em>less than</em> the given value
+     */
+    ComparableSpeedmentPredicate<ENTITY, D, Double> lessThan(double value);
+
+    /**
+     * Returns a {@link java.util.function.Predicate} that will evaluate to
+     * {@code true}, if and only if this Field is <em>less than or equal</em> to the given
+     * value.
+     *
+     * @param value to compare
+     * @return a Predicate that will evaluate to {@code true}, if and only if
+     * this Field is <em>less than or equal</em> to the given value
+     */
+    ComparableSpeedmentPredicate<ENTITY, D, Double> lessOrEqual(double value);
+
+    /**
+     * Returns a {@link java.util.function.Predicate} that will evaluate to
+     * {@code true}, if and only if this Field is <em>greater than</em> the given
+     * value.
+     *
+     * @param value to compare
+     * @return a Predicate that will evaluate to {@code true}, if and only if
+     * this Field is <em>greater than</em> the given value
+     */
+    ComparableSpeedmentPredicate<ENTITY, D, Double> greaterThan(double value);
+
+    /**
+     * Returns a {@link java.util.function.Predicate} that will evaluate to
+     * {@code true}, if and only if this Field is <em>greater than or equal</em> to the given
+     * value.
+     *
+     * @param value to compare
+     * @return a Predicate that will evaluate to {@code true}, if and only if
+     * this Field is <em>greater than or equal</em> to the given value
+     */
+    ComparableSpeedmentPredicate<ENTITY, D, Double> greaterOrEqual(double value);
+
+    /**
+     * Returns a {@link java.util.function.Predicate} that will evaluate to
+     * {@code true}, if and only if this Field is <em>between</em> the given
+     * values (inclusive the start value but exclusive the end value).
+     *
+     * @param start to compare as a start value
+     * @param end to compare as an end value
+     * @return a Predicate that will evaluate to {@code true}, if and only if
+     * this Field is <em>between</em> the given values
+     */
+    default ComparableSpeedmentPredicate<ENTITY, D, Double> between(double start, double end) {
+        return between(start, end, Inclusion.START_INCLUSIVE_END_EXCLUSIVE);
+    }
+
+    /**
+     * Returns a {@link java.util.function.Predicate} that will evaluate to
+     * {@code true}, if and only if this Field is <em>between</em> the given
+     * values, taking the Inclusion parameter into account.
+     *
+     * @param start to compare as a start value
+     * @param end to compare as an end value
+     * @param inclusion determines if the end points is included in the Field
+     * range.
+     * @return a Predicate that will evaluate to {@code true}, if and only if
+     * this Field is <em>between</em> the given values
+     */
+    ComparableSpeedmentPredicate<ENTITY, D, Double> between(double start, double end, Inclusion inclusion);
+}
@@ -0,0 +1,62 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.field.methods;
+
+import com.speedment.annotation.Api;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Getter} that can also return the value of a field as a primitive
+ * {@code int}. The boxed {@link #apply(Object)} is the method that reads
+ * the field, so it may return {@code null} if the value has not been set yet,
+ * for an example for an auto-incremented column of a new entity. The
+ * primitive {@link #applyAsInt(Object)} must only be used when the value is
+ * known to be set, which can be checked with {@link #isSet(Object)}.
+ * Generated entities that store the field as a primitive override both
+ * methods to read the field without boxing it.
+ *
+ * @param <ENTITY>  the entity
+ *
+ * @since   2.3
+ */
+@Api(version = "2.3")
+@FunctionalInterface
+public interface IntGetter<ENTITY> extends Getter<ENTITY, Integer>, ToIntFunction<ENTITY> {
+
+    /**
+     * Returns if the field of the specified entity is set, in which case
+     * {@link #applyAsInt(Object)} can be used to read it.
+     *
+     * @param entity  the entity
+     * @return        {@code true} if the field is set, else {@code false}
+     */
+    default boolean isSet(ENTITY entity) {
+        return apply(entity) != null;
+    }
+
+    /**
+     * Returns the value of the field as a primitive {@code int}.
+     *
+     * @param entity  the entity
+     * @return        the field value
+     * @throws NullPointerException if the value of the field is {@code null}
+     */
+    @Override
+    default int applyAsInt(ENTITY entity) {
+        return apply(entity);
+    }
+}
@@ -22,8 +22,10 @@ import java.util.Collections;
 import static java.util.Collections.emptySet;
 import java.util.HashSet;
 import static java.util.Objects.requireNonNull;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toSet;
@@ -38,6 +40,7 @@ public class DefaultDependencyManager implements DependencyManager {
 
     private final Set<String> dependencies = new HashSet<>();
     private final Set<Pattern> ignorePatterns;
+    private final Map<String, Boolean> ignored = new ConcurrentHashMap<>();
     private String currentPackage;
 
     /**
@@ -74,9 +77,12 @@ public class DefaultDependencyManager implements DependencyManager {
 
     @Override
     public boolean isIgnored(String fullname) {
-        return  ignorePatterns.stream()
-            .map(Pattern::asPredicate)
-            .anyMatch(p -> p.test(requireNonNull(fullname)));
+        // The patterns never change, so the result is the same for every call
+        return ignored.computeIfAbsent(requireNonNull(fullname), name ->
+            ignorePatterns.stream()
+                .map(Pattern::asPredicate)
+                .anyMatch(p -> p.test(name))
+        );
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.speedment.internal.codegen;
 import com.speedment.codegen.Transform;
 import com.speedment.codegen.TransformFactory;
 import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
@@ -28,12 +29,19 @@ import static java.util.stream.Collectors.toSet;
 
 /**
  * The default implementation of the {@link TransformFactory} interface.
+ * <p>
+ * The transforms that match a particular model class are only looked up and
+ * instantiated the first time the class is rendered. The same transform
+ * instances are then reused for every model of that class until another
+ * transform is installed, so transforms should not keep any state between
+ * invocations.
  *
  * @author Emil Forslund
  */
 public class DefaultTransformFactory implements TransformFactory {
 
     private final Map<Class<?>, Set<Map.Entry<Class<?>, Class<? extends Transform<?, ?>>>>> transforms;
+    private final Map<Class<?>, Set<? extends Map.Entry<Class<?>, ? extends Transform<?, ?>>>> instances;
     private final String name;
 
     /**
@@ -44,6 +52,7 @@ public class DefaultTransformFactory implements TransformFactory {
     public DefaultTransformFactory(String name) {
         this.name = requireNonNull(name);
         this.transforms = new ConcurrentHashMap<>();
+        this.instances = new ConcurrentHashMap<>();
     }
 
     /**
@@ -66,6 +75,7 @@ public class DefaultTransformFactory implements TransformFactory {
         transforms.computeIfAbsent(from, f -> new HashSet<>())
             .add(new AbstractMap.SimpleEntry<>(to, transform));
 
+        instances.clear();
         return this;
     }
 
@@ -77,12 +87,14 @@ public class DefaultTransformFactory implements TransformFactory {
     public <A, T extends Transform<A, ?>> Set<Map.Entry<Class<?>, T>> allFrom(Class<A> model) {
         requireNonNull(model);
 
-        return transforms.entrySet().stream()
-            .filter(e -> e.getKey().isAssignableFrom(model))
-            .flatMap(e -> e.getValue().stream())
-            .map(e -> toEntry(e.getKey(), (T) TransformFactory.create(e.getValue())))
-            .collect(toSet());
-
+        return (Set<Map.Entry<Class<?>, T>>) instances.computeIfAbsent(model, m ->
+            Collections.unmodifiableSet(transforms.entrySet().stream()
+                .filter(e -> e.getKey().isAssignableFrom(m))
+                .flatMap(e -> e.getValue().stream())
+                .map(e -> toEntry(e.getKey(), (T) TransformFactory.create(e.getValue())))
+                .collect(toSet())
+            )
+        );
     }
 
     private static <A, T extends Transform<A, ?>> Map.Entry<Class<?>, T> toEntry(Class<?> key, T value) {
@@ -24,7 +24,11 @@ import static com.speedment.internal.codegen.util.Formatting.*;
 import com.speedment.internal.util.TextUtil;
 import static com.speedment.util.CollectorUtil.joinIfNotEmpty;
 import static java.util.Objects.requireNonNull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Transforms from a {@link Javadoc} to java code.
@@ -38,6 +42,11 @@ public final class JavadocView implements Transform<Javadoc, String>,
 		JAVADOC_DELIMITER = nl() + SPACE + STAR + SPACE,
 		JAVADOC_PREFIX = SLASH + STAR + STAR + nl() + SPACE + STAR + SPACE,
 		JAVADOC_SUFFIX = nl() + SPACE + STAR + SLASH;
+    
+    // Generated javadoc is very repetitive, so formatted boxes are reused.
+    // The boxes depend on the new-line string, so it is part of the key.
+    private final static int MAX_CACHED_BOXES = 4096;
+    private final static Map<List<String>, String> BOXES = new ConcurrentHashMap<>();
 	
     /**
      * {@inheritDoc}
@@ -47,9 +56,9 @@ public final class JavadocView implements Transform<Javadoc, String>,
         requireNonNull(gen);
         requireNonNull(model);
         
-        final String formattedText = TextUtil.formatJavaDocBox(model.getText()) + 
+        final String formattedText = formatJavaDocBox(model.getText()) + 
             renderJavadocTags(gen, model)
-                .map(TextUtil::formatJavaDocBox)
+                .map(JavadocView::formatJavaDocBox)
                 .collect(joinIfNotEmpty(nl(), nl(), EMPTY));
         
 		return Optional.of(
@@ -58,4 +67,19 @@ public final class JavadocView implements Transform<Javadoc, String>,
             JAVADOC_SUFFIX
         );
 	}
+    
+    private static String formatJavaDocBox(String text) {
+        final List<String> key = Arrays.asList(nl(), text);
+        final String cached = BOXES.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        final String formatted = TextUtil.formatJavaDocBox(text);
+        if (BOXES.size() >= MAX_CACHED_BOXES) {
+            BOXES.clear();
+        }
+        BOXES.put(key, formatted);
+        return formatted;
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import static java.util.stream.Collectors.joining;
 import java.util.stream.Stream;
 
@@ -147,7 +148,7 @@ public final class Formatting {
      * @return The indented text.
      */
     public static String indent(String text) {
-        return tab + text.replaceAll("\\r?\\n", nltab);
+        return tab + NEW_LINE.matcher(text).replaceAll(nltab);
     }
     
     /**
@@ -159,7 +160,7 @@ public final class Formatting {
      * @return The indented text.
      */
     public static String indent(String... text) {
-        return tab + String.join(nl(), text).replaceAll("\\r?\\n", nltab);
+        return tab + NEW_LINE.matcher(String.join(nl(), text)).replaceAll(nltab);
     }
     
     /**
@@ -330,6 +331,8 @@ public final class Formatting {
         return longName.replace('.', '/') + ".java";
 	}
 
+    private final static Pattern NEW_LINE = Pattern.compile("\\r?\\n");
+
     private static String nl = "\n",
             dnl = "\n\n",
             tab = "\t",
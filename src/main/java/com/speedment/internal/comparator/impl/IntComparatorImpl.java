@@ -0,0 +1,51 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.comparator.impl;
+
+import com.speedment.field.methods.IntGetter;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link SpeedmentComparatorImpl} for a {@code int} field that compares
+ * the primitive values returned by a {@link IntGetter}. Unset fields are
+ * ordered by the {@link NullOrder} of the comparator.
+ *
+ * @param <ENTITY> entity type
+ * @param <D> database type
+ * @since 2.3
+ */
+public class IntComparatorImpl<ENTITY, D> extends SpeedmentComparatorImpl<ENTITY, D, Integer> {
+
+    private final IntGetter<ENTITY> getter;
+
+    public IntComparatorImpl(FieldTrait field, ReferenceFieldTrait<ENTITY, D, Integer> referenceField, IntGetter<ENTITY> getter, NullOrder nullOrder) {
+        super(field, referenceField, nullOrder);
+        this.getter = requireNonNull(getter);
+    }
+
+    @Override
+    public int compare(ENTITY o1, ENTITY o2) {
+        final boolean o1Set = getter.isSet(requireNonNull(o1));
+        final boolean o2Set = getter.isSet(requireNonNull(o2));
+        if (o1Set && o2Set) {
+            return applyReversed(Integer.compare(getter.applyAsInt(o1), getter.applyAsInt(o2)));
+        }
+        return compareNull(!o1Set, !o2Set);
+    }
+}
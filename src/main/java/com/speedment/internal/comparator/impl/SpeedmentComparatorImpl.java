@@ -61,19 +61,28 @@ public class SpeedmentComparatorImpl<ENTITY, D, V extends Comparable<? super V>>
     public int compare(ENTITY o1, ENTITY o2) {
         final V o1Value = referenceField.getter().apply(requireNonNull(o1));
         final V o2Value = referenceField.getter().apply(requireNonNull(o2));
-        if (o1Value == null && o2Value == null) {
+        if (o1Value == null || o2Value == null) {
+            return compareNull(o1Value == null, o2Value == null);
+        }
+        return applyReversed(o1Value.compareTo(o2Value));
+    }
+
+    /**
+     * Compares two field values of which at least one is {@code null},
+     * using the null order and the direction of this comparator.
+     *
+     * @param firstIsNull   if the first value is null
+     * @param secondIsNull  if the second value is null
+     * @return              the result of the comparison
+     */
+    protected final int compareNull(boolean firstIsNull, boolean secondIsNull) {
+        if (firstIsNull && secondIsNull) {
             if (NullOrder.NONE == nullOrder) {
                 throw new NullPointerException("Both fields were null and null fields not allowed");
             }
             return 0;
         }
-        if (o1Value == null) {
-            return forNull(Parameter.FIRST);
-        }
-        if (o2Value == null) {
-            return forNull(Parameter.SECOND);
-        }
-        return applyReversed(o1Value.compareTo(o2Value));
+        return forNull(firstIsNull ? Parameter.FIRST : Parameter.SECOND);
     }
 
     private enum Parameter {
@@ -95,7 +104,7 @@ public class SpeedmentComparatorImpl<ENTITY, D, V extends Comparable<? super V>>
         }
     }
 
-    private int applyReversed(int compare) {
+    protected final int applyReversed(int compare) {
         if (!reversed) {
             return compare;
         }
@@ -0,0 +1,202 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.cache;
+
+import java.nio.ByteBuffer;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A flyweight view of a single row in an {@link OffHeapRowStore}. The same
+ * instance is moved between rows, so values can be inspected without
+ * materializing any entities. Primitive values are read directly from the
+ * off-heap memory without boxing.
+ * <p>
+ * Instances of this class are not thread safe and should not be retained
+ * outside of the callback that they were passed to.
+ *
+ * @since 2.3
+ */
+public final class OffHeapRow {
+
+    private final OffHeapRowStore<?> store;
+    private ByteBuffer buffer;
+    private int offset;
+    private long index;
+
+    OffHeapRow(OffHeapRowStore<?> store) {
+        this.store = requireNonNull(store);
+        this.index = -1;
+    }
+
+    OffHeapRow moveTo(long index) {
+        store.locate(index, this);
+        return this;
+    }
+
+    void moveTo(long index, ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.index = index;
+    }
+
+    /**
+     * Returns the index of the row that this flyweight currently points to.
+     *
+     * @return the row index
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Returns {@code true} if the specified column is {@code null} in the
+     * current row.
+     *
+     * @param column the column index
+     * @return {@code true} if null, else {@code false}
+     */
+    public boolean isNull(int column) {
+        return (buffer.get(offset + column / Byte.SIZE) & (1 << (column % Byte.SIZE))) != 0;
+    }
+
+    /**
+     * Returns the value of the specified column as a {@code boolean}. The
+     * column must be non-null.
+     *
+     * @param column the column index
+     * @return the value
+     */
+    public boolean getBoolean(int column) {
+        requireSlot(column, SlotType.BOOLEAN);
+        return buffer.get(fixedPosition(column)) != 0;
+    }
+
+    /**
+     * Returns the value of the specified column as an {@code int}. Byte and
+     * short columns are widened. The column must be non-null.
+     *
+     * @param column the column index
+     * @return the value
+     */
+    public int getInt(int column) {
+        final int position = fixedPosition(column);
+        switch (store.slot(column)) {
+            case BYTE:
+                return buffer.get(position);
+            case SHORT:
+                return buffer.getShort(position);
+            case INT:
+                return buffer.getInt(position);
+            default:
+                throw newIllegalType(column, "int");
+        }
+    }
+
+    /**
+     * Returns the value of the specified column as a {@code long}. Byte, short
+     * and int columns are widened. The column must be non-null.
+     *
+     * @param column the column index
+     * @return the value
+     */
+    public long getLong(int column) {
+        final int position = fixedPosition(column);
+        switch (store.slot(column)) {
+            case BYTE:
+                return buffer.get(position);
+            case SHORT:
+                return buffer.getShort(position);
+            case INT:
+                return buffer.getInt(position);
+            case LONG:
+                return buffer.getLong(position);
+            default:
+                throw newIllegalType(column, "long");
+        }
+    }
+
+    /**
+     * Returns the value of the specified column as a {@code double}. Float
+     * columns are widened. The column must be non-null.
+     *
+     * @param column the column index
+     * @return the value
+     */
+    public double getDouble(int column) {
+        final int position = fixedPosition(column);
+        switch (store.slot(column)) {
+            case FLOAT:
+                return buffer.getFloat(position);
+            case DOUBLE:
+                return buffer.getDouble(position);
+            default:
+                throw newIllegalType(column, "double");
+        }
+    }
+
+    /**
+     * Returns the value of the specified column boxed in the java type of the
+     * field, or {@code null} if the column is {@code null} in this row.
+     *
+     * @param column the column index
+     * @return the value or {@code null}
+     */
+    public Object get(int column) {
+        if (isNull(column)) {
+            return null;
+        }
+
+        final SlotType slot = store.slot(column);
+        if (slot.isFixedWidth()) {
+            return slot.get(buffer, fixedPosition(column));
+        } else {
+            final int position = variablePosition(column);
+            final byte[] bytes = new byte[buffer.getInt(position)];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(position + Integer.BYTES + i);
+            }
+            return slot.fromBytes(bytes);
+        }
+    }
+
+    private int fixedPosition(int column) {
+        return offset + store.nullBytes() + store.fixedOffset(column);
+    }
+
+    private int variablePosition(int column) {
+        int position = offset + store.nullBytes() + store.fixedBytes();
+        for (int i = 0; i < column; i++) {
+            if (!store.slot(i).isFixedWidth() && !isNull(i)) {
+                position += Integer.BYTES + buffer.getInt(position);
+            }
+        }
+        return position;
+    }
+
+    private void requireSlot(int column, SlotType expected) {
+        if (store.slot(column) != expected) {
+            throw newIllegalType(column, expected.name().toLowerCase());
+        }
+    }
+
+    private IllegalStateException newIllegalType(int column, String type) {
+        return new IllegalStateException(
+            "Column " + column + " of type " + store.slot(column)
+            + " can not be read as " + type + "."
+        );
+    }
+}
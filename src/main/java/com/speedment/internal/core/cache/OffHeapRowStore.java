@@ -0,0 +1,748 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.cache;
+
+import com.speedment.exception.SpeedmentException;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.manager.Manager;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A row store that keeps a snapshot of the entities of a {@link Manager}
+ * outside of the java heap, either in direct {@link ByteBuffer ByteBuffers} or
+ * in memory-mapped files.
+ * <p>
+ * The row layout is derived from the fields of the manager and the java type
+ * of their {@code TypeMapper}. Each row consists of a null bitmap, a section
+ * of fixed width values located at constant offsets and a section of variable
+ * width values (strings and big decimals) that are prefixed with their length.
+ * <p>
+ * Entities are only materialized when they are requested, which means that a
+ * stream over the store does not allocate more than one entity at a time per
+ * thread. Rows can also be inspected without materializing any entity at all
+ * using the {@link OffHeapRow} flyweight.
+ * <p>
+ * Appending rows is synchronized. Reading can be done concurrently with
+ * appending, since a row only becomes visible when it has been fully written.
+ * Rows can also be replaced by primary key using {@link #put(Object)}. The new
+ * version of the row is appended to the memory chunks and the row index is
+ * then redirected to it, so readers see either the old or the new version.
+ * The bytes of replaced rows are tracked and once they make up more than half
+ * of the used memory, the live rows are compacted into new chunks.
+ * <p>
+ * The row index itself is kept on the heap in atomic arrays, so a redirected
+ * row is safely published to concurrent readers.
+ * <p>
+ * Every stream created by the store holds a reference to it until the stream
+ * has either been closed or consumed completely. Closing the store only
+ * releases the memory chunks once all such streams are done, so a store can be
+ * replaced while other threads are still iterating over it. A stream that is
+ * abandoned before it is exhausted keeps the store alive until it is closed.
+ *
+ * @param <ENTITY> the entity type
+ * @since 2.3
+ */
+public final class OffHeapRowStore<ENTITY> implements AutoCloseable {
+
+    /**
+     * The default number of bytes in each memory chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 24;
+
+    private static final int ADDRESS_CHUNK_LENGTH = 1 << 17;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+    private final Manager<ENTITY> manager;
+    private final Allocator allocator;
+    private final int chunkSize;
+    private final List<ReferenceFieldTrait<ENTITY, ?, Object>> fields;
+    private final Map<FieldIdentifier<?>, Integer> columnIndex;
+    private final SlotType[] slots;
+    private final int[] fixedOffsets;
+    private final int nullBytes;
+    private final int fixedBytes;
+
+    private final ThreadLocal<OffHeapRow> flyweights;
+    private final AtomicInteger references;
+    private final AtomicBoolean closed;
+    private Map<Object, Long> primaryKeyIndex;
+    private long garbageBytes;
+    private volatile Memory memory;
+    private volatile long size;
+
+    /**
+     * Creates a new store for the specified manager using direct byte buffers
+     * of the {@link #DEFAULT_CHUNK_SIZE default} size.
+     *
+     * @param manager the manager to create a store for
+     * @throws SpeedmentException if any of the fields of the manager can not
+     * be stored off-heap
+     */
+    public OffHeapRowStore(Manager<ENTITY> manager) throws SpeedmentException {
+        this(manager, Allocator.direct(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new store for the specified manager.
+     *
+     * @param manager the manager to create a store for
+     * @param allocator the allocator to use for new memory chunks
+     * @param chunkSize the number of bytes in each memory chunk, which is also
+     * the maximum size of a single row
+     * @throws SpeedmentException if any of the fields of the manager can not
+     * be stored off-heap
+     */
+    public OffHeapRowStore(Manager<ENTITY> manager, Allocator allocator, int chunkSize) throws SpeedmentException {
+        this.manager = requireNonNull(manager);
+        this.allocator = requireNonNull(allocator);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, was " + chunkSize + ".");
+        }
+        this.chunkSize = chunkSize;
+
+        @SuppressWarnings("unchecked")
+        final List<ReferenceFieldTrait<ENTITY, ?, Object>> referenceFields = manager.fields()
+            .filter(ReferenceFieldTrait.class::isInstance)
+            .map(f -> (ReferenceFieldTrait<ENTITY, ?, Object>) f)
+            .collect(toList());
+
+        this.fields = referenceFields;
+        this.columnIndex = new HashMap<>();
+        this.slots = new SlotType[fields.size()];
+        this.fixedOffsets = new int[fields.size()];
+
+        int fixed = 0;
+        for (int i = 0; i < slots.length; i++) {
+            final ReferenceFieldTrait<ENTITY, ?, Object> field = fields.get(i);
+            final Class<?> javaType = field.typeMapper().getJavaType();
+            slots[i] = SlotType.of(javaType).orElseThrow(() -> new SpeedmentException(
+                "The field " + field.getIdentifier().columnName() + " of type "
+                + javaType.getName() + " in " + manager.getTable().getName()
+                + " can not be stored off-heap."
+            ));
+            columnIndex.put(field.getIdentifier(), i);
+            if (slots[i].isFixedWidth()) {
+                fixedOffsets[i] = fixed;
+                fixed += slots[i].width();
+            } else {
+                fixedOffsets[i] = -1;
+            }
+        }
+
+        this.nullBytes = (slots.length + Byte.SIZE - 1) / Byte.SIZE;
+        this.fixedBytes = fixed;
+        this.memory = new Memory();
+        this.flyweights = ThreadLocal.withInitial(() -> new OffHeapRow(this));
+        this.references = new AtomicInteger(1);
+        this.closed = new AtomicBoolean();
+    }
+
+    /**
+     * Returns {@code true} if all the fields of the specified manager can be
+     * stored in an {@code OffHeapRowStore}.
+     *
+     * @param manager the manager to check
+     * @return {@code true} if supported, else {@code false}
+     */
+    public static boolean isSupported(Manager<?> manager) {
+        return manager.fields()
+            .filter(ReferenceFieldTrait.class::isInstance)
+            .map(ReferenceFieldTrait.class::cast)
+            .allMatch(f -> SlotType.of(f.typeMapper().getJavaType()).isPresent());
+    }
+
+    /**
+     * Returns the manager that this store holds entities for.
+     *
+     * @return the manager
+     */
+    public Manager<ENTITY> getManager() {
+        return manager;
+    }
+
+    /**
+     * Returns the number of rows in this store.
+     *
+     * @return the number of rows
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of off-heap bytes that has been allocated by this
+     * store.
+     *
+     * @return the number of allocated bytes
+     */
+    public long allocatedBytes() {
+        final Memory current = memory;
+        return (long) current.chunks.size() * chunkSize
+            + (long) current.addresses.size() * ADDRESS_CHUNK_LENGTH * Long.BYTES;
+    }
+
+    /**
+     * Returns the number of columns in each row.
+     *
+     * @return the number of columns
+     */
+    public int columnCount() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the column index that the specified field is stored at. The
+     * index can be used to read values from an {@link OffHeapRow}.
+     *
+     * @param identifier the field identifier
+     * @return the column index
+     * @throws IllegalArgumentException if the field is not part of the store
+     */
+    public int columnIndexOf(FieldIdentifier<ENTITY> identifier) {
+        final Integer index = columnIndex.get(requireNonNull(identifier));
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown identifier '" + identifier + "'.");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the column index that the specified field is stored at.
+     *
+     * @param field the field
+     * @return the column index
+     * @throws IllegalArgumentException if the field is not part of the store
+     */
+    public int columnIndexOf(FieldTrait field) {
+        @SuppressWarnings("unchecked")
+        final FieldIdentifier<ENTITY> identifier = (FieldIdentifier<ENTITY>) field.getIdentifier();
+        return columnIndexOf(identifier);
+    }
+
+    /**
+     * Appends all the entities of the specified stream to this store.
+     *
+     * @param entities the entities to append
+     * @return the number of appended rows
+     */
+    public long appendAll(Stream<ENTITY> entities) {
+        final long before = size;
+        entities.forEachOrdered(this::append);
+        return size - before;
+    }
+
+    /**
+     * Appends the specified entity to the end of this store.
+     *
+     * @param entity the entity to append
+     * @return the index of the new row
+     * @throws SpeedmentException if the row does not fit in a single chunk
+     */
+    public synchronized long append(ENTITY entity) throws SpeedmentException {
+        requireNonNull(entity);
+        final long index = size;
+        memory.setAddress(index, write(entity));
+        size = index + 1;
+        if (primaryKeyIndex != null) {
+            primaryKeyIndex.put(manager.primaryKeyFor(entity), index);
+        }
+        return index;
+    }
+
+    /**
+     * Stores the specified entity, replacing the row that has the same primary
+     * key if there is one. Otherwise the entity is appended to the end of this
+     * store. The first call builds an on-heap index of the primary keys in the
+     * store. Replacing a row might trigger a compaction of the store.
+     *
+     * @param entity the entity to store
+     * @return the index of the stored row
+     * @throws SpeedmentException if the row does not fit in a single chunk
+     */
+    public synchronized long put(ENTITY entity) throws SpeedmentException {
+        requireNonNull(entity);
+        final Long existing = primaryKeyIndex().get(manager.primaryKeyFor(entity));
+        if (existing == null) {
+            return append(entity);
+        } else {
+            final Memory current = memory;
+            final long replaced = current.addressOf(existing);
+            current.setAddress(existing, write(entity));
+            garbageBytes += rowSize(current.chunkOf(replaced), offsetOf(replaced));
+            if (garbageBytes >= chunkSize && 2 * garbageBytes >= current.usedBytes) {
+                compact();
+            }
+            return existing;
+        }
+    }
+
+    /**
+     * Copies all the live rows into new memory chunks and then replaces the
+     * current memory so that the bytes of replaced rows can be reclaimed.
+     * Readers that have already resolved a row in the previous memory can
+     * still read it, since the previous chunks are left untouched.
+     */
+    private void compact() {
+        final Memory from = memory;
+        final Memory to = new Memory();
+        final long rows = size;
+        for (long i = 0; i < rows; i++) {
+            final long address = from.addressOf(i);
+            final ByteBuffer source = from.chunkOf(address).duplicate();
+            final int start = offsetOf(address);
+            final int rowSize = rowSize(source, start);
+            source.limit(start + rowSize);
+            source.position(start);
+
+            final long target = reserve(to, rowSize);
+            final ByteBuffer destination = to.chunkOf(target).duplicate();
+            destination.position(offsetOf(target));
+            destination.put(source);
+            to.setAddress(i, target);
+        }
+        memory = to;
+        garbageBytes = 0;
+        from.release();
+    }
+
+    private Map<Object, Long> primaryKeyIndex() {
+        if (primaryKeyIndex == null) {
+            final Map<Object, Long> index = new HashMap<>();
+            final long rows = size;
+            for (long i = 0; i < rows; i++) {
+                index.put(manager.primaryKeyFor(get(i)), i);
+            }
+            primaryKeyIndex = index;
+        }
+        return primaryKeyIndex;
+    }
+
+    private long write(ENTITY entity) throws SpeedmentException {
+
+        final Object[] values = new Object[slots.length];
+        final byte[][] variables = new byte[slots.length][];
+
+        int rowSize = nullBytes + fixedBytes;
+        for (int i = 0; i < slots.length; i++) {
+            values[i] = fields.get(i).get(entity);
+            if (values[i] != null && !slots[i].isFixedWidth()) {
+                variables[i] = slots[i].toBytes(values[i]);
+                rowSize += Integer.BYTES + variables[i].length;
+            }
+        }
+
+        if (rowSize > chunkSize) {
+            throw new SpeedmentException(
+                "A row of " + rowSize + " bytes in " + manager.getTable().getName()
+                + " does not fit in a chunk of " + chunkSize + " bytes."
+            );
+        }
+
+        final Memory current = memory;
+        final long address = reserve(current, rowSize);
+        final ByteBuffer chunk = current.chunkOf(address);
+        final int start = offsetOf(address);
+
+        for (int i = 0; i < nullBytes; i++) {
+            chunk.put(start + i, (byte) 0);
+        }
+
+        int varOffset = start + nullBytes + fixedBytes;
+        for (int i = 0; i < slots.length; i++) {
+            if (values[i] == null) {
+                final int bytePos = start + i / Byte.SIZE;
+                chunk.put(bytePos, (byte) (chunk.get(bytePos) | (1 << (i % Byte.SIZE))));
+            } else if (slots[i].isFixedWidth()) {
+                slots[i].put(chunk, start + nullBytes + fixedOffsets[i], values[i]);
+            } else {
+                chunk.putInt(varOffset, variables[i].length);
+                varOffset += Integer.BYTES;
+                for (int j = 0; j < variables[i].length; j++) {
+                    chunk.put(varOffset + j, variables[i][j]);
+                }
+                varOffset += variables[i].length;
+            }
+        }
+
+        return address;
+    }
+
+    private long reserve(Memory target, int rowSize) {
+        if (target.chunks.isEmpty() || target.writeOffset + rowSize > chunkSize) {
+            target.chunks.add(allocator.allocate(chunkSize));
+            target.writeOffset = 0;
+        }
+
+        final long address = ((long) (target.chunks.size() - 1) << Integer.SIZE) | target.writeOffset;
+        target.writeOffset += rowSize;
+        target.usedBytes += rowSize;
+        return address;
+    }
+
+    private int rowSize(ByteBuffer chunk, int start) {
+        int position = start + nullBytes + fixedBytes;
+        for (int i = 0; i < slots.length; i++) {
+            final boolean isNull = (chunk.get(start + i / Byte.SIZE) & (1 << (i % Byte.SIZE))) != 0;
+            if (!isNull && !slots[i].isFixedWidth()) {
+                position += Integer.BYTES + chunk.getInt(position);
+            }
+        }
+        return position - start;
+    }
+
+    /**
+     * Materializes the entity stored at the specified row index.
+     *
+     * @param index the row index
+     * @return a new entity
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public ENTITY get(long index) {
+        return materialize(flyweights.get().moveTo(index));
+    }
+
+    /**
+     * Creates a new stream that materializes each row as it is consumed.
+     *
+     * @return a stream of entities
+     * @throws IllegalStateException if the store has been closed
+     */
+    public Stream<ENTITY> stream() {
+        final Lease lease = lease();
+        return lease.rows()
+            .mapToObj(i -> lease.consumed(get(i)))
+            .onClose(lease::release);
+    }
+
+    /**
+     * Creates a new stream that only materializes the rows that matches the
+     * specified predicate. The predicate is evaluated on a reused flyweight
+     * and must therefore not retain the {@link OffHeapRow}.
+     *
+     * @param rowFilter the filter to apply to each row
+     * @return a stream of entities
+     * @throws IllegalStateException if the store has been closed
+     */
+    public Stream<ENTITY> stream(Predicate<OffHeapRow> rowFilter) {
+        requireNonNull(rowFilter);
+        final Lease lease = lease();
+        return lease.rows()
+            .filter(i -> rowFilter.test(flyweights.get().moveTo(i)) || lease.consumed(false))
+            .mapToObj(i -> lease.consumed(get(i)))
+            .onClose(lease::release);
+    }
+
+    /**
+     * Invokes the specified action for each row in this store without
+     * materializing any entities. The flyweight passed to the action is reused
+     * and must not be retained.
+     *
+     * @param action the action to invoke
+     * @throws IllegalStateException if the store has been closed
+     */
+    public void forEachRow(Consumer<OffHeapRow> action) {
+        requireNonNull(action);
+        final Lease lease = lease();
+        try {
+            final OffHeapRow row = new OffHeapRow(this);
+            final long rows = lease.size;
+            for (long i = 0; i < rows; i++) {
+                action.accept(row.moveTo(i));
+            }
+        } finally {
+            lease.release();
+        }
+    }
+
+    /**
+     * Removes all rows from this store and releases the memory chunks.
+     */
+    public synchronized void clear() {
+        size = 0;
+        primaryKeyIndex = null;
+        garbageBytes = 0;
+        final Memory previous = memory;
+        memory = new Memory();
+        previous.release();
+    }
+
+    /**
+     * Returns {@code true} if this store has been closed. The memory of a
+     * closed store might still be in use by streams that were created before
+     * it was closed.
+     *
+     * @return {@code true} if closed, else {@code false}
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Closes this store. No new streams can be created once the store is
+     * closed. The memory chunks are released as soon as all the streams that
+     * are still open over this store have been closed or consumed.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    private Lease lease() {
+        for (int count = references.get();; count = references.get()) {
+            if (count == 0 || closed.get()) {
+                throw new IllegalStateException(
+                    "The store of " + manager.getTable().getName() + " has been closed."
+                );
+            }
+            if (references.compareAndSet(count, count + 1)) {
+                return new Lease(size);
+            }
+        }
+    }
+
+    private void release() {
+        if (references.decrementAndGet() == 0) {
+            clear();
+        }
+    }
+
+    ENTITY materialize(OffHeapRow row) {
+        final ENTITY entity = manager.newEmptyEntity();
+        for (int i = 0; i < slots.length; i++) {
+            if (!row.isNull(i)) {
+                fields.get(i).set(entity, row.get(i));
+            }
+        }
+        return entity;
+    }
+
+    SlotType slot(int column) {
+        return slots[column];
+    }
+
+    void locate(long index, OffHeapRow row) {
+        final long rows = size;
+        if (index < 0 || index >= rows) {
+            throw new IndexOutOfBoundsException("Row " + index + " is out of bounds, size is " + rows + ".");
+        }
+        final Memory current = memory;
+        final long address = current.addressOf(index);
+        row.moveTo(index, current.chunkOf(address), offsetOf(address));
+    }
+
+    int nullBytes() {
+        return nullBytes;
+    }
+
+    int fixedBytes() {
+        return fixedBytes;
+    }
+
+    int fixedOffset(int column) {
+        return fixedOffsets[column];
+    }
+
+    private static int offsetOf(long address) {
+        return (int) (address & OFFSET_MASK);
+    }
+
+    /**
+     * The memory chunks of a store together with the addresses of the rows in
+     * them. A compaction replaces the complete memory, so an address is always
+     * resolved against the chunks that it was written to.
+     */
+    private final class Memory {
+
+        private final List<ByteBuffer> chunks;
+        private final List<AtomicLongArray> addresses;
+        private int writeOffset;
+        private long usedBytes;
+
+        private Memory() {
+            this.chunks = new CopyOnWriteArrayList<>();
+            this.addresses = new CopyOnWriteArrayList<>();
+        }
+
+        private ByteBuffer chunkOf(long address) {
+            return chunks.get((int) (address >>> Integer.SIZE));
+        }
+
+        private long addressOf(long index) {
+            return addresses.get((int) (index / ADDRESS_CHUNK_LENGTH))
+                .get((int) (index % ADDRESS_CHUNK_LENGTH));
+        }
+
+        private void setAddress(long index, long address) {
+            final int chunkIndex = (int) (index / ADDRESS_CHUNK_LENGTH);
+            if (chunkIndex == addresses.size()) {
+                addresses.add(new AtomicLongArray(ADDRESS_CHUNK_LENGTH));
+            }
+            addresses.get(chunkIndex).set((int) (index % ADDRESS_CHUNK_LENGTH), address);
+        }
+
+        private void release() {
+            chunks.forEach(allocator::release);
+        }
+    }
+
+    /**
+     * A reference to the store that is held by a single stream. The reference
+     * is released when the stream is closed or when all the rows that were in
+     * the store when the stream was created have been consumed, whichever
+     * happens first.
+     */
+    private final class Lease {
+
+        private final long size;
+        private final AtomicLong remaining;
+        private final AtomicBoolean released;
+
+        private Lease(long size) {
+            this.size = size;
+            this.remaining = new AtomicLong(size);
+            this.released = new AtomicBoolean();
+            if (size == 0) {
+                release();
+            }
+        }
+
+        private LongStream rows() {
+            return LongStream.range(0, size);
+        }
+
+        private <T> T consumed(T result) {
+            if (remaining.decrementAndGet() == 0) {
+                release();
+            }
+            return result;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                OffHeapRowStore.this.release();
+            }
+        }
+    }
+
+    /**
+     * Allocates the memory chunks that are used by an {@link OffHeapRowStore}.
+     */
+    @FunctionalInterface
+    public interface Allocator {
+
+        /**
+         * Allocates a new buffer with the specified capacity.
+         *
+         * @param capacity the capacity in bytes
+         * @return the new buffer
+         * @throws SpeedmentException if the memory could not be allocated
+         */
+        ByteBuffer allocate(int capacity) throws SpeedmentException;
+
+        /**
+         * Releases a buffer that was allocated by this allocator and that is
+         * no longer used by the store. Readers that resolved a row before the
+         * buffer was released might still read from it, so the buffer itself
+         * must remain readable. The default implementation does nothing and
+         * leaves the buffer to the garbage collector.
+         *
+         * @param buffer the released buffer
+         */
+        default void release(ByteBuffer buffer) {}
+
+        /**
+         * Returns an allocator that allocates direct byte buffers.
+         *
+         * @return a direct allocator
+         */
+        static Allocator direct() {
+            return ByteBuffer::allocateDirect;
+        }
+
+        /**
+         * Returns an allocator that maps temporary files in the specified
+         * directory into memory. Each file is deleted when its buffer is
+         * released. The existing mapping stays valid for the readers that
+         * still use it. If the file can not be deleted while it is mapped, as
+         * on some platforms, it is deleted when the JVM exits instead.
+         *
+         * @param directory the directory to create the files in
+         * @return a memory-mapped file allocator
+         */
+        static Allocator mappedFiles(Path directory) {
+            requireNonNull(directory);
+            // Buffers are compared by content, so the files are keyed by identity
+            final Map<ByteBuffer, Path> files = Collections.synchronizedMap(new IdentityHashMap<>());
+            return new Allocator() {
+                @Override
+                public ByteBuffer allocate(int capacity) throws SpeedmentException {
+                    try {
+                        final Path file = Files.createTempFile(directory, "speedment", ".rows");
+                        final ByteBuffer buffer;
+                        try (final RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                            buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                        } catch (final IOException ioe) {
+                            Files.deleteIfExists(file);
+                            throw ioe;
+                        }
+                        files.put(buffer, file);
+                        return buffer;
+                    } catch (final IOException ioe) {
+                        throw new SpeedmentException("Unable to map a file of " + capacity + " bytes in " + directory + ".", ioe);
+                    }
+                }
+
+                @Override
+                public void release(ByteBuffer buffer) {
+                    final Path file = files.remove(buffer);
+                    if (file != null) {
+                        try {
+                            Files.deleteIfExists(file);
+                        } catch (final IOException ioe) {
+                            file.toFile().deleteOnExit();
+                        }
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of query results keyed by the rendered SQL and the bound values of
+ * each query. Entries expire after a configurable time to live and the least
+ * recently used entries are evicted once the total number of cached rows
+ * exceeds the configured bound.
+ * <p>
+ * Every entry is tagged with the fully qualified reference of the table that
+ * it was read from. When a statement that writes to that table has been
+ * committed, all the entries of the table are invalidated using
+ * {@link #invalidate(String)}. To prevent a query that was running during the
+ * commit from storing a stale result afterwards, results are only stored if
+ * the {@link #generation(String) generation} of the table is unchanged since
+ * the query was started.
+ *
+ * @since 2.3
+ */
+public final class QueryResultCache {
+
+    private final long timeToLiveNanos;
+    private final int maxRows;
+    private final LinkedHashMap<Key, Entry> entries;
+    private final Map<String, Long> generations;
+    private long rows;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param timeToLive the time that a result may be served from the cache
+     * @param unit the unit of the time to live
+     * @param maxRows the maximum number of rows to keep in the cache, which is
+     * also the maximum size of a single result
+     */
+    public QueryResultCache(long timeToLive, TimeUnit unit, int maxRows) {
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("The time to live must be positive, was " + timeToLive + ".");
+        }
+        if (maxRows <= 0) {
+            throw new IllegalArgumentException("The maximum number of rows must be positive, was " + maxRows + ".");
+        }
+        this.timeToLiveNanos = requireNonNull(unit).toNanos(timeToLive);
+        this.maxRows = maxRows;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.generations = new HashMap<>();
+    }
+
+    /**
+     * Returns the maximum number of rows in a result that can be cached.
+     *
+     * @return the maximum number of rows
+     */
+    public int maxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Returns the cached result of the specified query, or an empty
+     * {@code Optional} if there is no result or if it has expired.
+     *
+     * @param <T> the row type
+     * @param sql the rendered SQL
+     * @param values the bound values
+     * @return the cached rows, if any
+     */
+    public synchronized <T> Optional<List<T>> get(String sql, List<?> values) {
+        final Key key = new Key(sql, values);
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        } else if (System.nanoTime() - entry.created > timeToLiveNanos) {
+            remove(key);
+            return Optional.empty();
+        } else {
+            @SuppressWarnings("unchecked")
+            final List<T> result = (List<T>) entry.rows;
+            return Optional.of(result);
+        }
+    }
+
+    /**
+     * Returns the current generation of the specified table. The generation
+     * is increased every time the table is invalidated.
+     *
+     * @param tableReference the fully qualified table reference
+     * @return the current generation
+     */
+    public synchronized long generation(String tableReference) {
+        return generations.computeIfAbsent(requireNonNull(tableReference), t -> 0L);
+    }
+
+    /**
+     * Stores the result of the specified query, unless the table has been
+     * invalidated since the specified generation or the result is larger than
+     * {@link #maxRows()}.
+     *
+     * @param tableReference the fully qualified table reference
+     * @param generation the generation of the table when the query started
+     * @param sql the rendered SQL
+     * @param values the bound values
+     * @param result the rows of the result
+     * @return {@code true} if the result was stored, else {@code false}
+     */
+    public synchronized boolean put(String tableReference, long generation, String sql, List<?> values, List<?> result) {
+        requireNonNull(result);
+        if (generation(tableReference) != generation || result.size() > maxRows) {
+            return false;
+        }
+
+        final Key key = new Key(sql, values);
+        remove(key);
+        entries.put(key, new Entry(tableReference, result));
+        rows += result.size();
+
+        final Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (rows > maxRows && it.hasNext()) {
+            rows -= it.next().getValue().rows.size();
+            it.remove();
+        }
+        return true;
+    }
+
+    /**
+     * Invalidates all the results that were read from the specified table.
+     *
+     * @param tableReference the fully qualified table reference
+     */
+    public synchronized void invalidate(String tableReference) {
+        requireNonNull(tableReference);
+        generations.computeIfPresent(tableReference, (table, generation) -> generation + 1);
+
+        final Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            final Entry entry = it.next();
+            if (entry.tableReference.equals(tableReference)) {
+                rows -= entry.rows.size();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all results from this cache.
+     */
+    public synchronized void invalidateAll() {
+        generations.replaceAll((table, generation) -> generation + 1);
+        entries.clear();
+        rows = 0;
+    }
+
+    /**
+     * Returns the number of results in this cache.
+     *
+     * @return the number of results
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void remove(Key key) {
+        final Entry old = entries.remove(key);
+        if (old != null) {
+            rows -= old.rows.size();
+        }
+    }
+
+    private final static class Key {
+
+        private final String sql;
+        private final List<?> values;
+
+        private Key(String sql, List<?> values) {
+            this.sql = requireNonNull(sql);
+            this.values = new ArrayList<>(values);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sql.hashCode() + values.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return sql.equals(other.sql) && Objects.equals(values, other.values);
+        }
+    }
+
+    private final static class Entry {
+
+        private final String tableReference;
+        private final List<?> rows;
+        private final long created;
+
+        private Entry(String tableReference, List<?> rows) {
+            this.tableReference = tableReference;
+            this.rows = rows;
+            this.created = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.cache;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The binary encodings that can be used for a single column in an
+ * {@link OffHeapRowStore}. Each encoding is selected using the java type of
+ * the field (as returned by its {@code TypeMapper}), so values are stored
+ * exactly as the entity would hold them and no type mapping is needed when
+ * rows are materialized again.
+ * <p>
+ * Fixed width slots are located at a constant offset in each row. Variable
+ * width slots are prefixed with their length in bytes.
+ *
+ * @since 2.3
+ */
+enum SlotType {
+
+    BOOLEAN(Boolean.class, 1) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.put(offset, (Boolean) value ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return buffer.get(offset) != 0;
+        }
+    },
+    BYTE(Byte.class, Byte.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.put(offset, (Byte) value);
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return buffer.get(offset);
+        }
+    },
+    SHORT(Short.class, Short.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.putShort(offset, (Short) value);
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return buffer.getShort(offset);
+        }
+    },
+    INT(Integer.class, Integer.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.putInt(offset, (Integer) value);
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    },
+    LONG(Long.class, Long.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.putLong(offset, (Long) value);
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    },
+    FLOAT(Float.class, Float.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.putFloat(offset, (Float) value);
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return buffer.getFloat(offset);
+        }
+    },
+    DOUBLE(Double.class, Double.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.putDouble(offset, (Double) value);
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    },
+    DATE(Date.class, Long.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.putLong(offset, ((Date) value).getTime());
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return new Date(buffer.getLong(offset));
+        }
+    },
+    TIME(Time.class, Long.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            buffer.putLong(offset, ((Time) value).getTime());
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return new Time(buffer.getLong(offset));
+        }
+    },
+    TIMESTAMP(Timestamp.class, Long.BYTES + Integer.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            final Timestamp timestamp = (Timestamp) value;
+            buffer.putLong(offset, timestamp.getTime());
+            buffer.putInt(offset + Long.BYTES, timestamp.getNanos());
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            final Timestamp timestamp = new Timestamp(buffer.getLong(offset));
+            timestamp.setNanos(buffer.getInt(offset + Long.BYTES));
+            return timestamp;
+        }
+    },
+    UUID_(UUID.class, 2 * Long.BYTES) {
+        @Override
+        void put(ByteBuffer buffer, int offset, Object value) {
+            final UUID uuid = (UUID) value;
+            buffer.putLong(offset, uuid.getMostSignificantBits());
+            buffer.putLong(offset + Long.BYTES, uuid.getLeastSignificantBits());
+        }
+
+        @Override
+        Object get(ByteBuffer buffer, int offset) {
+            return new UUID(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+        }
+    },
+    STRING(String.class, -1) {
+        @Override
+        byte[] toBytes(Object value) {
+            return ((String) value).getBytes(UTF_8);
+        }
+
+        @Override
+        Object fromBytes(byte[] bytes) {
+            return new String(bytes, UTF_8);
+        }
+    },
+    BIG_DECIMAL(BigDecimal.class, -1) {
+        @Override
+        byte[] toBytes(Object value) {
+            return ((BigDecimal) value).toString().getBytes(UTF_8);
+        }
+
+        @Override
+        Object fromBytes(byte[] bytes) {
+            return new BigDecimal(new String(bytes, UTF_8));
+        }
+    };
+
+    private final Class<?> javaType;
+    private final int width;
+
+    private SlotType(Class<?> javaType, int width) {
+        this.javaType = javaType;
+        this.width = width;
+    }
+
+    /**
+     * Returns the number of bytes that a value of this type occupies, or
+     * {@code -1} if the width is variable.
+     *
+     * @return the width in bytes
+     */
+    int width() {
+        return width;
+    }
+
+    boolean isFixedWidth() {
+        return width >= 0;
+    }
+
+    void put(ByteBuffer buffer, int offset, Object value) {
+        throw new UnsupportedOperationException(name() + " is not fixed width.");
+    }
+
+    Object get(ByteBuffer buffer, int offset) {
+        throw new UnsupportedOperationException(name() + " is not fixed width.");
+    }
+
+    byte[] toBytes(Object value) {
+        throw new UnsupportedOperationException(name() + " is not variable width.");
+    }
+
+    Object fromBytes(byte[] bytes) {
+        throw new UnsupportedOperationException(name() + " is not variable width.");
+    }
+
+    /**
+     * Returns the slot type that should be used for the specified java type,
+     * or an empty {@code Optional} if the type can not be stored off-heap.
+     *
+     * @param javaType the java type of the field
+     * @return the slot type, if any
+     */
+    static Optional<SlotType> of(Class<?> javaType) {
+        return Stream.of(values())
+            .filter(s -> s.javaType.equals(javaType))
+            .findAny();
+    }
+}
@@ -21,8 +21,12 @@ import com.speedment.Speedment;
 import com.speedment.db.MetaResult;
 import com.speedment.encoder.JsonEncoder;
 import com.speedment.exception.SpeedmentException;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.internal.core.manager.sql.SqlManager;
 import com.speedment.manager.Manager;
+import java.util.HashSet;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -32,6 +36,8 @@ import java.util.function.Consumer;
  */
 public abstract class AbstractBaseEntity<ENTITY> implements Entity<ENTITY> {
 
+    private Set<FieldIdentifier<ENTITY>> unloaded;
+
     /**
      * Returns the Speedment instance. This method will be implemented by the
      * instantiating class using an anonymous class and should therefore not be
@@ -88,6 +94,68 @@ public abstract class AbstractBaseEntity<ENTITY> implements Entity<ENTITY> {
     
     protected abstract Class<ENTITY> entityClass();
 
+    /**
+     * Marks the specified lazy field as not loaded. This method is called by
+     * the manager when the entity is read from the database without the
+     * column, so that the value is loaded the first time the getter is
+     * called.
+     *
+     * @param identifier  the identifier of the lazy field
+     */
+    public final void markUnloaded_(FieldIdentifier<ENTITY> identifier) {
+        if (unloaded == null) {
+            unloaded = new HashSet<>();
+        }
+        unloaded.add(requireNonNull(identifier));
+    }
+
+    /**
+     * Marks the specified lazy field as loaded. This is called when the value
+     * of the field is set, so that it is not overwritten by a later load.
+     *
+     * @param identifier  the identifier of the lazy field
+     */
+    protected final void markLoaded_(FieldIdentifier<ENTITY> identifier) {
+        if (unloaded != null) {
+            unloaded.remove(identifier);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the value of the specified lazy field has not
+     * been loaded from the database yet. This is used by the manager to copy
+     * an entity without loading its lazy fields.
+     *
+     * @param identifier  the identifier of the lazy field
+     * @return            {@code true} if not loaded, else {@code false}
+     */
+    public final boolean isUnloaded_(FieldIdentifier<ENTITY> identifier) {
+        return unloaded != null && unloaded.contains(identifier);
+    }
+
+    /**
+     * Loads the value of the specified lazy field from the database and marks
+     * it as loaded.
+     *
+     * @param identifier  the identifier of the lazy field
+     * @return            the loaded value in the java domain, may be 
+     *                    {@code null}
+     * 
+     * @throws SpeedmentException  if the value could not be loaded
+     */
+    protected final Object loadLazily_(FieldIdentifier<ENTITY> identifier) throws SpeedmentException {
+        final Manager<ENTITY> manager = manager_();
+        if (!(manager instanceof SqlManager)) {
+            throw new SpeedmentException(
+                "The manager of " + entityClass().getSimpleName() + " can not load lazy fields."
+            );
+        }
+
+        final Object value = ((SqlManager<ENTITY>) manager).loadLazily(selfAsEntity(), identifier);
+        markLoaded_(identifier);
+        return value;
+    }
+
     @SuppressWarnings("unchecked")
     private ENTITY selfAsEntity() {
         return (ENTITY) this;
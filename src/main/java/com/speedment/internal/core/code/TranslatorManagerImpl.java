@@ -24,11 +24,13 @@ import com.speedment.component.CodeGenerationComponent;
 import com.speedment.config.db.Project;
 import com.speedment.config.db.Table;
 import com.speedment.config.db.trait.HasEnabled;
+import com.speedment.config.db.trait.HasName;
 import com.speedment.event.AfterGenerate;
 import com.speedment.event.BeforeGenerate;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.internal.codegen.java.JavaGenerator;
 import com.speedment.internal.codegen.util.Formatting;
+import com.speedment.internal.core.runtime.LifecycleScheduler;
 import com.speedment.internal.logging.Logger;
 import com.speedment.internal.logging.LoggerManager;
 import com.speedment.internal.util.Statistics;
@@ -40,13 +42,30 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
+ * The default {@link TranslatorManager}. The translators of a project are
+ * independent of each other, so they are rendered in parallel, each thread
+ * using a generator of its own. Files are only written if their content has
+ * changed, which keeps the timestamps of unchanged files intact so that
+ * incremental builds only recompile what was actually regenerated.
+ * <p>
+ * The generator passed to the {@link BeforeGenerate} event is only used to
+ * render if the parallelism is {@code 1}. A {@link Generator} can not be
+ * copied, so changes that listeners make to it (for an example to its
+ * dependency manager) do not apply to the generators of the worker threads.
+ * Listeners that rely on such changes should set the parallelism to
+ * {@code 1}.
  *
  * @author pemi
  */
@@ -54,12 +73,37 @@ public class TranslatorManagerImpl implements TranslatorManager {
 
     private static final Logger LOGGER = LoggerManager.getLogger(TranslatorManagerImpl.class);
     private static final boolean PRINT_CODE = false;
+    private static final int REPORTED_TRANSLATORS = 10;
     private final AtomicInteger fileCounter = new AtomicInteger(0);
+    private final AtomicInteger unchangedCounter = new AtomicInteger(0);
 
     private final Speedment speedment;
+    private volatile int parallelism;
+    private volatile List<LifecycleScheduler.Timing> timings;
 
     public TranslatorManagerImpl(Speedment speedment) {
         this.speedment = requireNonNull(speedment);
+        this.parallelism = LifecycleScheduler.DEFAULT_PARALLELISM;
+        this.timings = Collections.emptyList();
+    }
+
+    /**
+     * Sets the maximum number of threads used to render translators. A
+     * parallelism of {@code 1} renders all translators in the calling thread,
+     * using the generator that was passed to the {@link BeforeGenerate}
+     * event. The default is the number of available processors.
+     *
+     * @param parallelism the maximum number of threads
+     * @return a reference to this manager
+     *
+     * @since 2.3
+     */
+    public TranslatorManagerImpl setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1, was " + parallelism + ".");
+        }
+        this.parallelism = parallelism;
+        return this;
     }
 
     @Override
@@ -72,6 +116,7 @@ public class TranslatorManagerImpl implements TranslatorManager {
         final Generator gen = new JavaGenerator();
 
         fileCounter.set(0);
+        unchangedCounter.set(0);
         Formatting.tab("    ");
 
         speedment.getEventComponent().notify(new BeforeGenerate(project, gen, this));
@@ -99,15 +144,31 @@ public class TranslatorManagerImpl implements TranslatorManager {
                 });
             });
 
-        gen.metaOn(writeOnceTranslators.stream()
-            .map(Translator::get)
-            .collect(Collectors.toList())
-        ).forEach(meta -> writeToFile(project, meta, false));
+        final List<Translator<?, ?>> translators = new ArrayList<>(writeOnceTranslators);
+        translators.addAll(writeAlwaysTranslators);
 
-        gen.metaOn(writeAlwaysTranslators.stream()
-            .map(Translator::get)
-            .collect(Collectors.toList())
-        ).forEach(meta -> writeToFile(project, meta, true));
+        // Generators keep a render stack and are not thread safe, so the
+        // generator of the events can only be used by a single thread
+        final int threads = parallelism;
+        final Supplier<Generator> generators;
+        if (threads == 1) {
+            generators = () -> gen;
+        } else {
+            generators = ThreadLocal.withInitial(JavaGenerator::new)::get;
+        }
+
+        final LifecycleScheduler scheduler = new LifecycleScheduler(threads);
+        final long started = System.nanoTime();
+
+        try {
+            scheduler.run("codegen", translators, TranslatorManagerImpl::nameOf, t -> Stream.empty(),
+                t -> generators.get().metaOn(t.get())
+                    .forEach(meta -> writeToFile(project, meta, t.isInGeneratedPackage()))
+            );
+        } finally {
+            timings = scheduler.getTimings();
+            report(translators.size(), System.nanoTime() - started, Math.min(threads, translators.size()));
+        }
 
         speedment.getEventComponent().notify(new AfterGenerate(project, gen, this));
     }
@@ -117,6 +178,31 @@ public class TranslatorManagerImpl implements TranslatorManager {
         return fileCounter.get();
     }
 
+    /**
+     * Returns the number of files that were generated by the last call to
+     * {@link #accept(Project)} but not written since the existing file
+     * already had the same content.
+     *
+     * @return the number of unchanged files
+     *
+     * @since 2.3
+     */
+    public int getFilesUnchanged() {
+        return unchangedCounter.get();
+    }
+
+    /**
+     * Returns the time spent on every translator during the last call to
+     * {@link #accept(Project)}, in the order they completed.
+     *
+     * @return the timings
+     *
+     * @since 2.3
+     */
+    public List<LifecycleScheduler.Timing> getTimings() {
+        return timings;
+    }
+
     @Override
     public void writeToFile(Path path, String content, boolean overwriteExisting) {
         requireNonNulls(path, content);
@@ -130,11 +216,16 @@ public class TranslatorManagerImpl implements TranslatorManager {
 
         try {
             if (overwriteExisting || !path.toFile().exists()) {
-                Files.write(path, content.getBytes(StandardCharsets.UTF_8),
-                    StandardOpenOption.CREATE,
-                    StandardOpenOption.TRUNCATE_EXISTING
-                );
-                fileCounter.incrementAndGet();
+                final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+                if (hasContent(path, bytes)) {
+                    unchangedCounter.incrementAndGet();
+                } else {
+                    Files.write(path, bytes,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING
+                    );
+                    fileCounter.incrementAndGet();
+                }
             }
         } catch (final IOException ex) {
             LOGGER.error(ex, "Failed to write file " + path);
@@ -146,4 +237,31 @@ public class TranslatorManagerImpl implements TranslatorManager {
             System.out.println("*** END   File:" + path);
         }
     }
+
+    private static boolean hasContent(Path path, byte[] bytes) throws IOException {
+        return Files.isRegularFile(path)
+            && Files.size(path) == bytes.length
+            && Arrays.equals(Files.readAllBytes(path), bytes);
+    }
+
+    private void report(int translators, long nanos, int threads) {
+        LOGGER.info("Rendered %d translator(s) in %d ms using %d thread(s). %d file(s) written, %d unchanged.",
+            translators, TimeUnit.NANOSECONDS.toMillis(nanos), threads,
+            fileCounter.get(), unchangedCounter.get()
+        );
+
+        timings.stream()
+            .sorted(Comparator.comparingLong(LifecycleScheduler.Timing::getNanos).reversed())
+            .limit(REPORTED_TRANSLATORS)
+            .forEachOrdered(t -> LOGGER.debug("%s took %d ms.",
+                t.getName(), TimeUnit.NANOSECONDS.toMillis(t.getNanos())
+            ));
+    }
+
+    private static String nameOf(Translator<?, ?> translator) {
+        return translator.getClass().getSimpleName() + " of "
+            + (translator.getDocument() instanceof HasName
+                ? ((HasName) translator.getDocument()).getName()
+                : translator.getDocument().mainInterface().getSimpleName());
+    }
 }
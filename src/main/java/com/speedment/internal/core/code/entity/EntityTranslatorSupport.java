@@ -16,6 +16,7 @@
  */
 package com.speedment.internal.core.code.entity;
 
+import com.speedment.code.TranslatorSupport;
 import com.speedment.codegen.model.Field;
 import com.speedment.codegen.model.File;
 import com.speedment.codegen.model.Generic;
@@ -34,10 +35,16 @@ import com.speedment.encoder.JsonEncoder;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.field.ComparableField;
 import com.speedment.field.ComparableForeignKeyField;
+import com.speedment.field.DoubleField;
+import com.speedment.field.IntField;
+import com.speedment.field.LongField;
 import com.speedment.field.ReferenceField;
 import com.speedment.field.ReferenceForeignKeyField;
 import com.speedment.field.StringField;
 import com.speedment.field.StringForeignKeyField;
+import com.speedment.field.methods.DoubleGetter;
+import com.speedment.field.methods.IntGetter;
+import com.speedment.field.methods.LongGetter;
 import static com.speedment.internal.codegen.model.constant.DefaultJavadocTag.PARAM;
 import static com.speedment.internal.codegen.model.constant.DefaultJavadocTag.RETURN;
 import static com.speedment.internal.codegen.model.constant.DefaultJavadocTag.SEE;
@@ -45,6 +52,9 @@ import static com.speedment.internal.codegen.model.constant.DefaultType.STRING;
 import static com.speedment.internal.codegen.util.Formatting.DOT;
 import com.speedment.internal.core.field.ComparableFieldImpl;
 import com.speedment.internal.core.field.ComparableForeignKeyFieldImpl;
+import com.speedment.internal.core.field.DoubleFieldImpl;
+import com.speedment.internal.core.field.IntFieldImpl;
+import com.speedment.internal.core.field.LongFieldImpl;
 import com.speedment.internal.core.field.ReferenceFieldImpl;
 import com.speedment.internal.core.field.ReferenceForeignKeyFieldImpl;
 import com.speedment.internal.core.field.StringFieldImpl;
@@ -173,6 +183,33 @@ public final class EntityTranslatorSupport {
                     .add(Generic.of().add(entityType))
                     .add(Generic.of().add(databaseType));
 
+            } else if (Integer.class.equals(mapping) && !column.isNullable()) {
+                type = Type.of(IntField.class)
+                    .add(Generic.of().add(entityType))
+                    .add(Generic.of().add(databaseType));
+
+                implType = Type.of(IntFieldImpl.class)
+                    .add(Generic.of().add(entityType))
+                    .add(Generic.of().add(databaseType));
+
+            } else if (Long.class.equals(mapping) && !column.isNullable()) {
+                type = Type.of(LongField.class)
+                    .add(Generic.of().add(entityType))
+                    .add(Generic.of().add(databaseType));
+
+                implType = Type.of(LongFieldImpl.class)
+                    .add(Generic.of().add(entityType))
+                    .add(Generic.of().add(databaseType));
+
+            } else if (Double.class.equals(mapping) && !column.isNullable()) {
+                type = Type.of(DoubleField.class)
+                    .add(Generic.of().add(entityType))
+                    .add(Generic.of().add(databaseType));
+
+                implType = Type.of(DoubleFieldImpl.class)
+                    .add(Generic.of().add(entityType))
+                    .add(Generic.of().add(databaseType));
+
             } else if (Comparable.class.isAssignableFrom(mapping)) {
                 type = Type.of(ComparableField.class)
                     .add(Generic.of().add(entityType))
@@ -241,6 +278,51 @@ public final class EntityTranslatorSupport {
             .findFirst();
     }
 
+    /**
+     * Returns the getter interface that the generated entity implementation
+     * has a nested implementation of for the specified column, if any. Compact
+     * entities store non-null {@code int}, {@code long} and {@code double}
+     * columns as primitives, so the field of the column is given a getter that
+     * reads the primitive value and its null bit instead of boxing the value.
+     *
+     * @param table   the table
+     * @param column  the column
+     * @return        the getter interface, if any
+     */
+    public static Optional<Class<?>> getPrimitiveGetter(Table table, Column column) {
+        requireNonNulls(table, column);
+        if (!table.isCompact()
+            || column.isNullable()
+            || DocumentDbUtil.isLoadedLazily(column)
+            || getForeignKey(table, column).isPresent()) {
+            return Optional.empty();
+        }
+
+        final Class<?> mapping = column.findTypeMapper().getJavaType();
+        if (Integer.class.equals(mapping)) {
+            return Optional.of(IntGetter.class);
+        } else if (Long.class.equals(mapping)) {
+            return Optional.of(LongGetter.class);
+        } else if (Double.class.equals(mapping)) {
+            return Optional.of(DoubleGetter.class);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the simple name of the nested getter class that is generated
+     * for the specified column if it has a primitive getter.
+     *
+     * @param support  the support of the table
+     * @param column   the column
+     * @return         the name of the getter class
+     * @see #getPrimitiveGetter(Table, Column)
+     */
+    public static String getPrimitiveGetterName(TranslatorSupport<Table> support, Column column) {
+        return support.typeName(column) + "Getter";
+    }
+
     public static Method dbMethod(String name, Type entityType) {
         requireNonNull(name);
         requireNonNull(entityType);
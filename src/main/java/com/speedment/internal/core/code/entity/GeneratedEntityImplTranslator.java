@@ -26,11 +26,14 @@ import com.speedment.codegen.model.Generic;
 import com.speedment.codegen.model.Import;
 import com.speedment.codegen.model.Method;
 import com.speedment.codegen.model.Type;
+import com.speedment.config.db.Column;
 import com.speedment.config.db.Table;
 import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.codegen.model.value.ReferenceValue;
 import static com.speedment.internal.codegen.model.constant.DefaultAnnotationUsage.OVERRIDE;
 import static com.speedment.internal.codegen.model.constant.DefaultType.BOOLEAN_PRIMITIVE;
 import static com.speedment.internal.codegen.model.constant.DefaultType.INT_PRIMITIVE;
+import static com.speedment.internal.codegen.model.constant.DefaultType.LONG_PRIMITIVE;
 import static com.speedment.internal.codegen.model.constant.DefaultType.OBJECT;
 import static com.speedment.internal.codegen.model.constant.DefaultType.OPTIONAL;
 import static com.speedment.internal.codegen.model.constant.DefaultType.STRING;
@@ -44,11 +47,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import static com.speedment.internal.codegen.util.Formatting.block;
 import static com.speedment.internal.codegen.util.Formatting.indent;
+import static com.speedment.internal.util.document.DocumentDbUtil.isLoadedLazily;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -59,6 +65,20 @@ import static java.util.Objects.requireNonNull;
 public final class GeneratedEntityImplTranslator extends EntityAndManagerTranslator<Class> {
 
     private static final String MANAGER_OF_METHOD = "managerOf_";
+    private static final String NULLS_FIELD = "nulls";
+
+    private static final Map<java.lang.Class<?>, java.lang.Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        PRIMITIVES.put(Byte.class, byte.class);
+        PRIMITIVES.put(Short.class, short.class);
+        PRIMITIVES.put(Integer.class, int.class);
+        PRIMITIVES.put(Long.class, long.class);
+        PRIMITIVES.put(Float.class, float.class);
+        PRIMITIVES.put(Double.class, double.class);
+        PRIMITIVES.put(Boolean.class, boolean.class);
+        PRIMITIVES.put(Character.class, char.class);
+    }
 
     public GeneratedEntityImplTranslator(Speedment speedment, Generator gen, Table table) {
         super(speedment, gen, table, Class::of);
@@ -71,39 +91,89 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
         file.add(Import.of(Type.of(Speedment.class)));
 
         final Map<Table, List<String>> fkStreamers = new HashMap<>();
+
+        // In compact mode, every primitive column is given a bit in one of
+        // the null bit sets, where a set bit means that it is null. Columns
+        // that are not nullable need one as well, since they are null until
+        // they are set (for an example an auto increment key that has not
+        // been persisted yet).
+        final Map<String, Integer> nullBits = new HashMap<>();
+        columns()
+            .filter(c -> primitiveTypeOf(c).isPresent())
+            .forEachOrdered(c -> nullBits.put(c.getName(), nullBits.size()));
         return newBuilder(file, getSupport().generatedEntityImplName())
             /**
              * Getters
              */
             .forEveryColumn((clazz, col) -> {
+                final Optional<java.lang.Class<?>> primitive = primitiveTypeOf(col);
                 final Type retType;
                 final String getter;
-                if (col.isNullable()) {
+                if (primitive.isPresent() && col.isNullable()) {
+                    retType = OPTIONAL.add(Generic.of().add(Type.of(col.findTypeMapper().getJavaType())));
+                    getter = "(" + nullBitSet(nullBits, col) + " & " + nullBitMask(nullBits, col) + ") == 0 ? "
+                        + "Optional.of(" + getSupport().variableName(col) + ") : Optional.empty()";
+                } else if (primitive.isPresent()) {
+                    retType = Type.of(col.findTypeMapper().getJavaType());
+                    getter = "(" + nullBitSet(nullBits, col) + " & " + nullBitMask(nullBits, col) + ") == 0 ? "
+                        + getSupport().variableName(col) + " : null";
+                } else if (col.isNullable()) {
                     retType = OPTIONAL.add(Generic.of().add(Type.of(col.findTypeMapper().getJavaType())));
                     getter = "Optional.ofNullable(" + getSupport().variableName(col) + ")";
                 } else {
                     retType = Type.of(col.findTypeMapper().getJavaType());
                     getter = getSupport().variableName(col);
                 }
-                clazz
-                    .add(fieldFor(col).private_())
-                    .add(Method.of(GETTER_METHOD_PREFIX + getSupport().typeName(col), retType)
-                        .public_()
-                        .add(OVERRIDE)
-                        .add("return " + getter + ";"));
+                final Method method = Method.of(GETTER_METHOD_PREFIX + getSupport().typeName(col), retType)
+                    .public_()
+                    .add(OVERRIDE);
+
+                if (isLoadedLazily(col)) {
+                    final String identifier = lazyIdentifier(col);
+                    method.add("if (isUnloaded_(" + identifier + ")) " + block(
+                        getSupport().variableName(col) + " = (" + col.findTypeMapper().getJavaType().getSimpleName()
+                        + ") loadLazily_(" + identifier + ");"
+                    ));
+                }
 
+                clazz
+                    .add(primitive.isPresent()
+                        ? Field.of(getSupport().variableName(col), Type.of(primitive.get())).private_()
+                        : fieldFor(col).private_()
+                    )
+                    .add(method.add("return " + getter + ";"));
+
+                EntityTranslatorSupport.getPrimitiveGetter(getSupport().tableOrThrow(), col)
+                    .ifPresent(getterType -> clazz.add(primitiveGetter(file, nullBits, col, getterType)));
             })
             /**
              * Setters
              */
             .forEveryColumn((clazz, col) -> {
-                clazz
-                    .add(Method.of(SETTER_METHOD_PREFIX + getSupport().typeName(col), getSupport().entityType())
-                        .public_().final_()
-                        .add(OVERRIDE)
-                        .add(fieldFor(col))
-                        .add("this." + getSupport().variableName(col) + " = " + getSupport().variableName(col) + ";")
-                        .add("return this;"));
+                final Method method = Method.of(SETTER_METHOD_PREFIX + getSupport().typeName(col), getSupport().entityType())
+                    .public_().final_()
+                    .add(OVERRIDE)
+                    .add(fieldFor(col));
+
+                if (isLoadedLazily(col)) {
+                    method.add("markLoaded_(" + lazyIdentifier(col) + ");");
+                }
+
+                final String assignment = "this." + getSupport().variableName(col) + " = " + getSupport().variableName(col) + ";";
+                if (primitiveTypeOf(col).isPresent()) {
+                    final String bitSet = "this." + nullBitSet(nullBits, col);
+                    final String mask = nullBitMask(nullBits, col);
+                    method.add("if (" + getSupport().variableName(col) + " == null) " + block(
+                        bitSet + " |= " + mask + ";"
+                    ) + " else " + block(
+                        bitSet + " &= ~" + mask + ";",
+                        assignment
+                    ));
+                } else {
+                    method.add(assignment);
+                }
+
+                clazz.add(method.add("return this;"));
             })
             /**
              * Add streamers from back pointing foreign keys
@@ -162,10 +232,18 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
              * Class details
              */
             .forEveryTable(Phase.POST_MAKE, (clazz, table) -> {
+                for (int i = 0; i * Long.SIZE < nullBits.size(); i++) {
+                    final int bits = Math.min(Long.SIZE, nullBits.size() - i * Long.SIZE);
+                    final long allNull = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+                    clazz.add(Field.of(NULLS_FIELD + i + "_", LONG_PRIMITIVE).private_()
+                        .set(new ReferenceValue(hexLiteral(allNull)))
+                    );
+                }
+
                 clazz
-                    .add(toString(file))
-                    .add(equalsMethod())
-                    .add(hashCodeMethod())
+                    .add(toString(file, nullBits))
+                    .add(equalsMethod(nullBits))
+                    .add(hashCodeMethod(nullBits))
                     .add(Method.of("entityClass", Type.of(java.lang.Class.class).add(Generic.of().add(getSupport().entityType()))).public_().add(OVERRIDE)
                         .add("return " + getSupport().entityName() + ".class;")
                     );
@@ -201,7 +279,107 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
 
     }
 
-    protected Method toString(File file) {
+    /**
+     * Returns the primitive type that the specified column is stored as in a
+     * compact entity, or an empty {@code Optional} if the entity is not compact
+     * or if the column is stored as a reference. Lazy columns are never stored
+     * as primitives since their value is assigned when it is loaded.
+     *
+     * @param col  the column
+     * @return     the primitive type, if any
+     */
+    private Optional<java.lang.Class<?>> primitiveTypeOf(Column col) {
+        if (!getDocument().isCompact() || isLoadedLazily(col)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(PRIMITIVES.get(col.findTypeMapper().getJavaType()));
+    }
+
+    private static String nullBitSet(Map<String, Integer> nullBits, Column col) {
+        return NULLS_FIELD + (nullBits.get(col.getName()) / Long.SIZE) + "_";
+    }
+
+    private static String nullBitMask(Map<String, Integer> nullBits, Column col) {
+        return hexLiteral(1L << (nullBits.get(col.getName()) % Long.SIZE));
+    }
+
+    private static String hexLiteral(long value) {
+        return "0x" + Long.toHexString(value) + "L";
+    }
+
+    private String lazyIdentifier(Column col) {
+        return "Identifier." + getNamer().javaStaticFieldName(col.getJavaName());
+    }
+
+    /**
+     * Returns an expression that reads the value of the specified column from
+     * the backing field of the specified instance. Primitive fields that have
+     * a null bit are boxed and read as {@code null} if the bit is set.
+     *
+     * @param nullBits  the null bit of each primitive column
+     * @param owner     the instance to read from
+     * @param col       the column
+     * @return          the expression
+     */
+    private String valueOf(Map<String, Integer> nullBits, String owner, Column col) {
+        final String field = owner + "." + getSupport().variableName(col);
+        if (nullBits.containsKey(col.getName())) {
+            return "(" + isSet(nullBits, owner, col) + " ? " + field + " : null)";
+        } else {
+            return field;
+        }
+    }
+
+    /**
+     * Creates a nested getter for the specified primitive column. Instances
+     * of this class are read from the primitive field and its null bit, so
+     * predicates and comparators of the field do not box the value. Other
+     * implementations of the entity are read using the getter of the entity.
+     *
+     * @param file        the file to add imports to
+     * @param nullBits    the null bit of each primitive column
+     * @param col         the column
+     * @param getterType  the getter interface to implement
+     * @return            the getter class
+     */
+    private Class primitiveGetter(File file, Map<String, Integer> nullBits, Column col, java.lang.Class<?> getterType) {
+        file.add(Import.of(Type.of(getterType)));
+
+        final java.lang.Class<?> javaType = col.findTypeMapper().getJavaType();
+        final java.lang.Class<?> primitive = PRIMITIVES.get(javaType);
+        final String implName = getSupport().generatedEntityImplName();
+        final String getter = "entity." + GETTER_METHOD_PREFIX + getSupport().typeName(col) + "()";
+        final String primitiveName = primitive.getSimpleName();
+
+        return Class.of(EntityTranslatorSupport.getPrimitiveGetterName(getSupport(), col))
+            .public_().static_().final_()
+            .add(Type.of(getterType).add(Generic.of().add(getSupport().entityType())))
+            .add(Method.of("apply", Type.of(javaType)).public_().add(OVERRIDE)
+                .add(Field.of("entity", getSupport().entityType()))
+                .add("return " + getter + ";")
+            )
+            .add(Method.of("isSet", BOOLEAN_PRIMITIVE).public_().add(OVERRIDE)
+                .add(Field.of("entity", getSupport().entityType()))
+                .add("if (entity instanceof " + implName + ") " + block(
+                    "return " + isSet(nullBits, "((" + implName + ") entity)", col) + ";"
+                ))
+                .add("return " + getter + " != null;")
+            )
+            .add(Method.of("applyAs" + Character.toUpperCase(primitiveName.charAt(0)) + primitiveName.substring(1), Type.of(primitive))
+                .public_().add(OVERRIDE)
+                .add(Field.of("entity", getSupport().entityType()))
+                .add("if (entity instanceof " + implName + " && isSet(entity)) " + block(
+                    "return ((" + implName + ") entity)." + getSupport().variableName(col) + ";"
+                ))
+                .add("return " + getter + ";")
+            );
+    }
+
+    private static String isSet(Map<String, Integer> nullBits, String owner, Column col) {
+        return "(" + owner + "." + nullBitSet(nullBits, col) + " & " + nullBitMask(nullBits, col) + ") == 0";
+    }
+
+    protected Method toString(File file, Map<String, Integer> nullBits) {
         file.add(Import.of(Type.of(StringJoiner.class)));
         file.add(Import.of(Type.of(Objects.class)));
         final Method m = Method.of("toString", STRING)
@@ -209,14 +387,15 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
             .add(OVERRIDE)
             .add("final StringJoiner sj = new StringJoiner(\", \", \"{ \", \" }\");");
 
+        // Lazy columns that have not been loaded are left out, since reading
+        // them would query the database
         columns().forEachOrdered(c -> {
-            final String getter;
-            if (c.isNullable()) {
-                getter = "get" + getSupport().typeName(c) + "()" + ".orElse(null)";
+            final String row = "sj.add(\"" + getSupport().variableName(c) + " = \"+Objects.toString(" + valueOf(nullBits, "this", c) + "));";
+            if (isLoadedLazily(c)) {
+                m.add("if (!isUnloaded_(" + lazyIdentifier(c) + ")) " + block(row));
             } else {
-                getter = "get" + getSupport().typeName(c) + "()";
+                m.add(row);
             }
-            m.add("sj.add(\"" + getSupport().variableName(c) + " = \"+Objects.toString(" + getter + "));");
         });
 
         m.add("return \"" + getSupport().entityImplName() + " \"+sj.toString();");
@@ -225,24 +404,42 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
 
     }
 
-    private Method equalsMethod() {
+    private Method equalsMethod(Map<String, Integer> nullBits) {
 
         final String thatName = "that";
         final String thatCastedName = thatName + getSupport().entityName();
+        final String implName = getSupport().generatedEntityImplName();
         final Method method = Method.of("equals", BOOLEAN_PRIMITIVE)
             .public_()
             .add(OVERRIDE)
             .add(Field.of(thatName, OBJECT))
             .add("if (this == that) { return true; }")
-            .add("if (!(" + thatName + " instanceof " + getSupport().entityName() + ")) { return false; }")
-            .add("final " + getSupport().entityName() + " " + thatCastedName + " = (" + getSupport().entityName() + ")" + thatName + ";");
+            .add("if (!(" + thatName + " instanceof " + implName + ")) { return false; }")
+            .add("final " + implName + " " + thatCastedName + " = (" + implName + ")" + thatName + ";");
 
         columns().forEachOrdered(c -> {
-            final String getter = "get" + getSupport().typeName(c);
-            if (c.findTypeMapper().getJavaType().isPrimitive()) {
-                method.add("if (this." + getter + "() != " + thatCastedName + "." + getter + "()) {return false; }");
+            final String field = getSupport().variableName(c);
+            final String thisField = "this." + field;
+            final String thatField = thatCastedName + "." + field;
+            final String differs;
+            if (nullBits.containsKey(c.getName())) {
+                final String mask = nullBitMask(nullBits, c);
+                final String bitSet = nullBitSet(nullBits, c);
+                differs = "(this." + bitSet + " & " + mask + ") != (" + thatCastedName + "." + bitSet + " & " + mask + ") || "
+                    + isSet(nullBits, "this", c) + " && "
+                    + c.findTypeMapper().getJavaType().getSimpleName() + ".compare(" + thisField + ", " + thatField + ") != 0";
+            } else if (primitiveTypeOf(c).isPresent()) {
+                differs = c.findTypeMapper().getJavaType().getSimpleName() + ".compare(" + thisField + ", " + thatField + ") != 0";
             } else {
-                method.add("if (!Objects.equals(this." + getter + "(), " + thatCastedName + "." + getter + "())) {return false; }");
+                differs = "!Objects.equals(" + thisField + ", " + thatField + ")";
+            }
+
+            // Lazy columns are only compared if they are loaded in both
+            if (isLoadedLazily(c)) {
+                final String identifier = lazyIdentifier(c);
+                method.add("if (!isUnloaded_(" + identifier + ") && !" + thatCastedName + ".isUnloaded_(" + identifier + ") && " + differs + ") {return false; }");
+            } else {
+                method.add("if (" + differs + ") {return false; }");
             }
         });
 
@@ -250,50 +447,31 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
         return method;
     }
 
-    private Method hashCodeMethod() {
+    private Method hashCodeMethod(Map<String, Integer> nullBits) {
         final Method method = Method.of("hashCode", INT_PRIMITIVE)
             .public_()
             .add(OVERRIDE)
             .add("int hash = 7;");
 
-        columns().forEachOrdered(c -> {
-
-            final StringBuilder str = new StringBuilder();
-            str.append("hash = 31 * hash + ");
-
-            switch (c.findTypeMapper().getJavaType().getName()) {
-                case "byte":
-                    str.append("Byte");
-                    break;
-                case "short":
-                    str.append("Short");
-                    break;
-                case "int":
-                    str.append("Integer");
-                    break;
-                case "long":
-                    str.append("Long");
-                    break;
-                case "float":
-                    str.append("Float");
-                    break;
-                case "double":
-                    str.append("Double");
-                    break;
-                case "boolean":
-                    str.append("Boolean");
-                    break;
-                case "char":
-                    str.append("Character");
-                    break;
-                default:
-                    str.append("Objects");
-                    break;
-            }
+        // Lazy columns are not included, so that the hash code of an entity
+        // does not change when they are loaded
+        columns()
+            .filter(c -> !isLoadedLazily(c))
+            .forEachOrdered(c -> {
+                final String field = "this." + getSupport().variableName(c);
+                final String hash;
+                if (primitiveTypeOf(c).isPresent()) {
+                    hash = c.findTypeMapper().getJavaType().getSimpleName() + ".hashCode(" + field + ")";
+                } else {
+                    hash = "Objects.hashCode(" + field + ")";
+                }
 
-            str.append(".hashCode(get").append(getSupport().typeName(c)).append("());");
-            method.add(str.toString());
-        });
+                if (nullBits.containsKey(c.getName())) {
+                    method.add("hash = 31 * hash + (" + isSet(nullBits, "this", c) + " ? " + hash + " : 0);");
+                } else {
+                    method.add("hash = 31 * hash + " + hash + ";");
+                }
+            });
 
         method.add("return hash;");
         return method;
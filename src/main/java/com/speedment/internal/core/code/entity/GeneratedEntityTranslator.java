@@ -170,6 +170,11 @@ public final class GeneratedEntityTranslator extends EntityAndManagerTranslator<
                             getNamer().javaTypeName(col.getJavaName()) +
                             "().orElse(null)"
                         ).orElse("");
+                } else if (EntityTranslatorSupport.getPrimitiveGetter(getSupport().tableOrThrow(), col).isPresent()) {
+                    file.add(Import.of(getSupport().generatedEntityImplType()));
+                    getter = "new " + getSupport().generatedEntityImplName() + "."
+                        + EntityTranslatorSupport.getPrimitiveGetterName(getSupport(), col) + "()";
+                    finder = "";
                 } else {
                     getter = shortEntityName + "::get" + getSupport().typeName(col);
                     finder = EntityTranslatorSupport.getForeignKey(getSupport().tableOrThrow(), col)
@@ -30,14 +30,18 @@ import com.speedment.internal.codegen.model.JavadocImpl;
 import static com.speedment.internal.codegen.model.constant.DefaultAnnotationUsage.OVERRIDE;
 import static com.speedment.internal.codegen.model.constant.DefaultJavadocTag.AUTHOR;
 import static com.speedment.internal.codegen.model.constant.DefaultType.STRING;
+import static com.speedment.internal.codegen.model.constant.DefaultType.optional;
 import static com.speedment.internal.codegen.model.constant.DefaultType.VOID;
 import com.speedment.internal.codegen.model.value.ReferenceValue;
 import static com.speedment.internal.codegen.util.Formatting.indent;
 import com.speedment.internal.core.code.DefaultJavaClassTranslator;
 import com.speedment.internal.core.runtime.ApplicationMetadata;
+import com.speedment.internal.util.document.BinaryDocumentTranscoder;
 import com.speedment.internal.util.document.DocumentTranscoder;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -49,6 +53,7 @@ import static java.util.stream.Collectors.toList;
 public final class GeneratedSpeedmentApplicationMetadataTranslator extends DefaultJavaClassTranslator<Project, Class> {
 
     private static final int LINES_PER_METHOD = 100;
+    private static final int BINARY_CHARS_PER_LINE = 1024;
     private static final String INIT_PART_METHOD_NAME = "initPart";
     private static final String STRING_BUILDER_NAME = "sb";
     public static final String METADATA = "Metadata";
@@ -76,7 +81,10 @@ public final class GeneratedSpeedmentApplicationMetadataTranslator extends Defau
 
         final Method initializer = Method.of("init", STRING).static_().private_();
 
-        final List<String> lines = Stream.of(DocumentTranscoder.save(getSupport().projectOrThrow()).split("\\R")).collect(toList());
+        final Project project = getSupport().projectOrThrow();
+        final List<String> lines = project.isBinaryMetadata()
+            ? binaryLines(project)
+            : Stream.of(DocumentTranscoder.save(project).split("\\R")).collect(toList());
         final List<List<String>> segments = new ArrayList<>();
         List<String> segment = new ArrayList<>();
         segments.add(segment);
@@ -110,15 +118,35 @@ public final class GeneratedSpeedmentApplicationMetadataTranslator extends Defau
         initializer.add("return " + STRING_BUILDER_NAME + ".toString();");
 
         metadataField.set(new ReferenceValue("init()"));
-        getMetadata.add("return METADATA;");
+
+        final Method getBinaryMetadata;
+        if (project.isBinaryMetadata()) {
+            file.add(Import.of(Type.of(Base64.class)));
+            file.add(Import.of(Type.of(Optional.class)));
+            file.add(Import.of(Type.of(BinaryDocumentTranscoder.class)));
+            file.add(Import.of(Type.of(DocumentTranscoder.class)));
+
+            getMetadata.add("return DocumentTranscoder.save(BinaryDocumentTranscoder.load(Base64.getDecoder().decode(METADATA)));");
+            getBinaryMetadata = Method.of("getBinaryMetadata", optional(Type.of(byte.class).setArrayDimension(1)))
+                .public_()
+                .add(OVERRIDE)
+                .add("return Optional.of(Base64.getDecoder().decode(METADATA));");
+        } else {
+            getMetadata.add("return METADATA;");
+            getBinaryMetadata = null;
+        }
 
         final Class result = newBuilder(file, className)
-            .forEveryProject((clazz, project) -> {
+            .forEveryProject((clazz, p) -> {
                 clazz.public_()
                     .add(Type.of(ApplicationMetadata.class))
                     .add(metadataField)
                     .add(initializer)
                     .add(getMetadata);
+
+                if (getBinaryMetadata != null) {
+                    clazz.add(getBinaryMetadata);
+                }
                 
                 subInitializers.forEach(clazz::add);
             }).build();
@@ -126,6 +154,23 @@ public final class GeneratedSpeedmentApplicationMetadataTranslator extends Defau
         return result;
     }
 
+    /**
+     * Returns the binary snapshot of the specified project encoded using
+     * Base64 and split into lines that are short enough to be used as string
+     * literals.
+     *
+     * @param project  the project
+     * @return         the encoded lines
+     */
+    private static List<String> binaryLines(Project project) {
+        final String encoded = Base64.getEncoder().encodeToString(BinaryDocumentTranscoder.save(project));
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < encoded.length(); i += BINARY_CHARS_PER_LINE) {
+            lines.add(encoded.substring(i, Math.min(encoded.length(), i + BINARY_CHARS_PER_LINE)));
+        }
+        return lines;
+    }
+
     private Method addNewSubMethod(List<Method> methods) {
         final Method m = Method.of(INIT_PART_METHOD_NAME + methods.size(), VOID).private_().static_()
             .add(Field.of(STRING_BUILDER_NAME, Type.of(StringBuilder.class)));
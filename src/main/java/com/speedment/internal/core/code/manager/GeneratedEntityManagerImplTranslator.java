@@ -32,6 +32,7 @@ import com.speedment.component.resultset.ResultSetMapping;
 import com.speedment.config.db.Column;
 import com.speedment.config.db.Dbms;
 import com.speedment.config.db.Table;
+import com.speedment.config.db.mapper.FromIntTypeMapper;
 import com.speedment.config.db.trait.HasEnabled;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.field.FieldIdentifier;
@@ -40,22 +41,30 @@ import static com.speedment.internal.codegen.model.constant.DefaultAnnotationUsa
 import static com.speedment.internal.codegen.model.constant.DefaultType.OBJECT;
 import static com.speedment.internal.codegen.model.constant.DefaultType.VOID;
 import com.speedment.internal.codegen.model.value.ReferenceValue;
+import com.speedment.internal.core.code.AbstractBaseEntity;
 import com.speedment.internal.core.code.EntityAndManagerTranslator;
 import com.speedment.internal.core.manager.sql.AbstractSqlManager;
+import com.speedment.internal.core.manager.sql.SqlStatements;
 import static com.speedment.internal.util.document.DocumentDbUtil.dbmsTypeOf;
+import static com.speedment.internal.util.document.DocumentDbUtil.isLoadedLazily;
+import com.speedment.internal.util.StringPool;
 import com.speedment.internal.util.sql.ResultSetUtil;
 import com.speedment.util.tuple.Tuples;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import static com.speedment.internal.codegen.util.Formatting.block;
 import static com.speedment.internal.codegen.util.Formatting.indent;
 import static com.speedment.internal.codegen.util.Formatting.nl;
+import static com.speedment.internal.codegen.util.Formatting.shortName;
 import static com.speedment.internal.core.code.DefaultJavaClassTranslator.GETTER_METHOD_PREFIX;
 import static com.speedment.internal.core.code.DefaultJavaClassTranslator.SETTER_METHOD_PREFIX;
 import static java.util.stream.Collectors.joining;
@@ -76,6 +85,8 @@ public final class GeneratedEntityManagerImplTranslator extends EntityAndManager
 
     private static final String SPEEDMENT_VARIABLE_NAME = "speedment";
     private static final String PRIMARY_KEY_CLASSES = "PRIMARY_KEY_CLASSES";
+    private static final String SQL_STATEMENTS = "SQL_STATEMENTS";
+    private static final String ACCESSORS = "ACCESSORS";
 
     public GeneratedEntityManagerImplTranslator(Speedment speedment, Generator gen, Table table) {
         super(speedment, gen, table, Class::of);
@@ -106,8 +117,22 @@ public final class GeneratedEntityManagerImplTranslator extends EntityAndManager
                     .add(generatePrimaryKeyFields(getSupport(), file, () -> table.columns().filter(this::isPrimaryKey)))
                     .add(generateGetPrimaryKeyClassesField(file))
                     .add(generateGetPrimaryKeyClasses(file))
+                    .add(generateSqlStatementsField(file, table))
+                    .add(generateGeneratedStatements(file))
+                    .add(generateAccessorsField(file, table))
+                    .add(generateGeneratedAccessors(file))
                     .add(generateNewCopyOf(file));
 
+                table.columns()
+                    .filter(HasEnabled::isEnabled)
+                    .filter(GeneratedEntityManagerImplTranslator::isDeduplicated)
+                    .forEachOrdered(c -> {
+                        file.add(Import.of(Type.of(StringPool.class)));
+                        clazz.add(Field.of(stringPoolName(getSupport(), c), Type.of(StringPool.class))
+                            .private_().final_()
+                            .set(new ReferenceValue("new " + StringPool.class.getSimpleName() + "()"))
+                        );
+                    });
             })
             .build()
             .call(i -> file.add(Import.of(getSupport().entityImplType())));
@@ -158,6 +183,87 @@ public final class GeneratedEntityManagerImplTranslator extends EntityAndManager
         return method;
     }
 
+    /**
+     * Renders the statements used by the manager as a constant, formatted for
+     * the dbms type of the table.
+     *
+     * @param file the file to add imports to
+     * @param table the table
+     * @return the constant
+     */
+    protected Field generateSqlStatementsField(File file, Table table) {
+        file.add(Import.of(Type.of(SqlStatements.class)));
+        final Dbms dbms = table.getParentOrThrow().getParentOrThrow();
+        final SqlStatements sql = SqlStatements.of(dbmsTypeOf(getSpeedment(), dbms), table);
+
+        return Field.of(SQL_STATEMENTS, Type.of(SqlStatements.class))
+            .private_().static_().final_()
+            .set(new ReferenceValue(SqlStatements.class.getSimpleName() + ".of(" + nl() + indent(
+                Stream.of(
+                    literal(sql.getDbmsTypeName()),
+                    literal(sql.getTableReference()),
+                    Integer.toString(sql.getColumnCount()),
+                    literal(sql.getSelect()),
+                    literal(sql.getCount()),
+                    literal(sql.getInsert()),
+                    literal(sql.getInsertWithoutGenerated()),
+                    sql.getUpdate().map(GeneratedEntityManagerImplTranslator::literal).orElse("null"),
+                    sql.getDelete().map(GeneratedEntityManagerImplTranslator::literal).orElse("null")
+                ).collect(joining("," + nl()))
+            ) + nl() + ")"));
+    }
+
+    protected Method generateGeneratedStatements(File file) {
+        file.add(Import.of(Type.of(Optional.class)));
+        return Method.of("generatedStatements", Type.of(Optional.class).add(Generic.of().add(Type.of(SqlStatements.class))))
+            .protected_()
+            .add(OVERRIDE)
+            .add("return Optional.of(" + SQL_STATEMENTS + ");");
+    }
+
+    /**
+     * Renders the accessors of the enabled columns as a constant, in the order
+     * of the constants of the identifier enum. Each accessor returns the value
+     * of its field, or {@code null} if it is not set.
+     *
+     * @param file the file to add imports to
+     * @param table the table
+     * @return the constant
+     */
+    protected Field generateAccessorsField(File file, Table table) {
+        file.add(Import.of(Type.of(Arrays.class)));
+        file.add(Import.of(Type.of(List.class)));
+        file.add(Import.of(Type.of(Function.class)));
+        return Field.of(ACCESSORS, accessorsType())
+            .private_().static_().final_()
+            .set(new ReferenceValue("Arrays.asList(" + nl() + indent(
+                table.columns()
+                    .filter(HasEnabled::isEnabled)
+                    .map(c -> "entity -> entity." + getterCode(getSupport(), c))
+                    .collect(joining("," + nl()))
+            ) + nl() + ")"));
+    }
+
+    protected Method generateGeneratedAccessors(File file) {
+        file.add(Import.of(Type.of(Optional.class)));
+        return Method.of("generatedAccessors", Type.of(Optional.class).add(Generic.of().add(accessorsType())))
+            .protected_()
+            .add(OVERRIDE)
+            .add("return Optional.of(" + ACCESSORS + ");");
+    }
+
+    private Type accessorsType() {
+        return Type.of(List.class).add(Generic.of().add(
+            Type.of(Function.class)
+                .add(Generic.of().add(getSupport().entityType()))
+                .add(Generic.of().add(OBJECT))
+        ));
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
     public static String readFromResultSet(Speedment speedment, Column c, AtomicInteger position) {
 
         final TranslatorSupport<Table> support = new TranslatorSupport<>(speedment, c.getParentOrThrow());
@@ -208,6 +314,75 @@ public final class GeneratedEntityManagerImplTranslator extends EntityAndManager
         return sb.toString();
     }
 
+    /**
+     * Returns the name of the {@code ResultSet} method that should be used to
+     * read the specified column directly, followed by a call to
+     * {@link ResultSet#wasNull()}. This applies to nullable columns with an
+     * identity type mapper that are read using a {@code ResultSet} method that
+     * returns a primitive. For all other columns, an empty {@code Optional} is
+     * returned and {@link #readFromResultSet(Speedment, Column, AtomicInteger)}
+     * should be used instead.
+     *
+     * @param speedment the speedment instance
+     * @param c the column to read
+     * @return the name of the {@code ResultSet} method, if any
+     */
+    public static Optional<String> nullablePrimitiveGetter(Speedment speedment, Column c) {
+        if (!c.isNullable() || !c.findTypeMapper().isIdentityMapper()) {
+            return Optional.empty();
+        }
+
+        final Dbms dbms = c.getParentOrThrow().getParentOrThrow().getParentOrThrow();
+        final ResultSetMapping<?> mapping = speedment.getResultSetMapperComponent()
+            .apply(dbmsTypeOf(speedment, dbms), c.findTypeMapper().getDatabaseType());
+
+        final String getterName = "get" + mapping.getResultSetMethodName(dbms);
+        return Stream.of(ResultSet.class.getMethods())
+            .filter(m -> m.getName().equals(getterName))
+            .filter(m -> m.getReturnType().isPrimitive())
+            .findAny()
+            .map(java.lang.reflect.Method::getName);
+    }
+
+    /**
+     * Returns {@code true} if the specified column has a
+     * {@link FromIntTypeMapper} and is read using {@code ResultSet.getInt}. The
+     * primitive value can then be passed directly to
+     * {@link FromIntTypeMapper#toJavaTypeFromInt(int)} without creating an
+     * {@code Integer}.
+     *
+     * @param speedment the speedment instance
+     * @param c the column to read
+     * @return {@code true} if the column can be read as an {@code int}
+     */
+    public static boolean isReadAsInt(Speedment speedment, Column c) {
+        if (!(c.findTypeMapper() instanceof FromIntTypeMapper)) {
+            return false;
+        }
+
+        final Dbms dbms = c.getParentOrThrow().getParentOrThrow().getParentOrThrow();
+        final ResultSetMapping<?> mapping = speedment.getResultSetMapperComponent()
+            .apply(dbmsTypeOf(speedment, dbms), c.findTypeMapper().getDatabaseType());
+
+        return "Int".equals(mapping.getResultSetMethodName(dbms));
+    }
+
+    /**
+     * Returns {@code true} if the specified column is deduplicated and is
+     * represented as a {@code String} in the generated code. The values of such
+     * columns are passed through a {@link StringPool} when entities are read.
+     *
+     * @param c the column
+     * @return {@code true} if the values should be pooled
+     */
+    public static boolean isDeduplicated(Column c) {
+        return c.isDeduplicated() && String.class.equals(c.findTypeMapper().getJavaType());
+    }
+
+    private static String stringPoolName(TranslatorSupport<Table> support, Column c) {
+        return support.variableName(c) + "Pool";
+    }
+
     public static Method generateGet(TranslatorSupport<Table> support, File file, Supplier<Stream<? extends Column>> columnsSupplier) {
         return Method.of(GET_METHOD, OBJECT).public_().add(OVERRIDE)
             .add(Field.of("entity", support.entityType()))
@@ -316,7 +491,29 @@ public final class GeneratedEntityManagerImplTranslator extends EntityAndManager
         columnsSupplier.get()
             .filter(HasEnabled::isEnabled)
             .forEachOrdered(c -> {
-                streamBuilder.add("entity.set" + support.namer().javaTypeName(c.getJavaName()) + "(" + readFromResultSet(support.speedment(), c, position) + ");");
+                final String setter = "entity.set" + support.namer().javaTypeName(c.getJavaName());
+                final Optional<String> primitiveGetter = nullablePrimitiveGetter(support.speedment(), c);
+                if (isLoadedLazily(c)) {
+                    file.add(Import.of(Type.of(AbstractBaseEntity.class)));
+                    streamBuilder.add("((" + AbstractBaseEntity.class.getSimpleName() + "<" + support.entityName() + ">) entity).markUnloaded_("
+                        + support.entityName() + ".Identifier." + support.namer().javaStaticFieldName(c.getJavaName()) + ");");
+                } else if (primitiveGetter.isPresent()) {
+                    streamBuilder.add(setter + "(resultSet." + primitiveGetter.get() + "(" + position.getAndIncrement() + "));");
+                    streamBuilder.add("if (resultSet.wasNull()) " + setter + "(null);");
+                } else if (isReadAsInt(support.speedment(), c)) {
+                    final Type javaType = Type.of(c.findTypeMapper().getJavaType());
+                    file.add(Import.of(Type.of(FromIntTypeMapper.class)));
+                    file.add(Import.of(javaType));
+                    streamBuilder.add(setter + "(((" + FromIntTypeMapper.class.getSimpleName() + "<" + shortName(javaType.getName()) + ">) "
+                        + typeMapperName(support, c) + ").toJavaTypeFromInt(resultSet.getInt(" + position.getAndIncrement() + ")));");
+                    if (c.isNullable()) {
+                        streamBuilder.add("if (resultSet.wasNull()) " + setter + "(null);");
+                    }
+                } else if (isDeduplicated(c)) {
+                    streamBuilder.add(setter + "(" + stringPoolName(support, c) + ".intern(" + readFromResultSet(support.speedment(), c, position) + "));");
+                } else {
+                    streamBuilder.add(setter + "(" + readFromResultSet(support.speedment(), c, position) + ");");
+                }
             });
 
         rows.add("try " + block(streamBuilder.build()));
@@ -409,19 +606,32 @@ public final class GeneratedEntityManagerImplTranslator extends EntityAndManager
             );
 
         columns().forEachOrdered(c -> {
+            final String copyValue;
             if (c.isNullable()) {
-                result.add(
-                    varName + "." + GETTER_METHOD_PREFIX + getSupport().typeName(c)
+                copyValue = varName + "." + GETTER_METHOD_PREFIX + getSupport().typeName(c)
                     + "().ifPresent(" + entityName + "::"
                     + SETTER_METHOD_PREFIX + getSupport().typeName(c)
-                    + ");"
-                );
+                    + ");";
             } else {
-                result.add(
-                    entityName + "." + SETTER_METHOD_PREFIX
+                copyValue = entityName + "." + SETTER_METHOD_PREFIX
                     + getSupport().typeName(c) + "(" + varName + ".get"
-                    + getSupport().typeName(c) + "());"
+                    + getSupport().typeName(c) + "());";
+            }
+
+            // A lazy field that is not loaded in the source is left unloaded
+            // in the copy instead of being read from the database
+            if (isLoadedLazily(c)) {
+                file.add(Import.of(Type.of(AbstractBaseEntity.class)));
+                final String identifier = getSupport().entityName() + ".Identifier." + getNamer().javaStaticFieldName(c.getJavaName());
+                final String base = AbstractBaseEntity.class.getSimpleName() + "<" + getSupport().entityName() + ">";
+                result.add(
+                    "if (" + varName + " instanceof " + AbstractBaseEntity.class.getSimpleName()
+                    + " && ((" + base + ") " + varName + ").isUnloaded_(" + identifier + ")) "
+                    + block("((" + base + ") " + entityName + ").markUnloaded_(" + identifier + ");")
+                    + " else " + block(copyValue)
                 );
+            } else {
+                result.add(copyValue);
             }
         });
 
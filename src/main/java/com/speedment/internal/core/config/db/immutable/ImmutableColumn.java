@@ -35,6 +35,8 @@ public final class ImmutableColumn extends ImmutableDocument implements Column {
     private final transient Optional<String> alias;
     private final transient boolean nullable;
     private final transient boolean autoincrement;
+    private final transient boolean lazy;
+    private final transient boolean deduplicated;
     private final transient String typeMapper;
     private final transient String databaseType;
     private final transient TypeMapper<?, ?> typeMapperObject;
@@ -50,6 +52,8 @@ public final class ImmutableColumn extends ImmutableDocument implements Column {
         this.alias              = prototype.getAlias();
         this.nullable           = prototype.isNullable();
         this.autoincrement      = prototype.isAutoIncrement();
+        this.lazy               = prototype.isLazy();
+        this.deduplicated       = prototype.isDeduplicated();
         this.typeMapper         = prototype.getTypeMapper();
         this.databaseType       = prototype.getDatabaseType();
         this.typeMapperObject   = prototype.findTypeMapper();
@@ -81,6 +85,16 @@ public final class ImmutableColumn extends ImmutableDocument implements Column {
         return autoincrement;
     }
 
+    @Override
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    @Override
+    public boolean isDeduplicated() {
+        return deduplicated;
+    }
+
     @Override
     public String getTypeMapper() {
         return typeMapper;
@@ -22,6 +22,7 @@ import com.speedment.internal.core.config.db.DbmsImpl;
 import static com.speedment.internal.util.document.DocumentUtil.toStringHelper;
 import static com.speedment.util.NullUtil.requireKeys;
 import static java.util.Collections.unmodifiableList;
+import com.speedment.stream.MapStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,6 +45,7 @@ public final class ImmutableDbms extends ImmutableDocument implements Dbms {
     private final transient Optional<String> username;
     
     private final transient List<ImmutableSchema> schemas;
+    private final transient Map<String, ImmutableSchema> schemasByName;
 
     ImmutableDbms(ImmutableProject parent, Map<String, Object> dbms) {
         super(parent, requireKeys(dbms, Dbms.TYPE_NAME));
@@ -59,6 +61,7 @@ public final class ImmutableDbms extends ImmutableDocument implements Dbms {
         this.username  = prototype.getUsername();
         
         this.schemas   = unmodifiableList(super.children(SCHEMAS, ImmutableSchema::new).collect(toList()));
+        this.schemasByName = MapStream.fromValues(schemas.stream(), ImmutableSchema::getName).toMap();
     }
 
     @Override
@@ -101,6 +104,11 @@ public final class ImmutableDbms extends ImmutableDocument implements Dbms {
         return schemas.stream();
     }
 
+    @Override
+    public Optional<ImmutableSchema> findSchema(String name) {
+        return Optional.ofNullable(schemasByName.get(name));
+    }
+
     @Override
     public Optional<Project> getParent() {
         return super.getParent().map(Project.class::cast);
@@ -44,8 +44,10 @@ public final class ImmutableProject extends ImmutableDocument implements Project
     private final transient Optional<String> packageName;
     private final transient String packageLocation;
     private final transient Optional<Path> configPath;
+    private final transient boolean binaryMetadata;
     
     private final transient List<ImmutableDbms> dbmses;
+    private final transient Map<String, ImmutableDbms> dbmsesByName;
     private final transient Map<String, ImmutableTable> tablesByName;
 
     ImmutableProject(Map<String, Object> project) {
@@ -59,8 +61,10 @@ public final class ImmutableProject extends ImmutableDocument implements Project
         this.packageName     = prototype.getPackageName();
         this.packageLocation = prototype.getPackageLocation();
         this.configPath      = prototype.getConfigPath();
+        this.binaryMetadata  = prototype.isBinaryMetadata();
         
         this.dbmses = unmodifiableList(super.children(DBMSES, ImmutableDbms::new).collect(toList()));
+        this.dbmsesByName = MapStream.fromValues(dbmses.stream(), ImmutableDbms::getName).toMap();
         
         this.tablesByName = MapStream.fromValues(
             DocumentDbUtil.traverseOver(this, ImmutableTable.class),
@@ -98,11 +102,21 @@ public final class ImmutableProject extends ImmutableDocument implements Project
         return configPath;
     }
 
+    @Override
+    public boolean isBinaryMetadata() {
+        return binaryMetadata;
+    }
+
     @Override
     public Stream<ImmutableDbms> dbmses() {
         return dbmses.stream();
     }
 
+    @Override
+    public Optional<ImmutableDbms> findDbms(String name) {
+        return Optional.ofNullable(dbmsesByName.get(name));
+    }
+
     @Override
     public ImmutableTable findTableByName(String fullName) {
         final ImmutableTable table = tablesByName.get(fullName);
@@ -20,6 +20,7 @@ import com.speedment.config.db.Dbms;
 import com.speedment.config.db.Schema;
 import com.speedment.internal.core.config.db.SchemaImpl;
 import static java.util.Collections.unmodifiableList;
+import com.speedment.stream.MapStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +39,7 @@ public final class ImmutableSchema extends ImmutableDocument implements Schema {
     private final transient boolean defaultSchema;
     
     private final transient List<ImmutableTable> tables;
+    private final transient Map<String, ImmutableTable> tablesByName;
 
     ImmutableSchema(ImmutableDbms parent, Map<String, Object> schema) {
         super(parent, schema);
@@ -50,6 +52,7 @@ public final class ImmutableSchema extends ImmutableDocument implements Schema {
         this.defaultSchema = prototype.isDefaultSchema();
         
         this.tables = unmodifiableList(super.children(TABLES, ImmutableTable::new).collect(toList()));
+        this.tablesByName = MapStream.fromValues(tables.stream(), ImmutableTable::getName).toMap();
     }
 
     @Override
@@ -81,4 +84,9 @@ public final class ImmutableSchema extends ImmutableDocument implements Schema {
     public Stream<ImmutableTable> tables() {
         return tables.stream();
     }
+
+    @Override
+    public Optional<ImmutableTable> findTable(String name) {
+        return Optional.ofNullable(tablesByName.get(name));
+    }
 }
\ No newline at end of file
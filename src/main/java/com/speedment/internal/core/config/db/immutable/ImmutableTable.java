@@ -20,6 +20,7 @@ import com.speedment.config.db.Schema;
 import com.speedment.config.db.Table;
 import com.speedment.internal.core.config.db.TableImpl;
 import static java.util.Collections.unmodifiableList;
+import com.speedment.stream.MapStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,11 +36,14 @@ public final class ImmutableTable extends ImmutableDocument implements Table {
     private final transient boolean enabled;
     private final transient String name;
     private final transient Optional<String> alias;
+    private final transient boolean compact;
     
     private final transient List<ImmutableColumn> columns;
     private final transient List<ImmutableIndex> indexes;
     private final transient List<ImmutableForeignKey> foreignKeys;
     private final transient List<ImmutablePrimaryKeyColumn> primaryKeyColumns;
+    private final transient Map<String, ImmutableColumn> columnsByName;
+    private final transient Map<String, ImmutablePrimaryKeyColumn> primaryKeyColumnsByName;
 
     ImmutableTable(ImmutableSchema parent, Map<String, Object> table) {
         super(parent, table);
@@ -49,11 +53,15 @@ public final class ImmutableTable extends ImmutableDocument implements Table {
         this.enabled = prototype.isEnabled();
         this.name    = prototype.getName();
         this.alias   = prototype.getAlias();
+        this.compact = prototype.isCompact();
         
         this.columns           = unmodifiableList(super.children(COLUMNS, ImmutableColumn::new).collect(toList()));
         this.indexes           = unmodifiableList(super.children(INDEXES, ImmutableIndex::new).collect(toList()));
         this.foreignKeys       = unmodifiableList(super.children(FOREIGN_KEYS, ImmutableForeignKey::new).collect(toList()));
         this.primaryKeyColumns = unmodifiableList(super.children(PRIMARY_KEY_COLUMNS, ImmutablePrimaryKeyColumn::new).collect(toList()));
+
+        this.columnsByName           = MapStream.fromValues(columns.stream(), ImmutableColumn::getName).toMap();
+        this.primaryKeyColumnsByName = MapStream.fromValues(primaryKeyColumns.stream(), ImmutablePrimaryKeyColumn::getName).toMap();
     }
 
     @Override
@@ -71,6 +79,11 @@ public final class ImmutableTable extends ImmutableDocument implements Table {
         return alias;
     }
 
+    @Override
+    public boolean isCompact() {
+        return compact;
+    }
+
     @Override
     public Stream<ImmutableColumn> columns() {
         return columns.stream();
@@ -91,6 +104,16 @@ public final class ImmutableTable extends ImmutableDocument implements Table {
         return primaryKeyColumns.stream();
     }
 
+    @Override
+    public Optional<ImmutableColumn> findColumn(String name) {
+        return Optional.ofNullable(columnsByName.get(name));
+    }
+
+    @Override
+    public Optional<ImmutablePrimaryKeyColumn> findPrimaryKeyColumn(String name) {
+        return Optional.ofNullable(primaryKeyColumnsByName.get(name));
+    }
+
     @Override
     public Optional<Schema> getParent() {
         return super.getParent().map(Schema.class::cast);
@@ -17,6 +17,8 @@
 package com.speedment.internal.core.db;
 
 import com.speedment.Speedment;
+import com.speedment.SpeedmentVersion;
+import com.speedment.component.connectionpool.ConnectionPoolComponent;
 import com.speedment.config.Document;
 import com.speedment.config.db.Column;
 import com.speedment.config.db.Dbms;
@@ -43,6 +45,7 @@ import com.speedment.db.SqlPredicate;
 import com.speedment.db.SqlSupplier;
 import com.speedment.db.metadata.ColumnMetaData;
 import com.speedment.db.metadata.TypeInfoMetaData;
+import com.speedment.event.AfterTransaction;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
@@ -56,12 +59,15 @@ import static com.speedment.internal.core.stream.OptionalUtil.unwrap;
 import com.speedment.internal.logging.Logger;
 import com.speedment.internal.logging.LoggerManager;
 import static com.speedment.internal.util.CaseInsensitiveMaps.newCaseInsensitiveMap;
+import com.speedment.internal.util.Lazy;
 import com.speedment.internal.util.document.DocumentDbUtil;
 import static com.speedment.internal.util.document.DocumentDbUtil.dbmsTypeOf;
 import com.speedment.internal.util.document.DocumentUtil;
 import static com.speedment.util.NullUtil.requireNonNulls;
 import com.speedment.util.ProgressMeasure;
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
@@ -83,8 +89,14 @@ import java.util.Map.Entry;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import java.util.stream.Stream;
 
 /**
@@ -105,11 +117,14 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
     protected final Speedment speedment;
     protected final Dbms dbms; // No not use for metadata reads.
     protected final Map<String, Class<?>> javaTypeMap;
+    private JdbcExecutor jdbcExecutor; // Guarded by this
+    private final Lazy<Map<String, Table>> tablesByReference;
 
     public AbstractRelationalDbmsHandler(Speedment speedment, Dbms dbms) {
         this.speedment = requireNonNull(speedment);
         this.dbms = requireNonNull(dbms);
         javaTypeMap = newCaseInsensitiveMap();
+        tablesByReference = Lazy.create();
         setupJavaTypeMap();
         assertJavaTypesKnown();
     }
@@ -133,9 +148,36 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 "Could not find Dbms document in copy."
             ));
 
-        return readSchemaMetadata(
-            projectCopy, dbmsCopy, filterCriteria, progress
-        ).whenComplete((project, ex) -> {
+        // Tables that have not changed since the last read are taken from
+        // the cache, if the dbms can fingerprint its tables
+        final MetadataCache cache = schemaFingerprintsQuery().isPresent()
+            ? metadataCacheLocation(dbmsCopy)
+                .map(path -> MetadataCache.load(path, metadataCacheVersion()))
+                .orElseGet(MetadataCache::disabled)
+            : MetadataCache.disabled();
+
+        // All the metadata is read using a bounded number of threads, each
+        // holding at most one connection at a time
+        final ExecutorService executor = newMetadataExecutor();
+        final CompletableFuture<Project> result;
+        try {
+            result = readSchemaMetadata(
+                projectCopy, dbmsCopy, filterCriteria, progress, executor, cache
+            );
+        } catch (final RuntimeException ex) {
+            executor.shutdown();
+            throw ex;
+        }
+
+        return result.whenComplete((project, ex) -> {
+            executor.shutdown();
+            if (ex == null) {
+                try {
+                    cache.save(dbmsCopy);
+                } catch (final SpeedmentException saveEx) {
+                    LOGGER.warn(saveEx, "The metadata was read but could not be cached.");
+                }
+            }
             progress.setCurrentAction("Done!");
             progress.setProgress(ProgressMeasure.DONE);
         });
@@ -146,9 +188,11 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
         Project project,
         Dbms dbms,
         Predicate<String> filterCriteria,
-        ProgressMeasure progress) {
+        ProgressMeasure progress,
+        Executor executor,
+        MetadataCache cache) {
 
-        requireNonNulls(project, dbms, filterCriteria, progress);
+        requireNonNulls(project, dbms, filterCriteria, progress, executor, cache);
 
         final DbmsType dbmsType = dbmsTypeOf(speedment, dbms);
         final String action = actionName(dbms);
@@ -176,7 +220,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 }
 
                 return sqlTypeMapping;
-            });
+            }, executor);
 
         // Task that downloads the schemas from the database
         final CompletableFuture<Void> schemasTask = CompletableFuture.runAsync(() -> {
@@ -205,7 +249,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                     "Error reading metadata from result set.", sqle
                 );
             }
-        });
+        }, executor);
 
         // Task that downloads the catalogs from the database
         final CompletableFuture<Void> catalogsTask = CompletableFuture.runAsync(() -> {
@@ -233,7 +277,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                     "Error reading metadata from result set.", sqle
                 );
             }
-        });
+        }, executor);
 
         // Create a new task that will execute once the schemas and the catalogs 
         // have been loaded independently of each other.
@@ -244,7 +288,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
             @SuppressWarnings({"unchecked", "rawtypes"})
             final CompletableFuture<Schema>[] tablesTask
                 = dbms.schemas()
-                .map(schema -> tables(sqlTypeMappingTask, dbms, schema, progress))
+                .map(schema -> tables(sqlTypeMappingTask, dbms, schema, progress, executor, cache))
                 .toArray(s -> (CompletableFuture<Schema>[]) new CompletableFuture[s]);
 
             //CompletableFuture[] foo = new CompletableFuture[2];
@@ -281,8 +325,31 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
 
     }
 
-    protected CompletableFuture<Schema> tables(CompletableFuture<Map<String, Class<?>>> sqlTypeMapping, Dbms dbms, Schema schema, ProgressMeasure progressListener) {
-        requireNonNulls(sqlTypeMapping, dbms, schema, progressListener);
+    /**
+     * Reads the tables of the specified schema and then all the columns,
+     * primary key columns, indexes and foreign keys of those tables.
+     * <p>
+     * The columns and anything that the dbms can list for a whole schema at
+     * once (see {@link #schemaPrimaryKeysQuery()},
+     * {@link #schemaIndexesQuery()} and {@link #schemaForeignKeysQuery()})
+     * are read first using a single connection. The remaining metadata is
+     * then read table by table, with the tables split evenly between at most
+     * {@link #metadataConnections()} connections.
+     * <p>
+     * Tables that have the same fingerprint (see
+     * {@link #schemaFingerprintsQuery()}) as in the cache are taken from the
+     * cache and are not read again.
+     *
+     * @param sqlTypeMapping the task that reads the sql type mapping
+     * @param dbms the dbms to read from
+     * @param schema the schema to add the tables to
+     * @param progressListener the progress listener
+     * @param executor the executor to run the reads on
+     * @param cache the cache of previously read tables
+     * @return a task that completes when the schema has been read
+     */
+    protected CompletableFuture<Schema> tables(CompletableFuture<Map<String, Class<?>>> sqlTypeMapping, Dbms dbms, Schema schema, ProgressMeasure progressListener, Executor executor, MetadataCache cache) {
+        requireNonNulls(sqlTypeMapping, dbms, schema, progressListener, executor, cache);
 
         final String action = actionName(schema);
         LOGGER.info(action);
@@ -312,27 +379,334 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                     table.mutator().setName(tableName);
                 }
             }
+
+            if (cache.isEnabled()) {
+                cache.setFingerprints(schema.getName(), schemaFingerprints(connection, schema));
+            }
         } catch (SQLException sqle) {
             throw new SpeedmentException(sqle);
         }
 
+        final Map<String, String> fingerprints = cache.isEnabled()
+            ? cache.fingerprintsOf(schema.getName())
+            : Collections.emptyMap();
+
+        // Only the tables that are not in the cache need to be read
+        final Map<String, Table> tables = new LinkedHashMap<>();
+        schema.tables().forEachOrdered(table -> {
+            final Optional<Map<String, Object>> cached = cache.find(
+                schema.getName(), table.getName(), fingerprints.get(table.getName())
+            );
+
+            if (cached.isPresent()) {
+                table.getData().putAll(cached.get());
+            } else {
+                tables.putIfAbsent(table.getName(), table);
+            }
+        });
+
+        if (cache.isEnabled()) {
+            LOGGER.info("Reusing the cached metadata of " + (schema.tables().count() - tables.size())
+                + " unchanged table(s) in " + schema.getName() + ".");
+        }
+
+        if (tables.isEmpty()) {
+            return CompletableFuture.completedFuture(schema);
+        }
+
+        final Optional<SchemaQuery> primaryKeysQuery = schemaPrimaryKeysQuery();
+        final Optional<SchemaQuery> indexesQuery = schemaIndexesQuery();
+        final Optional<SchemaQuery> foreignKeysQuery = schemaForeignKeysQuery();
+
+        final CompletableFuture<Void> schemaTask = sqlTypeMapping.thenAcceptAsync(mapping -> {
+            try (final Connection connection = getConnection(dbms)) {
+                progressListener.setCurrentAction(actionName(schema));
+                schemaColumns(connection, mapping, schema, tables, progressListener);
+                primaryKeysQuery.ifPresent(query -> schemaChilds(connection, query, schema, tables,
+                    table -> table.mutator()::addNewPrimaryKeyColumn, primaryKeyColumnMutator(), rs -> true
+                ));
+                indexesQuery.ifPresent(query -> schemaChilds(connection, query, schema, tables,
+                    table -> table.mutator()::addNewIndex, indexMutator(), indexFilter()
+                ));
+                foreignKeysQuery.ifPresent(query -> schemaChilds(connection, query, schema, tables,
+                    table -> table.mutator()::addNewForeignKey, foreignKeyMutator(), rs -> true
+                ));
+            } catch (final SQLException ex) {
+                throw new SpeedmentException(ex);
+            }
+        }, executor);
+
+        if (primaryKeysQuery.isPresent() && indexesQuery.isPresent() && foreignKeysQuery.isPresent()) {
+            return schemaTask.thenApply(v -> schema);
+        }
+
+        // The tables are not modified concurrently, so the remaining reads
+        // can not start until the schema wide reads are done
         final AtomicInteger cnt = new AtomicInteger();
-        final double noTables = schema.tables().count();
+        final double noTables = tables.size();
+
+        return schemaTask.thenCompose(v -> CompletableFuture.allOf(
+            partition(new ArrayList<>(tables.values()), metadataConnections()).stream()
+                .map(part -> CompletableFuture.runAsync(() -> {
+                    try (final Connection connection = getConnection(dbms)) {
+                        for (final Table table : part) {
+                            progressListener.setCurrentAction(actionName(table));
+                            if (!indexesQuery.isPresent()) {
+                                indexes(connection, table, progressListener);
+                            }
+                            if (!foreignKeysQuery.isPresent()) {
+                                foreignKeys(connection, table, progressListener);
+                            }
+                            if (!primaryKeysQuery.isPresent()) {
+                                primaryKeyColumns(connection, table, progressListener);
+                            }
+                            progressListener.setProgress(cnt.incrementAndGet() / noTables);
+                        }
+                    } catch (final SQLException ex) {
+                        throw new SpeedmentException(ex);
+                    }
+                }, executor)).toArray(CompletableFuture[]::new)
+        )).thenApply(v -> schema);
+    }
 
-        return CompletableFuture.allOf(
-            schema.tables().map(table -> sqlTypeMapping.thenAcceptAsync(mapping -> {
-                try (final Connection connection = getConnection(dbms)) {
-                    progressListener.setCurrentAction(actionName(table));
-                    columns(connection, mapping, table, progressListener);
-                    indexes(connection, table, progressListener);
-                    foreignKeys(connection, table, progressListener);
-                    primaryKeyColumns(connection, table, progressListener);
-                    progressListener.setProgress(cnt.incrementAndGet() / noTables);
-                } catch (final SQLException ex) {
-                    throw new SpeedmentException(ex);
+    /**
+     * Reads the columns of all the specified tables using a single call to
+     * {@link DatabaseMetaData#getColumns(String, String, String, String)}.
+     * Columns of tables that are not in the map (like views) are ignored.
+     *
+     * @param connection the connection to use
+     * @param sqlTypeMapping the sql type mapping
+     * @param schema the schema
+     * @param tables the tables to read columns for, keyed by name
+     * @param progressListener the progress listener
+     */
+    protected void schemaColumns(Connection connection, Map<String, Class<?>> sqlTypeMapping, Schema schema, Map<String, Table> tables, ProgressMeasure progressListener) {
+        requireNonNulls(connection, sqlTypeMapping, schema, tables, progressListener);
+
+        final SqlSupplier<ResultSet> supplier = ()
+            -> connection.getMetaData().getColumns(
+                jdbcCatalogLookupName(schema),
+                jdbcSchemaLookupName(schema),
+                "%",
+                null
+            );
+
+        final Map<Table, TableChildMutator<Column, ResultSet>> mutators = new HashMap<>();
+        final AtomicInteger cnt = new AtomicInteger();
+        final double noTables = tables.size();
+
+        schemaTableChilds(
+            tables,
+            table -> table.mutator()::addNewColumn,
+            supplier,
+            table -> mutators.computeIfAbsent(table, t -> {
+                progressListener.setProgress(cnt.incrementAndGet() / noTables);
+                return columnMutator(sqlTypeMapping, t, progressListener);
+            }),
+            rs -> true
+        );
+    }
+
+    /**
+     * Runs a query that lists children (like primary key columns) of all the
+     * tables in a schema and adds them to the tables. The query must return a
+     * {@code TABLE_NAME} column. Rows of tables that are not in the map are
+     * ignored.
+     *
+     * @param <T> the child type
+     * @param connection the connection to use
+     * @param query the query
+     * @param schema the schema
+     * @param tables the tables to add children to, keyed by name
+     * @param childSupplier returns the supplier of new children of a table
+     * @param resultSetMutator the mutator that sets up a new child
+     * @param filter the filter that decides if a row should be used
+     */
+    protected <T> void schemaChilds(
+        Connection connection,
+        SchemaQuery query,
+        Schema schema,
+        Map<String, Table> tables,
+        Function<Table, Supplier<T>> childSupplier,
+        TableChildMutator<T, ResultSet> resultSetMutator,
+        SqlPredicate<ResultSet> filter
+    ) {
+        requireNonNulls(connection, query, schema, tables, childSupplier, resultSetMutator, filter);
+
+        try (final PreparedStatement ps = prepareSchemaQuery(connection, query, schema)) {
+            schemaTableChilds(tables, childSupplier, ps::executeQuery, table -> resultSetMutator, filter);
+        } catch (final SQLException sqle) {
+            LOGGER.error(sqle, "Unable to prepare the query for the table children of " + schema.getName() + ".");
+            throw new SpeedmentException(sqle);
+        }
+    }
+
+    private <T> void schemaTableChilds(
+        Map<String, Table> tables,
+        Function<Table, Supplier<T>> childSupplier,
+        SqlSupplier<ResultSet> resultSetSupplier,
+        Function<Table, TableChildMutator<T, ResultSet>> resultSetMutator,
+        SqlPredicate<ResultSet> filter
+    ) {
+        try (final ResultSet rsChild = resultSetSupplier.get()) {
+            while (rsChild.next()) {
+                if (filter.test(rsChild)) {
+                    final Table table = tables.get(rsChild.getString("TABLE_NAME"));
+                    if (table != null) {
+                        resultSetMutator.apply(table).mutate(childSupplier.apply(table).get(), rsChild);
+                    }
                 }
-            })).toArray(CompletableFuture[]::new)
-        ).thenApply(v -> schema);
+            }
+        } catch (final SQLException sqle) {
+            LOGGER.error(sqle, "Unable to read table children.");
+            throw new SpeedmentException(sqle);
+        }
+    }
+
+    /**
+     * Returns a query that lists the primary key columns of all the tables in
+     * a schema, or an empty {@code Optional} if they should be read table by
+     * table using {@link DatabaseMetaData#getPrimaryKeys(String, String, String)}.
+     * The query returns the columns {@code TABLE_NAME}, {@code COLUMN_NAME}
+     * and {@code KEY_SEQ}.
+     *
+     * @return the query, if any
+     */
+    protected Optional<SchemaQuery> schemaPrimaryKeysQuery() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a query that lists the index columns of all the tables in a
+     * schema, or an empty {@code Optional} if they should be read table by
+     * table using
+     * {@link DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean)}.
+     * The query returns the columns {@code TABLE_NAME}, {@code INDEX_NAME},
+     * {@code NON_UNIQUE}, {@code TYPE}, {@code COLUMN_NAME},
+     * {@code ORDINAL_POSITION} and {@code ASC_OR_DESC}.
+     *
+     * @return the query, if any
+     */
+    protected Optional<SchemaQuery> schemaIndexesQuery() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a query that lists the foreign key columns of all the tables in
+     * a schema, or an empty {@code Optional} if they should be read table by
+     * table using
+     * {@link DatabaseMetaData#getImportedKeys(String, String, String)}. The
+     * query returns the columns {@code TABLE_NAME}, {@code FK_NAME},
+     * {@code FKCOLUMN_NAME}, {@code KEY_SEQ}, {@code PKTABLE_NAME},
+     * {@code PKCOLUMN_NAME}, {@code FKTABLE_SCHEM} and {@code PKTABLE_CAT}.
+     *
+     * @return the query, if any
+     */
+    protected Optional<SchemaQuery> schemaForeignKeysQuery() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a query that lists a fingerprint of the definition of every
+     * table in a schema, or an empty {@code Optional} if the tables can not
+     * be fingerprinted. The fingerprint must change if a column, primary
+     * key, index or foreign key of the table changes. The query returns the
+     * columns {@code TABLE_NAME} and {@code FINGERPRINT}.
+     * <p>
+     * If a query is returned, the metadata is cached on disk and tables with
+     * an unchanged fingerprint are taken from the cache the next time the
+     * metadata is read.
+     *
+     * @return the query, if any
+     */
+    protected Optional<SchemaQuery> schemaFingerprintsQuery() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the location of the metadata cache of the specified dbms, or an
+     * empty {@code Optional} if the metadata should not be cached. By
+     * default, the cache is stored in a {@code .speedment} directory next to
+     * the configuration file of the project, or in the home directory of the
+     * user if the project has not been saved.
+     *
+     * @param dbms the dbms to read metadata from
+     * @return the location of the cache, if any
+     */
+    protected Optional<Path> metadataCacheLocation(Dbms dbms) {
+        final Project project = dbms.getParentOrThrow();
+        final Path directory = project.getConfigPath()
+            .map(Path::toAbsolutePath)
+            .map(Path::getParent)
+            .orElseGet(() -> Paths.get(System.getProperty("user.home")));
+
+        return Optional.of(directory
+            .resolve(".speedment")
+            .resolve("metadata")
+            .resolve(project.getName() + "." + dbms.getName() + ".bin")
+        );
+    }
+
+    private String metadataCacheVersion() {
+        return getClass().getName() + "/" + SpeedmentVersion.getImplementationVersion();
+    }
+
+    private Map<String, String> schemaFingerprints(Connection connection, Schema schema) throws SQLException {
+        final Map<String, String> result = new HashMap<>();
+        final Optional<SchemaQuery> query = schemaFingerprintsQuery();
+        if (query.isPresent()) {
+            try (final PreparedStatement ps = prepareSchemaQuery(connection, query.get(), schema);
+                final ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    final String fingerprint = rs.getString("FINGERPRINT");
+                    if (fingerprint != null) {
+                        result.put(rs.getString("TABLE_NAME"), fingerprint);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static PreparedStatement prepareSchemaQuery(Connection connection, SchemaQuery query, Schema schema) throws SQLException {
+        final PreparedStatement ps = connection.prepareStatement(query.getSql());
+        try {
+            for (int i = 1; i <= query.getSchemaParameters(); i++) {
+                ps.setString(i, schema.getName());
+            }
+            return ps;
+        } catch (final SQLException ex) {
+            ps.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the maximum number of connections that are used at the same
+     * time while reading metadata. This is also the number of threads used.
+     *
+     * @return the maximum number of connections
+     */
+    protected int metadataConnections() {
+        return Math.min(4, Runtime.getRuntime().availableProcessors());
+    }
+
+    private ExecutorService newMetadataExecutor() {
+        return Executors.newFixedThreadPool(Math.max(1, metadataConnections()),
+            speedment.getThreadFactoryComponent().newThreadFactory("metadata")
+        );
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int parts) {
+        final int n = Math.max(1, Math.min(parts, items.size()));
+        final List<List<T>> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(new ArrayList<>());
+        }
+        for (int i = 0; i < items.size(); i++) {
+            result.get(i % n).add(items.get(i));
+        }
+        return result;
     }
 
     protected void columns(Connection connection, Map<String, Class<?>> sqlTypeMapping, Table table, ProgressMeasure progressListener) {
@@ -348,7 +722,11 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 null
             );
 
-        final TableChildMutator<Column, ResultSet> mutator = (column, rs) -> {
+        tableChilds(table.mutator()::addNewColumn, supplier, columnMutator(sqlTypeMapping, table, progressListener), progressListener);
+    }
+
+    private TableChildMutator<Column, ResultSet> columnMutator(Map<String, Class<?>> sqlTypeMapping, Table table, ProgressMeasure progressListener) {
+        return (column, rs) -> {
 
             final ColumnMetaData md = ColumnMetaData.of(rs);
 
@@ -398,10 +776,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
 
             setAutoIncrement(column, md);
             progressListener.setCurrentAction(actionName(column));
-
         };
-
-        tableChilds(table.mutator()::addNewColumn, supplier, mutator, progressListener);
     }
 
     protected void primaryKeyColumns(Connection connection, Table table, ProgressMeasure progressListener) {
@@ -415,12 +790,14 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 metaDataTableNameForPrimaryKeys(table)
             );
 
-        final TableChildMutator<PrimaryKeyColumn, ResultSet> mutator = (primaryKeyColumn, rs) -> {
+        tableChilds(table.mutator()::addNewPrimaryKeyColumn, supplier, primaryKeyColumnMutator(), progressListener);
+    }
+
+    private TableChildMutator<PrimaryKeyColumn, ResultSet> primaryKeyColumnMutator() {
+        return (primaryKeyColumn, rs) -> {
             primaryKeyColumn.mutator().setName(rs.getString("COLUMN_NAME"));
             primaryKeyColumn.mutator().setOrdinalPosition(rs.getInt("KEY_SEQ"));
         };
-
-        tableChilds(table.mutator()::addNewPrimaryKeyColumn, supplier, mutator, progressListener);
     }
 
     protected void indexes(Connection connection, Table table, ProgressMeasure progressListener) {
@@ -436,7 +813,11 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 false
             );
 
-        final TableChildMutator<Index, ResultSet> mutator = (index, rs) -> {
+        tableChilds(table.mutator()::addNewIndex, supplier, indexMutator(), indexFilter(), progressListener);
+    }
+
+    private TableChildMutator<Index, ResultSet> indexMutator() {
+        return (index, rs) -> {
             final String indexName = rs.getString("INDEX_NAME");
             final boolean unique = !rs.getBoolean("NON_UNIQUE");
 
@@ -456,14 +837,14 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 indexColumn.mutator().setOrderType(OrderType.NONE);
             }
         };
+    }
 
-        final SqlPredicate<ResultSet> filter = rs -> {
+    private SqlPredicate<ResultSet> indexFilter() {
+        return rs -> {
             final String type = rs.getString("TYPE");
             final String indexName = rs.getString("INDEX_NAME");
             return nonNull(indexName);
         };
-
-        tableChilds(table.mutator()::addNewIndex, supplier, mutator, filter, progressListener);
     }
 
     protected void foreignKeys(Connection connection, Table table, ProgressMeasure progressListener) {
@@ -477,7 +858,11 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 metaDataTableNameForForeignKeys(table)
             );
 
-        final TableChildMutator<ForeignKey, ResultSet> mutator = (foreignKey, rs) -> {
+        tableChilds(table.mutator()::addNewForeignKey, supplier, foreignKeyMutator(), progressListener);
+    }
+
+    private TableChildMutator<ForeignKey, ResultSet> foreignKeyMutator() {
+        return (foreignKey, rs) -> {
 
             final String foreignKeyName = rs.getString("FK_NAME");
             foreignKey.mutator().setName(foreignKeyName);
@@ -498,8 +883,6 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 Optional.ofNullable(rs.getString("FKTABLE_SCHEM")).orElse(rs.getString("PKTABLE_CAT"))
             );
         };
-
-        tableChilds(table.mutator()::addNewForeignKey, supplier, mutator, progressListener);
     }
 
     protected <T> void tableChilds(
@@ -711,6 +1094,15 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
         execute(singletonList(sqlUpdateStatement));
     }
 
+    @Override
+    public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsertBatch(String sql, List<? extends List<?>> rows, List<F> generatedKeyFields, Consumer<List<Long>> generatedKeyConsumer) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        final SqlInsertStatement sqlInsertStatement = SqlInsertStatement.batchOf(sql, rows, generatedKeyFields, generatedKeyConsumer);
+        execute(singletonList(sqlInsertStatement));
+    }
+
     @Override
     public void executeUpdate(String sql, List<?> values) throws SQLException {
         final SqlUpdateStatement sqlUpdateStatement = new SqlUpdateStatement(sql, values);
@@ -805,11 +1197,22 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
 
     protected void handleSqlStatement(final Connection conn, final SqlInsertStatement sqlStatement) throws SQLException {
         try (final PreparedStatement ps = conn.prepareStatement(sqlStatement.getSql(), Statement.RETURN_GENERATED_KEYS)) {
-            int i = 1;
-            for (Object o : sqlStatement.getValues()) {
-                ps.setObject(i++, o);
+            if (sqlStatement.isBatch()) {
+                for (final List<?> values : sqlStatement.getBatchValues()) {
+                    int i = 1;
+                    for (Object o : values) {
+                        ps.setObject(i++, o);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            } else {
+                int i = 1;
+                for (Object o : sqlStatement.getValues()) {
+                    ps.setObject(i++, o);
+                }
+                ps.executeUpdate();
             }
-            ps.executeUpdate();
 
             try (final ResultSet generatedKeys = ps.getGeneratedKeys()) {
                 while (generatedKeys.next()) {
@@ -844,6 +1247,70 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 us.acceptGeneratedKeys();
             }
         }
+
+        if (speedment.getEventComponent().hasListeners(AfterTransaction.class)) {
+            final Set<Table> tables = new HashSet<>();
+            boolean allKnown = true;
+            for (final SqlStatement sqlStatement : sqlStatementList) {
+                final Optional<Table> table = tableOf(sqlStatement);
+                if (table.isPresent()) {
+                    tables.add(table.get());
+                } else {
+                    allKnown = false;
+                }
+            }
+
+            new AfterTransaction(dbms, sqlStatementList.stream()
+                .map(SqlStatement::getSql)
+                .collect(toList()),
+                allKnown ? Optional.of(tables) : Optional.empty()
+            ).publish(speedment);
+        }
+    }
+
+    /**
+     * Returns the table that the specified statement writes to, if it can be
+     * determined. The table is found by matching the table reference that
+     * follows the leading keywords of the statement against the full names of
+     * all the tables in the dbms.
+     *
+     * @param sqlStatement the statement
+     * @return the table, if known
+     */
+    protected Optional<Table> tableOf(SqlStatement sqlStatement) {
+        final String sql = sqlStatement.getSql();
+        final String keywords;
+        switch (sqlStatement.getType()) {
+            case INSERT: keywords = "INSERT INTO "; break;
+            case UPDATE: keywords = "UPDATE "; break;
+            case DELETE: keywords = "DELETE FROM "; break;
+            default: return Optional.empty();
+        }
+
+        if (!sql.regionMatches(true, 0, keywords, 0, keywords.length())) {
+            return Optional.empty();
+        }
+
+        final int start = keywords.length();
+        return tablesByReference().entrySet().stream()
+            .filter(e -> sql.startsWith(e.getKey(), start))
+            .filter(e -> {
+                final int end = start + e.getKey().length();
+                return end == sql.length()
+                    || Character.isWhitespace(sql.charAt(end))
+                    || sql.charAt(end) == '(';
+            })
+            .map(Entry::getValue)
+            .findAny();
+    }
+
+    private Map<String, Table> tablesByReference() {
+        return tablesByReference.getOrCompute(() -> {
+            final DatabaseNamingConvention naming = dbmsTypeOf(speedment, dbms).getDatabaseNamingConvention();
+            return dbms.schemas()
+                .flatMap(Schema::tables)
+                .collect(toMap(naming::fullNameOf, identity(), (a, b) -> a));
+        });
     }
 
     protected Map<String, Class<?>> readTypeMapFromDB(Dbms dbms) throws SQLException {
@@ -942,6 +1409,39 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
         void mutate(T t, U u) throws SQLException;
     }
 
+    /**
+     * A query that reads metadata of all the tables in a schema. The first
+     * parameters of the query are all set to the name of the schema.
+     */
+    protected static final class SchemaQuery {
+
+        private final String sql;
+        private final int schemaParameters;
+
+        /**
+         * Creates a query with the specified number of parameters that are
+         * set to the name of the schema.
+         *
+         * @param sql the query
+         * @param schemaParameters the number of schema name parameters
+         */
+        public SchemaQuery(String sql, int schemaParameters) {
+            this.sql = requireNonNull(sql);
+            if (schemaParameters < 0) {
+                throw new IllegalArgumentException("The number of parameters can not be negative, was " + schemaParameters + ".");
+            }
+            this.schemaParameters = schemaParameters;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getSchemaParameters() {
+            return schemaParameters;
+        }
+    }
+
     private <P extends HasName, D extends Document & HasName & HasMainInterface & HasParent<P>> String actionName(D doc) {
         return doc.mainInterface().getSimpleName() + " " + doc.getName() + " in " + doc.getParentOrThrow().getName();
         //return "Read " + doc.mainInterface().getSimpleName() + " " + doc.getParentOrThrow().getName() + "." + doc.getName();
@@ -951,6 +1451,69 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
         return dbmsTypeOf(speedment, dbms).getDatabaseNamingConvention().encloseField(fieldName);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation runs the operations on a bounded executor that is
+     * created the first time it is needed. It has one thread for each of the
+     * {@link #asyncConnections()} and queues at most
+     * {@link #asyncQueueCapacity()} operations. Once the queue is full, the
+     * returned future fails immediately. The number of threads follows later
+     * changes of the connection pool limits, while the queue capacity is
+     * fixed when the executor is created.
+     */
+    @Override
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+        return jdbcExecutor(asyncConnections()).supplyAsync(operation);
+    }
+
+    @Override
+    public void shutdown() {
+        final JdbcExecutor executor;
+        synchronized (this) {
+            executor = jdbcExecutor;
+            jdbcExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private synchronized JdbcExecutor jdbcExecutor(int threads) {
+        if (jdbcExecutor == null) {
+            jdbcExecutor = new JdbcExecutor(
+                dbms.getName(), threads, asyncQueueCapacity(),
+                speedment.getThreadFactoryComponent().newThreadFactory("jdbc-" + dbms.getName())
+            );
+        } else if (jdbcExecutor.getThreads() != threads) {
+            jdbcExecutor.setThreads(threads);
+        }
+        return jdbcExecutor;
+    }
+
+    /**
+     * Returns the maximum number of asynchronous operations that are run at
+     * the same time. The default is the number of connections retained by
+     * the connection pool, or the maximum number of connections it leases if
+     * that is smaller.
+     *
+     * @return the maximum number of running asynchronous operations
+     */
+    protected int asyncConnections() {
+        final ConnectionPoolComponent pool = speedment.getConnectionPoolComponent();
+        return Math.max(1, Math.min(pool.getMaxRetainSize(), pool.getMaxLeaseSize()));
+    }
+
+    /**
+     * Returns the maximum number of asynchronous operations that can wait
+     * for a connection before new operations are rejected.
+     *
+     * @return the maximum number of waiting asynchronous operations
+     */
+    protected int asyncQueueCapacity() {
+        return 16 * asyncConnections();
+    }
+
     @Override
     public String getDbmsInfoString() throws SQLException {
         try (final Connection conn = getConnection(dbms)) {
@@ -0,0 +1,188 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.exception.SpeedmentException;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A bounded executor for the blocking database operations of a single dbms
+ * that are requested asynchronously. At most one operation is running for
+ * each thread, and the number of threads is tied to the number of connections
+ * that the connection pool retains, so a running operation never has to wait
+ * for a connection held by another asynchronous operation.
+ * <p>
+ * Operations that can not be started immediately wait in a bounded queue. If
+ * the queue is full, the dbms is saturated and the returned future fails with
+ * a {@link SpeedmentException} without blocking the caller. Callers should
+ * treat this as a signal to slow down.
+ * <p>
+ * Threads are created on demand and terminate when they have been idle for a
+ * while, so an executor that is not used holds no resources.
+ *
+ * @since 2.3
+ */
+final class JdbcExecutor {
+
+    private final static long KEEP_ALIVE_SECONDS = 60;
+
+    private final String name;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    JdbcExecutor(String name, int threads, int queueCapacity, ThreadFactory threadFactory) {
+        this.name = requireNonNull(name);
+        this.queueCapacity = requirePositive(queueCapacity, "queue capacity");
+        requirePositive(threads, "number of threads");
+
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            requireNonNull(threadFactory)
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs the specified operation on one of the threads of this executor.
+     * The returned future is completed with the result of the operation, or
+     * exceptionally with whatever the operation threw. If the executor is
+     * saturated, the operation is not run and the future is failed with a
+     * {@link SpeedmentException} immediately.
+     *
+     * @param <T> the result type
+     * @param operation the blocking operation to run
+     * @return a future with the result of the operation
+     */
+    <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+        requireNonNull(operation);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Runnable task = () -> {
+            if (future.isDone()) {
+                return; // Cancelled while in the queue
+            }
+            try {
+                future.complete(operation.get());
+            } catch (final Throwable thrown) {
+                future.completeExceptionally(thrown);
+            }
+        };
+
+        try {
+            executor.execute(task);
+            // Give the place in the queue to other operations right away
+            future.whenComplete((result, thrown) -> {
+                if (future.isCancelled()) {
+                    executor.remove(task);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            if (executor.isShutdown()) {
+                future.completeExceptionally(new SpeedmentException(
+                    "The asynchronous executor of the dbms " + name + " has been shut down.", ex
+                ));
+                return future;
+            }
+            future.completeExceptionally(new SpeedmentException(
+                "The dbms " + name + " is saturated with " + getPending()
+                + " asynchronous operations waiting for one of "
+                + getThreads() + " connections.", ex
+            ));
+        }
+        return future;
+    }
+
+    /**
+     * Shuts down this executor. Operations that are running or waiting are
+     * still completed, but new operations are rejected. The threads terminate
+     * once all the operations are done.
+     */
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Returns {@code true} if this executor has been shut down.
+     *
+     * @return {@code true} if shut down, else {@code false}
+     */
+    boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Returns the maximum number of operations that are run at the same time.
+     *
+     * @return the number of threads
+     */
+    int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Sets the maximum number of operations that are run at the same time.
+     * Operations that are already running are not interrupted if the number
+     * is reduced, but no new operations are started until fewer than the new
+     * number are running. The queue capacity is not changed.
+     *
+     * @param threads the new number of threads
+     */
+    synchronized void setThreads(int threads) {
+        requirePositive(threads, "number of threads");
+        // The maximum pool size may never be smaller than the core pool size
+        if (threads > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(threads);
+            executor.setCorePoolSize(threads);
+        } else if (threads < executor.getMaximumPoolSize()) {
+            executor.setCorePoolSize(threads);
+            executor.setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * Returns the number of operations that are waiting to be started.
+     *
+     * @return the number of pending operations
+     */
+    int getPending() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Returns the maximum number of operations that can wait to be started
+     * before new operations are rejected.
+     *
+     * @return the queue capacity
+     */
+    int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    private static int requirePositive(int value, String what) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("The " + what + " must be positive, was " + value + ".");
+        }
+        return value;
+    }
+}
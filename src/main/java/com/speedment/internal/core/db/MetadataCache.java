@@ -0,0 +1,241 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Project;
+import com.speedment.config.db.Schema;
+import com.speedment.config.db.Table;
+import com.speedment.config.db.trait.HasName;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.core.config.db.ProjectImpl;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import com.speedment.internal.util.document.BinaryDocumentTranscoder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An on-disk cache of the tables read from a single dbms, together with a
+ * fingerprint of the definition of each table. When the metadata is read
+ * again, tables with the same fingerprint as when they were cached are taken
+ * from the cache instead of being read from the database.
+ * <p>
+ * The cache is stored as a binary project snapshot. It is ignored if it was
+ * written by another dbms handler or version of Speedment. Deleting the file
+ * forces the next read to be a full read.
+ *
+ * @since 2.3
+ */
+public final class MetadataCache {
+
+    private final static Logger LOGGER = LoggerManager.getLogger(MetadataCache.class);
+    private final static String FINGERPRINT = "metadataFingerprint";
+    private final static MetadataCache DISABLED = new MetadataCache(null, null, new HashMap<>());
+
+    private final Path location;
+    private final String version;
+    private final Map<String, Map<String, Map<String, Object>>> cached;
+    private final Map<String, Map<String, String>> fingerprints;
+
+    private MetadataCache(Path location, String version, Map<String, Map<String, Map<String, Object>>> cached) {
+        this.location = location;
+        this.version = version;
+        this.cached = cached;
+        this.fingerprints = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a cache that never contains any tables and that is never saved.
+     *
+     * @return the disabled cache
+     */
+    public static MetadataCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Loads the cache stored at the specified location. If there is no cache
+     * at the location, or if it can not be used, an empty cache is returned.
+     *
+     * @param location the location of the cache file
+     * @param version identifies the way the metadata was read
+     * @return the cache
+     */
+    public static MetadataCache load(Path location, String version) {
+        requireNonNull(location);
+        requireNonNull(version);
+
+        final Map<String, Map<String, Map<String, Object>>> cached = new HashMap<>();
+        if (Files.exists(location)) {
+            try {
+                final Project project = BinaryDocumentTranscoder.load(Files.readAllBytes(location));
+                if (version.equals(project.getName())) {
+                    project.dbmses().flatMap(Dbms::schemas).forEach(schema
+                        -> schema.tables().forEach(table
+                            -> cached.computeIfAbsent(schema.getName(), s -> new HashMap<>())
+                            .put(table.getName(), table.getData())
+                        )
+                    );
+                } else {
+                    LOGGER.info("Ignoring the metadata cache " + location + " since it was written by another version.");
+                }
+            } catch (final IOException | SpeedmentException ex) {
+                LOGGER.warn(ex, "Ignoring the unreadable metadata cache " + location + ".");
+            }
+        }
+
+        return new MetadataCache(location, version, cached);
+    }
+
+    /**
+     * Returns {@code true} if tables can be taken from and saved to this
+     * cache.
+     *
+     * @return {@code true} if enabled, else {@code false}
+     */
+    public boolean isEnabled() {
+        return location != null;
+    }
+
+    /**
+     * Sets the current fingerprints of the tables in the specified schema.
+     * Only tables with a fingerprint are saved in the cache.
+     *
+     * @param schemaName the name of the schema
+     * @param tableFingerprints the fingerprints keyed by table name
+     */
+    public void setFingerprints(String schemaName, Map<String, String> tableFingerprints) {
+        requireNonNull(schemaName);
+        requireNonNull(tableFingerprints);
+        if (isEnabled()) {
+            fingerprints.put(schemaName, new HashMap<>(tableFingerprints));
+        }
+    }
+
+    /**
+     * Returns the current fingerprints of the tables in the specified schema,
+     * as set by {@link #setFingerprints(String, Map)}.
+     *
+     * @param schemaName the name of the schema
+     * @return the fingerprints keyed by table name
+     */
+    public Map<String, String> fingerprintsOf(String schemaName) {
+        return Collections.unmodifiableMap(fingerprints.getOrDefault(requireNonNull(schemaName), Collections.emptyMap()));
+    }
+
+    /**
+     * Returns the cached data of the specified table, if the table has been
+     * cached with the specified fingerprint.
+     *
+     * @param schemaName the name of the schema
+     * @param tableName the name of the table
+     * @param fingerprint the current fingerprint of the table, or null
+     * @return the table data, if any
+     */
+    public Optional<Map<String, Object>> find(String schemaName, String tableName, String fingerprint) {
+        if (fingerprint == null) {
+            return Optional.empty();
+        }
+
+        final Map<String, Object> data = cached.getOrDefault(schemaName, Collections.emptyMap()).get(tableName);
+        if (data == null || !fingerprint.equals(data.get(FINGERPRINT))) {
+            return Optional.empty();
+        }
+
+        final Map<String, Object> result = new LinkedHashMap<>(data);
+        result.remove(FINGERPRINT);
+        return Optional.of(result);
+    }
+
+    /**
+     * Saves the tables of the specified dbms that have a fingerprint in the
+     * cache file, replacing the previous content of the file.
+     *
+     * @param dbms the dbms that was read
+     * @throws SpeedmentException if the cache could not be saved
+     */
+    public void save(Dbms dbms) throws SpeedmentException {
+        requireNonNull(dbms);
+        if (!isEnabled()) {
+            return;
+        }
+
+        final List<Object> schemas = new ArrayList<>();
+        dbms.schemas().forEachOrdered(schema -> {
+            final Map<String, String> tableFingerprints = fingerprints.get(schema.getName());
+            if (tableFingerprints != null) {
+                schemas.add(schemaData(schema, tableFingerprints));
+            }
+        });
+
+        final Map<String, Object> dbmsData = new LinkedHashMap<>();
+        dbmsData.put(HasName.NAME, dbms.getName());
+        dbmsData.put(Dbms.SCHEMAS, schemas);
+
+        final List<Object> dbmses = new ArrayList<>();
+        dbmses.add(dbmsData);
+
+        final Map<String, Object> projectData = new LinkedHashMap<>();
+        projectData.put(HasName.NAME, version);
+        projectData.put(Project.DBMSES, dbmses);
+
+        try {
+            final Path parent = location.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            final Path temp = location.resolveSibling(location.getFileName() + ".tmp");
+            Files.write(temp, BinaryDocumentTranscoder.save(new ProjectImpl(projectData)));
+            Files.move(temp, location, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException ex) {
+            throw new SpeedmentException("Could not save the metadata cache " + location + ".", ex);
+        }
+    }
+
+    private static Map<String, Object> schemaData(Schema schema, Map<String, String> tableFingerprints) {
+        final List<Object> tables = new ArrayList<>();
+        schema.tables().forEachOrdered(table -> {
+            final String fingerprint = tableFingerprints.get(table.getName());
+            if (fingerprint != null) {
+                tables.add(tableData(table, fingerprint));
+            }
+        });
+
+        final Map<String, Object> data = new LinkedHashMap<>();
+        data.put(HasName.NAME, schema.getName());
+        data.put(Schema.TABLES, tables);
+        return data;
+    }
+
+    private static Map<String, Object> tableData(Table table, String fingerprint) {
+        final Map<String, Object> data = new LinkedHashMap<>(table.getData());
+        data.put(FINGERPRINT, fingerprint);
+        return data;
+    }
+}
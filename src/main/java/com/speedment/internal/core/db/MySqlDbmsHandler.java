@@ -22,11 +22,14 @@ import com.speedment.db.metadata.ColumnMetaData;
 import java.sql.Blob;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
- * Specific MySQL implementation of a DbmsHandler. Currently, there are no
- * specific implementations for MySQL.
+ * Specific MySQL implementation of a DbmsHandler. The primary keys, indexes
+ * and foreign keys of a schema are read from the {@code INFORMATION_SCHEMA}
+ * using one query each instead of one metadata call per table. The tables are
+ * fingerprinted using checksums of the same views.
  *
  * @author pemi
  * @since 2.0
@@ -36,6 +39,49 @@ public final class MySqlDbmsHandler extends AbstractRelationalDbmsHandler {
     private static final String YEAR = "YEAR";
     private static final Class<?> YEAR_MAPPING = Integer.class;
 
+    private static final String SCHEMA_PRIMARY_KEYS
+        = "SELECT TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION AS KEY_SEQ"
+        + " FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE"
+        + " WHERE TABLE_SCHEMA = ? AND CONSTRAINT_NAME = 'PRIMARY'"
+        + " ORDER BY TABLE_NAME, ORDINAL_POSITION";
+
+    private static final String SCHEMA_INDEXES
+        = "SELECT TABLE_NAME, INDEX_NAME, NON_UNIQUE, 3 AS TYPE,"
+        + " COLUMN_NAME, SEQ_IN_INDEX AS ORDINAL_POSITION, COLLATION AS ASC_OR_DESC"
+        + " FROM INFORMATION_SCHEMA.STATISTICS"
+        + " WHERE TABLE_SCHEMA = ?"
+        + " ORDER BY TABLE_NAME, NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX";
+
+    private static final String SCHEMA_FOREIGN_KEYS
+        = "SELECT TABLE_NAME, CONSTRAINT_NAME AS FK_NAME,"
+        + " COLUMN_NAME AS FKCOLUMN_NAME, ORDINAL_POSITION AS KEY_SEQ,"
+        + " REFERENCED_TABLE_NAME AS PKTABLE_NAME, REFERENCED_COLUMN_NAME AS PKCOLUMN_NAME,"
+        + " NULL AS FKTABLE_SCHEM, REFERENCED_TABLE_SCHEMA AS PKTABLE_CAT"
+        + " FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE"
+        + " WHERE TABLE_SCHEMA = ? AND REFERENCED_TABLE_NAME IS NOT NULL"
+        + " ORDER BY TABLE_NAME, REFERENCED_TABLE_SCHEMA, REFERENCED_TABLE_NAME, ORDINAL_POSITION";
+
+    // The number of rows and the sum of their checksums for the columns,
+    // indexes and key columns of each table
+    private static final String SCHEMA_FINGERPRINTS
+        = "SELECT t.TABLE_NAME,"
+        + " CONCAT(COALESCE(c.FINGERPRINT, '-'), '/', COALESCE(s.FINGERPRINT, '-'), '/', COALESCE(k.FINGERPRINT, '-')) AS FINGERPRINT"
+        + " FROM INFORMATION_SCHEMA.TABLES t"
+        + " LEFT JOIN (SELECT TABLE_NAME, CONCAT(COUNT(*), ':', SUM(CRC32(CONCAT_WS(',',"
+        + " COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, EXTRA, COLUMN_DEFAULT)))) AS FINGERPRINT"
+        + " FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ? GROUP BY TABLE_NAME) c"
+        + " ON c.TABLE_NAME = t.TABLE_NAME"
+        + " LEFT JOIN (SELECT TABLE_NAME, CONCAT(COUNT(*), ':', SUM(CRC32(CONCAT_WS(',',"
+        + " INDEX_NAME, NON_UNIQUE, SEQ_IN_INDEX, COLUMN_NAME, COLLATION)))) AS FINGERPRINT"
+        + " FROM INFORMATION_SCHEMA.STATISTICS WHERE TABLE_SCHEMA = ? GROUP BY TABLE_NAME) s"
+        + " ON s.TABLE_NAME = t.TABLE_NAME"
+        + " LEFT JOIN (SELECT TABLE_NAME, CONCAT(COUNT(*), ':', SUM(CRC32(CONCAT_WS(',',"
+        + " CONSTRAINT_NAME, COLUMN_NAME, ORDINAL_POSITION, REFERENCED_TABLE_SCHEMA,"
+        + " REFERENCED_TABLE_NAME, REFERENCED_COLUMN_NAME)))) AS FINGERPRINT"
+        + " FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE WHERE TABLE_SCHEMA = ? GROUP BY TABLE_NAME) k"
+        + " ON k.TABLE_NAME = t.TABLE_NAME"
+        + " WHERE t.TABLE_SCHEMA = ? AND t.TABLE_TYPE = 'BASE TABLE'";
+
     public MySqlDbmsHandler(Speedment speedment, final Dbms dbms) {
         super(speedment, dbms);
     }
@@ -47,6 +93,26 @@ public final class MySqlDbmsHandler extends AbstractRelationalDbmsHandler {
         return result;
     }
 
+    @Override
+    protected Optional<SchemaQuery> schemaPrimaryKeysQuery() {
+        return Optional.of(new SchemaQuery(SCHEMA_PRIMARY_KEYS, 1));
+    }
+
+    @Override
+    protected Optional<SchemaQuery> schemaIndexesQuery() {
+        return Optional.of(new SchemaQuery(SCHEMA_INDEXES, 1));
+    }
+
+    @Override
+    protected Optional<SchemaQuery> schemaForeignKeysQuery() {
+        return Optional.of(new SchemaQuery(SCHEMA_FOREIGN_KEYS, 1));
+    }
+
+    @Override
+    protected Optional<SchemaQuery> schemaFingerprintsQuery() {
+        return Optional.of(new SchemaQuery(SCHEMA_FINGERPRINTS, 4));
+    }
+
     @Override
     protected void addCustomJavaTypeMap() {
         addMySqlCustomJavaTypeMap(javaTypeMap);
@@ -19,9 +19,11 @@ package com.speedment.internal.core.db;
 import com.speedment.Speedment;
 import com.speedment.config.db.Column;
 import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Schema;
 import com.speedment.db.metadata.ColumnMetaData;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.Optional;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -29,10 +31,103 @@ import static java.util.Objects.requireNonNull;
  */
 public class PostgresDbmsHandler extends AbstractRelationalDbmsHandler {
 
+    // The key columns are expanded the same way as the PostgreSQL driver
+    // does in its DatabaseMetaData implementation
+    private static final String SCHEMA_PRIMARY_KEYS
+        = "SELECT tmp.table_name AS \"TABLE_NAME\", a.attname AS \"COLUMN_NAME\","
+        + " (tmp.keys).n AS \"KEY_SEQ\""
+        + " FROM (SELECT c.relname AS table_name, con.conrelid,"
+        + " information_schema._pg_expandarray(con.conkey) AS keys"
+        + " FROM pg_catalog.pg_constraint con"
+        + " JOIN pg_catalog.pg_class c ON c.oid = con.conrelid"
+        + " JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+        + " WHERE con.contype = 'p' AND n.nspname = ?) tmp"
+        + " JOIN pg_catalog.pg_attribute a ON a.attrelid = tmp.conrelid AND a.attnum = (tmp.keys).x"
+        + " ORDER BY 1, 3";
+
+    private static final String SCHEMA_INDEXES
+        = "SELECT tmp.table_name AS \"TABLE_NAME\", tmp.index_name AS \"INDEX_NAME\","
+        + " NOT tmp.indisunique AS \"NON_UNIQUE\", 3 AS \"TYPE\","
+        + " trim(both '\"' from pg_catalog.pg_get_indexdef(tmp.indexrelid, (tmp.keys).n, false)) AS \"COLUMN_NAME\","
+        + " (tmp.keys).n AS \"ORDINAL_POSITION\","
+        + " CASE WHEN (tmp.indoption[(tmp.keys).n - 1] & 1) = 1 THEN 'D' ELSE 'A' END AS \"ASC_OR_DESC\""
+        + " FROM (SELECT c.relname AS table_name, ci.relname AS index_name, x.indexrelid,"
+        + " x.indisunique, x.indoption, information_schema._pg_expandarray(x.indkey) AS keys"
+        + " FROM pg_catalog.pg_index x"
+        + " JOIN pg_catalog.pg_class c ON c.oid = x.indrelid"
+        + " JOIN pg_catalog.pg_class ci ON ci.oid = x.indexrelid"
+        + " JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+        + " WHERE n.nspname = ?) tmp"
+        + " ORDER BY 1, 3, 2, 6";
+
+    private static final String SCHEMA_FOREIGN_KEYS
+        = "SELECT tmp.table_name AS \"TABLE_NAME\", tmp.conname AS \"FK_NAME\","
+        + " a.attname AS \"FKCOLUMN_NAME\", (tmp.keys).n AS \"KEY_SEQ\","
+        + " fc.relname AS \"PKTABLE_NAME\", fa.attname AS \"PKCOLUMN_NAME\","
+        + " tmp.nspname AS \"FKTABLE_SCHEM\", NULL AS \"PKTABLE_CAT\""
+        + " FROM (SELECT c.relname AS table_name, n.nspname, con.conname, con.conrelid,"
+        + " con.confrelid, con.confkey, information_schema._pg_expandarray(con.conkey) AS keys"
+        + " FROM pg_catalog.pg_constraint con"
+        + " JOIN pg_catalog.pg_class c ON c.oid = con.conrelid"
+        + " JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+        + " WHERE con.contype = 'f' AND n.nspname = ?) tmp"
+        + " JOIN pg_catalog.pg_attribute a ON a.attrelid = tmp.conrelid AND a.attnum = (tmp.keys).x"
+        + " JOIN pg_catalog.pg_class fc ON fc.oid = tmp.confrelid"
+        + " JOIN pg_catalog.pg_attribute fa ON fa.attrelid = tmp.confrelid AND fa.attnum = tmp.confkey[(tmp.keys).n]"
+        + " ORDER BY 1, 2, 4";
+
+    // A digest of the definitions of the columns, indexes and constraints of
+    // each table, as rendered by the server
+    private static final String SCHEMA_FINGERPRINTS
+        = "SELECT c.relname AS \"TABLE_NAME\", md5("
+        + "coalesce((SELECT string_agg(a.attname || ' ' || a.attnum || ' '"
+        + " || pg_catalog.format_type(a.atttypid, a.atttypmod) || ' ' || a.attnotnull"
+        + " || ' ' || coalesce(pg_catalog.pg_get_expr(d.adbin, d.adrelid), ''), ',' ORDER BY a.attnum)"
+        + " FROM pg_catalog.pg_attribute a"
+        + " LEFT JOIN pg_catalog.pg_attrdef d ON d.adrelid = a.attrelid AND d.adnum = a.attnum"
+        + " WHERE a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped), '')"
+        + " || '/' || coalesce((SELECT string_agg(pg_catalog.pg_get_indexdef(x.indexrelid), ','"
+        + " ORDER BY pg_catalog.pg_get_indexdef(x.indexrelid))"
+        + " FROM pg_catalog.pg_index x WHERE x.indrelid = c.oid), '')"
+        + " || '/' || coalesce((SELECT string_agg(con.conname || ' ' || pg_catalog.pg_get_constraintdef(con.oid), ','"
+        + " ORDER BY con.conname || ' ' || pg_catalog.pg_get_constraintdef(con.oid))"
+        + " FROM pg_catalog.pg_constraint con WHERE con.conrelid = c.oid), '')"
+        + ") AS \"FINGERPRINT\""
+        + " FROM pg_catalog.pg_class c"
+        + " JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+        + " WHERE n.nspname = ? AND c.relkind = 'r'";
+
     public PostgresDbmsHandler(Speedment speedment, final Dbms dbms) {
         super(speedment, dbms);
     }
 
+    @Override
+    protected String jdbcSchemaLookupName(Schema schema) {
+        // Otherwise tables with the same name in other schemas would be
+        // included when columns are read for the whole schema
+        return schema.getName();
+    }
+
+    @Override
+    protected Optional<SchemaQuery> schemaPrimaryKeysQuery() {
+        return Optional.of(new SchemaQuery(SCHEMA_PRIMARY_KEYS, 1));
+    }
+
+    @Override
+    protected Optional<SchemaQuery> schemaIndexesQuery() {
+        return Optional.of(new SchemaQuery(SCHEMA_INDEXES, 1));
+    }
+
+    @Override
+    protected Optional<SchemaQuery> schemaForeignKeysQuery() {
+        return Optional.of(new SchemaQuery(SCHEMA_FOREIGN_KEYS, 1));
+    }
+
+    @Override
+    protected Optional<SchemaQuery> schemaFingerprintsQuery() {
+        return Optional.of(new SchemaQuery(SCHEMA_FINGERPRINTS, 1));
+    }
+
     @Override
     protected Class<?> lookupJdbcClass(Map<String, Class<?>> sqlTypeMapping, ColumnMetaData md) {
         requireNonNull(sqlTypeMapping);
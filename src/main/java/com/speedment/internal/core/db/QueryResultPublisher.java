@@ -0,0 +1,90 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.db.AsynchronousQueryResult;
+import com.speedment.db.DbmsHandler;
+import com.speedment.stream.reactive.Publisher;
+import com.speedment.stream.reactive.StreamPublisher;
+import com.speedment.stream.reactive.Subscriber;
+import com.speedment.stream.reactive.Subscription;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Publisher} of the rows returned by a query. Every subscription
+ * executes the query using a new {@link AsynchronousQueryResult} once the
+ * first element is requested, and then reads rows only as they are demanded,
+ * at most {@code batchSize} rows at a time.
+ * <p>
+ * Rows are read and mapped using the
+ * {@link DbmsHandler#supplyAsync(java.util.function.Supplier) asynchronous executor}
+ * of the dbms, which is also the thread the subscriber receives them on. The
+ * thread calling {@link Subscription#request(long)} is never blocked on the
+ * database. The result set and its connection are held while there is no
+ * demand, and are closed as soon as all rows have been published, the
+ * subscription is cancelled or it fails. If the executor is saturated, the
+ * subscription fails.
+ *
+ * @param <T> the type that the rows are mapped to
+ * @see StreamPublisher
+ * @since 2.3
+ */
+public final class QueryResultPublisher<T> implements Publisher<T> {
+
+    /**
+     * The default maximum number of rows that are read between signals.
+     */
+    public final static int DEFAULT_BATCH_SIZE = StreamPublisher.DEFAULT_BATCH_SIZE;
+
+    private final DbmsHandler dbmsHandler;
+    private final String sql;
+    private final List<?> values;
+    private final Function<ResultSet, T> rsMapper;
+    private final Publisher<T> rows;
+
+    public QueryResultPublisher(DbmsHandler dbmsHandler, String sql, List<?> values, Function<ResultSet, T> rsMapper) {
+        this(dbmsHandler, sql, values, rsMapper, DEFAULT_BATCH_SIZE);
+    }
+
+    public QueryResultPublisher(DbmsHandler dbmsHandler, String sql, List<?> values, Function<ResultSet, T> rsMapper, int batchSize) {
+        this.dbmsHandler = requireNonNull(dbmsHandler);
+        this.sql = requireNonNull(sql);
+        this.values = new ArrayList<>(values);
+        this.rsMapper = requireNonNull(rsMapper);
+        this.rows = new StreamPublisher<>(this::execute, dbmsHandler::supplyAsync, batchSize);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        rows.subscribe(subscriber);
+    }
+
+    private Stream<T> execute() {
+        final AsynchronousQueryResult<T> result = dbmsHandler.executeQueryAsync(sql, values, rsMapper);
+        try {
+            return result.stream().onClose(result::close);
+        } catch (final RuntimeException ex) {
+            result.close();
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.Inclusion;
+import com.speedment.field.DoubleField;
+import com.speedment.field.methods.DoubleGetter;
+import com.speedment.field.methods.Setter;
+import com.speedment.field.predicate.ComparableSpeedmentPredicate;
+import com.speedment.internal.comparator.impl.DoubleComparatorImpl;
+import com.speedment.internal.comparator.impl.NullOrder;
+import static com.speedment.field.predicate.PredicateType.EQUAL;
+import static com.speedment.field.predicate.PredicateType.GREATER_OR_EQUAL;
+import static com.speedment.field.predicate.PredicateType.GREATER_THAN;
+import static com.speedment.field.predicate.PredicateType.LESS_OR_EQUAL;
+import static com.speedment.field.predicate.PredicateType.LESS_THAN;
+import static com.speedment.field.predicate.PredicateType.NOT_EQUAL;
+import com.speedment.internal.core.field.predicate.impl.comparable.DoubleBetweenPredicate;
+import com.speedment.internal.core.field.predicate.impl.comparable.DoubleComparisonPredicate;
+import java.util.Comparator;
+
+/**
+ * A {@link ComparableFieldImpl} for a non-null {@code double} column. Predicates
+ * and the comparators of this field work on primitive values. Boxed
+ * operands are unboxed once when the predicate is created.
+ *
+ * @param <ENTITY> The entity type
+ * @param <D> The database type
+ * @since 2.3
+ */
+public class DoubleFieldImpl<ENTITY, D> extends ComparableFieldImpl<ENTITY, D, Double> implements DoubleField<ENTITY, D> {
+
+    private final DoubleGetter<ENTITY> getter;
+
+    public DoubleFieldImpl(
+        FieldIdentifier<ENTITY> identifier,
+        DoubleGetter<ENTITY> getter,
+        Setter<ENTITY, Double> setter,
+        TypeMapper<D, Double> typeMapper,
+        boolean unique
+    ) {
+        super(identifier, getter, setter, typeMapper, unique);
+        this.getter = getter;
+    }
+
+    @Override
+    public DoubleGetter<ENTITY> getter() {
+        return getter;
+    }
+
+    @Override
+    public Comparator<ENTITY> comparator() {
+        return new DoubleComparatorImpl<>(this, this, getter, NullOrder.NONE);
+    }
+
+    @Override
+    public Comparator<ENTITY> comparatorNullFieldsFirst() {
+        return new DoubleComparatorImpl<>(this, this, getter, NullOrder.FIRST);
+    }
+
+    @Override
+    public Comparator<ENTITY> comparatorNullFieldsLast() {
+        return new DoubleComparatorImpl<>(this, this, getter, NullOrder.LAST);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> equal(Double value) {
+        return value == null ? super.equal(value) : equal(value.doubleValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> equal(double value) {
+        return new DoubleComparisonPredicate<>(EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> notEqual(Double value) {
+        return value == null ? super.notEqual(value) : notEqual(value.doubleValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> notEqual(double value) {
+        return new DoubleComparisonPredicate<>(NOT_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> lessThan(Double value) {
+        return value == null ? super.lessThan(value) : lessThan(value.doubleValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> lessThan(double value) {
+        return new DoubleComparisonPredicate<>(LESS_THAN, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> lessOrEqual(Double value) {
+        return value == null ? super.lessOrEqual(value) : lessOrEqual(value.doubleValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> lessOrEqual(double value) {
+        return new DoubleComparisonPredicate<>(LESS_OR_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> greaterThan(Double value) {
+        return value == null ? super.greaterThan(value) : greaterThan(value.doubleValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> greaterThan(double value) {
+        return new DoubleComparisonPredicate<>(GREATER_THAN, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> greaterOrEqual(Double value) {
+        return value == null ? super.greaterOrEqual(value) : greaterOrEqual(value.doubleValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> greaterOrEqual(double value) {
+        return new DoubleComparisonPredicate<>(GREATER_OR_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> between(Double start, Double end) {
+        return between(start, end, Inclusion.START_INCLUSIVE_END_EXCLUSIVE);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> between(Double start, Double end, Inclusion inclusion) {
+        if (start == null || end == null) {
+            return super.between(start, end, inclusion);
+        }
+        return between(start.doubleValue(), end.doubleValue(), inclusion);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Double> between(double start, double end, Inclusion inclusion) {
+        return new DoubleBetweenPredicate<>(this, this, getter, start, end, inclusion);
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.Inclusion;
+import com.speedment.field.IntField;
+import com.speedment.field.methods.IntGetter;
+import com.speedment.field.methods.Setter;
+import com.speedment.field.predicate.ComparableSpeedmentPredicate;
+import com.speedment.internal.comparator.impl.IntComparatorImpl;
+import com.speedment.internal.comparator.impl.NullOrder;
+import static com.speedment.field.predicate.PredicateType.EQUAL;
+import static com.speedment.field.predicate.PredicateType.GREATER_OR_EQUAL;
+import static com.speedment.field.predicate.PredicateType.GREATER_THAN;
+import static com.speedment.field.predicate.PredicateType.LESS_OR_EQUAL;
+import static com.speedment.field.predicate.PredicateType.LESS_THAN;
+import static com.speedment.field.predicate.PredicateType.NOT_EQUAL;
+import com.speedment.internal.core.field.predicate.impl.comparable.IntBetweenPredicate;
+import com.speedment.internal.core.field.predicate.impl.comparable.IntComparisonPredicate;
+import java.util.Comparator;
+
+/**
+ * A {@link ComparableFieldImpl} for a non-null {@code int} column. Predicates
+ * and the comparators of this field work on primitive values. Boxed
+ * operands are unboxed once when the predicate is created.
+ *
+ * @param <ENTITY> The entity type
+ * @param <D> The database type
+ * @since 2.3
+ */
+public class IntFieldImpl<ENTITY, D> extends ComparableFieldImpl<ENTITY, D, Integer> implements IntField<ENTITY, D> {
+
+    private final IntGetter<ENTITY> getter;
+
+    public IntFieldImpl(
+        FieldIdentifier<ENTITY> identifier,
+        IntGetter<ENTITY> getter,
+        Setter<ENTITY, Integer> setter,
+        TypeMapper<D, Integer> typeMapper,
+        boolean unique
+    ) {
+        super(identifier, getter, setter, typeMapper, unique);
+        this.getter = getter;
+    }
+
+    @Override
+    public IntGetter<ENTITY> getter() {
+        return getter;
+    }
+
+    @Override
+    public Comparator<ENTITY> comparator() {
+        return new IntComparatorImpl<>(this, this, getter, NullOrder.NONE);
+    }
+
+    @Override
+    public Comparator<ENTITY> comparatorNullFieldsFirst() {
+        return new IntComparatorImpl<>(this, this, getter, NullOrder.FIRST);
+    }
+
+    @Override
+    public Comparator<ENTITY> comparatorNullFieldsLast() {
+        return new IntComparatorImpl<>(this, this, getter, NullOrder.LAST);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> equal(Integer value) {
+        return value == null ? super.equal(value) : equal(value.intValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> equal(int value) {
+        return new IntComparisonPredicate<>(EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> notEqual(Integer value) {
+        return value == null ? super.notEqual(value) : notEqual(value.intValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> notEqual(int value) {
+        return new IntComparisonPredicate<>(NOT_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> lessThan(Integer value) {
+        return value == null ? super.lessThan(value) : lessThan(value.intValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> lessThan(int value) {
+        return new IntComparisonPredicate<>(LESS_THAN, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> lessOrEqual(Integer value) {
+        return value == null ? super.lessOrEqual(value) : lessOrEqual(value.intValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> lessOrEqual(int value) {
+        return new IntComparisonPredicate<>(LESS_OR_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> greaterThan(Integer value) {
+        return value == null ? super.greaterThan(value) : greaterThan(value.intValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> greaterThan(int value) {
+        return new IntComparisonPredicate<>(GREATER_THAN, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> greaterOrEqual(Integer value) {
+        return value == null ? super.greaterOrEqual(value) : greaterOrEqual(value.intValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> greaterOrEqual(int value) {
+        return new IntComparisonPredicate<>(GREATER_OR_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> between(Integer start, Integer end) {
+        return between(start, end, Inclusion.START_INCLUSIVE_END_EXCLUSIVE);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> between(Integer start, Integer end, Inclusion inclusion) {
+        if (start == null || end == null) {
+            return super.between(start, end, inclusion);
+        }
+        return between(start.intValue(), end.intValue(), inclusion);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Integer> between(int start, int end, Inclusion inclusion) {
+        return new IntBetweenPredicate<>(this, this, getter, start, end, inclusion);
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.Inclusion;
+import com.speedment.field.LongField;
+import com.speedment.field.methods.LongGetter;
+import com.speedment.field.methods.Setter;
+import com.speedment.field.predicate.ComparableSpeedmentPredicate;
+import com.speedment.internal.comparator.impl.LongComparatorImpl;
+import com.speedment.internal.comparator.impl.NullOrder;
+import static com.speedment.field.predicate.PredicateType.EQUAL;
+import static com.speedment.field.predicate.PredicateType.GREATER_OR_EQUAL;
+import static com.speedment.field.predicate.PredicateType.GREATER_THAN;
+import static com.speedment.field.predicate.PredicateType.LESS_OR_EQUAL;
+import static com.speedment.field.predicate.PredicateType.LESS_THAN;
+import static com.speedment.field.predicate.PredicateType.NOT_EQUAL;
+import com.speedment.internal.core.field.predicate.impl.comparable.LongBetweenPredicate;
+import com.speedment.internal.core.field.predicate.impl.comparable.LongComparisonPredicate;
+import java.util.Comparator;
+
+/**
+ * A {@link ComparableFieldImpl} for a non-null {@code long} column. Predicates
+ * and the comparators of this field work on primitive values. Boxed
+ * operands are unboxed once when the predicate is created.
+ *
+ * @param <ENTITY> The entity type
+ * @param <D> The database type
+ * @since 2.3
+ */
+public class LongFieldImpl<ENTITY, D> extends ComparableFieldImpl<ENTITY, D, Long> implements LongField<ENTITY, D> {
+
+    private final LongGetter<ENTITY> getter;
+
+    public LongFieldImpl(
+        FieldIdentifier<ENTITY> identifier,
+        LongGetter<ENTITY> getter,
+        Setter<ENTITY, Long> setter,
+        TypeMapper<D, Long> typeMapper,
+        boolean unique
+    ) {
+        super(identifier, getter, setter, typeMapper, unique);
+        this.getter = getter;
+    }
+
+    @Override
+    public LongGetter<ENTITY> getter() {
+        return getter;
+    }
+
+    @Override
+    public Comparator<ENTITY> comparator() {
+        return new LongComparatorImpl<>(this, this, getter, NullOrder.NONE);
+    }
+
+    @Override
+    public Comparator<ENTITY> comparatorNullFieldsFirst() {
+        return new LongComparatorImpl<>(this, this, getter, NullOrder.FIRST);
+    }
+
+    @Override
+    public Comparator<ENTITY> comparatorNullFieldsLast() {
+        return new LongComparatorImpl<>(this, this, getter, NullOrder.LAST);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> equal(Long value) {
+        return value == null ? super.equal(value) : equal(value.longValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> equal(long value) {
+        return new LongComparisonPredicate<>(EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> notEqual(Long value) {
+        return value == null ? super.notEqual(value) : notEqual(value.longValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> notEqual(long value) {
+        return new LongComparisonPredicate<>(NOT_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> lessThan(Long value) {
+        return value == null ? super.lessThan(value) : lessThan(value.longValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> lessThan(long value) {
+        return new LongComparisonPredicate<>(LESS_THAN, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> lessOrEqual(Long value) {
+        return value == null ? super.lessOrEqual(value) : lessOrEqual(value.longValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> lessOrEqual(long value) {
+        return new LongComparisonPredicate<>(LESS_OR_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> greaterThan(Long value) {
+        return value == null ? super.greaterThan(value) : greaterThan(value.longValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> greaterThan(long value) {
+        return new LongComparisonPredicate<>(GREATER_THAN, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> greaterOrEqual(Long value) {
+        return value == null ? super.greaterOrEqual(value) : greaterOrEqual(value.longValue());
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> greaterOrEqual(long value) {
+        return new LongComparisonPredicate<>(GREATER_OR_EQUAL, this, this, getter, value);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> between(Long start, Long end) {
+        return between(start, end, Inclusion.START_INCLUSIVE_END_EXCLUSIVE);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> between(Long start, Long end, Inclusion inclusion) {
+        if (start == null || end == null) {
+            return super.between(start, end, inclusion);
+        }
+        return between(start.longValue(), end.longValue(), inclusion);
+    }
+
+    @Override
+    public ComparableSpeedmentPredicate<ENTITY, D, Long> between(long start, long end, Inclusion inclusion) {
+        return new LongBetweenPredicate<>(this, this, getter, start, end, inclusion);
+    }
+}
@@ -67,7 +67,7 @@ public abstract class SpeedmentPredicateImpl<ENTITY, D, V> extends AbstractBaseP
     public abstract boolean testField(V fieldValue);
 
     @Override
-    public final boolean test(ENTITY t) {
+    public boolean test(ENTITY t) {
         return testField(getter().apply(t)) ^ isNegated();
     }
 
@@ -0,0 +1,103 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field.predicate.impl.comparable;
+
+import com.speedment.field.methods.DoubleGetter;
+import com.speedment.field.predicate.ComparableSpeedmentPredicate;
+import com.speedment.field.predicate.PredicateType;
+import static com.speedment.field.predicate.PredicateType.NOT_EQUAL;
+import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.predicate.iface.type.BinaryOperation;
+import com.speedment.internal.core.field.predicate.impl.SpeedmentPredicateImpl;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A comparison between a {@code double} field and a constant that is evaluated
+ * on the primitive value returned by a {@link DoubleGetter}. An unset
+ * field only matches {@code NOT_EQUAL}, like in the generic predicates.
+ *
+ * @param <ENTITY> the entity type
+ * @param <D> the database type
+ * @since 2.3
+ */
+public class DoubleComparisonPredicate<ENTITY, D>
+        extends SpeedmentPredicateImpl<ENTITY, D, Double>
+        implements SpeedmentPredicate<ENTITY, D, Double>, BinaryOperation<Double>, ComparableSpeedmentPredicate<ENTITY, D, Double> {
+
+    private final DoubleGetter<ENTITY> getter;
+    private final double operand0;
+
+    public DoubleComparisonPredicate(
+            PredicateType predicateType,
+            FieldTrait field,
+            ReferenceFieldTrait<ENTITY, D, Double> referenceField,
+            DoubleGetter<ENTITY> getter,
+            double operand0
+    ) {
+        super(predicateType, field, referenceField);
+        switch (predicateType) {
+            case EQUAL: case NOT_EQUAL: case LESS_THAN: case LESS_OR_EQUAL: case GREATER_THAN: case GREATER_OR_EQUAL:
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported predicate type " + predicateType + ".");
+        }
+        this.getter = requireNonNull(getter);
+        this.operand0 = operand0;
+    }
+
+    @Override
+    public Double getFirstOperand() {
+        return operand0;
+    }
+
+    @Override
+    public boolean test(ENTITY entity) {
+        final boolean result = getter.isSet(entity)
+            ? testDouble(getter.applyAsDouble(entity))
+            : getPredicateType() == NOT_EQUAL; // Like the generic predicates
+        return result ^ isNegated();
+    }
+
+    @Override
+    public boolean testField(Double fieldValue) {
+        if (fieldValue == null) {
+            return getPredicateType() == NOT_EQUAL; // Like the generic predicates
+        }
+        return testDouble(fieldValue);
+    }
+
+    private boolean testDouble(double fieldValue) {
+        final int comparison = Double.compare(fieldValue, operand0);
+        switch (getPredicateType()) {
+            case EQUAL:
+                return comparison == 0;
+            case NOT_EQUAL:
+                return comparison != 0;
+            case LESS_THAN:
+                return comparison < 0;
+            case LESS_OR_EQUAL:
+                return comparison <= 0;
+            case GREATER_THAN:
+                return comparison > 0;
+            case GREATER_OR_EQUAL:
+                return comparison >= 0;
+        }
+        throw new IllegalStateException("Unsupported predicate type " + getPredicateType() + ".");
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field.predicate.impl.comparable;
+
+import com.speedment.internal.util.LongHashSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A membership test that is prebuilt from the operand of an
+ * {@link InPredicate} or a {@link NotInPredicate}. If the operand is a plain
+ * {@code HashSet} of integers or longs, the values are stored in a primitive
+ * {@link LongHashSet} instead. Any other set is used as it is, since it might
+ * define membership in another way than {@code equals}, for an example by
+ * using a {@code Comparator}.
+ *
+ * @param <V> value type
+ */
+abstract class HashedMembership<V> {
+
+    abstract boolean contains(V value);
+
+    static <V> HashedMembership<V> of(Set<V> values) {
+        final Object first = values.isEmpty() ? null : values.iterator().next();
+        if (isPlainHashSet(values) && isIntegral(first) && values.stream().allMatch(first.getClass()::isInstance)) {
+            final Class<?> type = first.getClass();
+            final LongHashSet set = new LongHashSet(values.size());
+            values.forEach(v -> set.add(((Number) v).longValue()));
+            return new HashedMembership<V>() {
+                @Override
+                boolean contains(V value) {
+                    return type.isInstance(value) && set.contains(((Number) value).longValue());
+                }
+            };
+        }
+
+        return new HashedMembership<V>() {
+            @Override
+            boolean contains(V value) {
+                return values.contains(value);
+            }
+        };
+    }
+
+    private static boolean isPlainHashSet(Set<?> values) {
+        return values.getClass() == HashSet.class
+            || values.getClass() == LinkedHashSet.class;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field.predicate.impl.comparable;
+
+import com.speedment.field.Inclusion;
+import com.speedment.field.methods.LongGetter;
+import com.speedment.field.predicate.ComparableSpeedmentPredicate;
+import static com.speedment.field.predicate.PredicateType.BETWEEN;
+import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.predicate.iface.type.QuaternaryInclusionOperation;
+import com.speedment.internal.core.field.predicate.impl.SpeedmentPredicateImpl;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link BetweenPredicate} for a {@code long} field that is evaluated on
+ * the primitive value returned by a {@link LongGetter}. An unset
+ * field never matches.
+ *
+ * @param <ENTITY> the entity type
+ * @param <D> the database type
+ * @since 2.3
+ */
+public class LongBetweenPredicate<ENTITY, D>
+        extends SpeedmentPredicateImpl<ENTITY, D, Long>
+        implements SpeedmentPredicate<ENTITY, D, Long>, QuaternaryInclusionOperation<Long, Long>, ComparableSpeedmentPredicate<ENTITY, D, Long> {
+
+    private final LongGetter<ENTITY> getter;
+    private final long operand0;
+    private final long operand1;
+    private final Inclusion operand2;
+
+    public LongBetweenPredicate(
+            FieldTrait field,
+            ReferenceFieldTrait<ENTITY, D, Long> referenceField,
+            LongGetter<ENTITY> getter,
+            long start,
+            long end,
+            Inclusion inclusion
+    ) {
+        super(BETWEEN, field, referenceField);
+        this.getter = requireNonNull(getter);
+        this.operand0 = start;
+        this.operand1 = end;
+        this.operand2 = requireNonNull(inclusion);
+    }
+
+    @Override
+    public Long getFirstOperand() {
+        return operand0;
+    }
+
+    @Override
+    public Long getSecondOperand() {
+        return operand1;
+    }
+
+    @Override
+    public Inclusion getThirdOperand() {
+        return operand2;
+    }
+
+    @Override
+    public boolean test(ENTITY entity) {
+        return (getter.isSet(entity) && testLong(getter.applyAsLong(entity))) ^ isNegated();
+    }
+
+    @Override
+    public boolean testField(Long fieldValue) {
+        return fieldValue != null && testLong(fieldValue);
+    }
+
+    private boolean testLong(long fieldValue) {
+        final int start = Long.compare(fieldValue, operand0);
+        final int end = Long.compare(fieldValue, operand1);
+        switch (operand2) {
+            case START_EXCLUSIVE_END_EXCLUSIVE:
+                return start > 0 && end < 0;
+            case START_EXCLUSIVE_END_INCLUSIVE:
+                return start > 0 && end <= 0;
+            case START_INCLUSIVE_END_EXCLUSIVE:
+                return start >= 0 && end < 0;
+            case START_INCLUSIVE_END_INCLUSIVE:
+                return start >= 0 && end <= 0;
+        }
+        throw new IllegalStateException("Inclusion unknown: " + operand2);
+    }
+}
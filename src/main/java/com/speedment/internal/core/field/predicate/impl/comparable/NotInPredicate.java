@@ -36,10 +36,12 @@ public class NotInPredicate<ENTITY, D, V extends Comparable<? super V>>
         implements SpeedmentPredicate<ENTITY, D, V>, BinarySetOperation<V>, ComparableSpeedmentPredicate<ENTITY, D, V> {
 
     private final Set<V> operand0;
+    private final HashedMembership<V> membership;
 
     public NotInPredicate(FieldTrait field, ReferenceFieldTrait<ENTITY, D, V> referenceField, Set<V> values) {
         super(NOT_IN, field, referenceField);
         this.operand0 = values;
+        this.membership = HashedMembership.of(values);
     }
 
     @Override
@@ -49,7 +51,7 @@ public class NotInPredicate<ENTITY, D, V extends Comparable<? super V>>
 
     @Override
     public boolean testField(V fieldValue) {
-        return !operand0.contains(fieldValue);
+        return !membership.contains(fieldValue);
     }
 
 }
@@ -34,7 +34,6 @@ import com.speedment.manager.SqlPredicateFragment;
 import java.util.Collection;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
-import static java.util.stream.Collectors.joining;
 
 /**
  *
@@ -212,7 +211,35 @@ public abstract class AbstractSpeedmentPredicateView implements SpeedmentPredica
 
     protected SqlPredicateFragment inHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
         final Set<?> set = getFirstOperandAsRawSet(model);
-        return of("(" + cn + " IN (" + set.stream().map($ -> "?").collect(joining(",")) + "))", negated).addAll(set);
+        if (set.isEmpty()) {
+            return negated ? alwaysTrue() : alwaysFalse();
+        }
+
+        final int maxSize = maxInListSize();
+        final StringBuilder sql = new StringBuilder("(");
+        for (int start = 0; start < set.size(); start += maxSize) {
+            if (start > 0) {
+                sql.append(" OR ");
+            }
+            sql.append(cn).append(" IN (");
+            final int end = Math.min(start + maxSize, set.size());
+            for (int i = start; i < end; i++) {
+                sql.append(i == start ? "?" : ",?");
+            }
+            sql.append(")");
+        }
+        return of(sql.append(")").toString(), negated).addAll(set);
+    }
+
+    /**
+     * Returns the maximum number of values in a single {@code IN} list. Larger
+     * sets are split into several lists that are combined using {@code OR},
+     * since some databases limit or are slow to parse very long lists.
+     *
+     * @return the maximum number of values in an {@code IN} list
+     */
+    protected int maxInListSize() {
+        return 1000;
     }
 
     protected SqlPredicateFragment equalIgnoreCase(String cn, SpeedmentPredicate<?, ?, ?> model) {
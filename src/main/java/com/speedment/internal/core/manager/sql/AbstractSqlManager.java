@@ -17,6 +17,8 @@
 package com.speedment.internal.core.manager.sql;
 
 import com.speedment.Speedment;
+import com.speedment.component.resultset.ResultSetMapperComponent;
+import com.speedment.component.resultset.ResultSetMapping;
 import com.speedment.config.db.Column;
 import com.speedment.config.db.Dbms;
 import com.speedment.config.db.PrimaryKeyColumn;
@@ -35,19 +37,25 @@ import com.speedment.exception.SpeedmentException;
 import com.speedment.field.FieldIdentifier;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.code.AbstractBaseEntity;
+import com.speedment.internal.core.db.QueryResultPublisher;
 import com.speedment.internal.core.manager.AbstractManager;
 import com.speedment.internal.core.manager.metaresult.SqlMetaResultImpl;
-import static com.speedment.internal.core.stream.OptionalUtil.unwrap;
 import com.speedment.internal.core.stream.builder.ReferenceStreamBuilder;
 import com.speedment.internal.core.stream.builder.pipeline.PipelineImpl;
-import com.speedment.internal.util.LazyString;
-import com.speedment.internal.util.document.DocumentDbUtil;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import com.speedment.internal.util.Lazy;
+import com.speedment.internal.util.TypeMapperUtil;
+import com.speedment.internal.util.sql.ResultSetUtil;
 import static com.speedment.internal.util.document.DocumentDbUtil.dbmsTypeOf;
+import static com.speedment.internal.util.document.DocumentDbUtil.isLoadedLazily;
 import static com.speedment.internal.util.document.DocumentDbUtil.isSame;
 import com.speedment.internal.util.document.DocumentUtil;
 import static com.speedment.internal.util.document.DocumentUtil.Name.DATABASE_NAME;
 import static com.speedment.internal.util.document.DocumentUtil.ancestor;
 import com.speedment.stream.StreamDecorator;
+import com.speedment.stream.reactive.Publisher;
 import static com.speedment.util.NullUtil.requireNonNulls;
 import java.sql.Array;
 import java.sql.Blob;
@@ -57,12 +65,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import static java.util.function.Function.identity;
@@ -81,35 +93,28 @@ import java.util.stream.Stream;
  */
 public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY> implements SqlManager<ENTITY> {
 
-    private final LazyString sqlColumnList;
-    private final LazyString sqlTableReference;
-    private final LazyString sqlSelect;
-    private final Map<String, FieldTrait> fieldTraitMap;
-    private final boolean hasPrimaryKeyColumns;
+    private final static Logger LOGGER = LoggerManager.getLogger(AbstractSqlManager.class);
+
+    private final Lazy<SqlStatements> statements;
+    private final Lazy<Map<String, FieldTrait>> fieldTraitMap;
+    private final Lazy<Boolean> hasPrimaryKeyColumns;
 
     private SqlFunction<ResultSet, ENTITY> entityMapper;
+    private volatile WritePlan<ENTITY> writePlan;
+
+    // Resolved once the config is immutable and the manager has started
+    private volatile Dbms startedDbms;
+    private volatile DbmsType startedDbmsType;
+    private volatile DbmsHandler startedDbmsHandler;
 
     protected AbstractSqlManager(Speedment speedment) {
         super(speedment);
-        this.sqlColumnList = LazyString.create();
-        this.sqlTableReference = LazyString.create();
-        this.sqlSelect = LazyString.create();
-
-        final Table thisTable = getTable();
-
-        // Only include fields that point towards a column in this table.
-        // In the future we might add fields that reference columns in foreign
-        // tables.
-        this.fieldTraitMap = fields()
-            .filter(f
-                -> f.findColumn(speedment)
-                .map(c -> c.getParent())
-                .map(t -> isSame(thisTable, t.get()))
-                .orElse(false)
-            )
-            .collect(Collectors.toMap(f -> f.getIdentifier().columnName(), identity()));
+        this.statements = Lazy.create();
 
-        this.hasPrimaryKeyColumns = primaryKeyFields().findAny().isPresent();
+        // Resolving the columns of all the fields is expensive for large
+        // projects, so it is postponed until the manager is first used
+        this.fieldTraitMap = Lazy.create();
+        this.hasPrimaryKeyColumns = Lazy.create();
     }
 
     @Override
@@ -125,6 +130,30 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The operation is run by the {@link DbmsHandler} of the dbms that this
+     * manager belongs to, which bounds the number of running operations by
+     * the size of the connection pool.
+     */
+    @Override
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+        return dbmsHandler().supplyAsync(requireNonNull(operation));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The rows are read from the result set in batches of at most
+     * {@link QueryResultPublisher#DEFAULT_BATCH_SIZE} rows and mapped to
+     * entities using the entity mapper of this manager.
+     */
+    @Override
+    public Publisher<ENTITY> publisher() {
+        return new QueryResultPublisher<>(dbmsHandler(), sqlSelect(), Collections.emptyList(), entityMapper.unWrap());
+    }
+
     public <T> Stream<T> synchronousStreamOf(String sql, List<Object> values, SqlFunction<ResultSet, T> rsMapper) {
         requireNonNulls(sql, values, rsMapper);
         return dbmsHandler().executeQuery(sql, values, rsMapper);
@@ -138,7 +167,7 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
      */
     public long count() {
         return synchronousStreamOf(
-            "SELECT COUNT(*) FROM " + sqlTableReference(),
+            statements().getCount(),
             Collections.emptyList(),
             rs -> rs.getLong(1)
         ).findAny().get();
@@ -156,7 +185,130 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
      * @return the SQL statement
      */
     public String sqlSelect() {
-        return sqlSelect.getOrCompute(() -> "SELECT " + sqlColumnList() + " FROM " + sqlTableReference());
+        return statements().getSelect();
+    }
+
+    /**
+     * Returns the statements that were rendered for this table by the code
+     * generator, if any. Generated managers override this method to return
+     * constants, so that no SQL has to be built at runtime.
+     *
+     * @return the generated statements, if any
+     *
+     * @since 2.3
+     */
+    protected Optional<SqlStatements> generatedStatements() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the accessors that were generated for the fields of this
+     * manager, if any. The accessor of a field is found at the ordinal of its
+     * {@link FieldIdentifier} and returns the value of the field, or
+     * {@code null} if it is not set. Generated managers override this method
+     * to return a constant, so that values are not read through
+     * {@link #get(Object, FieldIdentifier)} when entities are written.
+     *
+     * @return the generated accessors, if any
+     *
+     * @since 2.3
+     */
+    protected Optional<List<Function<ENTITY, Object>>> generatedAccessors() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the statements used to read and write this table. The generated
+     * statements are used if they apply to the runtime configuration. If the
+     * table reference or the dbms type differs (for an example if the schema
+     * has been renamed) the statements are created from the table instead.
+     *
+     * @return the statements
+     */
+    private SqlStatements statements() {
+        return statements.getOrCompute(() -> {
+            final DbmsType dbmsType = getDbmsType();
+            final String tableReference = naming().fullNameOf(getTable());
+            final Optional<SqlStatements> generated = generatedStatements();
+
+            if (generated.isPresent()) {
+                if (generated.get().isApplicableTo(dbmsType, tableReference)) {
+                    return generated.get();
+                }
+                LOGGER.debug("The generated statements of %s were rendered for %s and are not used.",
+                    tableReference, generated.get().getTableReference()
+                );
+            }
+
+            return SqlStatements.of(dbmsType, getTable());
+        });
+    }
+
+    @Override
+    public Object loadLazily(ENTITY entity, FieldIdentifier<ENTITY> identifier) throws SpeedmentException {
+        requireNonNulls(entity, identifier);
+        assertHasPrimaryKeyColumns();
+
+        final WritePlan<ENTITY> plan = writePlan();
+        final LazyColumn lazyColumn = plan.lazyColumns.get(identifier);
+        if (lazyColumn == null) {
+            throw new SpeedmentException(
+                "The column " + identifier.columnName() + " in " + sqlTableReference() + " is not loaded lazily."
+            );
+        }
+
+        // The value is mapped while the row is current, since values like
+        // Blob or Clob can not be read once the connection is closed. It may
+        // also be null, so it can not be returned using findAny()
+        final List<Object> result;
+        try (final Stream<Object> stream = synchronousStreamOf(lazyColumn.sql, plan.primaryKeyValuesOf(entity), lazyColumn.reader)) {
+            result = stream.collect(toList());
+        }
+
+        if (result.isEmpty()) {
+            throw new SpeedmentException(
+                "Could not load " + identifier.columnName() + " since the row no longer exists in " + sqlTableReference() + "."
+            );
+        }
+
+        return result.get(0);
+    }
+
+    /**
+     * Returns a function that reads the first column of a result set using
+     * the specified result set method. The column is read the same way as
+     * generated managers read it in {@code newEntityFrom}, using the
+     * null-safe methods of {@link ResultSetUtil}.
+     *
+     * @param resultSetMethodName  the name of the result set method without
+     *                             the {@code get} prefix, like {@code Int}
+     * @return                     the reader
+     */
+    private static SqlFunction<ResultSet, Object> firstColumnReader(String resultSetMethodName) {
+        switch (resultSetMethodName) {
+            case "Boolean":    return rs -> ResultSetUtil.getBoolean(rs, 1);
+            case "Byte":       return rs -> ResultSetUtil.getByte(rs, 1);
+            case "Short":      return rs -> ResultSetUtil.getShort(rs, 1);
+            case "Int":        return rs -> ResultSetUtil.getInt(rs, 1);
+            case "Long":       return rs -> ResultSetUtil.getLong(rs, 1);
+            case "Float":      return rs -> ResultSetUtil.getFloat(rs, 1);
+            case "Double":     return rs -> ResultSetUtil.getDouble(rs, 1);
+            case "String":     return rs -> ResultSetUtil.getString(rs, 1);
+            case "Date":       return rs -> ResultSetUtil.getDate(rs, 1);
+            case "Time":       return rs -> ResultSetUtil.getTime(rs, 1);
+            case "Timestamp":  return rs -> ResultSetUtil.getTimestamp(rs, 1);
+            case "BigDecimal": return rs -> ResultSetUtil.getBigDecimal(rs, 1);
+            case "Blob":       return rs -> ResultSetUtil.getBlob(rs, 1);
+            case "Clob":       return rs -> ResultSetUtil.getClob(rs, 1);
+            case "Array":      return rs -> ResultSetUtil.getArray(rs, 1);
+            case "Ref":        return rs -> ResultSetUtil.getRef(rs, 1);
+            case "URL":        return rs -> ResultSetUtil.getURL(rs, 1);
+            case "RowId":      return rs -> ResultSetUtil.getRowId(rs, 1);
+            case "NClob":      return rs -> ResultSetUtil.getNClob(rs, 1);
+            case "SQLXML":     return rs -> ResultSetUtil.getSQLXML(rs, 1);
+            case "UUID":       return rs -> ResultSetUtil.getUUID(rs, 1);
+            default:           return rs -> rs.getObject(1);
+        }
     }
 
     @Override
@@ -169,6 +321,43 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         this.entityMapper = requireNonNull(entityMapper);
     }
 
+    @Override
+    public void onStart() {
+        super.onStart();
+        startedDbms        = ancestor(getTable(), Dbms.class).get();
+        startedDbmsType    = dbmsTypeOf(speedment, startedDbms);
+        startedDbmsHandler = speedment.getDbmsHandlerComponent().get(startedDbms);
+
+        try {
+            writePlan = newWritePlan();
+        } catch (final SpeedmentException ex) {
+            // Tables that can not be written to are still possible to read
+            // from, so the error is reported on the first write instead
+            writePlan = null;
+        }
+    }
+
+    /**
+     * Returns the fields of this manager that point towards a column in this
+     * table, keyed by column name. In the future we might add fields that
+     * reference columns in foreign tables.
+     *
+     * @return the fields by column name
+     */
+    private Map<String, FieldTrait> fieldTraitMap() {
+        return fieldTraitMap.getOrCompute(() -> {
+            final Table thisTable = getTable();
+            return fields()
+                .filter(f
+                    -> f.findColumn(speedment)
+                    .map(c -> c.getParent())
+                    .map(t -> isSame(thisTable, t.get()))
+                    .orElse(false)
+                )
+                .collect(Collectors.toMap(f -> f.getIdentifier().columnName(), identity()));
+        });
+    }
+
     @Override
     public ENTITY persist(ENTITY entity) throws SpeedmentException {
         return persistHelp(entity, Optional.empty());
@@ -210,7 +399,8 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
      * @return the current dbms
      */
     protected final Dbms getDbms() {
-        return ancestor(getTable(), Dbms.class).get();
+        final Dbms dbms = startedDbms;
+        return dbms == null ? ancestor(getTable(), Dbms.class).get() : dbms;
     }
 
     /**
@@ -219,7 +409,8 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
      * @return the current dbms type
      */
     protected final DbmsType getDbmsType() {
-        return dbmsTypeOf(speedment, getDbms());
+        final DbmsType dbmsType = startedDbmsType;
+        return dbmsType == null ? dbmsTypeOf(speedment, getDbms()) : dbmsType;
     }
 
     /**
@@ -228,7 +419,8 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
      * @return the current dbms handler
      */
     protected final DbmsHandler dbmsHandler() {
-        return speedment.getDbmsHandlerComponent().get(getDbms());
+        final DbmsHandler dbmsHandler = startedDbmsHandler;
+        return dbmsHandler == null ? speedment.getDbmsHandlerComponent().get(getDbms()) : dbmsHandler;
     }
 
     /**
@@ -240,16 +432,6 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         return getDbmsType().getDatabaseNamingConvention();
     }
 
-    /**
-     * Returns a comma separated list of column names, fully formatted in
-     * accordance to the current {@link DbmsType}.
-     *
-     * @return the comma separated column list
-     */
-    private String sqlColumnList() {
-        return sqlColumnList.getOrCompute(() -> sqlColumnList(Function.identity()));
-    }
-
     /**
      * Returns a {@code AND} separated list of {@link PrimaryKeyColumn} database
      * names, formatted in accordance to the current {@link DbmsType}.
@@ -295,174 +477,250 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
      * @return the full quoted table name
      */
     protected String sqlTableReference() {
-        return sqlTableReference.getOrCompute(() -> naming().fullNameOf(getTable()));
+        return statements().getTableReference();
     }
 
-    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> Object toDatabaseType(F field, ENTITY entity) {
-        final Object javaValue = unwrap(get(entity, field.getIdentifier()));
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> ENTITY persistHelp(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
+        final WritePlan<ENTITY> plan = writePlan();
+        final int generatedMask = plan.generatedMask(entity);
+
         @SuppressWarnings("unchecked")
-        final Object dbValue = ((TypeMapper<Object, Object>) field.typeMapper()).toDatabaseType(javaValue);
-        return dbValue;
+        final List<F> generatedFields = (List<F>) plan.generatedFields;
+
+        executeInsert(
+            plan.insertSql(generatedMask),
+            plan.insertValuesOf(entity, generatedMask),
+            generatedFields,
+            keys -> setGeneratedKeys(plan, entity, keys, 0, keys.size()),
+            listener
+        );
+
+        return entity;
     }
 
-    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> ENTITY persistHelp(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
-        final List<Column> cols = persistColumns(entity);
-        final StringBuilder sb = new StringBuilder();
-        sb.append("INSERT INTO ").append(sqlTableReference());
-        sb.append(" (").append(persistColumnList(cols)).append(")");
-        sb.append(" VALUES ");
-        sb.append("(").append(persistColumnListWithQuestionMarks(cols)).append(")");
+    @Override
+    public List<ENTITY> persistAll(Collection<ENTITY> entities) throws SpeedmentException {
+        requireNonNull(entities);
+        return persistAllHelp(entities);
+    }
 
-        @SuppressWarnings("unchecked")
-        final List<Object> values = cols.stream()
-            .map(Column::getName)
-            .map(fieldTraitMap::get)
-            .filter(ReferenceFieldTrait.class::isInstance)
-            .map(f -> (FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>) f)
-            .map(f -> toDatabaseType(f, entity))
-            .collect(toList());
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> List<ENTITY> persistAllHelp(Collection<ENTITY> entities) throws SpeedmentException {
+        final WritePlan<ENTITY> plan = writePlan();
 
-        // TODO: Make autoinc part of FieldTrait
         @SuppressWarnings("unchecked")
-        final List<F> generatedFields = fields()
-            .filter(f -> DocumentDbUtil.referencedColumn(speedment, f.getIdentifier()).isAutoIncrement())
-            .filter(ReferenceFieldTrait.class::isInstance)
-            .map(f -> (F) f)
-            .collect(toList());
+        final List<F> generatedFields = (List<F>) plan.generatedFields;
+
+        // Entities can only share a statement if the same auto increment
+        // columns have values
+        final Map<Integer, List<ENTITY>> batches = new LinkedHashMap<>();
+        for (final ENTITY entity : entities) {
+            requireNonNull(entity);
+            batches.computeIfAbsent(plan.generatedMask(entity), k -> new ArrayList<>()).add(entity);
+        }
 
-        final Function<ENTITY, Consumer<List<Long>>> generatedKeyconsumer = builder -> {
-            return l -> {
-                if (!l.isEmpty()) {
-                    final AtomicInteger cnt = new AtomicInteger();
-                    // Just assume that they are in order, what else is there to do?
-                    generatedFields
-                        .forEach(f -> {
-
-                            // Cast from Long to the column target type
-                            final Object val = speedment
-                                .getResultSetMapperComponent()
-                                .apply(f.typeMapper().getJavaType())
-                                .parse(l.get(cnt.getAndIncrement()));
-
-                            @SuppressWarnings("unchecked")
-                            final Object javaValue = ((TypeMapper<Object, Object>) f.typeMapper()).toJavaType(val);
-                            set(builder, f.getIdentifier(), javaValue);
-                        });
+        for (final Map.Entry<Integer, List<ENTITY>> batch : batches.entrySet()) {
+            final int generatedMask = batch.getKey();
+            final List<ENTITY> batchEntities = batch.getValue();
+
+            final List<List<Object>> rows = new ArrayList<>(batchEntities.size());
+            for (final ENTITY entity : batchEntities) {
+                rows.add(plan.insertValuesOf(entity, generatedMask));
+            }
+
+            final Consumer<List<Long>> generatedKeyConsumer = keys -> {
+                // Each row is assumed to produce the same number of keys. If
+                // it does not, the keys can not be matched to the rows.
+                if (keys.size() % batchEntities.size() == 0) {
+                    final int keysPerRow = keys.size() / batchEntities.size();
+                    for (int i = 0; i < batchEntities.size(); i++) {
+                        setGeneratedKeys(plan, batchEntities.get(i), keys, i * keysPerRow, keysPerRow);
+                    }
+                } else {
+                    LOGGER.warn("%d generated keys were returned for a batch of %d rows in %s. "
+                        + "The generated values of the persisted entities are not set.",
+                        keys.size(), batchEntities.size(), sqlTableReference()
+                    );
                 }
             };
-        };
 
-        executeInsert(entity, sb.toString(), values, generatedFields, generatedKeyconsumer, listener);
-        return entity;
+            try {
+                dbmsHandler().executeInsertBatch(plan.insertSql(generatedMask), rows, generatedFields, generatedKeyConsumer);
+            } catch (final SQLException sqle) {
+                throw new SpeedmentException(sqle);
+            }
+        }
+
+        return new ArrayList<>(entities);
+    }
+
+    private void setGeneratedKeys(WritePlan<ENTITY> plan, ENTITY entity, List<Long> keys, int offset, int count) {
+        // Just assume that they are in order, what else is there to do?
+        final int n = Math.min(count, plan.generated.length);
+        for (int i = 0; i < n; i++) {
+            set(entity, plan.generated[i].identifier, plan.generatedValueOf(i, keys.get(offset + i)));
+        }
     }
 
     private ENTITY updateHelper(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
         assertHasPrimaryKeyColumns();
-        final StringBuilder sb = new StringBuilder();
-        sb.append("UPDATE ").append(sqlTableReference()).append(" SET ");
-        sb.append(sqlColumnList(n -> n + " = ?"));
-        sb.append(" WHERE ");
-        sb.append(sqlPrimaryKeyColumnList(pk -> pk + " = ?"));
-
-        final List<Object> values = castedFieldsOf(this::fields)
-            .map(f -> toDatabaseType(f, entity))
-            .collect(Collectors.toList());
+        final WritePlan<ENTITY> plan = writePlan();
 
-        castedFieldsOf(this::primaryKeyFields)
-            .map(ReferenceFieldTrait::getIdentifier)
-            .forEachOrdered(f -> values.add(get(entity, f)));
-
-        executeUpdate(sb.toString(), values, listener);
+        // Lazy columns that have not been loaded are neither loaded nor
+        // written, so that they keep the value they have in the database
+        final int unloadedMask = plan.unloadedMask(entity);
+        executeUpdate(plan.updateSql(unloadedMask), plan.updateValuesOf(entity, unloadedMask), listener);
         return entity;
     }
 
     private ENTITY removeHelper(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
         assertHasPrimaryKeyColumns();
-        final StringBuilder sb = new StringBuilder();
-        sb.append("DELETE FROM ").append(sqlTableReference());
-        sb.append(" WHERE ");
-        sb.append(sqlPrimaryKeyColumnList(pk -> pk + " = ?"));
-
-        final List<Object> values = castedFieldsOf(this::primaryKeyFields)
-            .map(f -> toDatabaseType(f, entity))
-            .collect(toList());
+        final WritePlan<ENTITY> plan = writePlan();
 
-        executeDelete(sb.toString(), values, listener);
+        executeDelete(plan.deleteSql, plan.primaryKeyValuesOf(entity), listener);
         return entity;
     }
 
-    private <T extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> Stream<T> castedFieldsOf(Supplier<Stream<FieldTrait>> supplier) {
-        @SuppressWarnings("unchecked")
-        final Stream<T> result = supplier.get()
-            .filter(ReferenceFieldTrait.class::isInstance)
-            .map(f -> (T) f);
-        return result;
+    /**
+     * Returns the precomputed statements and column bindings that are used
+     * to persist, update and remove entities. The plan is created the first
+     * time it is needed and again if the mappings of the
+     * {@link ResultSetMapperComponent} have changed since. Concurrent callers
+     * may create equal plans, in which case the last one is kept.
+     *
+     * @return the write plan
+     */
+    private WritePlan<ENTITY> writePlan() {
+        WritePlan<ENTITY> plan = writePlan;
+        if (plan == null || plan.modificationCount != speedment.getResultSetMapperComponent().getModificationCount()) {
+            plan = newWritePlan();
+            writePlan = plan;
+        }
+        return plan;
     }
 
-    private String persistColumnList(List<Column> cols) {
-        return cols.stream()
-            .map(Column::getName)
-            .map(naming()::encloseField)
-            .collect(joining(","));
-    }
+    private WritePlan<ENTITY> newWritePlan() {
+        final ResultSetMapperComponent mapperComponent = speedment.getResultSetMapperComponent();
+        final int modificationCount = mapperComponent.getModificationCount();
+        final DbmsType dbmsType = getDbmsType();
 
-    private String persistColumnListWithQuestionMarks(List<Column> cols) {
-        return cols.stream()
-            .map(c -> "?")
-            .collect(joining(","));
-    }
+        final List<ColumnBinding<ENTITY>> columns = new ArrayList<>();
+        final List<FieldTrait> generatedFields = new ArrayList<>();
+        final Map<FieldIdentifier<ENTITY>, LazyColumn> lazyColumns = new HashMap<>();
+        final String where = " WHERE " + sqlPrimaryKeyColumnList(pk -> pk + " = ?");
+        final List<Function<ENTITY, Object>> accessors = generatedAccessors().orElse(Collections.emptyList());
 
-    /**
-     * Returns a List of the columns that shall be used in an insert/update
-     * statement. Some database types (e.g. Postgres) does not allow auto
-     * increment columns that are null in an insert/update statement.
-     *
-     * @param entity to be inserted/updated
-     * @return a List of the columns that shall be used in an insert/update
-     * statement
-     */
-    protected List<Column> persistColumns(ENTITY entity) {
-        return getTable().columns()
-            .filter(c -> isPersistColumn(entity, c))
+        getTable().columns()
+            .filter(HasEnabled::isEnabled)
+            .forEachOrdered(c -> {
+                final FieldTrait field = fieldTraitMap().get(c.getName());
+                if (field instanceof ReferenceFieldTrait) {
+                    final int generatedIndex;
+                    if (c.isAutoIncrement()) {
+                        generatedIndex = generatedFields.size();
+                        generatedFields.add(field);
+                    } else {
+                        generatedIndex = -1;
+                    }
+
+                    final boolean lazy = isLoadedLazily(c);
+                    final ColumnBinding<ENTITY> binding = bindingOf(c, field, accessors, generatedIndex, lazy ? lazyColumns.size() : -1);
+                    if (lazy) {
+                        lazyColumns.put(binding.identifier, lazyColumnOf(c, binding, where, mapperComponent, dbmsType));
+                    }
+                    columns.add(binding);
+                }
+            });
+
+        final List<ColumnBinding<ENTITY>> primaryKeys = getTable().primaryKeyColumns()
+            .map(this::findColumn)
+            .map(c -> bindingOf(c, fieldTraitMap().get(c.getName()), accessors, -1, -1))
             .collect(toList());
+
+        // The statements can only be used if every column has a binding
+        final SqlStatements sql = statements();
+        final boolean useStatements = sql.getColumnCount() == columns.size();
+
+        final String deleteSql = sql.getDelete()
+            .orElseGet(() -> "DELETE FROM " + sqlTableReference() + where);
+
+        final ResultSetMapping<?>[] generatedMappings = columns.stream()
+            .filter(ColumnBinding::isGenerated)
+            .map(c -> mapperComponent.apply(dbmsType, c.typeMapper.getJavaType()))
+            .toArray(ResultSetMapping<?>[]::new);
+
+        final WritePlan<ENTITY> plan = new WritePlan<>(
+            modificationCount,
+            generatedMappings,
+            sqlTableReference(),
+            toArray(columns),
+            toArray(primaryKeys),
+            generatedFields,
+            lazyColumns,
+            where,
+            deleteSql
+        );
+
+        if (useStatements) {
+            plan.useInsertSql(sql.getInsertWithoutGenerated(), sql.getInsert());
+            sql.getUpdate().ifPresent(plan::useUpdateSql);
+        }
+
+        return plan;
     }
 
-    /**
-     * Returns if a columns that shall be used in an insert/update statement.
-     * Some database types (e.g. Postgres) does not allow auto increment columns
-     * that are null in an insert/update statement.
-     *
-     * @param entity to be inserted/updated
-     * @param c column
-     * @return if a columns that shall be used in an insert/update statement
-     */
-    protected boolean isPersistColumn(ENTITY entity, Column c) {
-        if (c.isAutoIncrement()) {
-            final FieldTrait ft = fieldTraitMap.get(c.getName());
-            if (ft != null) {
-                @SuppressWarnings("unchecked")
-                final FieldIdentifier<ENTITY> fi = (FieldIdentifier<ENTITY>) ft.getIdentifier();
-                final Object colValue = get(entity, fi);
-                if (colValue != null) {
-                    return true;
-                }
-            }
-            return false;
+    private LazyColumn lazyColumnOf(Column column, ColumnBinding<ENTITY> binding, String where, ResultSetMapperComponent mapperComponent, DbmsType dbmsType) {
+        final TypeMapper<Object, Object> mapper = binding.typeMapper;
+        final ResultSetMapping<?> mapping = mapperComponent.apply(dbmsType, mapper.getDatabaseType());
+        final SqlFunction<ResultSet, Object> reader = firstColumnReader(mapping.getResultSetMethodName(getDbms()));
+
+        return new LazyColumn(
+            "SELECT " + naming().encloseField(column.getName()) + " FROM " + sqlTableReference() + where,
+            rs -> mapper.toJavaType(reader.apply(rs))
+        );
+    }
+
+    private ColumnBinding<ENTITY> bindingOf(Column column, FieldTrait field, List<Function<ENTITY, Object>> accessors, int generatedIndex, int lazyIndex) {
+        if (!(field instanceof ReferenceFieldTrait)) {
+            throw new SpeedmentException("Could not find a field for the column " + column.getName() + ".");
         }
-        return true;
+
+        @SuppressWarnings("unchecked")
+        final ReferenceFieldTrait<ENTITY, ?, ?> referenceField = (ReferenceFieldTrait<ENTITY, ?, ?>) field;
+        final FieldIdentifier<ENTITY> identifier = referenceField.getIdentifier();
+
+        // The generated accessor of the field is used if there is one.
+        // Otherwise the value is read with get(entity, identifier). Both
+        // return null for unset and empty fields instead of unboxing them.
+        final int ordinal = identifier instanceof Enum ? ((Enum<?>) identifier).ordinal() : -1;
+        final Function<ENTITY, Object> accessor = ordinal >= 0 && ordinal < accessors.size()
+            ? accessors.get(ordinal)
+            : entity -> get(entity, identifier);
+
+        return new ColumnBinding<>(
+            naming().encloseField(column.getName()),
+            identifier,
+            accessor,
+            referenceField.typeMapper(),
+            generatedIndex,
+            lazyIndex
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <ENTITY> ColumnBinding<ENTITY>[] toArray(List<ColumnBinding<ENTITY>> bindings) {
+        return bindings.toArray(new ColumnBinding[bindings.size()]);
     }
 
     private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> void executeInsert(
-        final ENTITY entity,
         final String sql,
         final List<Object> values,
         final List<F> generatedFields,
-        final Function<ENTITY, Consumer<List<Long>>> generatedKeyconsumer,
+        final Consumer<List<Long>> generatedKeyConsumer,
         final Optional<Consumer<MetaResult<ENTITY>>> listener
     ) throws SpeedmentException {
         executeHelper(sql, values, listener,
             () -> dbmsHandler().executeInsert(
-                sql, values, generatedFields, generatedKeyconsumer.apply(entity)
+                sql, values, generatedFields, generatedKeyConsumer
             )
         );
     }
@@ -510,7 +768,7 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
     }
 
     private void assertHasPrimaryKeyColumns() {
-        if (!hasPrimaryKeyColumns) {
+        if (!hasPrimaryKeyColumns.getOrCompute(() -> primaryKeyFields().findAny().isPresent())) {
             throw new SpeedmentException(
                 "The table "
                 + DocumentUtil.relativeName(getTable(), Project.class, DATABASE_NAME)
@@ -555,4 +813,308 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         return naming().fullNameOf(fieldTrait.getIdentifier());
     }
 
+    /**
+     * A column that is bound to a parameter of a prepared statement. The
+     * value is read using the generated accessor of the field, so no streams,
+     * casts or lookups are needed for each entity. Every value, including the
+     * values of primary key columns in WHERE clauses, is converted to the
+     * database type by the type mapper of the field before it is bound.
+     *
+     * @param <ENTITY> the entity type
+     */
+    private static final class ColumnBinding<ENTITY> {
+
+        private final String name;
+        private final FieldIdentifier<ENTITY> identifier;
+        private final Function<ENTITY, Object> accessor;
+        private final TypeMapper<Object, Object> typeMapper;
+        private final int generatedIndex;
+        private final int lazyIndex;
+
+        @SuppressWarnings("unchecked")
+        private ColumnBinding(String name, FieldIdentifier<ENTITY> identifier, Function<ENTITY, Object> accessor, TypeMapper<?, ?> typeMapper, int generatedIndex, int lazyIndex) {
+            this.name = requireNonNull(name);
+            this.identifier = requireNonNull(identifier);
+            this.accessor = requireNonNull(accessor);
+            this.typeMapper = (TypeMapper<Object, Object>) requireNonNull(typeMapper);
+            this.generatedIndex = generatedIndex;
+            this.lazyIndex = lazyIndex;
+        }
+
+        private Object databaseValueOf(ENTITY entity) {
+            return TypeMapperUtil.toDatabaseType(typeMapper, accessor.apply(entity));
+        }
+
+        private boolean isGenerated() {
+            return generatedIndex >= 0;
+        }
+
+        /**
+         * Returns if this column should be included in an insert statement.
+         * Some database types (e.g. Postgres) does not allow auto increment
+         * columns that are null in an insert statement.
+         *
+         * @param generatedMask the mask of generated columns that has a value
+         * @return {@code true} if the column should be included
+         */
+        private boolean isPersisted(int generatedMask) {
+            return !isGenerated() || generatedIndex >= Integer.SIZE
+                || (generatedMask & (1 << generatedIndex)) != 0;
+        }
+
+        private boolean isLazy() {
+            return lazyIndex >= 0;
+        }
+
+        /**
+         * Returns if this column should be included in an update statement.
+         * Lazy columns that have not been loaded are left as they are.
+         *
+         * @param unloadedMask the mask of lazy columns that are not loaded
+         * @return {@code true} if the column should be included
+         */
+        private boolean isUpdated(int unloadedMask) {
+            return !isLazy() || lazyIndex >= Integer.SIZE
+                || (unloadedMask & (1 << lazyIndex)) == 0;
+        }
+    }
+
+    /**
+     * The precomputed query and reader that loads the value of a lazy column
+     * of a single row.
+     */
+    private static final class LazyColumn {
+
+        private final String sql;
+        private final SqlFunction<ResultSet, Object> reader;
+
+        private LazyColumn(String sql, SqlFunction<ResultSet, Object> reader) {
+            this.sql = requireNonNull(sql);
+            this.reader = requireNonNull(reader);
+        }
+    }
+
+    /**
+     * The statements and column bindings that are used to persist, update
+     * and remove entities of a manager. Insert statements depend on which
+     * auto increment columns that has a value and update statements on which
+     * lazy columns that are loaded. Both are cached for each combination if
+     * there are few such columns.
+     *
+     * @param <ENTITY> the entity type
+     */
+    private static final class WritePlan<ENTITY> {
+
+        private final static int MAX_CACHED_GENERATED = 8;
+        private final static int MAX_CACHED_LAZY = 8;
+
+        private final int modificationCount;
+        private final ResultSetMapping<?>[] generatedMappings;
+        private final String tableReference;
+        private final ColumnBinding<ENTITY>[] columns;
+        private final ColumnBinding<ENTITY>[] primaryKeys;
+        private final ColumnBinding<ENTITY>[] generated;
+        private final ColumnBinding<ENTITY>[] lazy;
+        private final List<? extends FieldTrait> generatedFields;
+        private final Map<FieldIdentifier<ENTITY>, LazyColumn> lazyColumns;
+        private final String where;
+        private final String deleteSql;
+        private final String[] insertSql;
+        private final String[] updateSql;
+
+        private WritePlan(
+            int modificationCount,
+            ResultSetMapping<?>[] generatedMappings,
+            String tableReference,
+            ColumnBinding<ENTITY>[] columns,
+            ColumnBinding<ENTITY>[] primaryKeys,
+            List<FieldTrait> generatedFields,
+            Map<FieldIdentifier<ENTITY>, LazyColumn> lazyColumns,
+            String where,
+            String deleteSql) {
+
+            this.modificationCount = modificationCount;
+            this.generatedMappings = requireNonNull(generatedMappings);
+            this.tableReference = requireNonNull(tableReference);
+            this.columns = requireNonNull(columns);
+            this.primaryKeys = requireNonNull(primaryKeys);
+            this.generatedFields = Collections.unmodifiableList(generatedFields);
+            this.lazyColumns = requireNonNull(lazyColumns);
+            this.where = requireNonNull(where);
+            this.deleteSql = requireNonNull(deleteSql);
+
+            this.generated = toArray(Stream.of(columns)
+                .filter(ColumnBinding::isGenerated)
+                .collect(toList())
+            );
+
+            this.lazy = toArray(Stream.of(columns)
+                .filter(ColumnBinding::isLazy)
+                .collect(toList())
+            );
+
+            this.insertSql = generated.length <= MAX_CACHED_GENERATED
+                ? new String[1 << generated.length]
+                : null;
+
+            this.updateSql = lazy.length <= MAX_CACHED_LAZY
+                ? new String[1 << lazy.length]
+                : null;
+        }
+
+        /**
+         * Uses the specified statements when none and all of the auto
+         * increment columns have a value, instead of creating them.
+         *
+         * @param withoutGenerated the statement that omits all the auto
+         * increment columns
+         * @param withGenerated the statement that includes all the columns
+         */
+        private void useInsertSql(String withoutGenerated, String withGenerated) {
+            if (insertSql != null) {
+                insertSql[0] = requireNonNull(withoutGenerated);
+                insertSql[insertSql.length - 1] = requireNonNull(withGenerated);
+            }
+        }
+
+        /**
+         * Uses the specified statement when all the lazy columns are loaded,
+         * instead of creating it.
+         *
+         * @param withAll the statement that updates all the columns
+         */
+        private void useUpdateSql(String withAll) {
+            if (updateSql != null) {
+                updateSql[0] = requireNonNull(withAll);
+            }
+        }
+
+        private int generatedMask(ENTITY entity) {
+            int mask = 0;
+            for (int i = 0; i < generated.length && i < Integer.SIZE; i++) {
+                if (generated[i].accessor.apply(entity) != null) {
+                    mask |= 1 << i;
+                }
+            }
+            return mask;
+        }
+
+        private String insertSql(int generatedMask) {
+            if (insertSql == null) {
+                return newInsertSql(generatedMask);
+            }
+
+            String sql = insertSql[generatedMask];
+            if (sql == null) {
+                sql = newInsertSql(generatedMask);
+                insertSql[generatedMask] = sql;
+            }
+            return sql;
+        }
+
+        private String newInsertSql(int generatedMask) {
+            final StringBuilder names = new StringBuilder();
+            final StringBuilder params = new StringBuilder();
+            for (final ColumnBinding<ENTITY> column : columns) {
+                if (column.isPersisted(generatedMask)) {
+                    if (names.length() > 0) {
+                        names.append(',');
+                        params.append(',');
+                    }
+                    names.append(column.name);
+                    params.append('?');
+                }
+            }
+
+            return "INSERT INTO " + tableReference
+                + " (" + names + ")"
+                + " VALUES (" + params + ")";
+        }
+
+        @SuppressWarnings("unchecked")
+        private int unloadedMask(ENTITY entity) {
+            if (lazy.length == 0 || !(entity instanceof AbstractBaseEntity)) {
+                return 0;
+            }
+
+            final AbstractBaseEntity<ENTITY> base = (AbstractBaseEntity<ENTITY>) entity;
+            int mask = 0;
+            for (int i = 0; i < lazy.length && i < Integer.SIZE; i++) {
+                if (base.isUnloaded_(lazy[i].identifier)) {
+                    mask |= 1 << i;
+                }
+            }
+            return mask;
+        }
+
+        private String updateSql(int unloadedMask) {
+            if (updateSql == null) {
+                return newUpdateSql(unloadedMask);
+            }
+
+            String sql = updateSql[unloadedMask];
+            if (sql == null) {
+                sql = newUpdateSql(unloadedMask);
+                updateSql[unloadedMask] = sql;
+            }
+            return sql;
+        }
+
+        private String newUpdateSql(int unloadedMask) {
+            final StringBuilder sets = new StringBuilder();
+            for (final ColumnBinding<ENTITY> column : columns) {
+                if (column.isUpdated(unloadedMask)) {
+                    if (sets.length() > 0) {
+                        sets.append(',');
+                    }
+                    sets.append(column.name).append(" = ?");
+                }
+            }
+
+            return "UPDATE " + tableReference + " SET " + sets + where;
+        }
+
+        /**
+         * Converts a key that was generated by the database to the java type
+         * of the generated column with the specified index.
+         *
+         * @param index the index of the generated column
+         * @param key the generated key
+         * @return the java value
+         */
+        private Object generatedValueOf(int index, long key) {
+            return generated[index].typeMapper.toJavaType(generatedMappings[index].parse(key));
+        }
+
+        private List<Object> insertValuesOf(ENTITY entity, int generatedMask) {
+            final List<Object> values = new ArrayList<>(columns.length);
+            for (final ColumnBinding<ENTITY> column : columns) {
+                if (column.isPersisted(generatedMask)) {
+                    values.add(column.databaseValueOf(entity));
+                }
+            }
+            return values;
+        }
+
+        private List<Object> updateValuesOf(ENTITY entity, int unloadedMask) {
+            final List<Object> values = new ArrayList<>(columns.length + primaryKeys.length);
+            for (final ColumnBinding<ENTITY> column : columns) {
+                if (column.isUpdated(unloadedMask)) {
+                    values.add(column.databaseValueOf(entity));
+                }
+            }
+            for (final ColumnBinding<ENTITY> primaryKey : primaryKeys) {
+                values.add(primaryKey.databaseValueOf(entity));
+            }
+            return values;
+        }
+
+        private List<Object> primaryKeyValuesOf(ENTITY entity) {
+            final List<Object> values = new ArrayList<>(primaryKeys.length);
+            for (final ColumnBinding<ENTITY> primaryKey : primaryKeys) {
+                values.add(primaryKey.databaseValueOf(entity));
+            }
+            return values;
+        }
+    }
 }
@@ -49,4 +49,9 @@ public final class MySqlSpeedmentPredicateView extends AbstractSpeedmentPredicat
         return of("(" + cn + " LIKE BINARY CONCAT('%', ? ,'%'))", negated).add(getFirstOperandAsRaw(model));
     }
 
+    @Override
+    public int getMaxParameterCount() {
+        return 65_535;
+    }
+
 }
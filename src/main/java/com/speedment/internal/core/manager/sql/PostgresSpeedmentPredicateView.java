@@ -51,4 +51,9 @@ public class PostgresSpeedmentPredicateView extends AbstractSpeedmentPredicateVi
     protected SqlPredicateFragment containsHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
         return of("(" + cn + " LIKE '%' || ? || '%')", negated).add(getFirstOperandAsRaw(model));
     }
+
+    @Override
+    public int getMaxParameterCount() {
+        return 32_767; // The protocol sends the count as a signed 16 bit value
+    }
 }
\ No newline at end of file
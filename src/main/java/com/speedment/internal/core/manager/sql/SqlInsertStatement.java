@@ -31,6 +31,7 @@ import java.util.function.Consumer;
 public final class SqlInsertStatement extends SqlStatement {
 
     private final List<? extends FieldTrait> generatedColumnFields;
+    private final List<? extends List<?>> batchValues;
     private final List<Long> generatedKeys;
     private final Consumer<List<Long>> generatedKeysConsumer;
 
@@ -39,13 +40,59 @@ public final class SqlInsertStatement extends SqlStatement {
         final List<?> values,
         final List<F> generatedColumnFields,
         final Consumer<List<Long>> generatedKeysConsumer
+    ) {
+        this(sql, values, Collections.emptyList(), generatedColumnFields, generatedKeysConsumer);
+    }
+
+    /**
+     * Creates an insert statement that is executed once for each of the
+     * specified lists of values in a single batch.
+     *
+     * @param <F>                    dynamic type
+     * @param sql                    the SQL command
+     * @param batchValues            the values of each row
+     * @param generatedColumnFields  the generated fields
+     * @param generatedKeysConsumer  consumer of the generated keys of all rows
+     * @return                       the new statement
+     */
+    public static <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> SqlInsertStatement batchOf(
+        final String sql,
+        final List<? extends List<?>> batchValues,
+        final List<F> generatedColumnFields,
+        final Consumer<List<Long>> generatedKeysConsumer
+    ) {
+        return new SqlInsertStatement(sql, Collections.emptyList(), batchValues, generatedColumnFields, generatedKeysConsumer);
+    }
+
+    private SqlInsertStatement(
+        final String sql,
+        final List<?> values,
+        final List<? extends List<?>> batchValues,
+        final List<? extends FieldTrait> generatedColumnFields,
+        final Consumer<List<Long>> generatedKeysConsumer
     ) {
         super(sql, values);
+        this.batchValues = new ArrayList<>(requireNonNull(batchValues));
         this.generatedKeys = new ArrayList<>();
         this.generatedKeysConsumer = requireNonNull(generatedKeysConsumer);
         this.generatedColumnFields = requireNonNull(generatedColumnFields);
     }
 
+    /**
+     * Returns {@code true} if this statement should be executed once for
+     * each list in {@link #getBatchValues()} rather than once using
+     * {@link #getValues()}.
+     *
+     * @return {@code true} if this is a batch statement
+     */
+    public boolean isBatch() {
+        return !batchValues.isEmpty();
+    }
+
+    public List<? extends List<?>> getBatchValues() {
+        return batchValues;
+    }
+
     @SuppressWarnings("unchecked")
     public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> List<F> getGeneratedColumnFields() {
         return (List<F>) generatedColumnFields;
@@ -63,6 +110,13 @@ public final class SqlInsertStatement extends SqlStatement {
         generatedKeysConsumer.accept(generatedKeys);
     }
 
+    @Override
+    public String toString() {
+        return isBatch()
+            ? getSql() + ", batch of " + batchValues.size() + " rows"
+            : super.toString();
+    }
+
     @Override
     public Type getType() {
         return Type.INSERT;
@@ -17,6 +17,8 @@
 package com.speedment.internal.core.manager.sql;
 
 import com.speedment.db.SqlFunction;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.field.FieldIdentifier;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.manager.Manager;
 import java.sql.ResultSet;
@@ -40,4 +42,17 @@ public interface SqlManager<ENTITY> extends Manager<ENTITY> {
      */
     String fullColumnName(FieldTrait fieldTrait);
 
+    /**
+     * Reads the value of a column that was left out when the specified entity
+     * was loaded because the column is lazy. The row is located using the
+     * primary key of the entity. The returned value is in the java domain of
+     * the field.
+     *
+     * @param entity      the entity to load the value for
+     * @param identifier  the identifier of the lazy field
+     * @return            the value, or {@code null} if the column is null
+     * @throws SpeedmentException  if the row could not be found
+     */
+    Object loadLazily(ENTITY entity, FieldIdentifier<ENTITY> identifier) throws SpeedmentException;
+
 }
@@ -0,0 +1,221 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.config.db.Column;
+import com.speedment.config.db.Table;
+import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.trait.HasEnabled;
+import com.speedment.db.DatabaseNamingConvention;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.util.document.DocumentDbUtil;
+import java.util.Collections;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.function.Predicate;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The SQL statements that an {@link AbstractSqlManager} uses to read and
+ * write the rows of a table, formatted for a particular {@link DbmsType}.
+ * <p>
+ * The statements are normally rendered by the code generator as constants in
+ * the generated manager, so that no SQL has to be built when the application
+ * starts. If the runtime configuration renders another table reference (for
+ * an example if the schema has been renamed using {@code withSchema}) or uses
+ * another dbms type, the manager instead creates the statements from the
+ * table using {@link #of(DbmsType, Table)}.
+ *
+ * @since 2.3
+ */
+public final class SqlStatements {
+
+    private final String dbmsTypeName;
+    private final String tableReference;
+    private final int columnCount;
+    private final String select;
+    private final String count;
+    private final String insert;
+    private final String insertWithoutGenerated;
+    private final String update;
+    private final String delete;
+
+    private SqlStatements(
+        String dbmsTypeName,
+        String tableReference,
+        int columnCount,
+        String select,
+        String count,
+        String insert,
+        String insertWithoutGenerated,
+        String update,
+        String delete) {
+
+        this.dbmsTypeName = requireNonNull(dbmsTypeName);
+        this.tableReference = requireNonNull(tableReference);
+        this.columnCount = columnCount;
+        this.select = requireNonNull(select);
+        this.count = requireNonNull(count);
+        this.insert = requireNonNull(insert);
+        this.insertWithoutGenerated = requireNonNull(insertWithoutGenerated);
+        this.update = update;
+        this.delete = delete;
+    }
+
+    /**
+     * Creates the statements from precomputed SQL. This is used by generated
+     * managers.
+     *
+     * @param dbmsTypeName the name of the dbms type the statements are for
+     * @param tableReference the full, quoted name of the table
+     * @param columnCount the number of enabled columns in the table
+     * @param select selects all the columns that are not loaded lazily
+     * @param count counts the rows of the table
+     * @param insert inserts all the enabled columns
+     * @param insertWithoutGenerated inserts all the enabled columns that are
+     * not auto incremented
+     * @param update updates all the enabled columns of a row by primary key,
+     * or {@code null} if the table has no primary key
+     * @param delete deletes a row by primary key, or {@code null} if the table
+     * has no primary key
+     * @return the statements
+     */
+    public static SqlStatements of(
+        String dbmsTypeName,
+        String tableReference,
+        int columnCount,
+        String select,
+        String count,
+        String insert,
+        String insertWithoutGenerated,
+        String update,
+        String delete) {
+
+        return new SqlStatements(dbmsTypeName, tableReference, columnCount,
+            select, count, insert, insertWithoutGenerated, update, delete
+        );
+    }
+
+    /**
+     * Creates the statements for the enabled columns of the specified table.
+     *
+     * @param dbmsType the dbms type to format the statements for
+     * @param table the table
+     * @return the statements
+     */
+    public static SqlStatements of(DbmsType dbmsType, Table table) {
+        requireNonNull(dbmsType);
+        requireNonNull(table);
+
+        final DatabaseNamingConvention naming = dbmsType.getDatabaseNamingConvention();
+        final String tableReference = naming.fullNameOf(table);
+        final List<Column> columns = table.columns()
+            .filter(HasEnabled::isEnabled)
+            .collect(toList());
+
+        final String where = table.primaryKeyColumns()
+            .map(pkc -> pkc.findColumn().orElseThrow(() -> new SpeedmentException("Cannot find column for " + pkc)))
+            .map(c -> naming.encloseField(c.getName()) + " = ?")
+            .collect(joining(" AND "));
+
+        final boolean hasPrimaryKey = !where.isEmpty();
+
+        return new SqlStatements(
+            dbmsType.getName(),
+            tableReference,
+            columns.size(),
+            "SELECT " + names(naming, columns, c -> !DocumentDbUtil.isLoadedLazily(c)) + " FROM " + tableReference,
+            "SELECT COUNT(*) FROM " + tableReference,
+            insert(naming, tableReference, columns, c -> true),
+            insert(naming, tableReference, columns, c -> !c.isAutoIncrement()),
+            hasPrimaryKey
+                ? "UPDATE " + tableReference + " SET " + columns.stream()
+                    .map(c -> naming.encloseField(c.getName()) + " = ?")
+                    .collect(joining(",")) + " WHERE " + where
+                : null,
+            hasPrimaryKey
+                ? "DELETE FROM " + tableReference + " WHERE " + where
+                : null
+        );
+    }
+
+    /**
+     * Returns {@code true} if these statements can be used for a table with
+     * the specified table reference in a dbms of the specified type.
+     *
+     * @param dbmsType the dbms type used at runtime
+     * @param tableReference the table reference used at runtime
+     * @return {@code true} if applicable, else {@code false}
+     */
+    public boolean isApplicableTo(DbmsType dbmsType, String tableReference) {
+        return dbmsTypeName.equals(dbmsType.getName())
+            && this.tableReference.equals(tableReference);
+    }
+
+    public String getDbmsTypeName() {
+        return dbmsTypeName;
+    }
+
+    public String getTableReference() {
+        return tableReference;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    public String getSelect() {
+        return select;
+    }
+
+    public String getCount() {
+        return count;
+    }
+
+    public String getInsert() {
+        return insert;
+    }
+
+    public String getInsertWithoutGenerated() {
+        return insertWithoutGenerated;
+    }
+
+    public Optional<String> getUpdate() {
+        return Optional.ofNullable(update);
+    }
+
+    public Optional<String> getDelete() {
+        return Optional.ofNullable(delete);
+    }
+
+    private static String names(DatabaseNamingConvention naming, List<Column> columns, Predicate<Column> filter) {
+        return columns.stream()
+            .filter(filter)
+            .map(Column::getName)
+            .map(naming::encloseField)
+            .collect(joining(","));
+    }
+
+    private static String insert(DatabaseNamingConvention naming, String tableReference, List<Column> columns, Predicate<Column> filter) {
+        final int persisted = (int) columns.stream().filter(filter).count();
+        return "INSERT INTO " + tableReference
+            + " (" + names(naming, columns, filter) + ")"
+            + " VALUES (" + String.join(",", Collections.nCopies(persisted, "?")) + ")";
+    }
+}
@@ -27,6 +27,9 @@ import com.speedment.internal.core.stream.builder.pipeline.LongPipeline;
 import com.speedment.internal.core.stream.builder.pipeline.ReferencePipeline;
 import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminator;
 import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminatorUtil;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import com.speedment.internal.util.TypeMapperUtil;
 import com.speedment.manager.SpeedmentPredicateView;
 import com.speedment.manager.SqlPredicateFragment;
 import com.speedment.stream.Pipeline;
@@ -41,7 +44,6 @@ import static java.util.Objects.requireNonNull;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 
 /**
  *
@@ -50,6 +52,8 @@ import static java.util.stream.Collectors.toList;
  */
 public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
 
+    private final static Logger LOGGER = LoggerManager.getLogger(SqlStreamTerminator.class);
+
     private final AbstractSqlManager<ENTITY> manager;
     private final AsynchronousQueryResult<ENTITY> asynchronousQueryResult;
     private final StreamDecorator decorator;
@@ -90,9 +94,30 @@ public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
 //                .map(SpeedmentPredicate::getField)
 //                .collect(toList());
         final SpeedmentPredicateView spv = manager.getDbmsType().getSpeedmentPredicateView();
-        final List<SqlPredicateFragment> fragments = predicateBuilders.stream()
-            .map(sp -> spv.transform(manager, sp))
-            .collect(toList());
+        final int maxParameters = spv.getMaxParameterCount();
+        final List<SpeedmentPredicate<ENTITY, ?, ?>> rendered = new ArrayList<>();
+        final List<SqlPredicateFragment> fragments = new ArrayList<>();
+        long parameters = 0;
+        for (final SpeedmentPredicate<ENTITY, ?, ?> sp : predicateBuilders) {
+            final SqlPredicateFragment fragment = spv.transform(manager, sp);
+            final long count = fragment.objects().count();
+            if (parameters + count > maxParameters) {
+                // The predicate is still applied by the filter in the pipeline
+                LOGGER.warn("A predicate on " + manager.fullColumnName(sp.getField())
+                    + " needs " + count + " parameters, which exceeds the limit of "
+                    + maxParameters + " parameters per statement. It will only be "
+                    + "evaluated on the rows that are streamed from the database."
+                );
+            } else {
+                parameters += count;
+                rendered.add(sp);
+                fragments.add(fragment);
+            }
+        }
+
+        if (fragments.isEmpty()) {
+            return;
+        }
 
         final String sql = manager.sqlSelect()
             + " WHERE "
@@ -102,15 +127,14 @@ public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
 
         final List<Object> values = new ArrayList<>();
         for (int i = 0; i < fragments.size(); i++) {
-            final SpeedmentPredicate<ENTITY, ?, ?> p = predicateBuilders.get(i);
+            final SpeedmentPredicate<ENTITY, ?, ?> p = rendered.get(i);
             @SuppressWarnings("unchecked")
             final ReferenceFieldTrait<?, ?, ?> referenceFieldTrait = p.getReferenceField();
 //            @SuppressWarnings("unchecked")
 //            final ReferenceFieldTrait<?, ?, ?> referenceFieldTrait = (ReferenceFieldTrait<?, ?, ?>)fields.get(i);
-            @SuppressWarnings("unchecked")
-            final TypeMapper<Object, Object> tm = (TypeMapper<Object, Object>) referenceFieldTrait.typeMapper();
+            final TypeMapper<?, ?> tm = referenceFieldTrait.typeMapper();
             fragments.get(i).objects()
-                .map(tm::toDatabaseType)
+                .map(o -> TypeMapperUtil.toDatabaseType(tm, o))
                 .forEach(values::add);
         }
 
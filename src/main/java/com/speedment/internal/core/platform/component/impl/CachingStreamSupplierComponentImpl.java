@@ -0,0 +1,269 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.StreamSupplierComponent;
+import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Table;
+import com.speedment.db.AsynchronousQueryResult;
+import com.speedment.event.AfterTransaction;
+import com.speedment.internal.core.cache.QueryResultCache;
+import com.speedment.internal.core.stream.ComposedStreamDecorator;
+import static com.speedment.internal.util.document.DocumentDbUtil.dbmsTypeOf;
+import static com.speedment.internal.util.document.DocumentUtil.ancestor;
+import com.speedment.license.Software;
+import com.speedment.manager.Manager;
+import com.speedment.stream.HasParallelStrategy;
+import com.speedment.stream.ParallelStrategy;
+import com.speedment.stream.StreamDecorator;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.Set;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link StreamSupplierComponent} that caches the results of the queries
+ * that are sent to the database. Identical queries, with the same rendered SQL
+ * and the same bound values, are served from a {@link QueryResultCache} until
+ * they expire, are evicted or until a statement that modifies the same table
+ * has been committed.
+ * <p>
+ * Each stream served from the cache creates new copies of the cached entities,
+ * so the entities returned to the application can be modified freely. Results
+ * that are larger than the row bound of the cache are streamed as usual.
+ * <p>
+ * This component is installed using
+ * {@code .with(CachingStreamSupplierComponentImpl::new)} on the application
+ * builder.
+ *
+ * @since 2.3
+ */
+public class CachingStreamSupplierComponentImpl extends InternalOpenSourceComponent implements StreamSupplierComponent {
+
+    /**
+     * The default time that a result may be served from the cache, in seconds.
+     */
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 60;
+
+    /**
+     * The default maximum number of rows to keep in the cache.
+     */
+    public static final int DEFAULT_MAX_ROWS = 100_000;
+
+    private final QueryResultCache cache;
+    private final Map<Class<?>, String> tableReferences;
+
+    public CachingStreamSupplierComponentImpl(Speedment speedment) {
+        this(speedment, new QueryResultCache(DEFAULT_TIME_TO_LIVE_SECONDS, TimeUnit.SECONDS, DEFAULT_MAX_ROWS));
+    }
+
+    public CachingStreamSupplierComponentImpl(Speedment speedment, QueryResultCache cache) {
+        super(speedment);
+        this.cache = requireNonNull(cache);
+        this.tableReferences = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void onStart() {
+        super.onStart();
+        getSpeedment().getEventComponent().on(AfterTransaction.class, ev -> {
+            final Optional<Set<Table>> tables = ev.tables();
+            if (tables.isPresent()) {
+                tables.get().stream()
+                    .map(this::tableReferenceOf)
+                    .forEach(cache::invalidate);
+            } else {
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public void onStop() {
+        super.onStop();
+        cache.invalidateAll();
+    }
+
+    @Override
+    public <ENTITY> Stream<ENTITY> stream(Class<ENTITY> entityClass, StreamDecorator decorator) {
+        requireNonNull(entityClass);
+        requireNonNull(decorator);
+
+        final Manager<ENTITY> manager = getSpeedment().managerOf(entityClass);
+        final String tableReference = tableReferences.computeIfAbsent(entityClass,
+            c -> tableReferenceOf(manager.getTable())
+        );
+
+        return manager.nativeStream(new ComposedStreamDecorator(
+            decorator, new CachingDecorator<>(manager, tableReference)
+        ));
+    }
+
+    /**
+     * Returns the cache that results are stored in.
+     *
+     * @return the cache
+     */
+    public QueryResultCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public Stream<Software> getDependencies() {
+        return Stream.empty();
+    }
+
+    @Override
+    public StreamSupplierComponent defaultCopy(Speedment speedment) {
+        return new CachingStreamSupplierComponentImpl(speedment);
+    }
+
+    private String tableReferenceOf(Table table) {
+        final Dbms dbms = ancestor(table, Dbms.class).get();
+        return dbmsTypeOf(getSpeedment(), dbms).getDatabaseNamingConvention().fullNameOf(table);
+    }
+
+    /**
+     * Replaces the query result of the stream with one that consults the
+     * cache before the query is executed.
+     */
+    private final class CachingDecorator<ENTITY> implements StreamDecorator {
+
+        private final Manager<ENTITY> manager;
+        private final String tableReference;
+
+        private CachingDecorator(Manager<ENTITY> manager, String tableReference) {
+            this.manager = manager;
+            this.tableReference = tableReference;
+        }
+
+        @Override
+        public <H extends HasParallelStrategy> H apply(H hasParallelStrategy) {
+            if (hasParallelStrategy instanceof AsynchronousQueryResult) {
+                @SuppressWarnings("unchecked")
+                final H result = (H) new CachingQueryResult<>(
+                    manager, tableReference, (AsynchronousQueryResult<ENTITY>) hasParallelStrategy
+                );
+                return result;
+            } else {
+                return hasParallelStrategy;
+            }
+        }
+    }
+
+    /**
+     * A query result that serves copies of a cached result if there is one and
+     * otherwise stores the result of the query as it is read.
+     */
+    private final class CachingQueryResult<ENTITY> implements AsynchronousQueryResult<ENTITY> {
+
+        private final Manager<ENTITY> manager;
+        private final String tableReference;
+        private final AsynchronousQueryResult<ENTITY> inner;
+
+        private CachingQueryResult(Manager<ENTITY> manager, String tableReference, AsynchronousQueryResult<ENTITY> inner) {
+            this.manager = manager;
+            this.tableReference = tableReference;
+            this.inner = inner;
+        }
+
+        @Override
+        public Stream<ENTITY> stream() {
+            final String sql = inner.getSql();
+            final List<?> values = inner.getValues();
+
+            final Optional<List<ENTITY>> cached = cache.get(sql, values);
+            if (cached.isPresent()) {
+                return cached.get().stream().map(manager::newCopyOf);
+            }
+
+            final long generation = cache.generation(tableReference);
+            final Iterator<ENTITY> it = inner.stream().iterator();
+            final List<ENTITY> rows = new ArrayList<>();
+            while (it.hasNext() && rows.size() <= cache.maxRows()) {
+                rows.add(it.next());
+            }
+
+            if (it.hasNext()) {
+                return Stream.concat(
+                    rows.stream(),
+                    StreamSupport.stream(spliteratorUnknownSize(it, ORDERED), false)
+                );
+            } else {
+                cache.put(tableReference, generation, sql, values, rows);
+                return rows.stream().map(manager::newCopyOf);
+            }
+        }
+
+        @Override
+        public void close() {
+            inner.close();
+        }
+
+        @Override
+        public String getSql() {
+            return inner.getSql();
+        }
+
+        @Override
+        public void setSql(String sql) {
+            inner.setSql(sql);
+        }
+
+        @Override
+        public List<?> getValues() {
+            return inner.getValues();
+        }
+
+        @Override
+        public void setValues(List<?> values) {
+            inner.setValues(values);
+        }
+
+        @Override
+        public Function<ResultSet, ENTITY> getRsMapper() {
+            return inner.getRsMapper();
+        }
+
+        @Override
+        public void setRsMapper(Function<ResultSet, ENTITY> rsMapper) {
+            inner.setRsMapper(rsMapper);
+        }
+
+        @Override
+        public void setParallelStrategy(ParallelStrategy parallelStrategy) {
+            inner.setParallelStrategy(parallelStrategy);
+        }
+
+        @Override
+        public ParallelStrategy getParallelStrategy() {
+            return inner.getParallelStrategy();
+        }
+    }
+}
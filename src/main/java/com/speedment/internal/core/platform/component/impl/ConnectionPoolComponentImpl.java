@@ -33,10 +33,16 @@ import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 /**
  * A fully concurrent implementation of a connection pool.
+ * <p>
+ * The number of connections leased to the same database at the same time can
+ * be bounded using {@link #setMaxLeaseSize(int)}. Threads waiting for a
+ * connection park on a semaphore rather than on a monitor.
  *
  * @author pemi
  */
@@ -46,19 +52,26 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
 
     private final long DEFAULT_MAX_AGE = 30_000;
     private final int DEFAULT_MIN_POOL_SIZE_PER_DB = 32;
+    private final long MAX_LEASE_WAIT = 30_000;
 
     private long maxAge;
     private int maxRetainSize;
+    private volatile int maxLeaseSize;
 
     private final Map<Long, PoolableConnection> leasedConnections;
     private final Map<String, Deque<PoolableConnection>> pools;
+    private final Map<String, LeasePermits> leasePermits;
+    private final Map<Long, Semaphore> heldPermits;
 
     public ConnectionPoolComponentImpl(Speedment speedment) {
         super(speedment);
         maxAge = DEFAULT_MAX_AGE;
         maxRetainSize = DEFAULT_MIN_POOL_SIZE_PER_DB;
+        maxLeaseSize = Integer.MAX_VALUE;
         pools = new ConcurrentHashMap<>();
         leasedConnections = new ConcurrentHashMap<>();
+        leasePermits = new ConcurrentHashMap<>();
+        heldPermits = new ConcurrentHashMap<>();
     }
 
     private ConnectionPoolComponentImpl(Speedment speedment, ConnectionPoolComponentImpl template) {
@@ -72,18 +85,27 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
         // password nullable
         logger.debug("getConnection(" + uri + ", " + user);
         final String key = makeKey(uri, user, password);
+        final Semaphore permits = acquirePermit(key);
         final Deque<PoolableConnection> q = acquireDeque(key);
         final PoolableConnection reusedConnection = pollValidOrNull(q);
         if (reusedConnection != null) {
             logger.debug("Reuse Connection:" + reusedConnection);
-            return lease(reusedConnection);
+            return lease(reusedConnection, permits);
         } else {
-            final Connection newRawConnection = newConnection(uri, user, password);
+            final Connection newRawConnection;
+            try {
+                newRawConnection = newConnection(uri, user, password);
+            } catch (final SQLException | RuntimeException ex) {
+                if (permits != null) {
+                    permits.release();
+                }
+                throw ex;
+            }
             final PoolableConnection newConnection = new PoolableConnectionImpl(uri, user, password, newRawConnection, System.currentTimeMillis() + getMaxAge());
 //            getLogger().info("Created connection " + newConnection.getId() + " (" + leasedConnections.size() + ")");
             newConnection.setOnClose(() -> returnConnection(newConnection));
             logger.debug("New Connection:" + newConnection);
-            return lease(newConnection);
+            return lease(newConnection, permits);
         }
 
     }
@@ -91,17 +113,24 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
     @Override
     public void returnConnection(PoolableConnection connection) {
         requireNonNull(connection);
-        leaseReturn(connection);
-        if (!isValidOrNull(connection)) {
-            discard(connection);
-        } else {
-            final String key = makeKey(connection);
-            final Deque<PoolableConnection> q = acquireDeque(key);
-            if (q.size() >= getMaxRetainSize()) {
+        final Semaphore permits = leaseReturn(connection);
+        try {
+            if (!isValidOrNull(connection)) {
                 discard(connection);
             } else {
-                logger.debug("Recycled:" + connection);
-                q.addFirst(connection);
+                final String key = makeKey(connection);
+                final Deque<PoolableConnection> q = acquireDeque(key);
+                if (q.size() >= getMaxRetainSize()) {
+                    discard(connection);
+                } else {
+                    logger.debug("Recycled:" + connection);
+                    q.addFirst(connection);
+                }
+            }
+        } finally {
+            // Waiting threads are let in once the connection can be reused
+            if (permits != null) {
+                permits.release();
             }
         }
     }
@@ -122,14 +151,51 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
         }
     }
 
-    private PoolableConnection lease(PoolableConnection poolableConnection) {
+    private PoolableConnection lease(PoolableConnection poolableConnection, Semaphore permits) {
         leasedConnections.put(poolableConnection.getId(), poolableConnection);
+        if (permits != null) {
+            heldPermits.put(poolableConnection.getId(), permits);
+        }
         return poolableConnection;
     }
 
-    private PoolableConnection leaseReturn(PoolableConnection poolableConnection) {
+    private Semaphore leaseReturn(PoolableConnection poolableConnection) {
         leasedConnections.remove(poolableConnection.getId());
-        return poolableConnection;
+        return heldPermits.remove(poolableConnection.getId());
+    }
+
+    /**
+     * Waits until a connection to the database with the specified key may be
+     * leased. The semaphore parks waiting threads without holding any
+     * monitor, so virtual threads do not pin their carrier threads here.
+     *
+     * @param key the key of the database
+     * @return the acquired permits, or {@code null} if not bounded
+     * @throws SQLException if no connection is returned within the timeout
+     */
+    private Semaphore acquirePermit(String key) throws SQLException {
+        final int max = maxLeaseSize;
+        if (max == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        final LeasePermits permits = leasePermits.computeIfAbsent(key, $ -> new LeasePermits(max));
+        if (permits.getLimit() != max) {
+            // Created concurrently with a change of the max lease size
+            permits.resize(max);
+        }
+        try {
+            if (!permits.tryAcquire(MAX_LEASE_WAIT, TimeUnit.MILLISECONDS)) {
+                throw new SQLException(
+                    "Timed out after " + MAX_LEASE_WAIT + " ms waiting for one of the "
+                    + max + " leased connections to be returned."
+                );
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection.", ex);
+        }
+        return permits;
     }
 
     private boolean isValidOrNull(PoolableConnection connection) {
@@ -203,6 +269,22 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
         this.maxRetainSize = maxRetainSize;
     }
 
+    @Override
+    public int getMaxLeaseSize() {
+        return maxLeaseSize;
+    }
+
+    @Override
+    public synchronized void setMaxLeaseSize(int maxLeaseSize) {
+        if (maxLeaseSize < 1) {
+            throw new IllegalArgumentException("The max lease size must be at least 1, was " + maxLeaseSize + ".");
+        }
+        this.maxLeaseSize = maxLeaseSize;
+        // The semaphores are resized in place, so connections that are already
+        // leased still count against the new limit when they are returned
+        leasePermits.values().forEach(permits -> permits.resize(maxLeaseSize));
+    }
+
     private Logger getLogger() {
         return logger;
     }
@@ -217,4 +299,36 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
         return new ConnectionPoolComponentImpl(speedment, this);
     }
 
+    /**
+     * The permits to lease connections to a single database. The number of
+     * permits can be changed while connections are leased. If it is reduced
+     * below the number of leased connections, no new connections are leased
+     * until enough of them have been returned.
+     */
+    private final static class LeasePermits extends Semaphore {
+
+        private static final long serialVersionUID = 1L;
+
+        private volatile int limit;
+
+        private LeasePermits(int limit) {
+            super(limit, true);
+            this.limit = limit;
+        }
+
+        private int getLimit() {
+            return limit;
+        }
+
+        private synchronized void resize(int newLimit) {
+            final int delta = newLimit - limit;
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            limit = newLimit;
+        }
+    }
+
 }
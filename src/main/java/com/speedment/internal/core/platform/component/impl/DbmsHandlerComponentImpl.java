@@ -99,6 +99,12 @@ public final class DbmsHandlerComponentImpl extends InternalOpenSourceComponent
         );
     }
     
+    @Override
+    public void onStop() {
+        super.onStop();
+        map.values().forEach(DbmsHandler::shutdown);
+    }
+
     @Override
     public Stream<Software> getDependencies() {
         return Stream.empty();
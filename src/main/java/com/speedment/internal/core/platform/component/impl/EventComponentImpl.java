@@ -91,6 +91,20 @@ public final class EventComponentImpl extends InternalOpenSourceComponent implem
         listeners(event).add((Consumer<Event>) action);
     }
 
+    @Override
+    public boolean hasListeners(Class<? extends Event> event) {
+        if (!anyEventListeners.isEmpty()) {
+            return true;
+        } else if (DefaultEvent.class.isAssignableFrom(event)) {
+            return defaultEventListeners.values().stream().anyMatch(set -> !set.isEmpty());
+        } else if (UIEvent.class.isAssignableFrom(event)) {
+            return uiEventListeners.values().stream().anyMatch(set -> !set.isEmpty());
+        } else {
+            final Set<Consumer<Event>> listeners = otherEventListeners.get(event);
+            return listeners != null && !listeners.isEmpty();
+        }
+    }
+
     @Override
     public void on(DefaultEvent event, Consumer<DefaultEvent> action) {
         defaultListeners(event).add(action);
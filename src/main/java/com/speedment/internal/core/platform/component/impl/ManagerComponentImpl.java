@@ -17,6 +17,7 @@
 package com.speedment.internal.core.platform.component.impl;
 
 import com.speedment.Speedment;
+import com.speedment.component.Lifecyclable.State;
 import com.speedment.component.ManagerComponent;
 import com.speedment.config.db.Table;
 import com.speedment.exception.SpeedmentException;
@@ -35,11 +36,14 @@ public final class ManagerComponentImpl extends InternalOpenSourceComponent impl
 
     private final Map<Class<?>, Manager<?>> managersByEntity;
     private final Map<Table, Manager<?>> tableMap;
+    private final Map<Manager<?>, Object> activationLocks;
+    private volatile State activationState;
 
     public ManagerComponentImpl(Speedment speedment) {
         super(speedment);
         managersByEntity = new ConcurrentHashMap<>();
         tableMap         = new ConcurrentHashMap<>();
+        activationLocks  = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -58,7 +62,7 @@ public final class ManagerComponentImpl extends InternalOpenSourceComponent impl
         if (manager == null) {
             throw new SpeedmentException("No manager exists for " + entityClass);
         }
-        return manager;
+        return activated(manager);
     }
 
     @Override
@@ -70,7 +74,56 @@ public final class ManagerComponentImpl extends InternalOpenSourceComponent impl
     @SuppressWarnings("unchecked")
     public <ENTITY> Manager<ENTITY> findByTable(Table table) {
         requireNonNull(table);
-        return (Manager<ENTITY>) tableMap.get(table);
+        final Manager<ENTITY> manager = (Manager<ENTITY>) tableMap.get(table);
+        return manager == null ? null : activated(manager);
+    }
+
+    /**
+     * Sets the state that a manager is brought up to the first time it is
+     * retrieved using {@link #managerOf(Class)} or {@link #findByTable(Table)}.
+     * This is used when managers are activated lazily, so that only the
+     * managers that are actually used are started. If {@code null}, managers
+     * are returned in whatever state they are. The {@link #stream()} method
+     * never activates any managers.
+     *
+     * @param activationState the state to bring managers up to, or null
+     */
+    public void setActivationState(State activationState) {
+        if (activationState == State.CREATED || activationState == State.STOPPED) {
+            throw new IllegalArgumentException("Managers can not be activated up to " + activationState + ".");
+        }
+        this.activationState = activationState;
+    }
+
+    private <ENTITY> Manager<ENTITY> activated(Manager<ENTITY> manager) {
+        final State target = activationState;
+        if (target != null && !manager.getState().onOrAfter(target)) {
+            synchronized (activationLocks.computeIfAbsent(manager, m -> new Object())) {
+                if (!manager.getState().onOrAfter(target)) {
+                    activate(manager, target);
+                }
+            }
+        }
+        return manager;
+    }
+
+    private static void activate(Manager<?> manager, State target) {
+        switch (target) {
+            case INIITIALIZED:
+                manager.initialize();
+                break;
+            case LOADED:
+                manager.load();
+                break;
+            case RESOLVED:
+                manager.resolve();
+                break;
+            case STARTED:
+                manager.start();
+                break;
+            default:
+                throw new IllegalStateException("Unknown activation state " + target + ".");
+        }
     }
 
     @Override
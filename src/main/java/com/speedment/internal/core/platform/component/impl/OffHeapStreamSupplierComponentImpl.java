@@ -0,0 +1,349 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.Lifecyclable.State;
+import com.speedment.component.StreamSupplierComponent;
+import com.speedment.config.db.Table;
+import com.speedment.event.TableRefreshed;
+import com.speedment.field.ComparableField;
+import com.speedment.internal.core.cache.OffHeapRowStore;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import com.speedment.license.Software;
+import com.speedment.manager.Manager;
+import com.speedment.stream.StreamDecorator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.Stream;
+
+/**
+ * A {@link StreamSupplierComponent} that keeps a snapshot of the selected
+ * tables in {@link OffHeapRowStore OffHeapRowStores}. Streams over cached
+ * tables are served from off-heap memory and entities are only created as the
+ * stream is consumed. Tables that are not cached are streamed directly from the
+ * database.
+ * <p>
+ * Cached tables that have a monotonically increasing column (like an
+ * auto-increment id, a version or an update timestamp) can be kept up to date
+ * by polling for changed rows using
+ * {@link #refreshBy(Class, ComparableField, long, TimeUnit)}. Only the rows
+ * where the column is greater than or equal to the highest value seen so far
+ * are queried and applied to the store. Rows at exactly that value are
+ * recognized by their primary key, so that rows committed later with the same
+ * value (like two updates within the same timestamp) are still picked up. A
+ * row that is changed again without raising its value past the previous one is
+ * not detected. Deleted rows are not detected by polling either and remain in
+ * the cache until the table is {@link #reload(Manager) reloaded}.
+ * <p>
+ * Only the tables of managers that have been started when this component
+ * starts are cached. If the managers are activated lazily, the tables of the
+ * managers that are activated later are streamed from the database.
+ * <p>
+ * This component is installed using
+ * {@code .with(OffHeapStreamSupplierComponentImpl::new)} on the application
+ * builder.
+ *
+ * @since 2.3
+ */
+public class OffHeapStreamSupplierComponentImpl extends InternalOpenSourceComponent implements StreamSupplierComponent {
+
+    private final static Logger LOGGER = LoggerManager.getLogger(OffHeapStreamSupplierComponentImpl.class);
+
+    private final Predicate<Table> tableFilter;
+    private final OffHeapRowStore.Allocator allocator;
+    private final Map<Class<?>, OffHeapRowStore<?>> stores;
+    private final Map<Class<?>, Refresher<?, ?>> refreshers;
+    private ScheduledExecutorService scheduler;
+
+    public OffHeapStreamSupplierComponentImpl(Speedment speedment) {
+        this(speedment, t -> true, OffHeapRowStore.Allocator.direct());
+    }
+
+    public OffHeapStreamSupplierComponentImpl(Speedment speedment, Predicate<Table> tableFilter, OffHeapRowStore.Allocator allocator) {
+        super(speedment);
+        this.tableFilter = requireNonNull(tableFilter);
+        this.allocator = requireNonNull(allocator);
+        this.stores = new ConcurrentHashMap<>();
+        this.refreshers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Polls the table of the specified entity class for changed rows with the
+     * specified period once the component has started. The field must be
+     * monotonically increasing, so that every insert or update of a row sets
+     * it to a value greater than or equal to all the previous values in the
+     * table.
+     *
+     * @param <ENTITY> the entity type
+     * @param <V> the java type of the field
+     * @param entityClass the entity class of the cached table
+     * @param field the monotonically increasing field
+     * @param period the time between the end of one poll and the next
+     * @param unit the unit of the period
+     * @return a reference to this component
+     */
+    public <ENTITY, V extends Comparable<? super V>> OffHeapStreamSupplierComponentImpl refreshBy(
+        Class<ENTITY> entityClass, ComparableField<ENTITY, ?, V> field, long period, TimeUnit unit) {
+
+        requireNonNull(entityClass);
+        requireNonNull(field);
+        requireNonNull(unit);
+        if (period <= 0) {
+            throw new IllegalArgumentException("The refresh period must be positive, was " + period + ".");
+        }
+        refreshers.put(entityClass, new Refresher<>(entityClass, field, unit.toMillis(period)));
+        return this;
+    }
+
+    @Override
+    public void onStart() {
+        super.onStart();
+        // Managers that are activated lazily have not been started yet and
+        // their tables are streamed from the database instead
+        getSpeedment().getManagerComponent().stream()
+            .filter(m -> m.getState() == State.STARTED)
+            .filter(m -> tableFilter.test(m.getTable()))
+            .forEach(this::reload);
+
+        if (!refreshers.isEmpty()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                getSpeedment().getThreadFactoryComponent().newThreadFactory("off-heap-refresh")
+            );
+
+            refreshers.values().forEach(refresher ->
+                scheduler.scheduleWithFixedDelay(refresher,
+                    refresher.periodMillis, refresher.periodMillis, TimeUnit.MILLISECONDS
+                )
+            );
+        }
+    }
+
+    @Override
+    public void onStop() {
+        super.onStop();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        stores.keySet().forEach(entityClass -> {
+            final OffHeapRowStore<?> store = stores.remove(entityClass);
+            if (store != null) {
+                store.close();
+            }
+        });
+    }
+
+    @Override
+    public <ENTITY> Stream<ENTITY> stream(Class<ENTITY> entityClass, StreamDecorator decorator) {
+        requireNonNull(entityClass);
+        requireNonNull(decorator);
+
+        Optional<OffHeapRowStore<ENTITY>> store;
+        while ((store = storeOf(entityClass)).isPresent()) {
+            final Stream<ENTITY> entities;
+            try {
+                entities = store.get().stream();
+            } catch (final IllegalStateException closed) {
+                // The store was replaced by a concurrent reload, use the new one
+                continue;
+            }
+            return decorator.applyOnFinal(decorator.applyOnInitial(entities));
+        }
+        return getSpeedment().managerOf(entityClass).nativeStream(decorator);
+    }
+
+    /**
+     * Returns the store that holds the cached entities of the specified class,
+     * or an empty {@code Optional} if that class is not cached.
+     *
+     * @param <ENTITY> the entity type
+     * @param entityClass the entity class
+     * @return the store, if any
+     */
+    public <ENTITY> Optional<OffHeapRowStore<ENTITY>> storeOf(Class<ENTITY> entityClass) {
+        @SuppressWarnings("unchecked")
+        final OffHeapRowStore<ENTITY> store = (OffHeapRowStore<ENTITY>) stores.get(requireNonNull(entityClass));
+        return Optional.ofNullable(store);
+    }
+
+    /**
+     * Reloads the complete table of the specified manager from the database
+     * into a new store. The new store replaces the previous one once it has
+     * been completely loaded. The previous store is closed, but its memory is
+     * not released until the streams that are still reading from it are done.
+     *
+     * @param <ENTITY> the entity type
+     * @param manager the manager of the table to reload
+     */
+    public <ENTITY> void reload(Manager<ENTITY> manager) {
+        requireNonNull(manager);
+        if (!OffHeapRowStore.isSupported(manager)) {
+            LOGGER.warn("The table " + manager.getTable().getName()
+                + " has columns that can not be stored off-heap and will not be cached.");
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        final Refresher<ENTITY, ?> refresher = (Refresher<ENTITY, ?>) refreshers.get(manager.getEntityClass());
+
+        final OffHeapRowStore<ENTITY> store;
+        if (refresher == null) {
+            store = replace(manager, UnaryOperator.identity());
+        } else {
+            // A poll that runs after the high-water mark is reset but before
+            // the new store is installed would put its changes in the old
+            // store and then raise the mark past them, so they are excluded
+            synchronized (refresher) {
+                refresher.reset();
+                store = replace(manager, entities -> entities.peek(entity -> refresher.observe(manager, entity)));
+            }
+        }
+
+        LOGGER.info("Loaded " + store.size() + " rows of " + manager.getTable().getName()
+            + " into " + (store.allocatedBytes() >> 20) + " MB off-heap.");
+    }
+
+    private <ENTITY> OffHeapRowStore<ENTITY> replace(Manager<ENTITY> manager, UnaryOperator<Stream<ENTITY>> observer) {
+        final OffHeapRowStore<ENTITY> store = new OffHeapRowStore<>(manager, allocator, OffHeapRowStore.DEFAULT_CHUNK_SIZE);
+        try (final Stream<ENTITY> entities = manager.nativeStream(StreamDecorator.IDENTITY)) {
+            store.appendAll(observer.apply(entities));
+        }
+
+        final OffHeapRowStore<?> old = stores.put(manager.getEntityClass(), store);
+        if (old != null) {
+            old.close();
+        }
+        return store;
+    }
+
+    @Override
+    public boolean isImmutable() {
+        return true;
+    }
+
+    @Override
+    public Stream<Software> getDependencies() {
+        return Stream.empty();
+    }
+
+    @Override
+    public StreamSupplierComponent defaultCopy(Speedment speedment) {
+        final OffHeapStreamSupplierComponentImpl copy = new OffHeapStreamSupplierComponentImpl(speedment, tableFilter, allocator);
+        refreshers.values().forEach(r -> r.copyTo(copy));
+        return copy;
+    }
+
+    /**
+     * Polls a single cached table for rows where the field is greater than or
+     * equal to the current high-water mark and puts them in the store. The
+     * primary keys of the rows at the mark are remembered so that they are not
+     * applied again by every poll. Polls hold the monitor of the refresher, so
+     * they never interleave with a reload of the same table.
+     *
+     * @param <ENTITY> the entity type
+     * @param <V> the java type of the field
+     */
+    private final class Refresher<ENTITY, V extends Comparable<? super V>> implements Runnable {
+
+        private final Class<ENTITY> entityClass;
+        private final ComparableField<ENTITY, ?, V> field;
+        private final long periodMillis;
+        private final Set<Object> keysAtMark;
+        private volatile V highWaterMark;
+
+        private Refresher(Class<ENTITY> entityClass, ComparableField<ENTITY, ?, V> field, long periodMillis) {
+            this.entityClass = entityClass;
+            this.field = field;
+            this.periodMillis = periodMillis;
+            this.keysAtMark = new HashSet<>();
+        }
+
+        @Override
+        public synchronized void run() {
+            try {
+                final Optional<OffHeapRowStore<ENTITY>> store = storeOf(entityClass);
+                if (!store.isPresent()) {
+                    return;
+                }
+
+                final Manager<ENTITY> manager = store.get().getManager();
+                final V mark = highWaterMark;
+                final List<ENTITY> changed;
+                try (final Stream<ENTITY> entities = manager.nativeStream(StreamDecorator.IDENTITY)) {
+                    changed = (mark == null ? entities : entities.filter(field.greaterOrEqual(mark)))
+                        .filter(entity -> !isApplied(manager, entity, mark))
+                        .collect(toList());
+                }
+
+                for (final ENTITY entity : changed) {
+                    store.get().put(entity);
+                    observe(manager, entity);
+                }
+
+                if (!changed.isEmpty()) {
+                    new TableRefreshed(manager.getTable(), changed.size()).publish(getSpeedment());
+                }
+            } catch (final RuntimeException ex) {
+                // Thrown exceptions would cancel all future polls of the table
+                LOGGER.error(ex, "Failed to refresh the cached entities of " + entityClass.getSimpleName() + ".");
+            }
+        }
+
+        private void reset() {
+            highWaterMark = null;
+            keysAtMark.clear();
+        }
+
+        private boolean isApplied(Manager<ENTITY> manager, ENTITY entity, V mark) {
+            final V value = field.get(entity);
+            return mark != null && value != null && value.compareTo(mark) == 0
+                && keysAtMark.contains(manager.primaryKeyFor(entity));
+        }
+
+        private void observe(Manager<ENTITY> manager, ENTITY entity) {
+            final V value = field.get(entity);
+            if (value == null) {
+                return;
+            }
+            final int comparison = highWaterMark == null ? 1 : value.compareTo(highWaterMark);
+            if (comparison > 0) {
+                highWaterMark = value;
+                keysAtMark.clear();
+            }
+            if (comparison >= 0) {
+                keysAtMark.add(manager.primaryKeyFor(entity));
+            }
+        }
+
+        private void copyTo(OffHeapStreamSupplierComponentImpl copy) {
+            copy.refreshBy(entityClass, field, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
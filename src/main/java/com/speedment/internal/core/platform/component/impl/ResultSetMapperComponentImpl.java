@@ -28,19 +28,23 @@ import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public final class ResultSetMapperComponentImpl extends InternalOpenSourceComponent implements ResultSetMapperComponent {
 
     private final Map<Class<?>, ResultSetMapping<?>> map;
     private final Map<DbmsType, Map<Class<?>, ResultSetMapping<?>>> dbmsTypeMap;
+    private final Map<DbmsType, Map<Class<?>, ResultSetMapping<?>>> resolved;
+    private final AtomicInteger modificationCount;
 
     public ResultSetMapperComponentImpl(Speedment speedment) {
         super(speedment);
         map = newConcurrentMap();
         dbmsTypeMap = newConcurrentMap();
+        resolved = newConcurrentMap();
+        modificationCount = new AtomicInteger();
         StandardJavaTypeMapping.stream().forEach(this::put);
     }
 
@@ -50,26 +54,68 @@ public final class ResultSetMapperComponentImpl extends InternalOpenSourceCompon
 
     public ResultSetMapping<?> put(ResultSetMapping<?> item) {
         requireNonNull(item);
-        return map.put(item.getJavaClass(), item);
+        final ResultSetMapping<?> previous = map.put(item.getJavaClass(), item);
+        invalidate();
+        return previous;
     }
 
     public ResultSetMapping<?> put(DbmsType dbmsType, ResultSetMapping<?> item) {
         requireNonNull(dbmsType);
         requireNonNull(item);
-        return dbmsTypeMap.computeIfAbsent(dbmsType, k -> new ConcurrentHashMap<>()).put(item.getJavaClass(), item);
+        final ResultSetMapping<?> previous = dbmsTypeMap.computeIfAbsent(dbmsType, k -> new ConcurrentHashMap<>()).put(item.getJavaClass(), item);
+        invalidate();
+        return previous;
     }
 
     @Override
     public <T> ResultSetMapping<T> apply(DbmsType dbmsType, Class<T> javaClass) {
         requireNonNull(dbmsType);
         requireNonNull(javaClass);
-        return getFromMapOrThrow(dbmsTypeMap.getOrDefault(dbmsType, map), javaClass, () -> dbmsType + ", " + javaClass.getName());
+
+        Map<Class<?>, ResultSetMapping<?>> cache = resolved.get(dbmsType);
+        if (cache == null) {
+            cache = resolved.computeIfAbsent(dbmsType, k -> new ConcurrentHashMap<>());
+        }
+
+        ResultSetMapping<?> mapping = cache.get(javaClass);
+        if (mapping == null) {
+            final int modifications = modificationCount.get();
+            final Map<Class<?>, ResultSetMapping<?>> specific = dbmsTypeMap.get(dbmsType);
+            mapping = specific == null ? null : specific.get(javaClass);
+            if (mapping == null) {
+                mapping = map.get(javaClass);
+            }
+            if (mapping == null) {
+                throw noMappingFor(dbmsType + ", " + javaClass.getName());
+            }
+
+            // A mapping that was put while this one was resolved may not
+            // have been seen, so the result is only cached if there was none
+            if (modificationCount.get() == modifications) {
+                cache.put(javaClass, mapping);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        final ResultSetMapping<T> result = (ResultSetMapping<T>) mapping;
+        return result;
     }
 
     @Override
     public <T> ResultSetMapping<T> apply(Class<T> javaClass) {
         requireNonNull(javaClass);
-        return getFromMapOrThrow(map, javaClass, javaClass::getName);
+
+        @SuppressWarnings("unchecked")
+        final ResultSetMapping<T> result = (ResultSetMapping<T>) map.get(javaClass);
+        if (result == null) {
+            throw noMappingFor(javaClass.getName());
+        }
+        return result;
+    }
+
+    @Override
+    public int getModificationCount() {
+        return modificationCount.get();
     }
 
     @Override
@@ -82,13 +128,13 @@ public final class ResultSetMapperComponentImpl extends InternalOpenSourceCompon
         return new ResultSetMapperComponentImpl(speedment, this);
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> ResultSetMapping<T> getFromMapOrThrow(Map<Class<?>, ResultSetMapping<?>> map, Class<T> javaClass, Supplier<String> throwMessageSupplier) {
-        requireNonNull(map);
-        requireNonNull(javaClass);
-        requireNonNull(throwMessageSupplier);
-        return Optional.ofNullable((ResultSetMapping<T>) map.get(javaClass))
-            .orElseThrow(() -> new NullPointerException("The " + ResultSetMapperComponent.class.getSimpleName() + " does not have a mapping for " + throwMessageSupplier.get()));
+    private void invalidate() {
+        modificationCount.incrementAndGet();
+        resolved.clear();
+    }
+
+    private static NullPointerException noMappingFor(String description) {
+        return new NullPointerException("The " + ResultSetMapperComponent.class.getSimpleName() + " does not have a mapping for " + description);
     }
 
     private <K, V> Map<K, V> newConcurrentMap() {
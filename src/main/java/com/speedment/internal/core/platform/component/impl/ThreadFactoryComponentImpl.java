@@ -0,0 +1,157 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.ThreadFactoryComponent;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import com.speedment.license.Software;
+import java.lang.reflect.Method;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * The default {@link ThreadFactoryComponent}. Platform daemon threads are
+ * created unless the component is installed using
+ * {@code .with(ThreadFactoryComponentImpl::virtual)} on the application
+ * builder, in which case virtual threads are created if the JVM supports
+ * them.
+ * <p>
+ * Virtual threads are created through reflection, so that this class can be
+ * compiled and run on Java 8. On a JVM without virtual threads, the virtual
+ * mode falls back to platform threads with a warning.
+ *
+ * @since 2.3
+ */
+public final class ThreadFactoryComponentImpl extends InternalOpenSourceComponent implements ThreadFactoryComponent {
+
+    private final static Logger LOGGER = LoggerManager.getLogger(ThreadFactoryComponentImpl.class);
+
+    private final boolean virtual;
+
+    public ThreadFactoryComponentImpl(Speedment speedment) {
+        this(speedment, false);
+    }
+
+    private ThreadFactoryComponentImpl(Speedment speedment, boolean virtual) {
+        super(speedment);
+        this.virtual = virtual;
+    }
+
+    /**
+     * Creates a component that creates virtual threads, or platform threads
+     * if the JVM does not support virtual threads.
+     *
+     * @param speedment the speedment instance
+     * @return the new component
+     */
+    public static ThreadFactoryComponentImpl virtual(Speedment speedment) {
+        if (VirtualThreads.SUPPORTED) {
+            return new ThreadFactoryComponentImpl(speedment, true);
+        } else {
+            LOGGER.warn("Virtual threads are not supported by Java "
+                + System.getProperty("java.version") + ". Platform threads will be used instead.");
+            return new ThreadFactoryComponentImpl(speedment, false);
+        }
+    }
+
+    @Override
+    public ThreadFactory newThreadFactory(String purpose) {
+        requireNonNull(purpose);
+        return virtual
+            ? VirtualThreads.newThreadFactory(prefixOf(purpose))
+            : newPlatformThreadFactory(purpose);
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Returns a new factory for platform daemon threads used for the
+     * specified purpose, named as described by
+     * {@link ThreadFactoryComponent#newThreadFactory(String)}.
+     *
+     * @param purpose the purpose of the threads
+     * @return a new thread factory
+     */
+    public static ThreadFactory newPlatformThreadFactory(String purpose) {
+        final String prefix = prefixOf(purpose);
+        final AtomicInteger count = new AtomicInteger();
+        return r -> {
+            final Thread thread = new Thread(r, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public Stream<Software> getDependencies() {
+        return Stream.empty();
+    }
+
+    @Override
+    public ThreadFactoryComponent defaultCopy(Speedment speedment) {
+        return new ThreadFactoryComponentImpl(speedment, virtual);
+    }
+
+    private static String prefixOf(String purpose) {
+        return "speedment-" + requireNonNull(purpose) + "-";
+    }
+
+    /**
+     * Calls {@code Thread.ofVirtual().name(prefix, 1).factory()} if the
+     * running JVM has virtual threads.
+     */
+    private final static class VirtualThreads {
+
+        private final static Method OF_VIRTUAL, NAME, FACTORY;
+        private final static boolean SUPPORTED;
+
+        static {
+            Method ofVirtual = null, name = null, factory = null;
+            try {
+                final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = Thread.class.getMethod("ofVirtual");
+                name = builder.getMethod("name", String.class, long.class);
+                factory = builder.getMethod("factory");
+            } catch (final ClassNotFoundException | NoSuchMethodException ex) {
+                // Virtual threads are not available in this JVM
+            }
+            OF_VIRTUAL = ofVirtual;
+            NAME = name;
+            FACTORY = factory;
+            SUPPORTED = factory != null;
+        }
+
+        private static ThreadFactory newThreadFactory(String prefix) {
+            try {
+                final Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 1L);
+                return (ThreadFactory) FACTORY.invoke(builder);
+            } catch (final ReflectiveOperationException ex) {
+                throw new SpeedmentException("Could not create a virtual thread factory.", ex);
+            }
+        }
+
+        private VirtualThreads() {}
+    }
+}
@@ -54,7 +54,7 @@ public abstract class AbstractLifecycle<T extends Lifecyclable<T>> implements Li
     
     private static final Runnable NOTHING = () -> {};
 
-    private State state;
+    private volatile State state;
     private Runnable preInit, preLoad, preResolve, preStart, preStop, postStop;
     
     protected AbstractLifecycle() {
@@ -16,6 +16,8 @@
  */
 package com.speedment.internal.core.runtime;
 
+import java.util.Optional;
+
 /**
  * This interface defines how a Speedment application can obtain its
  * configuration meta data. For example, in a form of a json file
@@ -33,4 +35,18 @@ public interface ApplicationMetadata {
      */
     String getMetadata();
 
+    /**
+     * Returns the meta data as a binary snapshot created by the
+     * {@link com.speedment.internal.util.document.BinaryDocumentTranscoder},
+     * or an empty {@code Optional} if the meta data is only available as a
+     * String. If a snapshot is present, it is used instead of
+     * {@link #getMetadata()} when the application is started.
+     *
+     * @return the binary meta data, if any
+     * @since 2.3
+     */
+    default Optional<byte[]> getBinaryMetadata() {
+        return Optional.empty();
+    }
+
 }
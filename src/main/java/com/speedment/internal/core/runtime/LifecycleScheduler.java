@@ -0,0 +1,269 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.runtime;
+
+import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.core.platform.component.impl.ThreadFactoryComponentImpl;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Runs a single lifecycle phase (like initialize or start) for a number of
+ * managers or components on a bounded pool of daemon threads. An item is
+ * not invoked until all of its prerequisites have completed the same phase.
+ * The time spent on every item is recorded and can be retrieved using
+ * {@link #getTimings()}.
+ * <p>
+ * If the parallelism is {@code 1}, all the items are invoked in the calling
+ * thread.
+ *
+ * @since 2.3
+ */
+public final class LifecycleScheduler {
+
+    private final static Logger LOGGER = LoggerManager.getLogger(LifecycleScheduler.class);
+
+    /**
+     * The default number of threads used to run a phase.
+     */
+    public final static int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private final int parallelism;
+    private final Function<String, ThreadFactory> threadFactories;
+    private final List<Timing> timings;
+
+    public LifecycleScheduler(int parallelism) {
+        this(parallelism, ThreadFactoryComponentImpl::newPlatformThreadFactory);
+    }
+
+    /**
+     * Creates a scheduler that runs the phases on threads created by the
+     * specified function. The function is called with the name of the phase
+     * every time a phase is run using more than one thread.
+     *
+     * @param parallelism the maximum number of threads used to run a phase
+     * @param threadFactories returns a thread factory for a phase
+     */
+    public LifecycleScheduler(int parallelism, Function<String, ThreadFactory> threadFactories) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1, was " + parallelism + ".");
+        }
+        this.parallelism = parallelism;
+        this.threadFactories = requireNonNull(threadFactories);
+        this.timings = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Returns the maximum number of threads used to run a phase.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Invokes the action for every item and waits for all of them to complete.
+     * Prerequisites that are not among the items are ignored, as are
+     * dependencies that would form a cycle. Items are still invoked if one of
+     * their prerequisites failed.
+     *
+     * @param <T> the item type
+     * @param phase the name of the phase, used for timings and logging
+     * @param items the items to invoke the action for
+     * @param namer returns the name of an item
+     * @param prerequisites returns the items that must complete first
+     * @param action the action to invoke
+     *
+     * @throws SpeedmentException if the action failed for any of the items
+     */
+    public <T> void run(String phase, List<T> items, Function<T, String> namer,
+        Function<T, Stream<T>> prerequisites, Consumer<T> action) {
+
+        requireNonNull(phase);
+        requireNonNull(items);
+        requireNonNull(namer);
+        requireNonNull(prerequisites);
+        requireNonNull(action);
+
+        if (items.isEmpty()) {
+            return;
+        }
+
+        final long started = System.nanoTime();
+        final int threads = Math.min(parallelism, items.size());
+        final ExecutorService pool = threads > 1 ? newPool(phase, threads) : null;
+        final Executor executor = pool == null ? Runnable::run : pool;
+
+        try {
+            final Set<T> members = Collections.newSetFromMap(new IdentityHashMap<>());
+            members.addAll(items);
+            final Map<T, CompletableFuture<Void>> scheduled = new IdentityHashMap<>();
+            final Set<T> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            items.forEach(item -> schedule(item, phase, members, scheduled, visiting, namer, prerequisites, action, executor));
+
+            final List<Throwable> failures = new ArrayList<>();
+            scheduled.values().forEach(task -> {
+                try {
+                    task.join();
+                } catch (final CompletionException ex) {
+                    failures.add(ex.getCause() == null ? ex : ex.getCause());
+                }
+            });
+
+            LOGGER.debug("Phase %s of %d item(s) took %d ms using %d thread(s).",
+                phase, items.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), threads
+            );
+
+            if (!failures.isEmpty()) {
+                final SpeedmentException ex = new SpeedmentException(
+                    "Phase " + phase + " failed for " + failures.size() + " of " + items.size() + " item(s).",
+                    failures.get(0)
+                );
+                failures.stream().skip(1).forEach(ex::addSuppressed);
+                throw ex;
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns the time spent on every item in all the phases run so far, in
+     * the order they completed.
+     *
+     * @return the timings
+     */
+    public List<Timing> getTimings() {
+        return Collections.unmodifiableList(timings);
+    }
+
+    private <T> CompletableFuture<Void> schedule(T item, String phase, Set<T> members,
+        Map<T, CompletableFuture<Void>> scheduled, Set<T> visiting, Function<T, String> namer,
+        Function<T, Stream<T>> prerequisites, Consumer<T> action, Executor executor) {
+
+        final CompletableFuture<Void> existing = scheduled.get(item);
+        if (existing != null) {
+            return existing;
+        }
+
+        visiting.add(item);
+        final CompletableFuture<?>[] before = prerequisites.apply(item)
+            .filter(members::contains)
+            .filter(p -> p != item)
+            .distinct()
+            .filter(p -> {
+                if (visiting.contains(p)) {
+                    LOGGER.warn("Ignoring the cyclic dependency from " + namer.apply(item) + " to " + namer.apply(p) + ".");
+                    return false;
+                }
+                return true;
+            })
+            .map(p -> schedule(p, phase, members, scheduled, visiting, namer, prerequisites, action, executor))
+            .toArray(CompletableFuture<?>[]::new);
+        visiting.remove(item);
+
+        final CompletableFuture<Void> task = CompletableFuture.allOf(before)
+            .exceptionally(ex -> null) // Failures are reported by the prerequisite itself
+            .thenRunAsync(() -> timed(phase, item, namer, action), executor);
+
+        scheduled.put(item, task);
+        return task;
+    }
+
+    private <T> void timed(String phase, T item, Function<T, String> namer, Consumer<T> action) {
+        final long started = System.nanoTime();
+        try {
+            action.accept(item);
+        } finally {
+            timings.add(new Timing(phase, namer.apply(item), System.nanoTime() - started));
+        }
+    }
+
+    private ExecutorService newPool(String phase, int threads) {
+        return Executors.newFixedThreadPool(threads, threadFactories.apply(phase));
+    }
+
+    /**
+     * The time it took to run a single phase for a single item.
+     */
+    public final static class Timing {
+
+        private final String phase;
+        private final String name;
+        private final long nanos;
+
+        private Timing(String phase, String name, long nanos) {
+            this.phase = phase;
+            this.name = name;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns the name of the phase.
+         *
+         * @return the phase
+         */
+        public String getPhase() {
+            return phase;
+        }
+
+        /**
+         * Returns the name of the manager or component.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the elapsed time in nanoseconds.
+         *
+         * @return the elapsed time
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return phase + " " + name + " " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms";
+        }
+    }
+}
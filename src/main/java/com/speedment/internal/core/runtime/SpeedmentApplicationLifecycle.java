@@ -36,27 +36,36 @@ import com.speedment.db.DbmsHandler;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.internal.core.config.db.ProjectImpl;
 import com.speedment.internal.core.config.db.immutable.ImmutableProject;
+import com.speedment.internal.core.platform.component.impl.ManagerComponentImpl;
+import com.speedment.internal.core.platform.component.impl.ThreadFactoryComponentImpl;
 import com.speedment.internal.logging.Logger;
 import com.speedment.internal.logging.LoggerManager;
 import com.speedment.internal.util.Statistics;
 import com.speedment.internal.util.document.DocumentDbUtil;
+import com.speedment.internal.util.document.BinaryDocumentTranscoder;
 import com.speedment.internal.util.document.DocumentTranscoder;
 import static com.speedment.internal.util.document.DocumentUtil.Name.DATABASE_NAME;
 import static com.speedment.internal.util.document.DocumentUtil.relativeName;
+import com.speedment.license.Software;
 import com.speedment.manager.Manager;
 import static com.speedment.util.NullUtil.requireNonNulls;
 import com.speedment.util.tuple.Tuple2;
 import com.speedment.util.tuple.Tuple3;
 import com.speedment.util.tuple.Tuples;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import java.util.stream.Stream;
 
@@ -78,6 +87,9 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
     private final List<Tuple2<Class<? extends Document>, Consumer<? extends Document>>> withsAll;
     private boolean checkDatabaseConnectivity;
     private boolean validateRuntimeConfig;
+    private LifecycleScheduler scheduler;
+    private boolean lazyManagers;
+    private final Set<Class<?>> warmUpEntityClasses;
     private final List<Function<Speedment, Manager<?>>> customManagers;
 
     private ApplicationMetadata speedmentApplicationMetadata;
@@ -91,6 +103,8 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
         withsAll = newList();
         checkDatabaseConnectivity = true;
         validateRuntimeConfig = true;
+        scheduler = new LifecycleScheduler(LifecycleScheduler.DEFAULT_PARALLELISM, this::newThreadFactory);
+        warmUpEntityClasses = new HashSet<>();
         customManagers = new CopyOnWriteArrayList<>();
     }
 
@@ -412,6 +426,65 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
         return self();
     }
 
+    /**
+     * Sets the maximum number of threads used to initialize, load, resolve,
+     * start and stop the managers and components. The default value is the
+     * number of available processors. A value of {@code 1} runs every phase
+     * in the calling thread.
+     *
+     * @param parallelism the maximum number of threads
+     * @return this instance
+     */
+    public T withStartupParallelism(final int parallelism) {
+        this.scheduler = new LifecycleScheduler(parallelism, this::newThreadFactory);
+        return self();
+    }
+
+    /**
+     * Runs blocking work on virtual threads if the JVM supports them. This
+     * includes asynchronous manager operations, metadata reads and the
+     * lifecycle phases. The number of connections used is still bounded by
+     * the connection pool, see
+     * {@link com.speedment.component.connectionpool.ConnectionPoolComponent#setMaxLeaseSize(int)}.
+     * <p>
+     * This is the same as {@code with(ThreadFactoryComponentImpl::virtual)}.
+     *
+     * @return this instance
+     */
+    public T withVirtualThreads() {
+        return with(ThreadFactoryComponentImpl::virtual);
+    }
+
+    /**
+     * Makes the managers activate lazily. All managers are still registered
+     * upon build(), but a manager is not initialized, loaded, resolved or
+     * started until it is first retrieved from the {@link ManagerComponent}.
+     * This reduces the startup time and memory usage of applications that
+     * only use a few of the tables in a large project.
+     * <p>
+     * The managers of the specified entity classes are activated upon build()
+     * as usual.
+     *
+     * @param warmUpEntityClasses the entity classes of the managers to
+     * activate upon build()
+     * @return this instance
+     */
+    public T withLazyManagers(final Class<?>... warmUpEntityClasses) {
+        this.lazyManagers = true;
+        Stream.of(warmUpEntityClasses).map(Objects::requireNonNull).forEachOrdered(this.warmUpEntityClasses::add);
+        return self();
+    }
+
+    /**
+     * Returns the time spent on each manager and component in the lifecycle
+     * phases that have been run so far.
+     *
+     * @return the timings
+     */
+    public List<LifecycleScheduler.Timing> getStartupTimings() {
+        return scheduler.getTimings();
+    }
+
     /**
      * Adds a custom manager constructor, being called before build to replace
      * an existing manager.
@@ -428,8 +501,13 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
     @Override
     public void onInitialize() {
         super.onInitialize();
-        forEachManagerInSeparateThread(Manager::initialize);
-        forEachComponentInSeparateThread(Component::initialize);
+        if (lazyManagers && !(speedment.getManagerComponent() instanceof ManagerComponentImpl)) {
+            LOGGER.warn("Managers can only be activated lazily by the " + ManagerComponentImpl.class.getSimpleName()
+                + ". All managers will be activated upon build().");
+            lazyManagers = false;
+        }
+        forEachManager("initialize", Manager::initialize);
+        forEachComponent("initialize", Component::initialize);
         // In case a component added another component
         bringRemainingUpTo(State.INIITIALIZED);
     }
@@ -438,8 +516,8 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
     public void onLoad() {
         super.onLoad();
         bringRemainingUpTo(State.INIITIALIZED); // We need to double check since an inheriting class may have added things
-        forEachManagerInSeparateThread(Manager::load);
-        forEachComponentInSeparateThread(Component::load);
+        forEachManager("load", Manager::load);
+        forEachComponent("load", Component::load);
         // In case a component added another component
         bringRemainingUpTo(State.LOADED);
     }
@@ -448,8 +526,8 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
     public void onResolve() {
         super.onResolve();
         bringRemainingUpTo(State.LOADED); // We need to double check since an inheriting class may have added things
-        forEachManagerInSeparateThread(Manager::resolve);
-        forEachComponentInSeparateThread(Component::resolve);
+        forEachManager("resolve", Manager::resolve);
+        forEachComponent("resolve", Component::resolve);
         // In case a component added another component
         bringRemainingUpTo(State.RESOLVED);
     }
@@ -466,8 +544,8 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
         if (checkDatabaseConnectivity) {
             checkDatabaseConnectivity();
         }
-        forEachManagerInSeparateThread(Manager::start);
-        forEachComponentInSeparateThread(Component::start);
+        forEachManager("start", Manager::start);
+        forEachComponent("start", Component::start);
         // In case a component added another component
         bringRemainingUpTo(State.STARTED);
         Statistics.onNodeStarted();
@@ -517,8 +595,9 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
     @Override
     public void onStop() {
         super.onStop();
-        forEachManagerInSeparateThread(Manager::stop);
-        forEachComponentInSeparateThread(Component::stop);
+        setManagerActivationState(null);
+        forEachManager("stop", Manager::stop);
+        forEachComponent("stop", Component::stop);
     }
 
     /**
@@ -529,7 +608,18 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
         final Project project;
         
         if (meta != null) {
-            project = DocumentTranscoder.load(meta.getMetadata());
+            final Optional<byte[]> binary = meta.getBinaryMetadata();
+            if (binary.isPresent()) {
+                final Project loaded = BinaryDocumentTranscoder.load(binary.get());
+
+                // If there is nothing to override, the project can be made
+                // immutable directly
+                project = withsAll.isEmpty() && withsNamed.isEmpty()
+                    ? ImmutableProject.wrap(loaded)
+                    : loaded;
+            } else {
+                project = DocumentTranscoder.load(meta.getMetadata());
+            }
         } else {
             final Map<String, Object> data = new ConcurrentHashMap<>();
             data.put(HasName.NAME, "Project");
@@ -606,42 +696,58 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
     }
 
     /**
-     * Support method to do something with all managers i separate threads.
-     * Useful if, for example, initialization is lengthy.
+     * Support method to do something with all managers using the bounded
+     * startup threads. Useful if, for example, initialization is lengthy.
      *
      * @param managerConsumer to accept all Managers
      */
     protected void forEachManagerInSeparateThread(Consumer<Manager<?>> managerConsumer) {
-        requireNonNull(managerConsumer);
-        final ManagerComponent mc = speedment.getManagerComponent();
-        final List<Thread> threads = mc.stream()
-            .map(mgr -> new Thread(()
-                -> managerConsumer.accept(mgr),
-                mgr.getTable().getName()
-            ))
-            .collect(toList());
-        threads.forEach(Thread::start);
-        threads.forEach(SpeedmentApplicationLifecycle::join);
+        forEachManager("managers", managerConsumer);
     }
 
     protected void forEachComponentInSeparateThread(Consumer<Component> componentConsumer) {
-        requireNonNull(componentConsumer);
-        final List<Thread> threads = speedment.components()
-            .map(comp -> new Thread( // TODO: Change to ExecutorService
-                () -> componentConsumer.accept(comp),
-                comp.asSoftware().getName()
-            ))
+        forEachComponent("components", componentConsumer);
+    }
+
+    /**
+     * Runs the specified phase for all managers using the bounded startup
+     * threads. Managers do not depend on each other, so they may be invoked
+     * in any order.
+     *
+     * @param phase the name of the phase
+     * @param managerConsumer to accept all Managers
+     */
+    protected void forEachManager(String phase, Consumer<Manager<?>> managerConsumer) {
+        requireNonNull(managerConsumer);
+        final List<Manager<?>> managers = speedment.getManagerComponent().stream()
+            .filter(this::isActivatedByLifecycle)
             .collect(toList());
-        threads.forEach(Thread::start);
-        threads.forEach(SpeedmentApplicationLifecycle::join);
+        scheduler.run(phase, managers, mgr -> mgr.getTable().getName(), mgr -> Stream.empty(), managerConsumer);
     }
 
-    private static void join(Thread t) {
-        try {
-            t.join();
-        } catch (InterruptedException ex) {
-            // ignore
-        }
+    /**
+     * Runs the specified phase for all components using the bounded startup
+     * threads. A component is not invoked until the components that provide
+     * the software it depends on have completed the same phase.
+     *
+     * @param phase the name of the phase
+     * @param componentConsumer to accept all Components
+     */
+    protected void forEachComponent(String phase, Consumer<Component> componentConsumer) {
+        requireNonNull(componentConsumer);
+        final List<Component> components = speedment.components().collect(toList());
+        final Map<String, List<Component>> byName = components.stream()
+            .collect(groupingBy(comp -> comp.asSoftware().getName()));
+
+        scheduler.run(phase, components,
+            comp -> comp.asSoftware().getName(),
+            comp -> comp.asSoftware().getDependencies()
+                .map(Software::getName)
+                .map(byName::get)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream),
+            componentConsumer
+        );
     }
 
     private static <T> List<T> newList() {
@@ -675,7 +781,7 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
         // If a project has been set for the lifecycle, wrap it in an immutable
         // for performance reasons.
         final Project project = speedment.getProjectComponent().getProject();
-        if (project != null) {
+        if (project != null && !(project instanceof ImmutableProject)) {
             final Project immutableProject = ImmutableProject.wrap(project);
             speedment.getProjectComponent().setProject(immutableProject);
         }
@@ -693,6 +799,10 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
         });
     }
 
+    private ThreadFactory newThreadFactory(String phase) {
+        return speedment.getThreadFactoryComponent().newThreadFactory(phase);
+    }
+
     private char[] stringToCharArray(String s) {
         return s == null ? null : s.toCharArray();
     }
@@ -704,10 +814,26 @@ public abstract class SpeedmentApplicationLifecycle<T extends SpeedmentApplicati
         do {
             components = notUpTo(state, speedment.components());
             components.forEach(c -> bringUpTo(state, c));
-            managers = notUpTo(state, mc.stream());
-            managers.forEach(m -> bringUpTo(state, m));
+            managers = notUpTo(state, mc.stream().filter(this::isActivatedByLifecycle));
+            scheduler.run(state.name().toLowerCase(), managers, mgr -> mgr.getTable().getName(), mgr -> Stream.empty(), m -> bringUpTo(state, m));
         } while (!(managers.isEmpty() && components.isEmpty()));
 
+        // Managers that are activated lazily are brought up to the same state
+        // the first time they are used
+        setManagerActivationState(state);
+    }
+
+    private boolean isActivatedByLifecycle(Manager<?> manager) {
+        return !lazyManagers
+            || warmUpEntityClasses.contains(manager.getEntityClass())
+            || manager.getState() != State.CREATED;
+    }
+
+    private void setManagerActivationState(State state) {
+        final ManagerComponent mc = speedment.getManagerComponent();
+        if (lazyManagers && mc instanceof ManagerComponentImpl) {
+            ((ManagerComponentImpl) mc).setActivationState(state);
+        }
     }
 
     private <T extends Lifecyclable<?>> List<T> notUpTo(State state, Stream<T> stream) {
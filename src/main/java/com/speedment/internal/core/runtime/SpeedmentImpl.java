@@ -47,6 +47,7 @@ import com.speedment.internal.core.platform.component.impl.PasswordComponentImpl
 import com.speedment.internal.core.platform.component.impl.PrimaryKeyFactoryComponentImpl;
 import com.speedment.internal.core.platform.component.impl.ProjectComponentImpl;
 import com.speedment.internal.core.platform.component.impl.ResultSetMapperComponentImpl;
+import com.speedment.internal.core.platform.component.impl.ThreadFactoryComponentImpl;
 import com.speedment.internal.core.platform.component.impl.TypeMapperComponentImpl;
 import com.speedment.internal.core.platform.component.impl.UserInterfaceComponentImpl;
 import com.speedment.internal.logging.Level;
@@ -97,6 +98,7 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
         put(PasswordComponentImpl::new);
         put(CodeGenerationComponentImpl::new);
         put(DocumentPropertyComponentImpl::new);
+        put(ThreadFactoryComponentImpl::new);
     }
 
     @Override
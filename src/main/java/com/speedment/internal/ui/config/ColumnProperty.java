@@ -21,6 +21,8 @@ import com.speedment.component.DocumentPropertyComponent;
 import com.speedment.config.db.Column;
 import static com.speedment.config.db.Column.AUTO_INCREMENT;
 import static com.speedment.config.db.Column.DATABASE_TYPE;
+import static com.speedment.config.db.Column.DEDUPLICATED;
+import static com.speedment.config.db.Column.LAZY;
 import com.speedment.config.db.Table;
 import com.speedment.config.db.mapper.TypeMapper;
 import com.speedment.exception.SpeedmentException;
@@ -78,6 +80,24 @@ public final class ColumnProperty extends AbstractChildDocumentProperty<Table, C
         return autoIncrementProperty().get();
     }
 
+    public BooleanProperty lazyProperty() {
+        return booleanPropertyOf(LAZY, Column.super::isLazy);
+    }
+
+    @Override
+    public boolean isLazy() {
+        return lazyProperty().get();
+    }
+
+    public BooleanProperty deduplicatedProperty() {
+        return booleanPropertyOf(DEDUPLICATED, Column.super::isDeduplicated);
+    }
+
+    @Override
+    public boolean isDeduplicated() {
+        return deduplicatedProperty().get();
+    }
+
     public StringProperty typeMapperProperty() {
         return stringPropertyOf(TYPE_MAPPER, Column.super::getTypeMapper);
     }
@@ -144,6 +164,14 @@ public final class ColumnProperty extends AbstractChildDocumentProperty<Table, C
                     autoIncrementProperty(),
                     "Is Auto Incrementing",
                     "If this column will increment automatically for each new entity."
+                ), new BooleanPropertyItem(
+                    lazyProperty(),
+                    "Is Lazy",
+                    "If this column should only be loaded from the database when it is first requested."
+                ), new BooleanPropertyItem(
+                    deduplicatedProperty(),
+                    "Is Deduplicated",
+                    "If equal text values of this column should share the same instance in memory."
                 )
             )
         ).flatMap(s -> s);
@@ -18,6 +18,7 @@ package com.speedment.internal.ui.config;
 
 import com.speedment.Speedment;
 import com.speedment.config.db.Project;
+import static com.speedment.config.db.Project.BINARY_METADATA;
 import static com.speedment.config.db.Project.CONFIG_PATH;
 import static com.speedment.config.db.Project.DEFAULT_PROJECT_NAME;
 import static com.speedment.config.db.Project.PACKAGE_LOCATION;
@@ -28,6 +29,7 @@ import com.speedment.internal.ui.config.mutator.DocumentPropertyMutator;
 import com.speedment.internal.ui.config.mutator.ProjectPropertyMutator;
 import static com.speedment.internal.util.ImmutableListUtil.*;
 import com.speedment.internal.util.document.DocumentMerger;
+import com.speedment.internal.ui.property.BooleanPropertyItem;
 import com.speedment.internal.ui.property.DefaultStringPropertyItem;
 import com.speedment.internal.ui.property.StringPropertyItem;
 import com.speedment.internal.ui.config.trait.HasEnabledProperty;
@@ -41,6 +43,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -121,6 +124,15 @@ public final class ProjectProperty extends AbstractRootDocumentProperty<ProjectP
         return Optional.ofNullable(configPathProperty().get());
     }
 
+    public BooleanProperty binaryMetadataProperty() {
+        return booleanPropertyOf(BINARY_METADATA, Project.super::isBinaryMetadata);
+    }
+
+    @Override
+    public boolean isBinaryMetadata() {
+        return binaryMetadataProperty().get();
+    }
+
     public ObservableList<DbmsProperty> dbmsesProperty() {
         return observableListOf(DBMSES);
     }
@@ -159,6 +171,11 @@ public final class ProjectProperty extends AbstractRootDocumentProperty<ProjectP
                 new SimpleStringProperty(DEFAULT_PACKAGE_LOCATION),
                 "Package Location",
                 "The folder to store all generated files in. This should be a relative name from the working directory."
+            ),
+            new BooleanPropertyItem(
+                binaryMetadataProperty(),
+                "Binary Metadata",
+                "If the generated application should contain the project as a binary snapshot that is faster to load than JSON."
             )
         );
     }
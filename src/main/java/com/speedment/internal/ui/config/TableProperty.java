@@ -27,8 +27,10 @@ import com.speedment.internal.ui.config.trait.HasAliasProperty;
 import com.speedment.internal.ui.config.trait.HasEnabledProperty;
 import com.speedment.internal.ui.config.trait.HasExpandedProperty;
 import com.speedment.internal.ui.config.trait.HasNameProperty;
+import com.speedment.internal.ui.property.BooleanPropertyItem;
 import java.util.List;
 import java.util.stream.Stream;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import org.controlsfx.control.PropertySheet;
@@ -91,6 +93,15 @@ public final class TableProperty
         return primaryKeyColumnsProperty().stream();
     }
 
+    public BooleanProperty compactProperty() {
+        return booleanPropertyOf(COMPACT, Table.super::isCompact);
+    }
+
+    @Override
+    public boolean isCompact() {
+        return compactProperty().get();
+    }
+
     @Override
     public TablePropertyMutator mutator() {
         return DocumentPropertyMutator.of(this);
@@ -101,7 +112,12 @@ public final class TableProperty
         return Stream.of(
             HasEnabledProperty.super.getUiVisibleProperties(speedment),
             HasNameProperty.super.getUiVisibleProperties(speedment),
-            HasAliasProperty.super.getUiVisibleProperties(speedment)
+            HasAliasProperty.super.getUiVisibleProperties(speedment),
+            Stream.of(new BooleanPropertyItem(
+                compactProperty(),
+                "Is Compact",
+                "If the generated entities should store primitive values without boxing them."
+            ))
         ).flatMap(s -> s);
     }
 
@@ -48,6 +48,16 @@ public final class ColumnPropertyMutator extends ColumnMutator<ColumnProperty> i
         document().autoIncrementProperty().setValue(autoIncrement);
     }
 
+    @Override
+    public void setLazy(Boolean lazy) {
+        document().lazyProperty().setValue(lazy);
+    }
+
+    @Override
+    public void setDeduplicated(Boolean deduplicated) {
+        document().deduplicatedProperty().setValue(deduplicated);
+    }
+
     @Override
     public void setTypeMapper(TypeMapper<?, ?> typeMapper) {
         document().typeMapperObjectProperty().setValue(typeMapper);
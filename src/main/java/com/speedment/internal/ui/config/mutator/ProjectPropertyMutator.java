@@ -50,6 +50,11 @@ public final class ProjectPropertyMutator extends ProjectMutator<ProjectProperty
         document().configPathProperty().setValue(Paths.get(configPath));
     }
 
+    @Override
+    public void setBinaryMetadata(Boolean binaryMetadata) {
+        document().binaryMetadataProperty().setValue(binaryMetadata);
+    }
+
     @Override
     public void setCompanyName(String companyName) {
         document().companyNameProperty().setValue(companyName);
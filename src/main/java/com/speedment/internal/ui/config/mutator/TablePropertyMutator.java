@@ -39,6 +39,11 @@ public final class TablePropertyMutator extends TableMutator<TableProperty> impl
         super(table);
     }
 
+    @Override
+    public void setCompact(Boolean compact) {
+        document().compactProperty().setValue(compact);
+    }
+
     @Override
     public ColumnProperty addNewColumn() {
         final ColumnProperty child = new ColumnProperty(document());
@@ -0,0 +1,140 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.util;
+
+/**
+ * An open addressing hash set of primitive {@code long} values. Compared to a
+ * {@code HashSet<Long>}, values are neither boxed when stored nor when looked
+ * up, and all the values are kept in a single array which makes lookups
+ * cheap for large sets.
+ * <p>
+ * This class is not thread safe for concurrent modification, but can be read
+ * concurrently once it has been populated and safely published.
+ *
+ * @since 2.3
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private boolean containsEmpty;
+    private int size;
+
+    /**
+     * Creates a new set that can hold the specified number of values without
+     * having to be resized.
+     *
+     * @param expectedSize the expected number of values
+     */
+    public LongHashSet(int expectedSize) {
+        this.table = new long[capacityFor(expectedSize)];
+    }
+
+    /**
+     * Adds the specified value to this set.
+     *
+     * @param value the value to add
+     * @return {@code true} if the value was not already in the set
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsEmpty) {
+                return false;
+            }
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+
+        final int mask = table.length - 1;
+        int i = mix(value) & mask;
+        while (table[i] != EMPTY) {
+            if (table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        table[i] = value;
+        if (++size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the specified value is in this set.
+     *
+     * @param value the value to look for
+     * @return {@code true} if present, else {@code false}
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+
+        final long[] t = table;
+        final int mask = t.length - 1;
+        int i = mix(value) & mask;
+        while (t[i] != EMPTY) {
+            if (t[i] == value) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of values in this set.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    private void rehash(int capacity) {
+        final long[] old = table;
+        final int mask = capacity - 1;
+        table = new long[capacity];
+        for (final long value : old) {
+            if (value != EMPTY) {
+                int i = mix(value) & mask;
+                while (table[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = value;
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(long value) {
+        final long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded, thread safe dictionary of strings that makes equal strings share
+ * the same instance. This is used when reading columns with few distinct
+ * values (like a status or a country code), so that entities kept in memory do
+ * not hold a separate copy of the same string for every row.
+ * <p>
+ * Once the pool has reached its maximum size, new values are no longer added
+ * and are returned as they are. The size may exceed the maximum slightly if
+ * values are added concurrently.
+ *
+ * @since 2.3
+ */
+public final class StringPool {
+
+    /**
+     * The default maximum number of distinct strings held by a pool.
+     */
+    public final static int DEFAULT_MAX_SIZE = 4096;
+
+    private final Map<String, String> pool;
+    private final int maxSize;
+
+    public StringPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public StringPool(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum size can not be negative, was " + maxSize + ".");
+        }
+        this.pool = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pooled instance that is equal to the specified value. If no
+     * such instance exists, the value is added to the pool unless it is full.
+     *
+     * @param value  the value, may be {@code null}
+     * @return       the pooled instance, the value itself or {@code null} if
+     *               the value was {@code null}
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        } else if (pool.size() >= maxSize) {
+            return value;
+        }
+
+        final String previous = pool.putIfAbsent(value, value);
+        return previous == null ? value : previous;
+    }
+
+    /**
+     * Returns the number of distinct strings in this pool.
+     *
+     * @return  the number of strings
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    /**
+     * Removes all strings from this pool.
+     */
+    public void clear() {
+        pool.clear();
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.util;
+
+import com.speedment.config.db.mapper.FromIntTypeMapper;
+import com.speedment.config.db.mapper.ToDoubleTypeMapper;
+import com.speedment.config.db.mapper.ToIntTypeMapper;
+import com.speedment.config.db.mapper.ToLongTypeMapper;
+import com.speedment.config.db.mapper.TypeMapper;
+import static com.speedment.util.StaticClassUtil.instanceNotAllowed;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utility methods for converting values using a {@link TypeMapper} when the
+ * generic types of the mapper are not known at compile time.
+ *
+ * @since 2.3
+ */
+public final class TypeMapperUtil {
+
+    /**
+     * Converts the specified value from the java domain to the database domain
+     * using the specified mapper. Values of identity mappers are returned as
+     * they are, and mappers that implement one of the primitive
+     * specializations of {@link TypeMapper} are called using their primitive
+     * methods so that no intermediate wrapper is created.
+     *
+     * @param mapper the mapper to use
+     * @param javaValue the value to convert, may be {@code null}
+     * @return the converted value, or {@code null} if the value was
+     * {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static Object toDatabaseType(TypeMapper<?, ?> mapper, Object javaValue) {
+        requireNonNull(mapper);
+        if (javaValue == null || mapper.isIdentityMapper()) {
+            return javaValue;
+        } else if (mapper instanceof ToLongTypeMapper) {
+            return ((ToLongTypeMapper<?>) mapper).toDatabaseTypeFromLong((Long) javaValue);
+        } else if (mapper instanceof ToIntTypeMapper) {
+            return ((ToIntTypeMapper<?>) mapper).toDatabaseTypeFromInt((Integer) javaValue);
+        } else if (mapper instanceof ToDoubleTypeMapper) {
+            return ((ToDoubleTypeMapper<?>) mapper).toDatabaseTypeFromDouble((Double) javaValue);
+        } else if (mapper instanceof FromIntTypeMapper) {
+            return ((FromIntTypeMapper<Object>) mapper).toDatabaseTypeAsInt(javaValue);
+        } else {
+            return ((TypeMapper<Object, Object>) mapper).toDatabaseType(javaValue);
+        }
+    }
+
+    /**
+     * Utility classes should not be instantiated.
+     */
+    private TypeMapperUtil() {
+        instanceNotAllowed(getClass());
+    }
+}
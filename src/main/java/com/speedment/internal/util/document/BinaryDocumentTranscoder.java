@@ -0,0 +1,251 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.util.document;
+
+import com.speedment.config.db.Project;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.core.config.db.ProjectImpl;
+import static com.speedment.util.StaticClassUtil.instanceNotAllowed;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saves and loads a {@link Project} as a compact binary snapshot of its
+ * document tree. Loading a snapshot is considerably faster than parsing the
+ * same project from JSON using the {@link DocumentTranscoder} since no text
+ * has to be tokenized and every repeated string (like the keys of the
+ * documents) is only decoded once.
+ * <p>
+ * Values may be {@code null}, booleans, strings, numbers, lists and maps
+ * with string keys, which are all the types that a document loaded from JSON
+ * can hold. Integers, longs and doubles keep their exact type while other
+ * numbers are loaded as doubles.
+ *
+ * @since 2.3
+ */
+public final class BinaryDocumentTranscoder {
+
+    private static final int MAGIC   = 0x53504442; // "SPDB"
+    private static final int VERSION = 1;
+
+    private static final byte
+        NULL       = 0,
+        FALSE      = 1,
+        TRUE       = 2,
+        INT        = 3,
+        LONG       = 4,
+        DOUBLE     = 5,
+        STRING     = 6,
+        STRING_REF = 7,
+        LIST       = 8,
+        MAP        = 9;
+
+    /**
+     * Saves the document tree of the specified project as a binary snapshot.
+     *
+     * @param project  the project to save
+     * @return         the snapshot
+     * @throws SpeedmentException  if the project contains a value that can not
+     *                             be represented in a snapshot
+     */
+    public static byte[] save(Project project) throws SpeedmentException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            new Writer(out).write(project.getData());
+        } catch (final IOException ex) {
+            throw new SpeedmentException("Could not save binary project snapshot.", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Loads a project from a binary snapshot created using
+     * {@link #save(Project)}. The returned project is mutable.
+     *
+     * @param snapshot  the snapshot
+     * @return          the loaded project
+     * @throws SpeedmentException  if the snapshot is malformed
+     */
+    public static Project load(byte[] snapshot) throws SpeedmentException {
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            if (in.readInt() != MAGIC) {
+                throw new SpeedmentException("The data is not a binary project snapshot.");
+            }
+
+            final int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new SpeedmentException(
+                    "Unsupported binary project snapshot version " + version + "."
+                );
+            }
+
+            final Object root = new Reader(in).read();
+            if (!(root instanceof Map)) {
+                throw new SpeedmentException("The binary project snapshot does not contain a document.");
+            }
+
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> data = (Map<String, Object>) root;
+            return new ProjectImpl(data);
+        } catch (final IOException ex) {
+            throw new SpeedmentException("Could not load binary project snapshot.", ex);
+        }
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings;
+
+        private Writer(DataOutputStream out) {
+            this.out     = out;
+            this.strings = new HashMap<>();
+        }
+
+        private void write(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof Boolean) {
+                out.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof Integer) {
+                out.writeByte(INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Number) {
+                // Other numbers are stored as doubles, just as in JSON
+                out.writeByte(DOUBLE);
+                out.writeDouble(((Number) value).doubleValue());
+            } else if (value instanceof String) {
+                writeString((String) value);
+            } else if (value instanceof List) {
+                final List<?> list = (List<?>) value;
+                out.writeByte(LIST);
+                out.writeInt(list.size());
+                for (final Object item : list) {
+                    write(item);
+                }
+            } else if (value instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) value;
+                out.writeByte(MAP);
+                out.writeInt(map.size());
+                for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeString((String) entry.getKey());
+                    write(entry.getValue());
+                }
+            } else {
+                throw new SpeedmentException(
+                    "Values of type " + value.getClass().getName() + 
+                    " can not be saved in a binary project snapshot."
+                );
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            final Integer index = strings.get(value);
+            if (index == null) {
+                strings.put(value, strings.size());
+                final byte[] encoded = value.getBytes(UTF_8);
+                out.writeByte(STRING);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            } else {
+                out.writeByte(STRING_REF);
+                out.writeInt(index);
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final List<String> strings;
+
+        private Reader(DataInputStream in) {
+            this.in      = in;
+            this.strings = new ArrayList<>();
+        }
+
+        private Object read() throws IOException {
+            final byte tag = in.readByte();
+            switch (tag) {
+                case NULL   : return null;
+                case FALSE  : return false;
+                case TRUE   : return true;
+                case INT    : return in.readInt();
+                case LONG   : return in.readLong();
+                case DOUBLE : return in.readDouble();
+                case STRING : case STRING_REF : return readString(tag);
+                case LIST : {
+                    final int size = in.readInt();
+                    final List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(read());
+                    }
+                    return list;
+                }
+                case MAP : {
+                    final int size = in.readInt();
+                    final Map<String, Object> map = new LinkedHashMap<>(size * 2);
+                    for (int i = 0; i < size; i++) {
+                        final String key = readString(in.readByte());
+                        map.put(key, read());
+                    }
+                    return map;
+                }
+                default : throw new SpeedmentException(
+                    "Unknown tag " + tag + " in binary project snapshot."
+                );
+            }
+        }
+
+        private String readString(byte tag) throws IOException {
+            if (tag == STRING) {
+                final byte[] encoded = new byte[in.readInt()];
+                in.readFully(encoded);
+                final String value = new String(encoded, UTF_8);
+                strings.add(value);
+                return value;
+            } else if (tag == STRING_REF) {
+                return strings.get(in.readInt());
+            } else {
+                throw new SpeedmentException(
+                    "Expected a string in binary project snapshot but found tag " + tag + "."
+                );
+            }
+        }
+    }
+
+    /**
+     * Utility classes should not be instantiated.
+     */
+    private BinaryDocumentTranscoder() {
+        instanceNotAllowed(getClass());
+    }
+}
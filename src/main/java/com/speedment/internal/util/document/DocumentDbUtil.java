@@ -45,15 +45,20 @@ public final class DocumentDbUtil {
 
     public static DbmsType dbmsTypeOf(Speedment speedment, Dbms dbms) {
         final String typeName = dbms.getTypeName();
-        return speedment.getDbmsHandlerComponent().findByName(typeName)
-            .orElseThrow(() -> new SpeedmentException(
+        final DbmsType dbmsType = speedment.getDbmsHandlerComponent()
+            .findByName(typeName).orElse(null);
+
+        if (dbmsType == null) {
+            throw new SpeedmentException(
                 "Unable to find the database type "
                 + typeName
                 + ". The installed types are: "
                 + speedment.getDbmsHandlerComponent().supportedDbmsTypes()
                     .map(DbmsType::getName)
                     .collect(joining(", "))
-            ));
+            );
+        }
+        return dbmsType;
     }
 
     public static Stream<? extends Document> traverseOver(Project project) {
@@ -237,6 +242,26 @@ public final class DocumentDbUtil {
             );
     }
     
+    /**
+     * Returns {@code true} if the specified {@link Column} should be left out
+     * when entities are read and instead be loaded the first time it is
+     * requested. This is the case if the column is marked as
+     * {@link Column#isLazy() lazy}, its table has a primary key that can be
+     * used to load the value and the column is not part of that key.
+     *
+     * @param column  the column
+     * @return        {@code true} if loaded lazily, else {@code false}
+     */
+    public static boolean isLoadedLazily(Column column) {
+        if (!column.isLazy()) {
+            return false;
+        }
+
+        final Table table = column.getParentOrThrow();
+        return table.primaryKeyColumns().findAny().isPresent()
+            && !table.findPrimaryKeyColumn(column.getName()).isPresent();
+    }
+
     public static Column referencedColumn(Speedment speedment, FieldIdentifier<?> identifier) {
         return referencedColumn(speedment, identifier.dbmsName(), identifier.schemaName(), identifier.tableName(), identifier.columnName());
     }
@@ -254,39 +279,50 @@ public final class DocumentDbUtil {
     }
     
     public static Column referencedColumn(Speedment speedment, String dbmsName, String schemaName, String tableName, String columnName) {
-        return referencedTable(speedment, dbmsName, schemaName, tableName)
-            .columns().filter(column -> columnName.equals(column.getName()))
-            .findAny().orElseThrow(() -> new SpeedmentException(
-                "Could not find referenced " + Column.class.getSimpleName() + 
-                " with name '" + columnName + "'."
-            ));
+        final Column column = referencedTable(speedment, dbmsName, schemaName, tableName)
+            .findColumn(columnName).orElse(null);
+
+        if (column == null) {
+            throw noReferenced(Column.class, columnName);
+        }
+        return column;
     }
     
     public static Table referencedTable(Speedment speedment, String dbmsName, String schemaName, String tableName) {
-        return referencedSchema(speedment, dbmsName, schemaName)
-            .tables().filter(table -> tableName.equals(table.getName()))
-            .findAny().orElseThrow(() -> new SpeedmentException(
-                "Could not find referenced " + Table.class.getSimpleName() + 
-                " with name '" + tableName + "'."
-            ));
+        final Schema schema = referencedSchema(speedment, dbmsName, schemaName);
+        final Table table = schema.findTable(tableName).orElse(null);
+
+        if (table == null) {
+            throw noReferenced(Table.class, tableName);
+        }
+        return table;
     }
     
     public static Schema referencedSchema(Speedment speedment, String dbmsName, String schemaName) {
-        return referencedDbms(speedment, dbmsName)
-            .schemas().filter(schema -> schemaName.equals(schema.getName()))
-            .findAny().orElseThrow(() -> new SpeedmentException(
-                "Could not find referenced " + Schema.class.getSimpleName() + 
-                " with name '" + schemaName + "'."
-            ));
+        final Dbms dbms = referencedDbms(speedment, dbmsName);
+        final Schema schema = dbms.findSchema(schemaName).orElse(null);
+
+        if (schema == null) {
+            throw noReferenced(Schema.class, schemaName);
+        }
+        return schema;
     }
     
     public static Dbms referencedDbms(Speedment speedment, String dbmsName) {
-        return speedment.getProjectComponent().getProject()
-            .dbmses().filter(dbms -> dbmsName.equals(dbms.getName()))
-            .findAny().orElseThrow(() -> new SpeedmentException(
-                "Could not find referenced " + Dbms.class.getSimpleName() + 
-                " with name '" + dbmsName + "'."
-            ));
+        final Project project = speedment.getProjectComponent().getProject();
+        final Dbms dbms = project.findDbms(dbmsName).orElse(null);
+
+        if (dbms == null) {
+            throw noReferenced(Dbms.class, dbmsName);
+        }
+        return dbms;
+    }
+
+    private static SpeedmentException noReferenced(Class<?> type, String name) {
+        return new SpeedmentException(
+            "Could not find referenced " + type.getSimpleName() + 
+            " with name '" + name + "'."
+        );
     }
     
     /**
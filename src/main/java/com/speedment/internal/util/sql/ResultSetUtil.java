@@ -16,7 +16,6 @@
  */
 package com.speedment.internal.util.sql;
 
-import com.speedment.db.SqlFunction;
 import static com.speedment.util.StaticClassUtil.instanceNotAllowed;
 import java.math.BigDecimal;
 import java.net.URL;
@@ -42,194 +41,236 @@ import java.util.UUID;
  */
 public final class ResultSetUtil {
 
-    // Null safe RS getters, must have the same name as ResultSet getters
+    // Null safe RS getters, must have the same name as ResultSet getters.
+    // Values are read directly followed by wasNull() instead of using a
+    // capturing lambda, so that no garbage is created for each value read.
     public static Object getObject(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getObject(columnName));
+        final Object result = resultSet.getObject(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Boolean getBoolean(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getBoolean(columnName));
+        final boolean result = resultSet.getBoolean(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Byte getByte(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getByte(columnName));
+        final byte result = resultSet.getByte(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Short getShort(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getShort(columnName));
+        final short result = resultSet.getShort(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Integer getInt(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getInt(columnName));
+        final int result = resultSet.getInt(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Long getLong(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getLong(columnName));
+        final long result = resultSet.getLong(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Float getFloat(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getFloat(columnName));
+        final float result = resultSet.getFloat(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Double getDouble(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getDouble(columnName));
+        final double result = resultSet.getDouble(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static String getString(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getString(columnName));
+        final String result = resultSet.getString(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Date getDate(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getDate(columnName));
+        final Date result = resultSet.getDate(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Time getTime(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getTime(columnName));
+        final Time result = resultSet.getTime(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Timestamp getTimestamp(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getTimestamp(columnName));
+        final Timestamp result = resultSet.getTimestamp(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static BigDecimal getBigDecimal(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getBigDecimal(columnName));
+        final BigDecimal result = resultSet.getBigDecimal(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Blob getBlob(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getBlob(columnName));
+        final Blob result = resultSet.getBlob(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Clob getClob(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getClob(columnName));
+        final Clob result = resultSet.getClob(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Array getArray(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getArray(columnName));
+        final Array result = resultSet.getArray(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Ref getRef(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getRef(columnName));
+        final Ref result = resultSet.getRef(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static URL getURL(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getURL(columnName));
+        final URL result = resultSet.getURL(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static RowId getRowId(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getRowId(columnName));
+        final RowId result = resultSet.getRowId(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static NClob getNClob(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getNClob(columnName));
+        final NClob result = resultSet.getNClob(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static SQLXML getSQLXML(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getSQLXML(columnName));
+        final SQLXML result = resultSet.getSQLXML(columnName);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static UUID getUUID(final ResultSet resultSet, final String columnName) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getObject(columnName, UUID.class));
+        final UUID result = resultSet.getObject(columnName, UUID.class);
+        return resultSet.wasNull() ? null : result;
     }
 
     // Null safe RS getters (int), must have the same name as ResultSet getters
     public static Object getObject(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getObject(ordinalPosition));
+        final Object result = resultSet.getObject(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Boolean getBoolean(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getBoolean(ordinalPosition));
+        final boolean result = resultSet.getBoolean(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Byte getByte(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getByte(ordinalPosition));
+        final byte result = resultSet.getByte(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Short getShort(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getShort(ordinalPosition));
+        final short result = resultSet.getShort(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Integer getInt(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getInt(ordinalPosition));
+        final int result = resultSet.getInt(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Long getLong(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getLong(ordinalPosition));
+        final long result = resultSet.getLong(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Float getFloat(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getFloat(ordinalPosition));
+        final float result = resultSet.getFloat(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Double getDouble(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getDouble(ordinalPosition));
+        final double result = resultSet.getDouble(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static String getString(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getString(ordinalPosition));
+        final String result = resultSet.getString(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Date getDate(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getDate(ordinalPosition));
+        final Date result = resultSet.getDate(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Time getTime(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getTime(ordinalPosition));
+        final Time result = resultSet.getTime(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Timestamp getTimestamp(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getTimestamp(ordinalPosition));
+        final Timestamp result = resultSet.getTimestamp(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static BigDecimal getBigDecimal(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getBigDecimal(ordinalPosition));
+        final BigDecimal result = resultSet.getBigDecimal(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Blob getBlob(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getBlob(ordinalPosition));
+        final Blob result = resultSet.getBlob(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Clob getClob(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getClob(ordinalPosition));
+        final Clob result = resultSet.getClob(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Array getArray(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getArray(ordinalPosition));
+        final Array result = resultSet.getArray(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static Ref getRef(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getRef(ordinalPosition));
+        final Ref result = resultSet.getRef(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static URL getURL(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getURL(ordinalPosition));
+        final URL result = resultSet.getURL(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static RowId getRowId(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getRowId(ordinalPosition));
+        final RowId result = resultSet.getRowId(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static NClob getNClob(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getNClob(ordinalPosition));
+        final NClob result = resultSet.getNClob(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static SQLXML getSQLXML(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> rs.getSQLXML(ordinalPosition));
+        final SQLXML result = resultSet.getSQLXML(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
 
     public static UUID getUUID(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-        return getNullableFrom(resultSet, rs -> (UUID) rs.getObject(ordinalPosition));
+        final UUID result = (UUID) resultSet.getObject(ordinalPosition);
+        return resultSet.wasNull() ? null : result;
     }
     
 //    public static Object getPGLine(final ResultSet resultSet, final int ordinalPosition) throws SQLException {
-//        return getNullableFrom(resultSet, rs -> (Object) rs.getObject(ordinalPosition));
+//        final Object result = resultSet.getObject(ordinalPosition);
+//        return resultSet.wasNull() ? null : result;
 //    }
     
 
-    private static <T> T getNullableFrom(ResultSet rs, SqlFunction<ResultSet, T> mapper) throws SQLException {
-        final T result = mapper.apply(rs);
-        return rs.wasNull() ? null : result;
-    }
-
     /**
      * Utility classes should not be instantiated.
      */
@@ -21,6 +21,7 @@ import com.speedment.annotation.Api;
 import com.speedment.component.Lifecyclable;
 import com.speedment.config.db.Column;
 import com.speedment.config.db.Table;
+import com.speedment.db.DbmsHandler;
 import com.speedment.db.MetaResult;
 import com.speedment.db.trait.HasCreateFromConnectionMethods;
 import com.speedment.encoder.Encoder;
@@ -30,9 +31,20 @@ import com.speedment.field.trait.ComparableFieldTrait;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
 import com.speedment.stream.StreamDecorator;
+import com.speedment.stream.reactive.Publisher;
+import com.speedment.stream.reactive.StreamPublisher;
 import com.speedment.util.tuple.Tuple;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import static java.util.stream.Collectors.toList;
 import java.util.stream.Stream;
 
 /**
@@ -419,6 +431,27 @@ public interface Manager<ENTITY> extends Lifecyclable<Manager<ENTITY>>, HasCreat
      */
     ENTITY persist(ENTITY entity) throws SpeedmentException;
 
+    /**
+     * Persists all the provided entities to the underlying database and
+     * returns a list of potentially updated entities in the same order. If
+     * the persistence fails for any reason, an unchecked
+     * {@link SpeedmentException} is thrown.
+     * <p>
+     * Implementations may send the entities to the database in batches, in
+     * which case generated keys are read back once for each batch rather
+     * than once for each entity. The default implementation calls
+     * {@link #persist(Object)} for each entity.
+     *
+     * @param entities to persist
+     * @return entities reflecting the result of the persisted entities
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     * @since 2.3
+     */
+    default List<ENTITY> persistAll(Collection<ENTITY> entities) throws SpeedmentException {
+        return entities.stream().map(this::persist).collect(toList());
+    }
+
     /**
      * Updates the provided entity in the underlying database and returns a
      * potentially updated entity. If the update fails for any reason, an
@@ -464,6 +497,147 @@ public interface Manager<ENTITY> extends Lifecyclable<Manager<ENTITY>>, HasCreat
 
     ENTITY remove(ENTITY entity, Consumer<MetaResult<ENTITY>> consumer) throws SpeedmentException;
 
+    // Asynchronous operations
+    /**
+     * Runs the specified blocking operation on the threads that are reserved
+     * for the database of this manager and returns a future with its result.
+     * The caller thread is never blocked on the database.
+     * <p>
+     * The number of operations that run at the same time is bounded by the
+     * number of connections available to the database. If the database is
+     * saturated, the returned future fails with a {@link SpeedmentException}
+     * instead of blocking the caller, which should then slow down.
+     * <p>
+     * The default implementation runs the operation in the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     *
+     * @param <T> the result type
+     * @param operation the blocking operation to run
+     * @return a future with the result of the operation
+     * @see DbmsHandler#supplyAsync(Supplier)
+     * @since 2.3
+     */
+    default <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(operation);
+    }
+
+    /**
+     * Asynchronously persists the provided entity as described by
+     * {@link #persist(Object)}.
+     *
+     * @param entity to persist
+     * @return a future with the entity reflecting the persisted entity
+     * @see #supplyAsync(Supplier)
+     * @since 2.3
+     */
+    default CompletableFuture<ENTITY> persistAsync(ENTITY entity) {
+        requireNonNull(entity);
+        return supplyAsync(() -> persist(entity));
+    }
+
+    /**
+     * Asynchronously persists all the provided entities as described by
+     * {@link #persistAll(Collection)}. The entities are copied before this
+     * method returns, so the collection may be modified afterwards.
+     *
+     * @param entities to persist
+     * @return a future with the entities reflecting the persisted entities
+     * @see #supplyAsync(Supplier)
+     * @since 2.3
+     */
+    default CompletableFuture<List<ENTITY>> persistAllAsync(Collection<ENTITY> entities) {
+        final List<ENTITY> copy = new ArrayList<>(entities);
+        return supplyAsync(() -> persistAll(copy));
+    }
+
+    /**
+     * Asynchronously updates the provided entity as described by
+     * {@link #update(Object)}.
+     *
+     * @param entity to update
+     * @return a future with the entity reflecting the updated entity
+     * @see #supplyAsync(Supplier)
+     * @since 2.3
+     */
+    default CompletableFuture<ENTITY> updateAsync(ENTITY entity) {
+        requireNonNull(entity);
+        return supplyAsync(() -> update(entity));
+    }
+
+    /**
+     * Asynchronously removes the provided entity as described by
+     * {@link #remove(Object)}.
+     *
+     * @param entity to remove
+     * @return a future with the provided entity instance
+     * @see #supplyAsync(Supplier)
+     * @since 2.3
+     */
+    default CompletableFuture<ENTITY> removeAsync(ENTITY entity) {
+        requireNonNull(entity);
+        return supplyAsync(() -> remove(entity));
+    }
+
+    /**
+     * Asynchronously creates a {@link #stream() stream} over all entities,
+     * applies the specified function to it and returns a future with the
+     * result. The function should end the stream with a
+     * <em>Terminal Operation</em>, since the stream is closed once the
+     * function returns.
+     * <pre>{@code
+     * hares.streamAsync(s -> s.filter(Hare.AGE.greaterThan(5)).count())
+     *     .thenAccept(count -> ...);
+     * }</pre>
+     *
+     * @param <R> the result type
+     * @param terminator the function that consumes the stream
+     * @return a future with the result of the function
+     * @see #supplyAsync(Supplier)
+     * @since 2.3
+     */
+    default <R> CompletableFuture<R> streamAsync(Function<Stream<ENTITY>, R> terminator) {
+        requireNonNull(terminator);
+        return supplyAsync(() -> {
+            try (final Stream<ENTITY> entities = stream()) {
+                return terminator.apply(entities);
+            }
+        });
+    }
+
+    /**
+     * Asynchronously collects all entities using the specified
+     * {@link Collector}.
+     *
+     * @param <R> the result type
+     * @param <A> the intermediate accumulation type of the collector
+     * @param collector the collector to use
+     * @return a future with the collected result
+     * @see #streamAsync(Function)
+     * @since 2.3
+     */
+    default <R, A> CompletableFuture<R> collectAsync(Collector<? super ENTITY, A, R> collector) {
+        requireNonNull(collector);
+        return streamAsync(entities -> entities.collect(collector));
+    }
+
+    /**
+     * Returns a {@link Publisher} of all entities in the underlying database,
+     * for use in reactive pipelines. Every subscription reads the entities
+     * from the database only as they are requested by the subscriber, and
+     * releases its database resources as soon as all entities have been
+     * published or the subscription is cancelled. The entities are read and
+     * published on the threads used by {@link #supplyAsync(Supplier)}.
+     * <p>
+     * The default implementation consumes a new {@link #stream() stream} for
+     * every subscription.
+     *
+     * @return a publisher of all entities
+     * @since 2.3
+     */
+    default Publisher<ENTITY> publisher() {
+        return new StreamPublisher<>(this::stream, this::supplyAsync, StreamPublisher.DEFAULT_BATCH_SIZE);
+    }
+
     /**
      * Returns the {@link Speedment} instance for this Manager.
      *
@@ -27,5 +27,19 @@ import com.speedment.internal.core.manager.sql.SqlManager;
 public interface SpeedmentPredicateView {
 
     SqlPredicateFragment transform(SqlManager<?> manager, SpeedmentPredicate<?, ?, ?> model);
+
+    /**
+     * Returns the maximum number of parameters that the database can bind to
+     * a single statement. Predicates that would exceed the limit are not
+     * rendered into the {@code WHERE} clause, but are instead only evaluated
+     * on the rows that are streamed from the database. SQL Server, for an
+     * example, has a limit of 2100 parameters.
+     *
+     * @return  the maximum number of parameters in a statement
+     * @since   2.3
+     */
+    default int getMaxParameterCount() {
+        return Integer.MAX_VALUE;
+    }
     
 }
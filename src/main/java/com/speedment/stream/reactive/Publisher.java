@@ -0,0 +1,43 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream.reactive;
+
+import com.speedment.annotation.Api;
+
+/**
+ * A provider of a potentially unbounded number of elements that are
+ * published to a {@link Subscriber} according to the demand received from
+ * it.
+ *
+ * @param <T> the element type
+ * @since 2.3
+ */
+@Api(version = "2.3")
+@FunctionalInterface
+public interface Publisher<T> {
+
+    /**
+     * Requests the publisher to start publishing elements to the specified
+     * subscriber. Every call starts a new, independent subscription, which is
+     * passed to {@link Subscriber#onSubscribe(Subscription)}. No elements are
+     * published until they have been requested using
+     * {@link Subscription#request(long)}.
+     *
+     * @param subscriber the subscriber that will receive the elements
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
@@ -0,0 +1,252 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream.reactive;
+
+import com.speedment.annotation.Api;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Publisher} of the elements of a {@link Stream}. Every subscription
+ * creates a new stream from the source once the first element is requested,
+ * and then consumes elements only as they are demanded, at most
+ * {@code batchSize} elements at a time.
+ * <p>
+ * Elements are consumed using the specified asynchronous executor, which is
+ * also the thread the subscriber receives them on. The thread calling
+ * {@link Subscription#request(long)} is never blocked on the stream. The
+ * stream is held open while there is no demand, and is closed as soon as all
+ * elements have been published, the subscription is cancelled or it fails.
+ * If the executor rejects a task, the subscription fails.
+ *
+ * @param <T> the element type
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public final class StreamPublisher<T> implements Publisher<T> {
+
+    private final static Logger LOGGER = LoggerManager.getLogger(StreamPublisher.class);
+
+    /**
+     * The default maximum number of elements that are consumed between
+     * signals.
+     */
+    public final static int DEFAULT_BATCH_SIZE = 256;
+
+    private final Supplier<Stream<T>> source;
+    private final Function<Supplier<Void>, CompletableFuture<Void>> executor;
+    private final int batchSize;
+
+    /**
+     * Creates a publisher of the streams returned by the source.
+     *
+     * @param source the supplier of a new stream for every subscription
+     * @param executor runs the specified supplier asynchronously, like
+     * {@link CompletableFuture#supplyAsync(Supplier)}
+     * @param batchSize the maximum number of elements consumed at a time
+     */
+    public StreamPublisher(Supplier<Stream<T>> source, Function<Supplier<Void>, CompletableFuture<Void>> executor, int batchSize) {
+        this.source = requireNonNull(source);
+        this.executor = requireNonNull(executor);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be at least 1, was " + batchSize + ".");
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        new StreamSubscription(requireNonNull(subscriber)).start();
+    }
+
+    /**
+     * A single consumption of a stream. All signals to the subscriber are
+     * sent by the thread that holds the work-in-progress counter, so they are
+     * never sent concurrently.
+     */
+    private final class StreamSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested;
+        private final AtomicInteger wip;
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // Only accessed by the thread that holds the wip counter
+        private Stream<T> stream;
+        private Spliterator<T> elements;
+        private boolean done;
+
+        private StreamSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.requested = new AtomicLong();
+            this.wip = new AtomicInteger(1); // Held until onSubscribe returns
+        }
+
+        private void start() {
+            try {
+                subscriber.onSubscribe(this);
+            } catch (final RuntimeException ex) {
+                cancelled = true;
+                LOGGER.error(ex, "Subscriber " + subscriber + " threw an exception in onSubscribe.");
+            }
+            if (wip.decrementAndGet() != 0) {
+                submit();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException(
+                    "The number of requested elements must be positive, was " + n + "."
+                );
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                submit();
+            }
+        }
+
+        private void submit() {
+            final CompletableFuture<Void> future;
+            try {
+                future = executor.apply(() -> {
+                    drain();
+                    return null;
+                });
+            } catch (final RuntimeException rejected) {
+                fail(rejected);
+                return;
+            }
+
+            future.whenComplete((v, thrown) -> {
+                // The drain never throws, so the executor rejected it. The
+                // wip counter is never released, so no drain can follow.
+                if (thrown != null) {
+                    fail(thrown instanceof CompletionException && thrown.getCause() != null
+                        ? thrown.getCause() : thrown
+                    );
+                }
+            });
+        }
+
+        private void drain() {
+            int missed = wip.get();
+            do {
+                emit();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+
+            try {
+                if (invalidRequest != null) {
+                    fail(invalidRequest);
+                    return;
+                }
+
+                while (!cancelled) {
+                    final long demand = requested.get();
+                    if (demand == 0) {
+                        return;
+                    }
+
+                    if (elements == null) {
+                        stream = source.get();
+                        elements = stream.spliterator();
+                    }
+
+                    final int limit = (int) Math.min(demand, batchSize);
+                    final List<T> batch = new ArrayList<>(limit);
+                    while (batch.size() < limit && elements.tryAdvance(batch::add)) {}
+
+                    for (final T item : batch) {
+                        if (cancelled) {
+                            break;
+                        }
+                        subscriber.onNext(item);
+                    }
+                    requested.getAndUpdate(r -> r == Long.MAX_VALUE ? r : r - batch.size());
+
+                    if (batch.size() < limit) {
+                        close();
+                        if (!cancelled) {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                }
+
+                close();
+            } catch (final Throwable thrown) {
+                fail(thrown);
+            }
+        }
+
+        private void fail(Throwable thrown) {
+            if (done) {
+                return;
+            }
+            close();
+            if (!cancelled) {
+                subscriber.onError(thrown);
+            }
+        }
+
+        private void close() {
+            done = true;
+            elements = null;
+            if (stream != null) {
+                final Stream<T> closing = stream;
+                stream = null;
+                try {
+                    closing.close();
+                } catch (final RuntimeException ex) {
+                    // The subscriber has already received all the elements
+                    LOGGER.error(ex, "Failed to close the stream of " + subscriber + ".");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream.reactive;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Receives the elements of a {@link Publisher} that it has subscribed to.
+ * The methods of a subscriber are never called concurrently for the same
+ * subscription.
+ *
+ * @param <T> the element type
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface Subscriber<T> {
+
+    /**
+     * Called once when the subscription has been started. No elements are
+     * received until they are requested using the subscription.
+     *
+     * @param subscription the new subscription
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Called for every element, at most as many times as the number of
+     * elements requested.
+     *
+     * @param item the next element
+     */
+    void onNext(T item);
+
+    /**
+     * Called at most once if the subscription failed. No other methods are
+     * called after this method.
+     *
+     * @param throwable the reason for the failure
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called at most once when all elements have been received. No other
+     * methods are called after this method.
+     */
+    void onComplete();
+}
@@ -0,0 +1,46 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream.reactive;
+
+import com.speedment.annotation.Api;
+
+/**
+ * A link between a {@link Publisher} and a {@link Subscriber} that is used
+ * to signal demand and to cancel.
+ *
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface Subscription {
+
+    /**
+     * Adds the specified number of elements to the demand of the subscriber.
+     * The demand is capped at {@code Long.MAX_VALUE}, which is treated as
+     * unbounded. A non-positive number fails the subscription with an
+     * {@code IllegalArgumentException}.
+     *
+     * @param n the number of additional elements requested
+     */
+    void request(long n);
+
+    /**
+     * Requests the publisher to stop publishing elements and to release any
+     * resources held by the subscription. Elements that have already been
+     * published may still be received.
+     */
+    void cancel();
+}
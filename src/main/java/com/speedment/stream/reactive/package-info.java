@@ -0,0 +1,28 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+/**
+ * Interfaces for publishing entities to reactive pipelines with back-pressure
+ * are located in this package. They have the same methods and contracts as
+ * the interfaces of the
+ * <a href="http://www.reactive-streams.org/">Reactive Streams</a>
+ * specification and of {@code java.util.concurrent.Flow} in Java 9, so they
+ * can be adapted to either by delegating each method.
+ * <p>
+ * This package is part of the API. Modifications to classes here should only
+ * (if ever) be done in major releases.
+ */
+package com.speedment.stream.reactive;
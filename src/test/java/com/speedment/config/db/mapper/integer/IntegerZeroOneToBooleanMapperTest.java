@@ -53,4 +53,17 @@ public class IntegerZeroOneToBooleanMapperTest {
     	
     	Assert.assertTrue("DatabaseType should have value '0'", 0 == mapper.toDatabaseType(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPrimitiveMapping() {
+        Assert.assertEquals("JavaType should have value 'true'", true, mapper.toJavaTypeFromInt(1));
+        Assert.assertEquals("JavaType should have value 'false'", false, mapper.toJavaTypeFromInt(0));
+        Assert.assertEquals("DatabaseType should have value '1'", 1, mapper.toDatabaseTypeAsInt(true));
+    }
+
+    @Test
+    public void testNullMapping() {
+        Assert.assertNull("JavaType should be null", mapper.toJavaType(null));
+        Assert.assertNull("DatabaseType should be null", mapper.toDatabaseType(null));
+    }
+}
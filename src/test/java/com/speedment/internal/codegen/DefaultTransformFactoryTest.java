@@ -0,0 +1,82 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.codegen;
+
+import com.speedment.codegen.Generator;
+import com.speedment.codegen.Transform;
+import com.speedment.codegen.TransformFactory;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import static java.util.stream.Collectors.toSet;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public final class DefaultTransformFactoryTest {
+
+    @Test
+    public void testAllFromIsReused() {
+        final TransformFactory factory = new DefaultTransformFactory("test");
+        factory.install(CharSequence.class, String.class, FirstView.class);
+
+        final Set<Map.Entry<Class<?>, Transform<String, ?>>> first = factory.allFrom(String.class);
+        assertEquals(classes(FirstView.class), transformClasses(first));
+        assertSame(first, factory.allFrom(String.class));
+    }
+
+    @Test
+    public void testInstallInvalidatesInstances() {
+        final TransformFactory factory = new DefaultTransformFactory("test");
+        factory.install(CharSequence.class, String.class, FirstView.class);
+        final Set<Map.Entry<Class<?>, Transform<String, ?>>> first = factory.allFrom(String.class);
+
+        factory.install(String.class, Integer.class, SecondView.class);
+        final Set<Map.Entry<Class<?>, Transform<String, ?>>> second = factory.allFrom(String.class);
+        assertNotSame(first, second);
+        assertEquals(classes(FirstView.class, SecondView.class), transformClasses(second));
+
+        // Transforms of unrelated model classes are not included
+        assertEquals(classes(FirstView.class), transformClasses(factory.allFrom(StringBuilder.class)));
+    }
+
+    private static <T extends Transform<?, ?>> Set<Class<?>> transformClasses(Set<Map.Entry<Class<?>, T>> transforms) {
+        return transforms.stream()
+            .map(e -> e.getValue().getClass())
+            .collect(toSet());
+    }
+
+    private static Set<Class<?>> classes(Class<?>... classes) {
+        return Stream.of(classes).collect(toSet());
+    }
+
+    public static final class FirstView implements Transform<CharSequence, String> {
+
+        @Override
+        public Optional<String> transform(Generator gen, CharSequence model) {
+            return Optional.of(model.toString());
+        }
+    }
+
+    public static final class SecondView implements Transform<String, Integer> {
+
+        @Override
+        public Optional<Integer> transform(Generator gen, String model) {
+            return Optional.of(model.length());
+        }
+    }
+}
@@ -0,0 +1,422 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.cache;
+
+import com.speedment.config.db.Table;
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.identity.BigDecimalIdentityMapper;
+import com.speedment.config.db.mapper.identity.BooleanIdentityMapper;
+import com.speedment.config.db.mapper.identity.ByteIdentityMapper;
+import com.speedment.config.db.mapper.identity.DateIdentityMapper;
+import com.speedment.config.db.mapper.identity.DoubleIdentityMapper;
+import com.speedment.config.db.mapper.identity.FloatIdentityMapper;
+import com.speedment.config.db.mapper.identity.IntegerIdentityMapper;
+import com.speedment.config.db.mapper.identity.LongIdentityMapper;
+import com.speedment.config.db.mapper.identity.ShortIdentityMapper;
+import com.speedment.config.db.mapper.identity.StringIdentityMapper;
+import com.speedment.config.db.mapper.identity.TimeIdentityMapper;
+import com.speedment.config.db.mapper.identity.TimestampIdentityMapper;
+import com.speedment.config.db.mapper.identity.UUIDIdentityMapper;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.internal.core.field.ReferenceFieldImpl;
+import com.speedment.manager.Manager;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public final class OffHeapRowStoreTest {
+
+    private final static Manager<Row> MANAGER = newManager(Stream::empty);
+
+    @Test
+    public void testRoundTripOfEverySlotType() {
+        final Row row = fullRow(1, "Hello, World!");
+        try (final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER)) {
+            assertEquals(Column.values().length, store.columnCount());
+            assertEquals(0, store.append(row));
+            assertEquals(1, store.size());
+
+            final Row copy = store.get(0);
+            assertNotSame(row, copy);
+            for (final Column column : Column.values()) {
+                assertEquals(column.name(), row.values[column.ordinal()], copy.values[column.ordinal()]);
+            }
+            assertEquals(Column.TIMESTAMP.ordinal(), store.columnIndexOf(Column.TIMESTAMP));
+        }
+    }
+
+    @Test
+    public void testSlotTypesCoverAllColumns() {
+        assertEquals(
+            Arrays.stream(SlotType.values()).map(Enum::name).collect(toList()),
+            Arrays.stream(Column.values()).map(Enum::name).collect(toList())
+        );
+    }
+
+    @Test
+    public void testNulls() {
+        try (final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER)) {
+            final Row empty = new Row();
+            empty.values[Column.INT.ordinal()] = 7;
+            store.append(empty);
+            store.append(fullRow(8, null));
+
+            final Row first = store.get(0);
+            for (final Column column : Column.values()) {
+                if (column == Column.INT) {
+                    assertEquals(7, first.values[column.ordinal()]);
+                } else {
+                    assertNull(column.name(), first.values[column.ordinal()]);
+                }
+            }
+
+            final Row second = store.get(1);
+            assertNull(second.values[Column.STRING.ordinal()]);
+            assertEquals(new BigDecimal("8.25"), second.values[Column.BIG_DECIMAL.ordinal()]);
+
+            store.forEachRow(r -> {
+                assertEquals(r.index() == 0, r.isNull(Column.LONG.ordinal()));
+                assertTrue(r.isNull(Column.STRING.ordinal()));
+            });
+        }
+    }
+
+    @Test
+    public void testVariableWidthValues() {
+        final String[] names = {"", "a", "åäö ☃ 😀", repeat('x', 1000)};
+        try (final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER)) {
+            for (int i = 0; i < names.length; i++) {
+                store.append(fullRow(i, names[i]));
+            }
+            final List<Row> rows = store.stream().collect(toList());
+            assertEquals(names.length, rows.size());
+            for (int i = 0; i < names.length; i++) {
+                assertEquals(names[i], rows.get(i).values[Column.STRING.ordinal()]);
+                assertEquals(new BigDecimal(i + ".25"), rows.get(i).values[Column.BIG_DECIMAL.ordinal()]);
+            }
+        }
+    }
+
+    @Test
+    public void testChunkBoundary() {
+        final int chunkSize = 256;
+        try (final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER, OffHeapRowStore.Allocator.direct(), chunkSize)) {
+            for (int i = 0; i < 100; i++) {
+                store.append(fullRow(i, repeat('n', i)));
+            }
+            assertTrue("Rows span several chunks", store.allocatedBytes() > 10 * chunkSize);
+            for (int i = 0; i < 100; i++) {
+                final Row row = store.get(i);
+                assertEquals(i, row.values[Column.INT.ordinal()]);
+                assertEquals(repeat('n', i), row.values[Column.STRING.ordinal()]);
+            }
+
+            try {
+                store.append(fullRow(100, repeat('n', chunkSize)));
+                fail("A row larger than a chunk should be rejected");
+            } catch (final RuntimeException expected) {
+                assertEquals(100, store.size());
+            }
+        }
+    }
+
+    @Test
+    public void testMappedFilesAreDeletedOnRelease() throws Exception {
+        final Path directory = Files.createTempDirectory("speedment");
+        try {
+            final int chunkSize = 256;
+            try (final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER, OffHeapRowStore.Allocator.mappedFiles(directory), chunkSize)) {
+                for (int i = 0; i < 20; i++) {
+                    store.append(fullRow(i, repeat('n', i)));
+                }
+                assertTrue("Rows span several files", fileCount(directory) > 1);
+                assertEquals(repeat('n', 19), store.get(19).values[Column.STRING.ordinal()]);
+            }
+            assertEquals(0, fileCount(directory));
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testStreamSurvivesClose() {
+        final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER);
+        for (int i = 0; i < 10; i++) {
+            store.append(fullRow(i, "row " + i));
+        }
+
+        final Iterator<Row> first = store.stream().iterator();
+        final Stream<Row> second = store.stream(r -> r.getInt(Column.INT.ordinal()) % 2 == 0);
+        assertEquals(0, first.next().values[Column.INT.ordinal()]);
+
+        store.close();
+        assertTrue(store.isClosed());
+        assertEquals("Memory is kept while streams are open", 10, store.size());
+        try {
+            store.stream();
+            fail("A closed store should not create new streams");
+        } catch (final IllegalStateException expected) {}
+
+        int count = 1;
+        while (first.hasNext()) {
+            assertEquals(count++, first.next().values[Column.INT.ordinal()]);
+        }
+        assertEquals(10, count);
+        assertEquals("The second stream is still open", 10, store.size());
+
+        assertEquals(5, second.count());
+        assertEquals("Memory is released once all streams are done", 0, store.size());
+    }
+
+    @Test
+    public void testClosingStreamReleasesStore() {
+        final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER);
+        for (int i = 0; i < 10; i++) {
+            store.append(fullRow(i, "row " + i));
+        }
+        try (final Stream<Row> stream = store.stream()) {
+            assertEquals(0, stream.findFirst().get().values[Column.INT.ordinal()]);
+            store.close();
+            assertEquals(10, store.size());
+        }
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testPut() {
+        try (final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER)) {
+            store.append(fullRow(1, "one"));
+            store.append(fullRow(2, "two"));
+
+            assertEquals("Existing rows are replaced", 1, store.put(fullRow(2, "second")));
+            assertEquals("New rows are appended", 2, store.put(fullRow(3, "three")));
+            assertEquals(3, store.size());
+            assertEquals(
+                Arrays.asList("one", "second", "three"),
+                store.stream().map(r -> r.values[Column.STRING.ordinal()]).collect(toList())
+            );
+
+            store.put(fullRow(2, null));
+            assertNull(store.get(1).values[Column.STRING.ordinal()]);
+            assertEquals(1, store.get(0).values[Column.INT.ordinal()]);
+        }
+    }
+
+    @Test
+    public void testPutReclaimsReplacedRows() {
+        final int chunkSize = 1024;
+        try (final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER, OffHeapRowStore.Allocator.direct(), chunkSize)) {
+            for (int i = 0; i < 10; i++) {
+                store.append(fullRow(i, "row " + i));
+            }
+            final long initial = store.allocatedBytes();
+
+            final Iterator<Row> reader = store.stream().iterator();
+            for (int round = 0; round < 1000; round++) {
+                store.put(fullRow(round % 10, "round " + round));
+            }
+            assertTrue(
+                "Memory should be bounded but was " + store.allocatedBytes() + " bytes",
+                store.allocatedBytes() <= 4 * initial
+            );
+
+            for (int i = 0; i < 10; i++) {
+                final Row row = store.get(i);
+                assertEquals(i, row.values[Column.INT.ordinal()]);
+                assertEquals("round " + (990 + i), row.values[Column.STRING.ordinal()]);
+                assertEquals(fullRow(i, null).values[Column.TIMESTAMP.ordinal()], row.values[Column.TIMESTAMP.ordinal()]);
+            }
+
+            int count = 0;
+            while (reader.hasNext()) {
+                assertEquals(count++, reader.next().values[Column.INT.ordinal()]);
+            }
+            assertEquals("Compaction is invisible to open streams", 10, count);
+        }
+    }
+
+    @Test
+    public void testConcurrentPut() throws Exception {
+        try (final OffHeapRowStore<Row> store = new OffHeapRowStore<>(MANAGER, OffHeapRowStore.Allocator.direct(), 4096)) {
+            for (int i = 0; i < 100; i++) {
+                store.append(fullRow(i, "row " + i));
+            }
+
+            final AtomicBoolean done = new AtomicBoolean();
+            final Thread writer = new Thread(() -> {
+                for (int round = 0; round < 10_000; round++) {
+                    store.put(fullRow(round % 100, "round " + round));
+                }
+                done.set(true);
+            });
+            writer.start();
+
+            while (!done.get()) {
+                final List<Row> rows = store.stream().collect(toList());
+                assertEquals(100, rows.size());
+                for (int i = 0; i < rows.size(); i++) {
+                    final Object[] values = rows.get(i).values;
+                    assertEquals(i, values[Column.INT.ordinal()]);
+                    final String name = (String) values[Column.STRING.ordinal()];
+                    assertTrue(name, name.equals("row " + i) || name.startsWith("round "));
+                }
+            }
+            writer.join();
+        }
+    }
+
+    private static long fileCount(Path directory) throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static String repeat(char c, int times) {
+        final char[] chars = new char[times];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    public static Row fullRow(int id, String name) {
+        final Row row = new Row();
+        final Object[] v = row.values;
+        v[Column.BOOLEAN.ordinal()] = id % 2 == 0;
+        v[Column.BYTE.ordinal()] = (byte) -id;
+        v[Column.SHORT.ordinal()] = (short) (id * 100);
+        v[Column.INT.ordinal()] = id;
+        v[Column.LONG.ordinal()] = Long.MAX_VALUE - id;
+        v[Column.FLOAT.ordinal()] = id + 0.5f;
+        v[Column.DOUBLE.ordinal()] = -id - 0.125;
+        v[Column.DATE.ordinal()] = new Date(86_400_000L * id);
+        v[Column.TIME.ordinal()] = new Time(3_600_000L + id);
+        final Timestamp timestamp = new Timestamp(1_000_000_000_000L + id * 1000L);
+        timestamp.setNanos(123_456_789);
+        v[Column.TIMESTAMP.ordinal()] = timestamp;
+        v[Column.UUID_.ordinal()] = new UUID(id, -id);
+        v[Column.STRING.ordinal()] = name;
+        v[Column.BIG_DECIMAL.ordinal()] = new BigDecimal(id + ".25");
+        return row;
+    }
+
+    public static final class Row {
+        public final Object[] values = new Object[Column.values().length];
+    }
+
+    public enum Column implements FieldIdentifier<Row> {
+        BOOLEAN(new BooleanIdentityMapper()),
+        BYTE(new ByteIdentityMapper()),
+        SHORT(new ShortIdentityMapper()),
+        INT(new IntegerIdentityMapper()),
+        LONG(new LongIdentityMapper()),
+        FLOAT(new FloatIdentityMapper()),
+        DOUBLE(new DoubleIdentityMapper()),
+        DATE(new DateIdentityMapper()),
+        TIME(new TimeIdentityMapper()),
+        TIMESTAMP(new TimestampIdentityMapper()),
+        UUID_(new UUIDIdentityMapper()),
+        STRING(new StringIdentityMapper()),
+        BIG_DECIMAL(new BigDecimalIdentityMapper());
+
+        private final FieldTrait field;
+
+        <V> Column(TypeMapper<V, V> typeMapper) {
+            this.field = new ReferenceFieldImpl<Row, V, V>(this,
+                row -> typeMapper.getJavaType().cast(row.values[ordinal()]),
+                (row, value) -> {
+                    row.values[ordinal()] = value;
+                    return row;
+                },
+                typeMapper, false
+            );
+        }
+
+        @Override
+        public String columnName() {
+            return name().toLowerCase();
+        }
+
+        @Override
+        public String dbmsName() {
+            return "my_dbms";
+        }
+
+        @Override
+        public String schemaName() {
+            return "my_schema";
+        }
+
+        @Override
+        public String tableName() {
+            return "my_table";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Manager<Row> newManager(Supplier<Stream<Row>> table) {
+        final Table tableConfig = (Table) Proxy.newProxyInstance(
+            OffHeapRowStoreTest.class.getClassLoader(), new Class<?>[] {Table.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getName":
+                        return "my_table";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+
+        return (Manager<Row>) Proxy.newProxyInstance(
+            OffHeapRowStoreTest.class.getClassLoader(), new Class<?>[] {Manager.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "fields":
+                        return Arrays.stream(Column.values()).map(c -> c.field);
+                    case "newEmptyEntity":
+                        return new Row();
+                    case "primaryKeyFor":
+                        return ((Row) args[0]).values[Column.INT.ordinal()];
+                    case "getTable":
+                        return tableConfig;
+                    case "getEntityClass":
+                        return Row.class;
+                    case "nativeStream":
+                        return table.get();
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.cache;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryResultCacheTest {
+
+    private static final String TABLE = "`db`.`user`";
+    private static final String OTHER_TABLE = "`db`.`user_group`";
+    private static final String SELECT = "SELECT `id`,`name` FROM `db`.`user` WHERE `id` = ?";
+    private static final String SELECT_OTHER = "SELECT `id` FROM `db`.`user_group`";
+
+    private QueryResultCache instance;
+
+    @Before
+    public void setUp() {
+        instance = new QueryResultCache(1, TimeUnit.HOURS, 4);
+    }
+
+    @Test
+    public void testGetByValues() {
+        assertTrue(instance.put(TABLE, instance.generation(TABLE), SELECT, singletonList(1), asList("a")));
+        assertEquals(Optional.of(asList("a")), instance.get(SELECT, singletonList(1)));
+        assertFalse(instance.get(SELECT, singletonList(2)).isPresent());
+    }
+
+    @Test
+    public void testInvalidateTable() {
+        instance.put(TABLE, instance.generation(TABLE), SELECT, singletonList(1), asList("a"));
+        instance.put(OTHER_TABLE, instance.generation(OTHER_TABLE), SELECT_OTHER, emptyList(), asList("b"));
+
+        instance.invalidate(TABLE);
+        assertFalse(instance.get(SELECT, singletonList(1)).isPresent());
+        assertTrue(instance.get(SELECT_OTHER, emptyList()).isPresent());
+    }
+
+    @Test
+    public void testInvalidateMatchesWholeReference() {
+        final String prefixTable = "`db`.`use`";
+        instance.put(TABLE, instance.generation(TABLE), SELECT, singletonList(1), asList("a"));
+        instance.put(prefixTable, instance.generation(prefixTable), "SELECT * FROM `db`.`use`", emptyList(), asList("b"));
+
+        instance.invalidate("`db`.`user");
+        instance.invalidate(prefixTable);
+        assertTrue(instance.get(SELECT, singletonList(1)).isPresent());
+        assertFalse(instance.get("SELECT * FROM `db`.`use`", emptyList()).isPresent());
+    }
+
+    @Test
+    public void testPutAfterInvalidation() {
+        final long generation = instance.generation(TABLE);
+        instance.invalidate(TABLE);
+        assertFalse(instance.put(TABLE, generation, SELECT, singletonList(1), asList("a")));
+        assertEquals(0, instance.size());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        instance.put(TABLE, 0, SELECT, singletonList(1), asList("a", "b"));
+        instance.put(TABLE, 0, SELECT, singletonList(2), asList("c", "d"));
+        instance.get(SELECT, singletonList(1));
+        instance.put(TABLE, 0, SELECT, singletonList(3), asList("e"));
+
+        assertTrue(instance.get(SELECT, singletonList(1)).isPresent());
+        assertFalse(instance.get(SELECT, singletonList(2)).isPresent());
+        assertTrue(instance.get(SELECT, singletonList(3)).isPresent());
+    }
+
+    @Test
+    public void testTooLargeResult() {
+        final List<String> rows = asList("a", "b", "c", "d", "e");
+        assertFalse(instance.put(TABLE, 0, SELECT, singletonList(1), rows));
+    }
+
+    @Test
+    public void testExpired() throws InterruptedException {
+        instance = new QueryResultCache(1, TimeUnit.MILLISECONDS, 4);
+        instance.put(TABLE, 0, SELECT, singletonList(1), asList("a"));
+        Thread.sleep(5);
+        assertFalse(instance.get(SELECT, singletonList(1)).isPresent());
+    }
+}
@@ -0,0 +1,432 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.code.model.java;
+
+import com.speedment.Speedment;
+import com.speedment.codegen.Meta;
+import com.speedment.codegen.model.File;
+import com.speedment.config.db.Project;
+import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.mapper.largeobject.StringClob;
+import com.speedment.db.AsynchronousQueryResult;
+import com.speedment.db.DbmsHandler;
+import com.speedment.db.SqlFunction;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.code.TranslatorManagerImpl;
+import com.speedment.internal.core.config.dbms.StandardDbmsType;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import com.speedment.manager.Manager;
+import com.speedment.util.ProgressMeasure;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.NClob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Struct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Before;
+import org.junit.BeforeClass;
+
+/**
+ * A model with a compact table {@code post} that is generated and compiled
+ * once per test class, so that tests can work with the generated entities and
+ * managers. The table has an auto increment primary key {@code id}, a
+ * nullable {@code score}, a {@code name} and a lazy {@code body}. The model
+ * also has a table {@code event} with a {@code name} and a primary key
+ * {@code time} that is mapped from a timestamp to a long. Statements are
+ * recorded by a {@link RecordingDbmsHandler} instead of being sent to a
+ * database.
+ */
+public abstract class GeneratedModel {
+
+    protected static final String PACKAGE = "com.company.myproject.mydbms.myschema.post.";
+    protected static final String EVENT_PACKAGE = "com.company.myproject.mydbms.myschema.event.";
+
+    protected static final String JSON = "{\"config\" : {"
+        + "\"name\" : \"myProject\", \"dbmses\" : [{"
+        + "\"name\" : \"myDbms\", \"typeName\" : \"" + StandardDbmsType.defaultType().getName() + "\", \"schemas\" : [{"
+        + "\"name\" : \"mySchema\", \"tables\" : [{"
+        + "\"name\" : \"post\", \"compact\" : true, \"columns\" : ["
+        + "{\"name\" : \"id\", \"typeMapper\" : \"com.speedment.config.db.mapper.identity.IntegerIdentityMapper\", "
+        + "\"databaseType\" : \"java.lang.Integer\", \"nullable\" : false, \"autoIncrement\" : true}, "
+        + "{\"name\" : \"score\", \"typeMapper\" : \"com.speedment.config.db.mapper.identity.IntegerIdentityMapper\", "
+        + "\"databaseType\" : \"java.lang.Integer\", \"nullable\" : true}, "
+        + "{\"name\" : \"name\", \"typeMapper\" : \"com.speedment.config.db.mapper.identity.StringIdentityMapper\", "
+        + "\"databaseType\" : \"java.lang.String\", \"nullable\" : false}, "
+        + "{\"name\" : \"body\", \"typeMapper\" : \"com.speedment.config.db.mapper.largeobject.ClobToStringMapper\", "
+        + "\"databaseType\" : \"java.sql.Clob\", \"nullable\" : true, \"lazy\" : true}"
+        + "], \"primaryKeyColumns\" : [{\"name\" : \"id\"}]"
+        + "}, {"
+        + "\"name\" : \"event\", \"columns\" : ["
+        + "{\"name\" : \"time\", \"typeMapper\" : \"com.speedment.config.db.mapper.time.TimestampToLongMapper\", "
+        + "\"databaseType\" : \"java.sql.Timestamp\", \"nullable\" : false}, "
+        + "{\"name\" : \"name\", \"typeMapper\" : \"com.speedment.config.db.mapper.identity.StringIdentityMapper\", "
+        + "\"databaseType\" : \"java.lang.String\", \"nullable\" : false}"
+        + "], \"primaryKeyColumns\" : [{\"name\" : \"time\"}]"
+        + "}]}]}]}}";
+
+    private static Map<String, String> sources;
+    private static ClassLoader classLoader;
+
+    protected Speedment speedment;
+    protected RecordingDbmsHandler handler;
+    protected Manager<Object> manager;
+    protected Manager<Object> eventManager;
+
+    @BeforeClass
+    public static void generatedModelSetUpClass() throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("The generated code is compiled with the system java compiler", compiler);
+
+        final Speedment speedment = newSpeedment();
+        final Map<String, String> files = new ConcurrentHashMap<>();
+        new TranslatorManagerImpl(speedment) {
+            @Override
+            public void writeToFile(Project project, Meta<File, String> meta, boolean overwriteExisting) {
+                files.put(meta.getModel().getName(), meta.getResult());
+            }
+        }.accept(speedment.getProjectComponent().getProject());
+
+        final Path dir = Files.createTempDirectory("speedment-generated");
+        final List<String> arguments = new ArrayList<>();
+        arguments.add("-nowarn");
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(dir.toString());
+
+        for (final Map.Entry<String, String> file : files.entrySet()) {
+            final Path path = dir.resolve(file.getKey());
+            Files.createDirectories(path.getParent());
+            Files.write(path, file.getValue().getBytes("UTF-8"));
+            arguments.add(path.toString());
+        }
+
+        assertEquals("The generated code does not compile", 0,
+            compiler.run(null, null, null, arguments.toArray(new String[arguments.size()]))
+        );
+
+        sources = files;
+        classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, GeneratedModel.class.getClassLoader());
+    }
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void generatedModelSetUp() throws Exception {
+        speedment = newSpeedment();
+        handler = new RecordingDbmsHandler();
+
+        final DbmsType dbmsType = StandardDbmsType.defaultType();
+        speedment.getDbmsHandlerComponent().install((DbmsType) Proxy.newProxyInstance(
+            DbmsType.class.getClassLoader(),
+            new Class<?>[]{DbmsType.class},
+            (proxy, method, args) -> "makeDbmsHandler".equals(method.getName())
+                ? handler
+                : invoke(method, dbmsType, args)
+        ));
+
+        manager = (Manager<Object>) classOf("PostManagerImpl")
+            .getConstructor(Speedment.class)
+            .newInstance(speedment);
+
+        eventManager = (Manager<Object>) Class.forName(EVENT_PACKAGE + "EventManagerImpl", true, classLoader)
+            .getConstructor(Speedment.class)
+            .newInstance(speedment);
+
+        speedment.getManagerComponent().put(manager);
+        speedment.getManagerComponent().put(eventManager);
+    }
+
+    /**
+     * Returns the generated source of the file with the specified simple
+     * name, for an example {@code "GeneratedPostImpl"}.
+     *
+     * @param simpleName  the simple name of the class
+     * @return            the source code
+     */
+    protected static String sourceOf(String simpleName) {
+        return sources.entrySet().stream()
+            .filter(e -> e.getKey().endsWith("/" + simpleName + ".java"))
+            .map(Map.Entry::getValue)
+            .findAny()
+            .orElseThrow(() -> new IllegalArgumentException("No file named " + simpleName));
+    }
+
+    protected static Class<?> classOf(String name) throws ClassNotFoundException {
+        final String packageName = name.startsWith("Generated") ? PACKAGE + "generated." : PACKAGE;
+        return Class.forName(packageName + name, true, classLoader);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static FieldIdentifier<Object> identifier(String name) throws ClassNotFoundException {
+        for (final Object constant : classOf("GeneratedPost$Identifier").getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return (FieldIdentifier<Object>) constant;
+            }
+        }
+        throw new IllegalArgumentException("No identifier named " + name);
+    }
+
+    protected static Object call(Object target, String methodName, Object... args) throws Exception {
+        for (final Method method : target.getClass().getMethods()) {
+            if (method.getName().equals(methodName) && method.getParameterCount() == args.length) {
+                return invoke(method, target, args);
+            }
+        }
+        throw new IllegalArgumentException("No method named " + methodName);
+    }
+
+    protected Object newPost(Integer id, String name) throws Exception {
+        final Object post = manager.newEmptyEntity();
+        if (id != null) {
+            call(post, "setId", id);
+        }
+        return call(post, "setName", name);
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) throws Exception {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    private static Speedment newSpeedment() {
+        return new DefaultSpeedmentApplicationLifecycle(JSON)
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+    }
+
+    /**
+     * A {@link DbmsHandler} that records the statements it is given. Queries
+     * return the rows added to {@link #results}, one list of rows per query,
+     * and inserts return the keys added to {@link #generatedKeys}, one key per
+     * inserted row unless {@link #batchKeys} are set for batches. The result
+     * sets are closed once the rows are mapped, and so are the large objects
+     * read from them.
+     */
+    public static final class RecordingDbmsHandler implements DbmsHandler {
+
+        public final List<String> statements = new ArrayList<>();
+        public final List<List<?>> values = new ArrayList<>();
+        public final Deque<List<Object[]>> results = new ArrayDeque<>();
+        public final Deque<Long> generatedKeys = new ArrayDeque<>();
+        public List<Long> batchKeys;
+
+        @Override
+        public <T> Stream<T> executeQuery(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper) {
+            record(sql, values);
+            final List<Object[]> rows = results.isEmpty() ? new ArrayList<>() : results.poll();
+            final boolean[] closed = {false};
+            final ResultSet resultSet = resultSetOf(rows, closed);
+            final List<T> mapped = new ArrayList<>();
+            try {
+                while (resultSet.next()) {
+                    mapped.add(rsMapper.apply(resultSet));
+                }
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(ex);
+            } finally {
+                closed[0] = true;
+            }
+            return mapped.stream();
+        }
+
+        @Override
+        public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsert(
+            String sql, List<?> values, List<F> generatedKeyFields, Consumer<List<Long>> generatedKeyConsumer) {
+            record(sql, values);
+            final List<Long> keys = new ArrayList<>();
+            if (!generatedKeyFields.isEmpty() && !generatedKeys.isEmpty()) {
+                keys.add(generatedKeys.poll());
+            }
+            generatedKeyConsumer.accept(keys);
+        }
+
+        @Override
+        public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsertBatch(
+            String sql, List<? extends List<?>> rows, List<F> generatedKeyFields, Consumer<List<Long>> generatedKeyConsumer) throws SQLException {
+            if (batchKeys == null) {
+                DbmsHandler.super.executeInsertBatch(sql, rows, generatedKeyFields, generatedKeyConsumer);
+            } else {
+                rows.forEach(values -> record(sql, values));
+                generatedKeyConsumer.accept(batchKeys);
+            }
+        }
+
+        @Override
+        public void executeUpdate(String sql, List<?> values) {
+            record(sql, values);
+        }
+
+        @Override
+        public void executeDelete(String sql, List<?> values) {
+            record(sql, values);
+        }
+
+        @Override
+        public <T> AsynchronousQueryResult<T> executeQueryAsync(String sql, List<?> values, Function<ResultSet, T> rsMapper) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Project> readSchemaMetadata(ProgressMeasure progressListener, Predicate<String> filterCriteria) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getDbmsInfoString() {
+            return "recording";
+        }
+
+        @Override
+        public Clob createClob() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Blob createBlob() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NClob createNClob() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SQLXML createSQLXML() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Array createArrayOf(String typeName, Object[] elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Struct createStruct(String typeName, Object[] attributes) {
+            throw new UnsupportedOperationException();
+        }
+
+        private void record(String sql, List<?> values) {
+            statements.add(sql);
+            this.values.add(new ArrayList<>(values));
+        }
+
+        private static ResultSet resultSetOf(List<Object[]> rows, boolean[] closed) {
+            final int[] row = {-1};
+            final boolean[] wasNull = {false};
+            return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    if (closed[0]) {
+                        throw new SQLException("The result set is closed.");
+                    }
+                    switch (method.getName()) {
+                        case "next":
+                            return ++row[0] < rows.size();
+                        case "wasNull":
+                            return wasNull[0];
+                        case "close":
+                            closed[0] = true;
+                            return null;
+                        case "getClob": {
+                            final Object value = rows.get(row[0])[(Integer) args[0] - 1];
+                            wasNull[0] = value == null;
+                            return value == null ? null : clobOf((String) value, closed);
+                        }
+                        default:
+                            if (method.getName().startsWith("get") && args != null && args[0] instanceof Integer) {
+                                final Object value = rows.get(row[0])[(Integer) args[0] - 1];
+                                wasNull[0] = value == null;
+                                return value == null ? zeroOf(method.getReturnType()) : value;
+                            }
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+            );
+        }
+
+        private static Object zeroOf(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            } else if (type == double.class) {
+                return 0d;
+            } else if (type == float.class) {
+                return 0f;
+            } else if (type == short.class) {
+                return (short) 0;
+            } else if (type == byte.class) {
+                return (byte) 0;
+            } else {
+                return null;
+            }
+        }
+
+        private static Clob clobOf(String value, boolean[] closed) {
+            final Clob clob = new StringClob(value);
+            return (Clob) Proxy.newProxyInstance(
+                Clob.class.getClassLoader(),
+                new Class<?>[]{Clob.class},
+                (proxy, method, args) -> {
+                    if (closed[0]) {
+                        throw new SQLException("The connection of the clob is closed.");
+                    }
+                    return invoke(method, clob, args);
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.code.model.java;
+
+import com.speedment.Speedment;
+import com.speedment.codegen.Meta;
+import com.speedment.codegen.model.File;
+import com.speedment.config.db.Column;
+import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Project;
+import com.speedment.config.db.Schema;
+import com.speedment.config.db.Table;
+import com.speedment.config.db.mapper.identity.IntegerIdentityMapper;
+import com.speedment.config.db.mapper.identity.LongIdentityMapper;
+import com.speedment.config.db.mapper.identity.StringIdentityMapper;
+import com.speedment.config.db.trait.HasName;
+import com.speedment.internal.core.code.TranslatorManagerImpl;
+import com.speedment.internal.core.config.dbms.StandardDbmsType;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import com.speedment.internal.util.document.DocumentTranscoder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Measures the time it takes to render all the translators of a synthetic
+ * project with many tables. Ignored by default since it takes a while; run it
+ * explicitly when working on the code generator.
+ */
+@Ignore
+public class TranslatorManagerBenchmark {
+
+    private static final Logger LOGGER = LoggerManager.getLogger(TranslatorManagerBenchmark.class);
+
+    private static final int TABLES = 400;
+    private static final int COLUMNS = 12;
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 5;
+
+    private Speedment speedment;
+    private Project project;
+
+    @Before
+    public void setUp() {
+        speedment = new DefaultSpeedmentApplicationLifecycle(syntheticProject())
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+
+        project = speedment.getProjectComponent().getProject();
+    }
+
+    @Test
+    public void sequential() {
+        run(1);
+    }
+
+    @Test
+    public void parallel() {
+        run(Runtime.getRuntime().availableProcessors());
+    }
+
+    private void run(int parallelism) {
+        final AtomicInteger files = new AtomicInteger();
+        final TranslatorManagerImpl instance = new TranslatorManagerImpl(speedment) {
+            @Override
+            public void writeToFile(Project project, Meta<File, String> meta, boolean overwriteExisting) {
+                files.incrementAndGet();
+            }
+        };
+        instance.setParallelism(parallelism);
+
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            files.set(0);
+            final long started = System.nanoTime();
+            instance.accept(project);
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            assertTrue(files.get() > TABLES);
+            LOGGER.info("%s: %d files from %d tables in %d ms using %d thread(s).",
+                i < WARMUP ? "Warmup " + (i + 1) : "Iteration " + (i - WARMUP + 1),
+                files.get(), TABLES, millis, parallelism
+            );
+        }
+    }
+
+    private static String syntheticProject() {
+        final StringBuilder tables = new StringBuilder();
+        for (int t = 0; t < TABLES; t++) {
+            final StringBuilder columns = new StringBuilder();
+            for (int c = 0; c < COLUMNS; c++) {
+                final Class<?> javaType;
+                final Class<?> mapper;
+                switch (c % 3) {
+                    case 0: javaType = Long.class; mapper = LongIdentityMapper.class; break;
+                    case 1: javaType = Integer.class; mapper = IntegerIdentityMapper.class; break;
+                    default: javaType = String.class; mapper = StringIdentityMapper.class; break;
+                }
+                columns.append(c == 0 ? "" : ",").append(object(
+                    entry(HasName.NAME, "column_" + c),
+                    entry(Column.TYPE_MAPPER, mapper.getName()),
+                    entry(Column.DATABASE_TYPE, javaType.getName())
+                ));
+            }
+
+            tables.append(t == 0 ? "" : ",").append(object(
+                entry(HasName.NAME, "table_" + t),
+                array(Table.COLUMNS, columns.toString()),
+                array(Table.PRIMARY_KEY_COLUMNS, object(entry(HasName.NAME, "column_0")))
+            ));
+        }
+
+        return object(quote(DocumentTranscoder.ROOT) + ":" + object(
+            entry(HasName.NAME, "benchmark"),
+            array(Project.DBMSES, object(
+                entry(HasName.NAME, "dbms"),
+                entry(Dbms.TYPE_NAME, StandardDbmsType.defaultType().getName()),
+                array(Dbms.SCHEMAS, object(
+                    entry(HasName.NAME, "schema"),
+                    array(Schema.TABLES, tables.toString())
+                ))
+            ))
+        ));
+    }
+
+    private static String object(String... entries) {
+        return "{" + String.join(",", entries) + "}";
+    }
+
+    private static String array(String key, String content) {
+        return quote(key) + ":[" + content + "]";
+    }
+
+    private static String entry(String key, String value) {
+        return quote(key) + ":" + quote(value);
+    }
+
+    private static String quote(String s) {
+        return "\"" + s + "\"";
+    }
+}
@@ -19,13 +19,24 @@ package com.speedment.internal.core.code.model.java;
 import com.speedment.code.StandardTranslatorKey;
 import com.speedment.code.Translator;
 import com.speedment.code.TranslatorManager;
+import com.speedment.codegen.Generator;
 import com.speedment.codegen.Meta;
 import com.speedment.codegen.model.File;
 import com.speedment.codegen.model.Interface;
 import com.speedment.config.db.Project;
 import com.speedment.config.db.Table;
+import com.speedment.event.BeforeGenerate;
 import com.speedment.internal.core.code.TranslatorManagerImpl;
 import com.speedment.util.JavaLanguageNamer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -50,6 +61,42 @@ public class TranslatorManagerTest extends SimpleModel {
         instance.accept(project);
     }
 
+    @Test
+    public void testParallelAccept() {
+        final Map<String, String> sequential = generate(1);
+        final Map<String, String> parallel = generate(4);
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testSequentialAcceptUsesGeneratorOfEvent() {
+        assertTrue(rendersWithGeneratorOfEvent(1));
+        assertFalse(rendersWithGeneratorOfEvent(4));
+    }
+
+    @Test
+    public void testUnchangedFileIsNotWritten() throws IOException {
+        final Path dir = Files.createTempDirectory("speedment-codegen");
+        final Path path = dir.resolve("Foo.java");
+        final TranslatorManagerImpl instance = new TranslatorManagerImpl(speedment);
+
+        try {
+            instance.writeToFile(path, "class Foo {}", true);
+            instance.writeToFile(path, "class Foo {}", true);
+            assertEquals(1, instance.getFilesCreated());
+            assertEquals(1, instance.getFilesUnchanged());
+
+            instance.writeToFile(path, "class Foo { }", true);
+            assertEquals(2, instance.getFilesCreated());
+            assertEquals("class Foo { }", new String(Files.readAllBytes(path), "UTF-8"));
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(dir);
+        }
+    }
+
     @Test
     public void testPreview() {
 
@@ -66,4 +113,46 @@ public class TranslatorManagerTest extends SimpleModel {
         assertTrue(code.contains(javaLanguageNamer.javaVariableName(column.getName())));
         assertTrue(code.contains(javaLanguageNamer.javaTypeName(column.getName())));
     }
+
+    /**
+     * Generates the project and returns if the imports of every file were
+     * loaded by the dependency manager of the generator that was passed to
+     * the {@link BeforeGenerate} event.
+     */
+    private boolean rendersWithGeneratorOfEvent(int parallelism) {
+        final AtomicReference<Generator> generator = new AtomicReference<>();
+        final AtomicBoolean loaded = new AtomicBoolean(true);
+        speedment.getEventComponent().on(BeforeGenerate.class, event -> generator.set(event.generator()));
+
+        new TranslatorManagerImpl(speedment) {
+
+            @Override
+            public void writeToFile(Project project, Meta<File, String> meta, boolean overwriteExisting) {
+                final boolean importsLoaded = meta.getModel().getImports().stream()
+                    .map(i -> i.getType().getName())
+                    .anyMatch(generator.get().getDependencyMgr()::isLoaded);
+                if (!importsLoaded) {
+                    loaded.set(false);
+                }
+            }
+
+        }.setParallelism(parallelism).accept(project);
+
+        return loaded.get();
+    }
+
+    private Map<String, String> generate(int parallelism) {
+        final Map<String, String> files = new ConcurrentHashMap<>();
+        final TranslatorManagerImpl instance = new TranslatorManagerImpl(speedment) {
+
+            @Override
+            public void writeToFile(Project project, Meta<File, String> meta, boolean overwriteExisting) {
+                assertTrue(files.put(meta.getModel().getName(), meta.getResult()) == null);
+            }
+
+        };
+        instance.setParallelism(parallelism).accept(project);
+        assertEquals(files.size(), instance.getTimings().size());
+        return files;
+    }
 }
@@ -0,0 +1,127 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.code.model.java.entity;
+
+import com.speedment.field.IntField;
+import com.speedment.field.methods.IntGetter;
+import com.speedment.internal.core.code.model.java.GeneratedModel;
+import com.speedment.internal.core.manager.sql.SqlManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class CompactEntityTest extends GeneratedModel {
+
+    @Test
+    public void testGeneratedCode() {
+        final String code = sourceOf("GeneratedPostImpl");
+        assertTrue(code.contains("private int id;"));
+        assertTrue(code.contains("private long nulls0_ = 0x3L;"));
+        assertTrue(code.contains("return (nulls0_ & 0x1L) == 0 ? id : null;"));
+        assertTrue(code.contains("return (nulls0_ & 0x2L) == 0 ? Optional.of(score) : Optional.empty();"));
+        assertTrue(code.contains("if (id == null) {"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPrimitiveGetter() throws Exception {
+        assertTrue(sourceOf("GeneratedPostImpl").contains("public final static class IdGetter implements IntGetter<Post>"));
+        assertTrue(sourceOf("GeneratedPost").contains("new GeneratedPostImpl.IdGetter()"));
+
+        final IntField<Object, Integer> id = (IntField<Object, Integer>) classOf("Post").getField("ID").get(null);
+        final IntGetter<Object> getter = id.getter();
+        assertFalse(getter.isSet(newPost(null, "first")));
+        assertTrue(getter.isSet(newPost(0, "first")));
+        assertEquals(5, getter.applyAsInt(newPost(5, "first")));
+        assertEquals(Integer.valueOf(5), getter.apply(newPost(5, "first")));
+
+        assertTrue(id.greaterThan(2).test(newPost(3, "first")));
+        assertFalse(id.greaterThan(2).test(newPost(null, "first")));
+        assertTrue(id.notEqual(2).test(newPost(null, "first")));
+        assertTrue(id.between(2, 4).test(newPost(3, "first")));
+        assertTrue(id.comparator().compare(newPost(3, "first"), newPost(4, "second")) < 0);
+        assertTrue(id.comparatorNullFieldsFirst().compare(newPost(null, "first"), newPost(4, "second")) < 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    @SuppressWarnings("unchecked")
+    public void testPrimitiveGetterOfUnsetValue() throws Exception {
+        final IntField<Object, Integer> id = (IntField<Object, Integer>) classOf("Post").getField("ID").get(null);
+        id.getter().applyAsInt(newPost(null, "first"));
+    }
+
+    @Test
+    public void testUnsetValues() throws Exception {
+        final Object post = newPost(null, "first");
+        assertNull(call(post, "getId"));
+        assertEquals(Optional.empty(), call(post, "getScore"));
+
+        call(post, "setId", 0);
+        assertEquals(0, call(post, "getId"));
+
+        call(post, "setId", (Object) null);
+        assertNull(call(post, "getId"));
+
+        assertEquals(newPost(null, "first"), post);
+        assertEquals(newPost(null, "first").hashCode(), post.hashCode());
+        assertNotEquals(newPost(0, "first"), post);
+        assertTrue(post.toString(), post.toString().contains("id = null"));
+    }
+
+    @Test
+    public void testPersistUnsetKey() throws Exception {
+        handler.generatedKeys.add(42L);
+        final Object post = manager.persist(newPost(null, "first"));
+
+        assertEquals(1, handler.statements.size());
+        assertFalse(handler.statements.get(0), handler.statements.get(0).contains("`id`"));
+        assertEquals(Arrays.asList(null, "first", null), handler.values.get(0));
+        assertEquals(42, call(post, "getId"));
+    }
+
+    @Test
+    public void testPersistSetKey() throws Exception {
+        manager.persist(newPost(0, "first"));
+
+        assertEquals(1, handler.statements.size());
+        assertTrue(handler.statements.get(0), handler.statements.get(0).contains("`id`"));
+        assertEquals(Arrays.asList(0, null, "first", null), handler.values.get(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRead() throws Exception {
+        handler.results.add(Arrays.asList(
+            new Object[]{0, null, "first"},
+            new Object[]{1, 10, "second"}
+        ));
+
+        final List<Object> posts = handler.executeQuery(
+            "SELECT", Collections.emptyList(), ((SqlManager<Object>) manager).getEntityMapper()
+        ).collect(toList());
+
+        assertEquals(2, posts.size());
+        assertEquals(0, call(posts.get(0), "getId"));
+        assertEquals(Optional.empty(), call(posts.get(0), "getScore"));
+        assertEquals(1, call(posts.get(1), "getId"));
+        assertEquals(Optional.of(10), call(posts.get(1), "getScore"));
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.code.model.java.entity;
+
+import com.speedment.internal.core.code.AbstractBaseEntity;
+import com.speedment.internal.core.code.model.java.GeneratedModel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class LazyColumnTest extends GeneratedModel {
+
+    @Test
+    public void testGeneratedCode() {
+        final String code = sourceOf("GeneratedPostImpl");
+        assertTrue(code.contains("if (!isUnloaded_(Identifier.BODY)) {"));
+        assertFalse("toString, equals and hashCode use the fields", code.contains("Objects.toString(get"));
+        assertFalse("Lazy columns are not hashed", code.contains("hashCode(this.body)"));
+    }
+
+    @Test
+    public void testToStringDoesNotLoad() throws Exception {
+        final Object post = unloaded(newPost(1, "first"));
+        final String text = post.toString();
+        assertTrue(text, text.contains("name = first"));
+        assertFalse(text, text.contains("body"));
+        assertTrue(handler.statements.isEmpty());
+    }
+
+    @Test
+    public void testEqualsAndHashCodeDoNotLoad() throws Exception {
+        final Object unloaded = unloaded(newPost(1, "first"));
+        final Object loaded = call(newPost(1, "first"), "setBody", "text");
+        final Object other = call(newPost(1, "first"), "setBody", "other");
+
+        assertEquals(unloaded, loaded);
+        assertEquals(loaded, unloaded);
+        assertEquals(unloaded.hashCode(), loaded.hashCode());
+        assertEquals(loaded.hashCode(), other.hashCode());
+        assertNotEquals(loaded, other);
+        assertNotEquals(unloaded, newPost(2, "first"));
+        assertTrue(handler.statements.isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCopyDoesNotLoad() throws Exception {
+        final Object copy = manager.newCopyOf(unloaded(newPost(1, "first")));
+        assertTrue(((AbstractBaseEntity<Object>) copy).isUnloaded_(identifier("BODY")));
+        assertEquals("first", call(copy, "getName"));
+        assertTrue(handler.statements.isEmpty());
+
+        final Object loadedCopy = manager.newCopyOf(call(newPost(1, "first"), "setBody", "text"));
+        assertFalse(((AbstractBaseEntity<Object>) loadedCopy).isUnloaded_(identifier("BODY")));
+        assertEquals(Optional.of("text"), call(loadedCopy, "getBody"));
+    }
+
+    @Test
+    public void testLoadMapsValueWhileResultSetIsOpen() throws Exception {
+        final Object post = unloaded(newPost(7, "first"));
+        handler.results.add(Collections.singletonList(new Object[]{"text"}));
+
+        assertEquals(Optional.of("text"), call(post, "getBody"));
+        assertEquals(1, handler.statements.size());
+        assertTrue(handler.statements.get(0).startsWith("SELECT `body` FROM "));
+        assertEquals(Collections.singletonList(7), handler.values.get(0));
+
+        assertEquals("The value is only loaded once", Optional.of("text"), call(post, "getBody"));
+        assertEquals(1, handler.statements.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateDoesNotLoadOrWriteUnloaded() throws Exception {
+        final Object post = unloaded(newPost(3, "first"));
+        manager.update(post);
+
+        assertEquals("Nothing is loaded", 1, handler.statements.size());
+        final String sql = handler.statements.get(0);
+        assertTrue(sql, sql.startsWith("UPDATE "));
+        assertTrue(sql, sql.contains("`name` = ?"));
+        assertFalse(sql, sql.contains("`body`"));
+        assertEquals(Arrays.asList(3, null, "first", 3), handler.values.get(0));
+        assertTrue(((AbstractBaseEntity<Object>) post).isUnloaded_(identifier("BODY")));
+
+        final Object loaded = call(newPost(3, "first"), "setBody", "text");
+        manager.update(loaded);
+        assertEquals(2, handler.statements.size());
+        assertTrue(handler.statements.get(1).contains("`body` = ?"));
+        assertEquals(5, handler.values.get(1).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object unloaded(Object post) throws Exception {
+        ((AbstractBaseEntity<Object>) post).markUnloaded_(identifier("BODY"));
+        return post;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.code.model.java.manager;
+
+import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.internal.core.code.manager.GeneratedEntityManagerImplTranslator;
+import com.speedment.internal.core.code.model.java.SimpleModel;
+import com.speedment.internal.core.manager.sql.SqlStatements;
+import static com.speedment.internal.util.document.DocumentDbUtil.dbmsTypeOf;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class GeneratedEntityManagerImplTranslatorTest extends SimpleModel {
+
+    @Test
+    public void testStatements() {
+        final DbmsType dbmsType = dbmsTypeOf(speedment, dbms);
+        final SqlStatements sql = SqlStatements.of(dbmsType, table);
+        final String reference = dbmsType.getDatabaseNamingConvention().fullNameOf(table);
+        final String name = dbmsType.getDatabaseNamingConvention().encloseField(COLUMN_NAME);
+
+        assertEquals(1, sql.getColumnCount());
+        assertEquals("SELECT " + name + " FROM " + reference, sql.getSelect());
+        assertEquals("SELECT COUNT(*) FROM " + reference, sql.getCount());
+        assertEquals("INSERT INTO " + reference + " (" + name + ") VALUES (?)", sql.getInsert());
+        assertEquals("UPDATE " + reference + " SET " + name + " = ? WHERE " + name + " = ?", sql.getUpdate().get());
+        assertEquals("DELETE FROM " + reference + " WHERE " + name + " = ?", sql.getDelete().get());
+
+        assertTrue(sql.isApplicableTo(dbmsType, reference));
+        assertFalse("Renamed schemas use dynamic statements",
+            sql.isApplicableTo(dbmsType, dbmsType.getDatabaseNamingConvention().fullNameOf("other", TABLE_NAME))
+        );
+    }
+
+    @Test
+    public void testGeneratedConstant() {
+        final String code = new GeneratedEntityManagerImplTranslator(
+            speedment, speedment.getCodeGenerationComponent().getGenerator(), table
+        ).toCode();
+
+        final SqlStatements sql = SqlStatements.of(dbmsTypeOf(speedment, dbms), table);
+        assertTrue(code.contains("SqlStatements.of("));
+        assertTrue(code.contains("\"" + sql.getSelect().replace("\"", "\\\"") + "\""));
+        assertTrue(code.contains("protected Optional<SqlStatements> generatedStatements()"));
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.config.db.immutable;
+
+import com.speedment.internal.core.code.model.java.SimpleModel;
+import static com.speedment.internal.util.document.DocumentDbUtil.referencedDbms;
+import static com.speedment.internal.util.document.DocumentDbUtil.referencedSchema;
+import static com.speedment.internal.util.document.DocumentDbUtil.referencedTable;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class ImmutableProjectTest extends SimpleModel {
+
+    @Test
+    public void testFind() {
+        assertTrue(project instanceof ImmutableProject);
+
+        assertSame(dbms, project.findDbms(dbms.getName()).get());
+        assertSame(schema, dbms.findSchema(SCHEMA_NAME).get());
+        assertSame(table, schema.findTable(TABLE_NAME).get());
+        assertFalse(schema.findTable("missing").isPresent());
+    }
+
+    @Test
+    public void testReferenced() {
+        assertSame(dbms, referencedDbms(speedment, dbms.getName()));
+        assertSame(schema, referencedSchema(speedment, dbms.getName(), SCHEMA_NAME));
+        assertSame(table, referencedTable(speedment, dbms.getName(), SCHEMA_NAME, TABLE_NAME));
+        assertSame(table2, referencedTable(speedment, dbms.getName(), SCHEMA_NAME, TABLE_NAME2));
+    }
+}
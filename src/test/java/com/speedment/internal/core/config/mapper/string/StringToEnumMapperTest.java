@@ -0,0 +1,70 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.config.mapper.string;
+
+import com.speedment.config.db.mapper.string.StringToEnumMapper;
+import com.speedment.exception.SpeedmentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringToEnumMapperTest {
+
+    enum Status {
+        ACTIVE, CLOSED
+    }
+
+    public static final class StringToStatusMapper extends StringToEnumMapper<Status> {
+
+        public StringToStatusMapper() {
+            super(Status.class);
+        }
+    }
+
+    public static final class LowerCaseStringToStatusMapper extends StringToEnumMapper<Status> {
+
+        public LowerCaseStringToStatusMapper() {
+            super(Status.class);
+        }
+
+        @Override
+        protected String databaseValueOf(Status constant) {
+            return constant.name().toLowerCase();
+        }
+    }
+
+    @Test
+    public void testMapping() {
+        final StringToStatusMapper mapper = new StringToStatusMapper();
+        Assert.assertEquals(Status.CLOSED, mapper.toJavaType("CLOSED"));
+        Assert.assertEquals("ACTIVE", mapper.toDatabaseType(Status.ACTIVE));
+        Assert.assertNull(mapper.toJavaType(null));
+        Assert.assertNull(mapper.toDatabaseType(null));
+        Assert.assertEquals(Status.class, mapper.getJavaType());
+    }
+
+    @Test
+    public void testCustomDatabaseValue() {
+        final LowerCaseStringToStatusMapper mapper = new LowerCaseStringToStatusMapper();
+        Assert.assertEquals(Status.ACTIVE, mapper.toJavaType("active"));
+        Assert.assertEquals("closed", mapper.toDatabaseType(Status.CLOSED));
+    }
+
+    @Test(expected = SpeedmentException.class)
+    public void testUnknownValue() {
+        new StringToStatusMapper().toJavaType("PENDING");
+    }
+}
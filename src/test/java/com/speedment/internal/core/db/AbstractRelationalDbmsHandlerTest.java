@@ -0,0 +1,376 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.Speedment;
+import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Project;
+import com.speedment.config.db.Schema;
+import com.speedment.config.db.Table;
+import com.speedment.config.db.trait.HasName;
+import com.speedment.internal.core.config.db.ProjectImpl;
+import com.speedment.internal.core.platform.component.impl.ConnectionPoolComponentImpl;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import com.speedment.util.ProgressMeasure;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the metadata of a schema is read with schema wide queries and
+ * that the rows are given to the right tables. The database is replaced by
+ * result sets that return fixed rows.
+ */
+public final class AbstractRelationalDbmsHandlerTest {
+
+    private static final String[] COLUMN_LABELS = {
+        "TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME", "COLUMN_NAME", "DATA_TYPE",
+        "TYPE_NAME", "COLUMN_SIZE", "BUFFER_LENGTH", "DECIMAL_DIGITS",
+        "NUM_PREC_RADIX", "NULLABLE", "REMARKS", "COLUMN_DEF", "SQL_DATA_TYPE",
+        "SQL_DATETIME_SUB", "CHAR_OCTET_LENGTH", "ORDINAL_POSITION",
+        "SCOPE_CATALOG", "SCOPE_SCHEMA", "SCOPE_TABLE", "SOURCE_DATA_TYPE",
+        "IS_AUTOINCREMENT", "IS_GENERATEDCOLUMN"
+    };
+
+    private static final String[] PRIMARY_KEY_LABELS = {"TABLE_NAME", "COLUMN_NAME", "KEY_SEQ"};
+    private static final String[] INDEX_LABELS = {"TABLE_NAME", "INDEX_NAME", "NON_UNIQUE", "COLUMN_NAME", "ORDINAL_POSITION", "ASC_OR_DESC", "TYPE"};
+
+    private final List<String> calls = new ArrayList<>();
+    private final List<Object> parameters = new ArrayList<>();
+    private final List<ResultSet> resultSets = new ArrayList<>();
+    private Object[][] primaryKeyRows;
+
+    private Speedment speedment;
+    private Dbms dbms;
+    private Schema schema;
+
+    @Before
+    public void setUp() {
+        final Map<String, Object> schemaData = new LinkedHashMap<>();
+        schemaData.put(Schema.NAME, "schema");
+        schemaData.put(Schema.TABLES, new ArrayList<>());
+
+        final Map<String, Object> dbmsData = new LinkedHashMap<>();
+        dbmsData.put(Dbms.NAME, "dbms");
+        dbmsData.put(Dbms.TYPE_NAME, "MySQL");
+        dbmsData.put(Dbms.CONNECTION_URL, "jdbc:test");
+        dbmsData.put(Dbms.SCHEMAS, new ArrayList<>(Arrays.asList(schemaData)));
+
+        final Map<String, Object> projectData = new LinkedHashMap<>();
+        projectData.put(Project.NAME, "project");
+        projectData.put(Project.DBMSES, new ArrayList<>(Arrays.asList(dbmsData)));
+
+        dbms = new ProjectImpl(projectData).dbmses().findAny().get();
+        schema = dbms.schemas().findAny().get();
+
+        speedment = new DefaultSpeedmentApplicationLifecycle()
+            .with(s -> new ConnectionPoolComponentImpl(s) {
+                @Override
+                public Connection newConnection(String uri, String user, String password) {
+                    return connection();
+                }
+            })
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+    }
+
+    @Test
+    public void testSchemaChilds() {
+        final Map<String, Table> tables = tables("a", "b");
+        primaryKeyRows = new Object[][]{
+            {"a", "id", 1},
+            {"view", "id", 1},
+            {"b", "id", 1},
+            {"b", "skipped", 2},
+            {"b", "name", 2}
+        };
+
+        handler(Optional.empty()).schemaChilds(connection(), new AbstractRelationalDbmsHandler.SchemaQuery("SELECT keys", 2), schema, tables,
+            table -> table.mutator()::addNewPrimaryKeyColumn,
+            (pk, rs) -> pk.mutator().setName(rs.getString("COLUMN_NAME")),
+            rs -> !"skipped".equals(rs.getString("COLUMN_NAME"))
+        );
+
+        assertEquals(Arrays.asList("id"), names(tables.get("a").primaryKeyColumns()));
+        assertEquals(Arrays.asList("id", "name"), names(tables.get("b").primaryKeyColumns()));
+        assertEquals(Arrays.asList("prepareStatement SELECT keys"), calls);
+        assertEquals("The schema name is set for every schema parameter", Arrays.asList(1, "schema", 2, "schema"), parameters);
+        assertTrue("The result set is closed", resultSets.stream().allMatch(this::isClosed));
+    }
+
+    @Test
+    public void testTablesWithFallback() {
+        final Map<String, Class<?>> sqlTypeMapping = new HashMap<>();
+        sqlTypeMapping.put("INT", Integer.class);
+        primaryKeyRows = new Object[][]{
+            {"a", "id", 1},
+            {"view", "id", 1},
+            {"b", "id", 1},
+            {"b", "name", 2}
+        };
+
+        handler(Optional.of(new AbstractRelationalDbmsHandler.SchemaQuery("SELECT keys", 1))).tables(
+            CompletableFuture.completedFuture(sqlTypeMapping), dbms, schema,
+            ProgressMeasure.create(), Runnable::run, MetadataCache.disabled()
+        ).join();
+
+        final Table a = schema.tables().filter(t -> "a".equals(t.getName())).findAny().get();
+        final Table b = schema.tables().filter(t -> "b".equals(t.getName())).findAny().get();
+
+        // The columns and primary keys are read once for the whole schema
+        assertEquals(Arrays.asList("id"), names(a.columns()));
+        assertEquals(Arrays.asList("id", "name"), names(b.columns()));
+        assertEquals(Arrays.asList("id"), names(a.primaryKeyColumns()));
+        assertEquals(Arrays.asList("id", "name"), names(b.primaryKeyColumns()));
+        assertEquals(1, calls.stream().filter("getColumns"::equals).count());
+        assertFalse(calls.contains("getPrimaryKeys"));
+
+        // The indexes and foreign keys have no query, so they are read per table
+        assertEquals(Arrays.asList("a_index"), names(a.indexes()));
+        assertEquals(Arrays.asList("b_index"), names(b.indexes()));
+        assertEquals(Arrays.asList("getIndexInfo a", "getIndexInfo b"),
+            calls.stream().filter(c -> c.startsWith("getIndexInfo")).collect(toList())
+        );
+        assertEquals(2, calls.stream().filter("getImportedKeys"::equals).count());
+        assertTrue("Every result set is closed", resultSets.stream().allMatch(this::isClosed));
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        final AbstractRelationalDbmsHandler handler = handler(Optional.empty());
+        final Thread first = handler.supplyAsync(Thread::currentThread).get(10, TimeUnit.SECONDS);
+        handler.shutdown();
+        first.join(10_000);
+        assertFalse("The threads of the executor terminate", first.isAlive());
+
+        final Thread second = handler.supplyAsync(Thread::currentThread).get(10, TimeUnit.SECONDS);
+        assertFalse("A new executor is created after a shutdown", first == second);
+        handler.shutdown();
+    }
+
+    private AbstractRelationalDbmsHandler handler(Optional<AbstractRelationalDbmsHandler.SchemaQuery> primaryKeysQuery) {
+        return new AbstractRelationalDbmsHandler(speedment, dbms) {
+            @Override
+            protected Optional<AbstractRelationalDbmsHandler.SchemaQuery> schemaPrimaryKeysQuery() {
+                return primaryKeysQuery;
+            }
+        };
+    }
+
+    private Map<String, Table> tables(String... names) {
+        final Map<String, Table> tables = new LinkedHashMap<>();
+        for (final String name : names) {
+            final Table table = schema.mutator().addNewTable();
+            table.mutator().setName(name);
+            tables.put(name, table);
+        }
+        return tables;
+    }
+
+    private static List<String> names(Stream<? extends HasName> documents) {
+        return documents.map(HasName::getName).collect(toList());
+    }
+
+    private Connection connection() {
+        return proxy(Connection.class, (method, args) -> {
+            switch (method) {
+                case "getMetaData":
+                    return metaData();
+                case "prepareStatement":
+                    calls.add("prepareStatement " + args[0]);
+                    return statement();
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private DatabaseMetaData metaData() {
+        return proxy(DatabaseMetaData.class, (method, args) -> {
+            switch (method) {
+                case "getTables":
+                    calls.add(method);
+                    return resultSet(new String[]{"TABLE_NAME"}, new Object[]{"a"}, new Object[]{"b"});
+                case "getColumns":
+                    calls.add(method);
+                    return resultSet(COLUMN_LABELS, column("a", "id", 1), column("view", "id", 1), column("b", "id", 1), column("b", "name", 2));
+                case "getIndexInfo":
+                    calls.add(method + " " + args[2]);
+                    return resultSet(INDEX_LABELS, new Object[]{args[2], args[2] + "_index", false, "id", 1, "A", 3});
+                case "getPrimaryKeys":
+                case "getImportedKeys":
+                    calls.add(method);
+                    return resultSet(new String[0]);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private PreparedStatement statement() {
+        return proxy(PreparedStatement.class, (method, args) -> {
+            switch (method) {
+                case "setString":
+                    parameters.addAll(Arrays.asList(args));
+                    return null;
+                case "executeQuery":
+                    return resultSet(PRIMARY_KEY_LABELS, primaryKeyRows);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private static Object[] column(String table, String name, int ordinalPosition) {
+        final Object[] row = new Object[COLUMN_LABELS.length];
+        row[2] = table;
+        row[3] = name;
+        row[4] = Types.INTEGER;
+        row[5] = "INT";
+        row[10] = DatabaseMetaData.columnNoNulls;
+        row[16] = ordinalPosition;
+        row[21] = "NO";
+        row[22] = "NO";
+        return row;
+    }
+
+    /**
+     * Returns a result set with the specified rows. Values can be read by
+     * label or by index, and missing values are read as {@code null}.
+     */
+    private ResultSet resultSet(String[] labels, Object[]... rows) {
+        final List<String> columns = Arrays.asList(labels);
+        final int[] row = {-1};
+        final Object[] last = {null};
+        final boolean[] closed = {false};
+
+        final ResultSet resultSet = proxy(ResultSet.class, (method, args) -> {
+            switch (method) {
+                case "next":
+                    return ++row[0] < rows.length;
+                case "close":
+                    closed[0] = true;
+                    return null;
+                case "isClosed":
+                    return closed[0];
+                case "wasNull":
+                    return last[0] == null;
+                case "getString":
+                case "getInt":
+                case "getBoolean":
+                case "getObject":
+                    final int index = args[0] instanceof Integer
+                        ? (Integer) args[0] - 1
+                        : columns.indexOf((String) args[0]);
+                    last[0] = index >= 0 && index < rows[row[0]].length ? rows[row[0]][index] : null;
+                    if ("getString".equals(method)) {
+                        return last[0] == null ? null : last[0].toString();
+                    } else if ("getInt".equals(method)) {
+                        return last[0] == null ? 0 : ((Number) last[0]).intValue();
+                    } else if ("getBoolean".equals(method)) {
+                        return last[0] != null && (Boolean) last[0];
+                    }
+                    return last[0];
+                default:
+                    return null;
+            }
+        });
+
+        resultSets.add(resultSet);
+        return resultSet;
+    }
+
+    private boolean isClosed(ResultSet resultSet) {
+        try {
+            return resultSet.isClosed();
+        } catch (final SQLException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        Object invoke(String method, Object[] args) throws Exception;
+    }
+
+    /**
+     * Creates a proxy that lets the specified handler answer all calls. The
+     * default value of the return type is returned if the handler returns
+     * {@code null} for a primitive method.
+     */
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if ("hashCode".equals(method.getName())) {
+                return System.identityHashCode(proxy);
+            } else if ("equals".equals(method.getName())) {
+                return proxy == args[0];
+            } else if ("toString".equals(method.getName())) {
+                return type.getSimpleName();
+            }
+
+            final Object result = handler.invoke(method.getName(), args == null ? new Object[0] : args);
+            if (result == null && method.getReturnType().isPrimitive()) {
+                if (method.getReturnType() == boolean.class) {
+                    return false;
+                } else if (method.getReturnType() == void.class) {
+                    return null;
+                }
+                return zeroOf(method.getReturnType());
+            }
+            return result;
+        }));
+    }
+
+    private static Object zeroOf(Class<?> type) {
+        if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == double.class) {
+            return 0d;
+        } else if (type == float.class) {
+            return 0f;
+        } else {
+            return (char) 0;
+        }
+    }
+}
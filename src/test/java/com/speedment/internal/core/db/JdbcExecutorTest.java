@@ -0,0 +1,177 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.exception.SpeedmentException;
+import static com.speedment.internal.core.platform.component.impl.ThreadFactoryComponentImpl.newPlatformThreadFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public final class JdbcExecutorTest {
+
+    @Test
+    public void testResult() throws Exception {
+        final JdbcExecutor executor = new JdbcExecutor("db", 2, 4, newPlatformThreadFactory("jdbc-db"));
+        assertEquals("speedment-jdbc-db-1", executor.supplyAsync(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS));
+        assertEquals(2, executor.getThreads());
+        assertEquals(4, executor.getQueueCapacity());
+    }
+
+    @Test
+    public void testException() throws Exception {
+        final JdbcExecutor executor = new JdbcExecutor("db", 1, 1, newPlatformThreadFactory("jdbc-db"));
+        final CompletableFuture<Object> future = executor.supplyAsync(() -> {
+            throw new SpeedmentException("Failed");
+        });
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected an exception");
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof SpeedmentException);
+            assertEquals("Failed", ex.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testSaturated() throws Exception {
+        final JdbcExecutor executor = new JdbcExecutor("db", 1, 1, newPlatformThreadFactory("jdbc-db"));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final CompletableFuture<Integer> running = executor.supplyAsync(() -> {
+            started.countDown();
+            await(release);
+            return 1;
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        final CompletableFuture<Integer> queued = executor.supplyAsync(() -> 2);
+        assertEquals(1, executor.getPending());
+
+        final CompletableFuture<Integer> rejected = executor.supplyAsync(() -> 3);
+        assertTrue("The caller is not blocked when saturated", rejected.isCompletedExceptionally());
+
+        release.countDown();
+        assertEquals(1, (int) running.get(10, TimeUnit.SECONDS));
+        assertEquals(2, (int) queued.get(10, TimeUnit.SECONDS));
+
+        try {
+            rejected.get();
+            fail("Expected an exception");
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof SpeedmentException);
+        }
+
+        assertEquals(4, (int) executor.supplyAsync(() -> 4).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancelledWhileQueued() throws Exception {
+        final JdbcExecutor executor = new JdbcExecutor("db", 1, 1, newPlatformThreadFactory("jdbc-db"));
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Integer> running = executor.supplyAsync(() -> {
+            await(release);
+            return 1;
+        });
+
+        final boolean[] called = {false};
+        final CompletableFuture<Integer> queued = executor.supplyAsync(() -> {
+            called[0] = true;
+            return 2;
+        });
+        assertTrue(queued.cancel(false));
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        executor.supplyAsync(() -> 3).get(10, TimeUnit.SECONDS);
+        assertFalse(called[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoThreads() {
+        new JdbcExecutor("db", 0, 1, newPlatformThreadFactory("jdbc-db"));
+    }
+
+    @Test
+    public void testSetThreads() throws Exception {
+        final JdbcExecutor executor = new JdbcExecutor("db", 1, 4, newPlatformThreadFactory("jdbc-db"));
+        executor.setThreads(2);
+        assertEquals(2, executor.getThreads());
+
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Integer> first = executor.supplyAsync(() -> {
+            started.countDown();
+            await(release);
+            return 1;
+        });
+        final CompletableFuture<Integer> second = executor.supplyAsync(() -> {
+            started.countDown();
+            await(release);
+            return 2;
+        });
+        assertTrue("Both operations run at the same time", started.await(10, TimeUnit.SECONDS));
+        release.countDown();
+        assertEquals(1, (int) first.get(10, TimeUnit.SECONDS));
+        assertEquals(2, (int) second.get(10, TimeUnit.SECONDS));
+
+        executor.setThreads(1);
+        assertEquals(1, executor.getThreads());
+        assertEquals(4, executor.getQueueCapacity());
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        final JdbcExecutor executor = new JdbcExecutor("db", 1, 4, newPlatformThreadFactory("jdbc-db"));
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Integer> running = executor.supplyAsync(() -> {
+            await(release);
+            return 1;
+        });
+        final CompletableFuture<Integer> queued = executor.supplyAsync(() -> 2);
+
+        executor.shutdown();
+        assertTrue(executor.isShutdown());
+        final CompletableFuture<Integer> rejected = executor.supplyAsync(() -> 3);
+        assertTrue(rejected.isCompletedExceptionally());
+
+        release.countDown();
+        assertEquals("Running operations are completed", 1, (int) running.get(10, TimeUnit.SECONDS));
+        assertEquals("Waiting operations are completed", 2, (int) queued.get(10, TimeUnit.SECONDS));
+
+        try {
+            rejected.get();
+            fail("Expected an exception");
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof SpeedmentException);
+            assertTrue(ex.getCause().getMessage().contains("shut down"));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            throw new SpeedmentException(ex);
+        }
+    }
+}
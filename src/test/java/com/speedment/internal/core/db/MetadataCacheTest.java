@@ -0,0 +1,131 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Project;
+import com.speedment.config.db.Schema;
+import com.speedment.config.db.Table;
+import com.speedment.internal.core.config.db.ProjectImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class MetadataCacheTest {
+
+    private Path location;
+    private Dbms dbms;
+
+    @Before
+    public void setUp() throws IOException {
+        location = Files.createTempDirectory("speedment-metadata").resolve("cache.bin");
+
+        final Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put(Schema.NAME, "schema");
+        schema.put(Schema.TABLES, new ArrayList<>(Arrays.asList(table("a"), table("b"))));
+
+        final Map<String, Object> dbmsData = new LinkedHashMap<>();
+        dbmsData.put(Dbms.NAME, "dbms");
+        dbmsData.put(Dbms.SCHEMAS, new ArrayList<>(Arrays.asList(schema)));
+
+        final Map<String, Object> project = new LinkedHashMap<>();
+        project.put(Project.NAME, "project");
+        project.put(Project.DBMSES, new ArrayList<>(Arrays.asList(dbmsData)));
+
+        dbms = new ProjectImpl(project).dbmses().findAny().get();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(location);
+        Files.deleteIfExists(location.getParent());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final MetadataCache cache = MetadataCache.load(location, "1");
+        assertFalse(cache.find("schema", "a", "x").isPresent());
+
+        final Map<String, String> fingerprints = new HashMap<>();
+        fingerprints.put("a", "x");
+        cache.setFingerprints("schema", fingerprints);
+        cache.save(dbms);
+
+        final MetadataCache loaded = MetadataCache.load(location, "1");
+        final Map<String, Object> a = loaded.find("schema", "a", "x").get();
+        assertEquals("a", a.get(Table.NAME));
+        assertEquals(2, ((List<?>) a.get(Table.COLUMNS)).size());
+        assertEquals(a, table("a"));
+
+        assertFalse("Changed tables are read again", loaded.find("schema", "a", "y").isPresent());
+        assertFalse("Tables without fingerprint are not cached", loaded.find("schema", "b", "x").isPresent());
+        assertFalse(loaded.find("schema", "a", null).isPresent());
+    }
+
+    @Test
+    public void testOtherVersion() {
+        final MetadataCache cache = MetadataCache.load(location, "1");
+        final Map<String, String> fingerprints = new HashMap<>();
+        fingerprints.put("a", "x");
+        cache.setFingerprints("schema", fingerprints);
+        cache.save(dbms);
+
+        assertFalse(MetadataCache.load(location, "2").find("schema", "a", "x").isPresent());
+    }
+
+    @Test
+    public void testUnreadable() throws IOException {
+        Files.write(location, new byte[] {1, 2, 3});
+        assertTrue(MetadataCache.load(location, "1").isEnabled());
+        assertFalse(MetadataCache.load(location, "1").find("schema", "a", "x").isPresent());
+    }
+
+    @Test
+    public void testDisabled() {
+        final MetadataCache cache = MetadataCache.disabled();
+        final Map<String, String> fingerprints = new HashMap<>();
+        fingerprints.put("a", "x");
+        cache.setFingerprints("schema", fingerprints);
+
+        assertFalse(cache.isEnabled());
+        assertTrue(cache.fingerprintsOf("schema").isEmpty());
+    }
+
+    private static Map<String, Object> table(String name) {
+        final List<Object> columns = new ArrayList<>();
+        for (final String column : Arrays.asList("id", "value")) {
+            final Map<String, Object> data = new LinkedHashMap<>();
+            data.put(Table.NAME, column);
+            columns.add(data);
+        }
+
+        final Map<String, Object> table = new LinkedHashMap<>();
+        table.put(Table.NAME, name);
+        table.put(Table.COLUMNS, columns);
+        return table;
+    }
+}
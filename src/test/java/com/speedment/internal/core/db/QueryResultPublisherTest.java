@@ -0,0 +1,190 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.db.AsynchronousQueryResult;
+import com.speedment.db.DbmsHandler;
+import static com.speedment.internal.core.platform.component.impl.ThreadFactoryComponentImpl.newPlatformThreadFactory;
+import com.speedment.stream.reactive.Subscriber;
+import com.speedment.stream.reactive.Subscription;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class QueryResultPublisherTest {
+
+    private final static int ROWS = 100;
+
+    private AtomicInteger rowsRead;
+    private AtomicBoolean closed;
+    private DbmsHandler dbmsHandler;
+
+    @Before
+    public void setUp() {
+        rowsRead = new AtomicInteger();
+        closed = new AtomicBoolean();
+
+        final AsynchronousQueryResult<?> result = (AsynchronousQueryResult<?>) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] {AsynchronousQueryResult.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "stream":
+                        return IntStream.range(0, ROWS).boxed().peek(i -> rowsRead.incrementAndGet());
+                    case "close":
+                        closed.set(true);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+
+        final JdbcExecutor executor = new JdbcExecutor("test", 1, 16, newPlatformThreadFactory("jdbc-test"));
+        dbmsHandler = (DbmsHandler) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] {DbmsHandler.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "executeQueryAsync":
+                        return result;
+                    case "supplyAsync":
+                        return executor.supplyAsync((Supplier<?>) args[0]);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+
+    @Test
+    public void testDemand() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber();
+        new QueryResultPublisher<Integer>(dbmsHandler, "select", Collections.emptyList(), rs -> null, 4).subscribe(subscriber);
+        assertEquals("Nothing is read without demand", 0, rowsRead.get());
+
+        subscriber.subscription.request(10);
+        subscriber.awaitItems(10);
+        Thread.sleep(50);
+        assertEquals(10, subscriber.items.size());
+        assertEquals("Only the demanded rows are read", 10, rowsRead.get());
+        assertFalse(closed.get());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+        assertEquals(ROWS, subscriber.items.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i, (int) subscriber.items.get(i));
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber();
+        new QueryResultPublisher<Integer>(dbmsHandler, "select", Collections.emptyList(), rs -> null).subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+        subscriber.awaitItems(3);
+        subscriber.subscription.cancel();
+
+        final long timeout = System.currentTimeMillis() + 10_000;
+        while (!closed.get() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertTrue("The result is closed when cancelled", closed.get());
+
+        subscriber.subscription.request(10);
+        Thread.sleep(50);
+        assertEquals(3, subscriber.items.size());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testInvalidRequest() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber();
+        new QueryResultPublisher<Integer>(dbmsHandler, "select", Collections.emptyList(), rs -> null).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void testRequestInOnSubscribe() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                super.onSubscribe(subscription);
+                subscription.request(Long.MAX_VALUE);
+            }
+        };
+        new QueryResultPublisher<Integer>(dbmsHandler, "select", Collections.emptyList(), rs -> null).subscribe(subscriber);
+
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        assertTrue(subscriber.completed);
+        assertEquals(ROWS, subscriber.items.size());
+    }
+
+    private static class TestSubscriber implements Subscriber<Integer> {
+
+        private final List<Integer> items = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        private void awaitItems(int count) throws InterruptedException {
+            final long timeout = System.currentTimeMillis() + 10_000;
+            while (items.size() < count && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.internal.core.code.model.java.GeneratedModel;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class AbstractSqlManagerTest extends GeneratedModel {
+
+    private static final String TABLE = "`mySchema`.`post`";
+
+    @Test
+    public void testPersist() throws Exception {
+        handler.generatedKeys.add(1L);
+        final Object post = manager.persist(newPost(null, "first"));
+
+        assertEquals(Collections.singletonList(
+            "INSERT INTO " + TABLE + " (`score`,`name`,`body`) VALUES (?,?,?)"
+        ), handler.statements);
+        assertEquals(Arrays.asList(null, "first", null), handler.values.get(0));
+        assertEquals(1, call(post, "getId"));
+    }
+
+    @Test
+    public void testPersistWithKey() throws Exception {
+        manager.persist(call(newPost(3, "first"), "setScore", 5));
+
+        assertEquals(Collections.singletonList(
+            "INSERT INTO " + TABLE + " (`id`,`score`,`name`,`body`) VALUES (?,?,?,?)"
+        ), handler.statements);
+        assertEquals(Arrays.asList(3, 5, "first", null), handler.values.get(0));
+    }
+
+    @Test
+    public void testUpdate() throws Exception {
+        manager.update(newPost(3, "first"));
+        manager.update(call(newPost(3, "second"), "setScore", 5));
+
+        final String update = "UPDATE " + TABLE + " SET `id` = ?,`score` = ?,`name` = ?,`body` = ? WHERE `id` = ?";
+        assertEquals(Arrays.asList(update, update), handler.statements);
+        assertEquals(Arrays.asList(3, null, "first", null, 3), handler.values.get(0));
+        assertEquals(Arrays.asList(3, 5, "second", null, 3), handler.values.get(1));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        manager.remove(newPost(3, "first"));
+
+        assertEquals(Collections.singletonList("DELETE FROM " + TABLE + " WHERE `id` = ?"), handler.statements);
+        assertEquals(Collections.singletonList(3), handler.values.get(0));
+    }
+
+    @Test
+    public void testRemoveMapsPrimaryKey() throws Exception {
+        final Object event = call(call(eventManager.newEmptyEntity(), "setTime", 1000L), "setName", "first");
+        eventManager.remove(event);
+
+        assertEquals(Collections.singletonList("DELETE FROM `mySchema`.`event` WHERE `time` = ?"), handler.statements);
+        assertEquals(Collections.singletonList(new Timestamp(1000L)), handler.values.get(0));
+    }
+
+    @Test
+    public void testUpdateMapsPrimaryKey() throws Exception {
+        final Object event = call(call(eventManager.newEmptyEntity(), "setTime", 1000L), "setName", "first");
+        eventManager.update(event);
+
+        assertEquals(Collections.singletonList("UPDATE `mySchema`.`event` SET `time` = ?,`name` = ? WHERE `time` = ?"), handler.statements);
+        assertEquals(Arrays.asList(new Timestamp(1000L), "first", new Timestamp(1000L)), handler.values.get(0));
+    }
+
+    @Test
+    public void testGeneratedAccessors() throws Exception {
+        final String source = sourceOf("GeneratedPostManagerImpl");
+        assertTrue(source.contains("entity -> entity.getId()"));
+        assertTrue(source.contains("entity -> entity.getScore().orElse(null)"));
+        assertTrue(source.contains("return Optional.of(ACCESSORS);"));
+
+        manager.update(call(newPost(3, "first"), "setScore", 5));
+        assertEquals(Arrays.asList(3, 5, "first", null, 3), handler.values.get(0));
+    }
+
+    @Test
+    public void testPersistAll() throws Exception {
+        handler.generatedKeys.addAll(Arrays.asList(1L, 2L));
+        final List<Object> posts = manager.persistAll(Arrays.asList(
+            newPost(null, "first"), newPost(7, "second"), newPost(null, "third")
+        ));
+
+        assertEquals(Arrays.asList(
+            "INSERT INTO " + TABLE + " (`score`,`name`,`body`) VALUES (?,?,?)",
+            "INSERT INTO " + TABLE + " (`score`,`name`,`body`) VALUES (?,?,?)",
+            "INSERT INTO " + TABLE + " (`id`,`score`,`name`,`body`) VALUES (?,?,?,?)"
+        ), handler.statements);
+        assertEquals(Arrays.asList(1, 7, 2), idsOf(posts));
+    }
+
+    @Test
+    public void testPersistAllKeysOfBatch() throws Exception {
+        handler.batchKeys = Arrays.asList(11L, 12L, 13L);
+        final List<Object> posts = manager.persistAll(Arrays.asList(
+            newPost(null, "first"), newPost(null, "second"), newPost(null, "third")
+        ));
+
+        assertEquals(3, handler.statements.size());
+        assertEquals(Arrays.asList(11, 12, 13), idsOf(posts));
+    }
+
+    @Test
+    public void testPersistAllWithMissingKeys() throws Exception {
+        handler.batchKeys = Arrays.asList(11L, 12L);
+        final List<Object> posts = manager.persistAll(Arrays.asList(
+            newPost(null, "first"), newPost(null, "second"), newPost(null, "third")
+        ));
+
+        assertEquals(3, handler.statements.size());
+        assertEquals("Keys that can not be matched to rows are not set",
+            Arrays.asList(null, null, null), idsOf(posts)
+        );
+    }
+
+    private static List<Object> idsOf(List<Object> posts) throws Exception {
+        final List<Object> ids = new ArrayList<>();
+        for (final Object post : posts) {
+            ids.add(call(post, "getId"));
+        }
+        return ids;
+    }
+}
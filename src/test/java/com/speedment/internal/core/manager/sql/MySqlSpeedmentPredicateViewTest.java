@@ -0,0 +1,84 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.internal.field.Entity;
+import com.speedment.manager.SpeedmentPredicateView;
+import com.speedment.manager.SqlPredicateFragment;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Set;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public final class MySqlSpeedmentPredicateViewTest {
+
+    private final static SqlManager<?> MANAGER = (SqlManager<?>) Proxy.newProxyInstance(
+        MySqlSpeedmentPredicateViewTest.class.getClassLoader(), new Class<?>[] {SqlManager.class}, (proxy, method, args) -> {
+            if ("fullColumnName".equals(method.getName())) {
+                return "`" + ((FieldTrait) args[0]).getIdentifier().columnName() + "`";
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }
+    );
+
+    private final SpeedmentPredicateView view = new MySqlSpeedmentPredicateView();
+
+    @Test
+    public void testIn() {
+        final SqlPredicateFragment fragment = view.transform(MANAGER, Entity.ID.in(1, 2, 3));
+        assertEquals("(`id` IN (?,?,?))", fragment.getSql());
+        assertEquals(3, fragment.objects().count());
+    }
+
+    @Test
+    public void testNotIn() {
+        final SqlPredicateFragment fragment = view.transform(MANAGER, Entity.ID.notIn(1, 2));
+        assertEquals("(NOT((`id` IN (?,?))))", fragment.getSql());
+    }
+
+    @Test
+    public void testEmptyIn() {
+        assertEquals("(FALSE)", view.transform(MANAGER, Entity.ID.in(Collections.emptySet())).getSql());
+        assertEquals("(TRUE)", view.transform(MANAGER, Entity.ID.notIn(Collections.emptySet())).getSql());
+    }
+
+    @Test
+    public void testLargeInIsSplit() {
+        final Set<Integer> ids = IntStream.range(0, 2500).boxed().collect(toSet());
+        final SqlPredicateFragment fragment = view.transform(MANAGER, Entity.ID.in(ids));
+
+        final String sql = fragment.getSql();
+        assertTrue(sql, sql.startsWith("(`id` IN (?,"));
+        assertEquals(3, sql.split(" OR ").length);
+        assertEquals(2500, sql.chars().filter(c -> c == '?').count());
+        assertEquals(
+            ids.stream().sorted().collect(toList()),
+            fragment.objects().map(Integer.class::cast).sorted().collect(toList())
+        );
+    }
+
+    @Test
+    public void testMaxParameterCount() {
+        assertEquals(65_535, view.getMaxParameterCount());
+        assertEquals(32_767, new PostgresSpeedmentPredicateView().getMaxParameterCount());
+    }
+}
@@ -44,7 +44,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.AfterClass;
 import static org.junit.Assert.*;
@@ -209,6 +211,68 @@ public class ConnectionPoolComponentImplTest {
         }
     }
 
+    @Test
+    public void testMaxLeaseSize() throws Exception {
+        String uri = "thecooldatabase";
+        String user = "tryggve";
+        String password = "arne";
+        assertEquals(Integer.MAX_VALUE, instance.getMaxLeaseSize());
+        instance.setMaxLeaseSize(2);
+        assertEquals(2, instance.getMaxLeaseSize());
+
+        final PoolableConnection first = instance.getConnection(uri, user, password);
+        final PoolableConnection second = instance.getConnection(uri, user, password);
+        assertNotNull(instance.getConnection("otherdatabase", user, password));
+
+        final CompletableFuture<PoolableConnection> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return instance.getConnection(uri, user, password);
+            } catch (final SQLException ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+
+        Thread.sleep(100);
+        assertFalse("Waits until a connection is returned", third.isDone());
+
+        first.close();
+        assertSame(first, third.get(10, TimeUnit.SECONDS));
+        assertEquals(3, instance.leaseSize());
+        second.close();
+    }
+
+    @Test
+    public void testReduceMaxLeaseSizeWhileLeased() throws Exception {
+        String uri = "thecooldatabase";
+        String user = "tryggve";
+        String password = "arne";
+        instance.setMaxLeaseSize(2);
+
+        final PoolableConnection first = instance.getConnection(uri, user, password);
+        final PoolableConnection second = instance.getConnection(uri, user, password);
+        instance.setMaxLeaseSize(1);
+        first.close();
+
+        final CompletableFuture<PoolableConnection> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return instance.getConnection(uri, user, password);
+            } catch (final SQLException ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+
+        Thread.sleep(100);
+        assertFalse("The connections leased before the change count against the new limit", third.isDone());
+
+        second.close();
+        assertNotNull(third.get(10, TimeUnit.SECONDS));
+        assertEquals(1, instance.leaseSize());
+
+        instance.setMaxLeaseSize(2);
+        assertNotNull("Raising the limit lets new connections in right away", instance.getConnection(uri, user, password));
+        assertEquals(2, instance.leaseSize());
+    }
+
     /**
      * Test of setPoolSize method, of class ConnectionPoolComponentImpl.
      */
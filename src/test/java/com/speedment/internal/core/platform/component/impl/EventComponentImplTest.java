@@ -0,0 +1,47 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.EventComponent;
+import com.speedment.event.AfterTransaction;
+import com.speedment.event.TableRefreshed;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public final class EventComponentImplTest {
+
+    @Test
+    public void testHasListeners() {
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+
+        final EventComponent events = new EventComponentImpl(speedment);
+        assertFalse(events.hasListeners(AfterTransaction.class));
+
+        events.on(AfterTransaction.class, ev -> {});
+        assertTrue(events.hasListeners(AfterTransaction.class));
+        assertFalse(events.hasListeners(TableRefreshed.class));
+
+        events.onAny(ev -> {});
+        assertTrue(events.hasListeners(TableRefreshed.class));
+    }
+}
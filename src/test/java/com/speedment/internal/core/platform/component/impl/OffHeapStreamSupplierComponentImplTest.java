@@ -0,0 +1,193 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.Lifecyclable.State;
+import com.speedment.config.db.mapper.identity.LongIdentityMapper;
+import com.speedment.field.ComparableField;
+import com.speedment.internal.core.cache.OffHeapRowStore;
+import com.speedment.internal.core.cache.OffHeapRowStoreTest.Column;
+import com.speedment.internal.core.cache.OffHeapRowStoreTest.Row;
+import static com.speedment.internal.core.cache.OffHeapRowStoreTest.fullRow;
+import static com.speedment.internal.core.cache.OffHeapRowStoreTest.newManager;
+import com.speedment.internal.core.field.ComparableFieldImpl;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import com.speedment.manager.Manager;
+import com.speedment.stream.StreamDecorator;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class OffHeapStreamSupplierComponentImplTest {
+
+    private final static ComparableField<Row, Long, Long> VERSION = new ComparableFieldImpl<>(
+        Column.LONG,
+        row -> (Long) row.values[Column.LONG.ordinal()],
+        (row, value) -> {
+            row.values[Column.LONG.ordinal()] = value;
+            return row;
+        },
+        new LongIdentityMapper(), false
+    );
+
+    private Speedment speedment;
+    private List<Row> table;
+    private volatile Consumer<Row> onLoad;
+    private Manager<Row> manager;
+    private OffHeapStreamSupplierComponentImpl component;
+
+    @Before
+    public void setUp() {
+        speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+
+        table = new CopyOnWriteArrayList<>(Arrays.asList(row(0, 1, "zero"), row(1, 2, "one")));
+        onLoad = row -> {};
+        manager = newManager(() -> {
+            final Consumer<Row> hook = onLoad;
+            return new ArrayList<>(table).stream().peek(hook);
+        });
+        component = new OffHeapStreamSupplierComponentImpl(speedment, t -> true, OffHeapRowStore.Allocator.direct());
+    }
+
+    @After
+    public void tearDown() {
+        component.onStop();
+    }
+
+    @Test
+    public void testReload() {
+        component.reload(manager);
+        final OffHeapRowStore<Row> first = component.storeOf(Row.class).get();
+        assertEquals(Arrays.asList("zero", "one"), names());
+
+        table.add(row(2, 3, "two"));
+        component.reload(manager);
+        assertNotSame(first, component.storeOf(Row.class).get());
+        assertTrue(first.isClosed());
+        assertEquals(Arrays.asList("zero", "one", "two"), names());
+    }
+
+    @Test
+    public void testStartLoadsStartedManagersOnly() {
+        speedment.getManagerComponent().put(withState(manager, State.CREATED));
+        component.onStart();
+        assertFalse(component.storeOf(Row.class).isPresent());
+
+        speedment.getManagerComponent().put(withState(manager, State.STARTED));
+        component.onStart();
+        assertEquals(Arrays.asList("zero", "one"), names());
+    }
+
+    @Test
+    public void testRefresh() throws Exception {
+        component.refreshBy(Row.class, VERSION, 5, TimeUnit.MILLISECONDS);
+        component.reload(manager);
+        component.onStart();
+
+        table.set(1, row(1, 3, "updated"));
+        table.add(row(2, 4, "two"));
+        awaitNames(Arrays.asList("zero", "updated", "two"));
+    }
+
+    @Test
+    public void testRefreshAtHighWaterMark() throws Exception {
+        component.refreshBy(Row.class, VERSION, 5, TimeUnit.MILLISECONDS);
+        component.reload(manager);
+        component.onStart();
+
+        // Committed after the row with version 2 was loaded, but with the
+        // same version
+        table.set(0, row(0, 2, "same version"));
+        awaitNames(Arrays.asList("same version", "one"));
+    }
+
+    @Test
+    public void testRefreshDuringReload() throws Exception {
+        component.refreshBy(Row.class, VERSION, 5, TimeUnit.MILLISECONDS);
+        component.reload(manager);
+        component.onStart();
+
+        // Change a row after the reload has taken its snapshot and give the
+        // scheduled polls a chance to run before the new store is installed
+        onLoad = row -> {
+            if (row.values[Column.INT.ordinal()].equals(0)) {
+                table.set(1, row(1, 10, "changed during reload"));
+                try {
+                    Thread.sleep(100);
+                } catch (final InterruptedException ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+        };
+        component.reload(manager);
+        onLoad = row -> {};
+
+        awaitNames(Arrays.asList("zero", "changed during reload"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Manager<Row> withState(Manager<Row> manager, State state) {
+        return (Manager<Row>) Proxy.newProxyInstance(
+            OffHeapStreamSupplierComponentImplTest.class.getClassLoader(), new Class<?>[] {Manager.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getState":
+                        return state;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return method.invoke(manager, args);
+                }
+            }
+        );
+    }
+
+    private void awaitNames(List<String> expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (!expected.equals(names()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, names());
+    }
+
+    private List<String> names() {
+        return component.stream(Row.class, StreamDecorator.IDENTITY)
+            .map(row -> (String) row.values[Column.STRING.ordinal()])
+            .collect(toList());
+    }
+
+    private static Row row(int id, long version, String name) {
+        final Row row = fullRow(id, name);
+        row.values[Column.LONG.ordinal()] = version;
+        return row;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.resultset.ResultSetMapping;
+import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.internal.core.config.dbms.StandardDbmsType;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import com.speedment.internal.core.runtime.typemapping.JavaTypeMappingImpl;
+import com.speedment.internal.core.runtime.typemapping.StandardJavaTypeMapping;
+import static org.junit.Assert.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResultSetMapperComponentImplTest {
+
+    private final DbmsType dbmsType = StandardDbmsType.defaultType();
+    private ResultSetMapperComponentImpl instance;
+
+    @Before
+    public void setUp() {
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+        instance = new ResultSetMapperComponentImpl(speedment);
+    }
+
+    @Test
+    public void testApplyFallsBackToGeneralMapping() {
+        instance.put(dbmsType, newLongMapping());
+        assertSame(StandardJavaTypeMapping.INTEGER, instance.apply(dbmsType, Integer.class));
+    }
+
+    @Test
+    public void testPutInvalidatesResolvedMappings() {
+        assertSame(StandardJavaTypeMapping.LONG, instance.apply(dbmsType, Long.class));
+
+        final int before = instance.getModificationCount();
+        final ResultSetMapping<Long> specific = newLongMapping();
+        instance.put(dbmsType, specific);
+
+        assertNotEquals(before, instance.getModificationCount());
+        assertSame(specific, instance.apply(dbmsType, Long.class));
+        assertSame(StandardJavaTypeMapping.LONG, instance.apply(Long.class));
+    }
+
+    @Test
+    public void testPutDuringApply() throws InterruptedException {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread reader = new Thread(() -> {
+            while (running.get()) {
+                instance.apply(dbmsType, Long.class);
+            }
+        });
+        reader.start();
+
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                final ResultSetMapping<Long> specific = newLongMapping();
+                instance.put(dbmsType, specific);
+                assertSame(specific, instance.apply(dbmsType, Long.class));
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testApplyWithoutMapping() {
+        instance.apply(dbmsType, Thread.class);
+    }
+
+    private static ResultSetMapping<Long> newLongMapping() {
+        return new JavaTypeMappingImpl<>(Long.class, "Long", Long::parseLong, l -> l);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.ThreadFactoryComponent;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import java.util.concurrent.ThreadFactory;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public final class ThreadFactoryComponentImplTest {
+
+    @Test
+    public void testPlatformThreads() {
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+
+        final ThreadFactoryComponent component = speedment.getThreadFactoryComponent();
+        assertFalse(component.isVirtual());
+
+        final ThreadFactory factory = component.newThreadFactory("test");
+        final Thread first = factory.newThread(() -> {});
+        final Thread second = factory.newThread(() -> {});
+        assertEquals("speedment-test-1", first.getName());
+        assertEquals("speedment-test-2", second.getName());
+        assertTrue(first.isDaemon());
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .withVirtualThreads()
+            .build();
+
+        final ThreadFactoryComponent component = speedment.getThreadFactoryComponent();
+        final boolean supported = hasVirtualThreads();
+        assertEquals(supported, component.isVirtual());
+
+        final Thread thread = component.newThreadFactory("test").newThread(() -> {});
+        assertEquals("speedment-test-1", thread.getName());
+        assertTrue(thread.isDaemon());
+        if (supported) {
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        }
+    }
+
+    private static boolean hasVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.runtime;
+
+import com.speedment.exception.SpeedmentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class LifecycleSchedulerTest {
+
+    private final static List<String> ITEMS = Arrays.asList("a", "b", "c", "d", "e");
+
+    // b and c require a, d requires c and e requires itself
+    private final static Function<String, Stream<String>> PREREQUISITES = item -> {
+        final Map<String, List<String>> deps = new HashMap<>();
+        deps.put("b", Arrays.asList("a"));
+        deps.put("c", Arrays.asList("a"));
+        deps.put("d", Arrays.asList("c"));
+        deps.put("e", Arrays.asList("e"));
+        return deps.getOrDefault(item, Collections.emptyList()).stream();
+    };
+
+    @Test
+    public void testPrerequisitesCompleteFirst() {
+        for (int parallelism = 1; parallelism <= 4; parallelism++) {
+            final List<String> order = Collections.synchronizedList(new ArrayList<>());
+            new LifecycleScheduler(parallelism).run("test", ITEMS, Function.identity(), PREREQUISITES, order::add);
+
+            assertEquals(ITEMS.size(), order.size());
+            assertTrue(order.indexOf("a") < order.indexOf("b"));
+            assertTrue(order.indexOf("a") < order.indexOf("c"));
+            assertTrue(order.indexOf("c") < order.indexOf("d"));
+        }
+    }
+
+    @Test
+    public void testTimingsAreRecorded() {
+        final LifecycleScheduler scheduler = new LifecycleScheduler(2);
+        scheduler.run("load", ITEMS, Function.identity(), PREREQUISITES, item -> {});
+        scheduler.run("start", ITEMS, Function.identity(), PREREQUISITES, item -> {});
+
+        assertEquals(2 * ITEMS.size(), scheduler.getTimings().size());
+        assertEquals(ITEMS.size(), scheduler.getTimings().stream().filter(t -> "start".equals(t.getPhase())).count());
+    }
+
+    @Test
+    public void testFailuresAreReportedAfterAllItems() {
+        final List<String> invoked = Collections.synchronizedList(new ArrayList<>());
+        try {
+            new LifecycleScheduler(3).run("test", ITEMS, Function.identity(), PREREQUISITES, item -> {
+                invoked.add(item);
+                if ("a".equals(item)) {
+                    throw new IllegalStateException(item);
+                }
+            });
+            fail("Expected a " + SpeedmentException.class.getSimpleName());
+        } catch (final SpeedmentException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(ITEMS.size(), invoked.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new LifecycleScheduler(0);
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.runtime;
+
+import com.speedment.Speedment;
+import com.speedment.component.Lifecyclable.State;
+import com.speedment.config.db.Table;
+import com.speedment.manager.Manager;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class SpeedmentApplicationLifecycleTest {
+
+    private static final class Warm {}
+    private static final class Used {}
+    private static final class Unused {}
+
+    private List<Manager<?>> managers;
+
+    @Before
+    public void setUp() {
+        managers = new ArrayList<>();
+    }
+
+    @Test
+    public void testEagerManagers() {
+        final TestLifecycle lifecycle = new TestLifecycle();
+        final Speedment speedment = lifecycle.build();
+
+        assertEquals(3, managers.size());
+        managers.forEach(m -> assertEquals(State.STARTED, m.getState()));
+        assertSame(managerOf(Unused.class), speedment.managerOf(Unused.class));
+    }
+
+    @Test
+    public void testLazyManagers() {
+        final TestLifecycle lifecycle = new TestLifecycle().withLazyManagers(Warm.class);
+        final Speedment speedment = lifecycle.build();
+
+        assertEquals(State.STARTED, managerOf(Warm.class).getState());
+        assertEquals(State.CREATED, managerOf(Used.class).getState());
+        assertEquals(State.CREATED, managerOf(Unused.class).getState());
+
+        // Streaming over the managers does not activate them
+        assertEquals(3, speedment.getManagerComponent().stream().count());
+        assertEquals(State.CREATED, managerOf(Used.class).getState());
+
+        final Manager<Used> used = speedment.managerOf(Used.class);
+        assertSame(managerOf(Used.class), used);
+        assertEquals(State.STARTED, used.getState());
+        assertSame(used, speedment.getManagerComponent().findByTable(used.getTable()));
+        assertEquals(State.STARTED, used.getState());
+        assertEquals(State.CREATED, managerOf(Unused.class).getState());
+
+        lifecycle.stop();
+        assertEquals(State.STOPPED, managerOf(Warm.class).getState());
+        assertEquals(State.STOPPED, managerOf(Used.class).getState());
+        assertEquals(State.CREATED, managerOf(Unused.class).getState());
+
+        // Managers are not activated once the application has stopped
+        assertEquals(State.CREATED, speedment.managerOf(Unused.class).getState());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <ENTITY> Manager<ENTITY> managerOf(Class<ENTITY> entityClass) {
+        return (Manager<ENTITY>) managers.stream()
+            .filter(m -> m.getEntityClass() == entityClass)
+            .findAny().get();
+    }
+
+    private final class TestLifecycle extends SpeedmentApplicationLifecycle<TestLifecycle> {
+
+        private TestLifecycle() {
+            withCheckDatabaseConnectivity(false);
+            withValidateRuntimeConfig(false);
+            withManager(speedment -> newManager(Warm.class));
+            withManager(speedment -> newManager(Used.class));
+            withManager(speedment -> newManager(Unused.class));
+        }
+
+        @Override
+        public void onLoad() {
+            super.onLoad();
+            loadAndSetProject();
+            loadCustomManagers();
+        }
+
+        @Override
+        protected void printWelcomeMessage() {}
+    }
+
+    /**
+     * Creates a manager that only supports the lifecycle methods and the
+     * methods that the lifecycle and the manager component use.
+     */
+    private Manager<?> newManager(Class<?> entityClass) {
+        final Table table = (Table) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] {Table.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getName":
+                        return entityClass.getSimpleName();
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+
+        final Lifecycle lifecycle = new Lifecycle();
+        final Manager<?> manager = (Manager<?>) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] {Manager.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getEntityClass":
+                        return entityClass;
+                    case "getTable":
+                        return table;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return entityClass.getSimpleName();
+                    default:
+                        if (method.getDeclaringClass().isInstance(lifecycle)) {
+                            try {
+                                return method.invoke(lifecycle, args);
+                            } catch (final InvocationTargetException ex) {
+                                throw ex.getCause();
+                            }
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+
+        managers.add(manager);
+        return manager;
+    }
+
+    private static final class Lifecycle extends AbstractLifecycle<Lifecycle> {}
+}
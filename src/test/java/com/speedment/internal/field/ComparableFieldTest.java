@@ -24,8 +24,11 @@ import static com.speedment.internal.field.Entity.NAME;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.nullsFirst;
 import static java.util.Comparator.nullsLast;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import java.util.stream.Stream;
@@ -199,4 +202,26 @@ public class ComparableFieldTest extends BaseFieldTest {
         assertEquals(0, collect(ID.in((Integer) null)).size());
     }
 
+    @Test
+    public void inComparatorSet() throws Exception {
+        entities.removeIf(e -> e.getName() == null); // The set can not compare null
+        final Set<String> caseInsensitive = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitive.add("ABC");
+        caseInsensitive.add("XYZ");
+        final List<Entity> expected = collect(e -> "abc".equalsIgnoreCase(e.getName()));
+
+        assertEquals(2, expected.size());
+        assertEquals(expected, collect(NAME.in(caseInsensitive)));
+        assertEquals(entities.size() - 2, collect(NAME.notIn(caseInsensitive)).size());
+    }
+
+    @Test
+    public void inMixedNumbers() throws Exception {
+        final Set<Object> mixed = new HashSet<>(Arrays.asList(2, 3L));
+        @SuppressWarnings("unchecked")
+        final Set<Integer> ids = (Set<Integer>) (Set<?>) mixed;
+        assertEquals(1, collect(ID.in(ids)).size());
+        assertEquals(2, collect(ID.in(new HashSet<>(Arrays.asList(2, 3)))).size());
+    }
+
 }
@@ -0,0 +1,121 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.field;
+
+import com.speedment.Speedment;
+import com.speedment.config.db.mapper.identity.IntegerIdentityMapper;
+import com.speedment.encoder.JsonEncoder;
+import com.speedment.field.IntField;
+import static com.speedment.field.Inclusion.START_EXCLUSIVE_END_INCLUSIVE;
+import com.speedment.internal.comparator.SpeedmentComparator;
+import com.speedment.internal.core.field.IntFieldImpl;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import static com.speedment.internal.field.Entity.ID;
+import java.util.Comparator;
+import java.util.List;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class IntFieldTest extends BaseFieldTest {
+
+    private static final IntField<Entity, Integer> INT_ID = new IntFieldImpl<>(
+        Entity.Identifier.ID, Entity::getId, Entity::setId, new IntegerIdentityMapper(), true
+    );
+
+    @Test
+    public void testComparisons() throws Exception {
+        assertEquals(collect(ID.equal(7)), collect(INT_ID.equal(7)));
+        assertEquals(collect(ID.notEqual(7)), collect(INT_ID.notEqual(7)));
+        assertEquals(collect(ID.lessThan(7)), collect(INT_ID.lessThan(7)));
+        assertEquals(collect(ID.lessOrEqual(7)), collect(INT_ID.lessOrEqual(7)));
+        assertEquals(collect(ID.greaterThan(7)), collect(INT_ID.greaterThan(7)));
+        assertEquals(collect(ID.greaterOrEqual(7)), collect(INT_ID.greaterOrEqual(7)));
+    }
+
+    @Test
+    public void testBoxedOperand() throws Exception {
+        assertEquals(collect(ID.greaterThan(7)), collect(INT_ID.greaterThan(Integer.valueOf(7))));
+        assertEquals(collect(ID.greaterThan(7).negate()), collect(INT_ID.greaterThan(7).negate()));
+    }
+
+    @Test
+    public void testBetween() throws Exception {
+        assertEquals(collect(ID.between(3, 9)), collect(INT_ID.between(3, 9)));
+        assertEquals(
+            collect(ID.between(3, 9, START_EXCLUSIVE_END_INCLUSIVE)),
+            collect(INT_ID.between(3, 9, START_EXCLUSIVE_END_INCLUSIVE))
+        );
+    }
+
+    @Test
+    public void testComparator() throws Exception {
+        final List<Entity> expected = entities.stream().sorted(ID.comparator().reversed()).collect(toList());
+        final List<Entity> result = entities.stream().sorted(INT_ID.comparator().reversed()).collect(toList());
+        assertEquals(expected, result);
+        assertEquals(7, INT_ID.getAsInt(entities.get(7)));
+    }
+
+    @Test
+    public void testSpeedmentComparator() throws Exception {
+        final Comparator<Entity> comparator = INT_ID.comparator();
+        assertTrue(comparator instanceof SpeedmentComparator);
+        assertSame(INT_ID, ((SpeedmentComparator<?, ?>) comparator).getField());
+        assertFalse(((SpeedmentComparator<?, ?>) comparator).isReversed());
+        assertTrue(((SpeedmentComparator<?, ?>) comparator.reversed()).isReversed());
+
+        final Entity unset = new EntityImpl(null, "unset");
+        assertTrue(INT_ID.comparatorNullFieldsFirst().compare(unset, entities.get(0)) < 0);
+        assertTrue(INT_ID.comparatorNullFieldsLast().compare(unset, entities.get(0)) > 0);
+        try {
+            INT_ID.comparator().compare(unset, entities.get(0));
+            fail("Unset fields are not allowed by the natural comparator");
+        } catch (final NullPointerException ex) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testUnsetValue() throws Exception {
+        final Entity unset = new EntityImpl(null, "unset");
+        assertNull(INT_ID.get(unset));
+        assertNull(INT_ID.getter().apply(unset));
+        assertTrue(INT_ID.isNull().test(unset));
+        assertFalse(INT_ID.isNotNull().test(unset));
+        assertFalse(INT_ID.equal(1).test(unset));
+        assertTrue(INT_ID.notEqual(1).test(unset));
+        assertFalse(INT_ID.lessThan(1).test(unset));
+        assertFalse(INT_ID.between(0, 5).test(unset));
+        assertTrue(INT_ID.between(0, 5).negate().test(unset));
+    }
+
+    @Test
+    public void testEncodeUnsetValue() throws Exception {
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+
+        final JsonEncoder<Entity> encoder = new JsonEncoder<Entity>(speedment)
+            .put("id", INT_ID.getter())
+            .put("name", Entity::getName);
+
+        assertEquals("{\"id\":null,\"name\":\"unset\"}", encoder.apply(new EntityImpl(null, "unset")));
+        assertEquals("{\"id\":7,\"name\":\"seven\"}", encoder.apply(new EntityImpl(7, "seven")));
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.util;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class LongHashSetTest {
+
+    @Test
+    public void testAddAndContains() {
+        final LongHashSet instance = new LongHashSet(2);
+        assertTrue(instance.add(0));
+        assertTrue(instance.add(-1));
+        assertTrue(instance.add(Long.MAX_VALUE));
+        assertFalse(instance.add(-1));
+
+        assertEquals(3, instance.size());
+        assertTrue(instance.contains(0));
+        assertTrue(instance.contains(-1));
+        assertTrue(instance.contains(Long.MAX_VALUE));
+        assertFalse(instance.contains(1));
+    }
+
+    @Test
+    public void testSameAsHashSet() {
+        final Random random = new Random(42);
+        final Set<Long> expected = new HashSet<>();
+        final LongHashSet instance = new LongHashSet(0);
+        for (int i = 0; i < 10_000; i++) {
+            final long value = random.nextInt(20_000);
+            assertEquals(expected.add(value), instance.add(value));
+        }
+
+        assertEquals(expected.size(), instance.size());
+        for (long value = 0; value < 20_000; value++) {
+            assertEquals(expected.contains(value), instance.contains(value));
+        }
+    }
+}
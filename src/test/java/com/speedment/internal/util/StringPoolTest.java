@@ -0,0 +1,51 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class StringPoolTest {
+
+    @Test
+    public void testIntern() {
+        final StringPool pool = new StringPool();
+        final String first = new String("SEK");
+        final String second = new String("SEK");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertEquals(1, pool.size());
+        assertNull(pool.intern(null));
+    }
+
+    @Test
+    public void testBounded() {
+        final StringPool pool = new StringPool(1);
+        pool.intern("SEK");
+
+        final String first = new String("EUR");
+        final String second = new String("EUR");
+        assertSame(first, pool.intern(first));
+        assertSame(second, pool.intern(second));
+        assertNotSame(first, second);
+        assertEquals(1, pool.size());
+    }
+}
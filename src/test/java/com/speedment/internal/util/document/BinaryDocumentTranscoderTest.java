@@ -0,0 +1,67 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.util.document;
+
+import com.speedment.config.db.Project;
+import com.speedment.exception.SpeedmentException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public final class BinaryDocumentTranscoderTest extends AbstractDocumentTest {
+
+    @Test
+    public void testRoundTrip() {
+        final Project loaded = BinaryDocumentTranscoder.load(BinaryDocumentTranscoder.save(project));
+        assertEquals(project.getData(), loaded.getData());
+        assertEquals(DocumentTranscoder.save(project), DocumentTranscoder.save(loaded));
+    }
+
+    @Test
+    public void testValueTypes() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("int", 1);
+        data.put("long", 2L);
+        data.put("double", 3.5);
+        data.put("float", 4.5f);
+        data.put("true", true);
+        data.put("null", null);
+        data.put("list", Arrays.asList("a", "b", "a"));
+        project.getData().put("values", data);
+
+        final Project loaded = BinaryDocumentTranscoder.load(BinaryDocumentTranscoder.save(project));
+
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> values = (Map<String, Object>) loaded.getData().get("values");
+        assertEquals(1, values.get("int"));
+        assertEquals(2L, values.get("long"));
+        assertEquals(3.5, values.get("double"));
+        assertEquals(4.5, values.get("float"));
+        assertEquals(true, values.get("true"));
+        assertTrue(values.containsKey("null"));
+        assertNull(values.get("null"));
+        assertEquals(Arrays.asList("a", "b", "a"), (List<?>) values.get("list"));
+    }
+
+    @Test(expected = SpeedmentException.class)
+    public void testMalformed() {
+        BinaryDocumentTranscoder.load(new byte[] {1, 2, 3, 4, 5});
+    }
+}
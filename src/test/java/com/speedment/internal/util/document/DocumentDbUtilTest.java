@@ -251,4 +251,22 @@ public final class DocumentDbUtilTest extends AbstractDocumentTest {
         assertTrue("  Is " + columnD1.getName() + " unique: ", DocumentDbUtil.isUnique(columnD1));
         assertFalse("  Is " + columnD2.getName() + " unique: ", DocumentDbUtil.isUnique(columnD2));
     }
-}
\ No newline at end of file
+
+    /**
+     * Test of the find methods used by the referenced methods of
+     * DocumentDbUtil.
+     */
+    @Test
+    public void testFind() {
+        final Dbms dbms = project.findDbms(dbmsA.getName()).get();
+        final Schema schema = dbms.findSchema(schemaA.getName()).get();
+        final Table table = schema.findTable(tableA.getName()).get();
+
+        assertTrue(DocumentDbUtil.isSame(dbmsA, dbms));
+        assertTrue(DocumentDbUtil.isSame(schemaA, schema));
+        assertTrue(DocumentDbUtil.isSame(tableA, table));
+        assertFalse(project.findDbms("Missing").isPresent());
+        assertFalse(dbms.findSchema("Missing").isPresent());
+        assertFalse(schema.findTable("Missing").isPresent());
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream.reactive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public final class StreamPublisherTest {
+
+    private final static int ELEMENTS = 100;
+
+    @Test
+    public void testSubscriptionsAreIndependent() throws Exception {
+        final AtomicInteger streams = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+        final StreamPublisher<Integer> publisher = new StreamPublisher<>(() -> {
+            streams.incrementAndGet();
+            return IntStream.range(0, ELEMENTS).boxed().onClose(closed::incrementAndGet);
+        }, CompletableFuture::supplyAsync, 7);
+
+        final TestSubscriber first = new TestSubscriber();
+        final TestSubscriber second = new TestSubscriber();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        assertEquals("No stream is created without demand", 0, streams.get());
+
+        first.subscription.request(Long.MAX_VALUE);
+        second.subscription.request(Long.MAX_VALUE);
+        assertTrue(first.terminated.await(10, TimeUnit.SECONDS));
+        assertTrue(second.terminated.await(10, TimeUnit.SECONDS));
+
+        assertEquals(2, streams.get());
+        assertEquals(2, closed.get());
+        for (final TestSubscriber subscriber : new TestSubscriber[] {first, second}) {
+            assertTrue(subscriber.completed);
+            assertEquals(ELEMENTS, subscriber.items.size());
+            for (int i = 0; i < ELEMENTS; i++) {
+                assertEquals(i, (int) subscriber.items.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testFailingSource() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("No stream");
+        final StreamPublisher<Integer> publisher = new StreamPublisher<>(() -> {
+            throw failure;
+        }, CompletableFuture::supplyAsync, StreamPublisher.DEFAULT_BATCH_SIZE);
+
+        final TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        assertSame(failure, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testRejectedTask() throws Exception {
+        final IllegalStateException rejected = new IllegalStateException("Rejected");
+        final CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(rejected);
+        final StreamPublisher<Integer> publisher = new StreamPublisher<>(
+            () -> Stream.of(1, 2, 3), task -> failed, StreamPublisher.DEFAULT_BATCH_SIZE
+        );
+
+        final TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        assertSame(rejected, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    private static final class TestSubscriber implements Subscriber<Integer> {
+
+        private final List<Integer> items = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+}